@@ -14,6 +14,7 @@
 package org.eclipse.mylyn.builds.core.spi;
 
 import java.io.Reader;
+import java.io.StringReader;
 import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
@@ -100,6 +101,20 @@ public abstract class BuildServerBehaviour {
 
 	public abstract Reader getConsole(IBuild build, IOperationMonitor monitor) throws CoreException;
 
+	/**
+	 * Returns the console output of <code>build</code> that follows <code>offset</code>. An offset of 0 requests the
+	 * output from the start, subsequent calls pass {@link ConsoleOutput#getNextOffset()} of the previous part so that
+	 * only new output is transferred while the build is running. Offsets are specific to the connector.
+	 * <p>
+	 * The default implementation ignores <code>offset</code> and returns the complete output of
+	 * {@link #getConsole(IBuild, IOperationMonitor)} as a part that is not {@link ConsoleOutput#isIncremental()
+	 * incremental}.
+	 */
+	public ConsoleOutput getConsole(IBuild build, long offset, IOperationMonitor monitor) throws CoreException {
+		Reader reader = getConsole(build, monitor);
+		return new ConsoleOutput((reader != null) ? reader : new StringReader("")); //$NON-NLS-1$
+	}
+
 	public abstract List<IBuildPlan> getPlans(BuildPlanRequest request, IOperationMonitor monitor) throws CoreException;
 
 	public abstract BuildServerConfiguration refreshConfiguration(IOperationMonitor monitor) throws CoreException;
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.builds.core.spi;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+import org.eclipse.core.runtime.Assert;
+
+/**
+ * A part of the console output of a build as returned by
+ * {@link BuildServerBehaviour#getConsole(org.eclipse.mylyn.builds.core.IBuild, long, org.eclipse.mylyn.commons.core.operations.IOperationMonitor)}.
+ */
+public class ConsoleOutput implements Closeable {
+
+	private final Reader reader;
+
+	private final long nextOffset;
+
+	private final boolean complete;
+
+	private final boolean reset;
+
+	private final boolean incremental;
+
+	/**
+	 * Creates a part that holds the complete output of a build for connectors that can not retrieve the output that
+	 * follows an offset.
+	 *
+	 * @see #isIncremental()
+	 */
+	public ConsoleOutput(Reader reader) {
+		this(reader, 0, true, false, false);
+	}
+
+	public ConsoleOutput(Reader reader, long nextOffset, boolean complete) {
+		this(reader, nextOffset, complete, false);
+	}
+
+	/**
+	 * @param reset
+	 *            true, if the output that was retrieved before was replaced and this part holds the output from the
+	 *            start
+	 */
+	public ConsoleOutput(Reader reader, long nextOffset, boolean complete, boolean reset) {
+		this(reader, nextOffset, complete, reset, true);
+	}
+
+	private ConsoleOutput(Reader reader, long nextOffset, boolean complete, boolean reset, boolean incremental) {
+		Assert.isNotNull(reader);
+		this.reader = reader;
+		this.nextOffset = nextOffset;
+		this.complete = complete;
+		this.reset = reset;
+		this.incremental = incremental;
+	}
+
+	/**
+	 * Returns a reader for the output that follows the requested offset.
+	 */
+	public Reader getReader() {
+		return reader;
+	}
+
+	/**
+	 * Returns the offset to request the output that follows this part. Returns 0, if the output is not
+	 * {@link #isIncremental() incremental}.
+	 */
+	public long getNextOffset() {
+		return nextOffset;
+	}
+
+	/**
+	 * Returns true, if the build has finished and no more output will follow this part.
+	 */
+	public boolean isComplete() {
+		return complete;
+	}
+
+	/**
+	 * Returns true, if the output that was retrieved before, e.g. the output of a previous run of a build that was
+	 * deleted, was replaced and this part does not follow the requested offset but holds the output from the start.
+	 * Output that was shown before needs to be discarded.
+	 */
+	public boolean isReset() {
+		return reset;
+	}
+
+	/**
+	 * Returns true, if this part follows the requested offset. Returns false, if the connector can not retrieve parts
+	 * of the output and this part holds the complete output regardless of the requested offset. Output that was shown
+	 * before needs to be discarded in that case.
+	 */
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+}
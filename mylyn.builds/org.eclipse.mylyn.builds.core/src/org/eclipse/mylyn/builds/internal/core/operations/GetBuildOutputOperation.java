@@ -15,7 +15,6 @@ package org.eclipse.mylyn.builds.internal.core.operations;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.Reader;
 import java.util.Collections;
 import java.util.List;
 
@@ -25,6 +24,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.mylyn.builds.core.IBuild;
+import org.eclipse.mylyn.builds.core.spi.ConsoleOutput;
 import org.eclipse.mylyn.builds.internal.core.Build;
 import org.eclipse.mylyn.builds.internal.core.BuildServer;
 import org.eclipse.mylyn.builds.internal.core.BuildsCorePlugin;
@@ -40,10 +40,48 @@ public class GetBuildOutputOperation extends AbstractElementOperation<IBuild> {
 
 		private BufferedReader input;
 
+		private long nextOffset;
+
+		private boolean complete;
+
+		private boolean reset;
+
+		private boolean incremental;
+
 		public BufferedReader getInput() {
 			return input;
 		}
 
+		/**
+		 * Returns the offset that follows the output of this event.
+		 */
+		public long getNextOffset() {
+			return nextOffset;
+		}
+
+		/**
+		 * Returns true, if no more output will follow this event.
+		 */
+		public boolean isComplete() {
+			return complete;
+		}
+
+		/**
+		 * Returns true, if the output that was handled before was replaced and this event holds the output from the
+		 * start.
+		 */
+		public boolean isReset() {
+			return reset;
+		}
+
+		/**
+		 * Returns true, if this event holds the output that follows the requested offset. Otherwise it holds the
+		 * complete output.
+		 */
+		public boolean isIncremental() {
+			return incremental;
+		}
+
 	}
 
 	public static abstract class BuildOutputReader {
@@ -55,32 +93,69 @@ public class GetBuildOutputOperation extends AbstractElementOperation<IBuild> {
 
 	}
 
+	/**
+	 * Interval in milliseconds between requests for new output of a running build.
+	 */
+	private static final long POLL_INTERVAL = 2000;
+
+	private static final long SLEEP_INTERVAL = 100;
+
 	private final IBuild build;
 
 	private final BuildServer server;
 
 	private final BuildOutputReader reader;
 
+	private final long offset;
+
 	public GetBuildOutputOperation(IOperationService service, IBuild build, BuildOutputReader reader) {
+		this(service, build, 0, reader);
+	}
+
+	/**
+	 * Retrieves the output of <code>build</code> that follows <code>offset</code>. While the build is running new output
+	 * is retrieved periodically until the server reports that the output is complete.
+	 */
+	public GetBuildOutputOperation(IOperationService service, IBuild build, long offset, BuildOutputReader reader) {
 		super(service);
 		Assert.isNotNull(build);
 		Assert.isNotNull(reader);
 		this.build = build;
 		this.reader = reader;
+		this.offset = offset;
 		server = (BuildServer) build.getServer();
 	}
 
 	public void doGetOutput(IBuild build, IOperationMonitor monitor) throws CoreException {
 		try {
-			Reader in = server.getBehaviour().getConsole(build, monitor);
-			try (in) {
-				BuildOutputEvent event = new BuildOutputEvent();
-				event.input = new BufferedReader(in);
-				reader.handle(event, monitor);
+			long offset = this.offset;
+			while (true) {
+				try (ConsoleOutput output = server.getBehaviour().getConsole(build, offset, monitor)) {
+					BuildOutputEvent event = new BuildOutputEvent();
+					event.input = new BufferedReader(output.getReader());
+					event.nextOffset = output.getNextOffset();
+					event.complete = output.isComplete();
+					event.reset = output.isReset();
+					event.incremental = output.isIncremental();
+					reader.handle(event, monitor);
+					if (output.isComplete()) {
+						return;
+					}
+					offset = output.getNextOffset();
+				}
+				for (long slept = 0; slept < POLL_INTERVAL; slept += SLEEP_INTERVAL) {
+					if (monitor.isCanceled()) {
+						throw new OperationCanceledException();
+					}
+					Thread.sleep(SLEEP_INTERVAL);
+				}
 			}
 		} catch (IOException e) {
 			throw new CoreException(
 					new Status(IStatus.ERROR, BuildsCorePlugin.ID_PLUGIN, Messages.GetBuildOutputOperation_failedRetrievingOutput, e));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
 		} finally {
 			reader.done();
 		}
@@ -13,6 +13,7 @@
 package org.eclipse.mylyn.builds.tests;
 
 import org.eclipse.mylyn.builds.tests.core.BuildModelManagerTest;
+import org.eclipse.mylyn.builds.tests.core.BuildServerBehaviourTest;
 import org.eclipse.mylyn.builds.tests.operations.RefreshOperationTest;
 import org.eclipse.mylyn.builds.tests.ui.BuildsViewTest;
 import org.eclipse.mylyn.builds.tests.util.BuildsUrlHandlerTest;
@@ -33,6 +34,7 @@ public class AllBuildsTests {
 	public static Test suite(boolean defaultOnly) {
 		TestSuite suite = new TestSuite(AllBuildsTests.class.getName());
 		suite.addTestSuite(BuildModelManagerTest.class);
+		suite.addTestSuite(BuildServerBehaviourTest.class);
 		suite.addTestSuite(JUnitResultGeneratorTest.class);
 		suite.addTestSuite(RefreshOperationTest.class);
 		suite.addTestSuite(BuildsUrlHandlerTest.class);
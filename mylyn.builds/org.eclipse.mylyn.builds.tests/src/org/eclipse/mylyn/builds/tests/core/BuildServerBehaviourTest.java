@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.builds.tests.core;
+
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.mylyn.builds.core.IBuild;
+import org.eclipse.mylyn.builds.core.spi.ConsoleOutput;
+import org.eclipse.mylyn.builds.tests.support.MockBuildServerBehaviour;
+import org.eclipse.mylyn.commons.core.operations.IOperationMonitor;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the console output of connectors that can only retrieve the complete output of a build.
+ */
+@SuppressWarnings("nls")
+public class BuildServerBehaviourTest extends TestCase {
+
+	private String console;
+
+	private MockBuildServerBehaviour behaviour;
+
+	@Override
+	protected void setUp() throws Exception {
+		behaviour = new MockBuildServerBehaviour() {
+			@Override
+			public Reader getConsole(IBuild build, IOperationMonitor monitor) throws CoreException {
+				return (console != null) ? new StringReader(console) : null;
+			}
+		};
+	}
+
+	public void testGetConsoleFromStart() throws Exception {
+		console = "one\ntwo\n";
+		try (ConsoleOutput output = behaviour.getConsole(null, 0, null)) {
+			assertEquals("one\ntwo\n", read(output));
+			assertTrue(output.isComplete());
+			assertFalse(output.isIncremental());
+			assertFalse(output.isReset());
+			assertEquals(0, output.getNextOffset());
+		}
+	}
+
+	public void testGetConsoleFromOffsetReturnsCompleteOutput() throws Exception {
+		console = "one\ntwo\n";
+		try (ConsoleOutput output = behaviour.getConsole(null, 4, null)) {
+			assertEquals("one\ntwo\n", read(output));
+			assertTrue(output.isComplete());
+			assertFalse(output.isIncremental());
+		}
+	}
+
+	public void testGetConsoleWithoutOutput() throws Exception {
+		try (ConsoleOutput output = behaviour.getConsole(null, 0, null)) {
+			assertEquals("", read(output));
+			assertTrue(output.isComplete());
+			assertFalse(output.isIncremental());
+		}
+	}
+
+	private String read(ConsoleOutput output) throws Exception {
+		StringBuilder sb = new StringBuilder();
+		char[] buffer = new char[1024];
+		int count;
+		while ((count = output.getReader().read(buffer)) != -1) {
+			sb.append(buffer, 0, count);
+		}
+		return sb.toString();
+	}
+
+}
@@ -48,6 +48,11 @@ public class BuildConsole {
 
 	private MessageConsoleStream stream;
 
+	/**
+	 * The offset of the output that follows the output shown in the console.
+	 */
+	private volatile long offset;
+
 	final static String CONSOLE_TYPE = "org.eclipse.mylyn.builds.ui.console.BuildConsole"; //$NON-NLS-1$
 
 	final static String ATTRIBUTE_BUILD = "org.eclipse.mylyn.builds.ui.console.build"; //$NON-NLS-1$
@@ -86,19 +91,26 @@ public class BuildConsole {
 
 	private void doGetOutput() {
 		if (operation == null) {
-			operation = new GetBuildOutputOperation(BuildsUiInternal.getOperationService(), build,
+			operation = new GetBuildOutputOperation(BuildsUiInternal.getOperationService(), build, offset,
 					new BuildOutputReader() {
 						@Override
 						public void handle(BuildOutputEvent event, IOperationMonitor monitor)
 								throws IOException, CoreException {
+							if (event.isReset() || !event.isIncremental()) {
+								// the output was replaced on the server or is retrieved from the start each time
+								console.clearConsole();
+							}
+							// output is appended as is since a part may end in the middle of a line
 							BufferedReader reader = event.getInput();
-							String line;
-							while ((line = reader.readLine()) != null) {
+							char[] buffer = new char[8192];
+							int count;
+							while ((count = reader.read(buffer)) != -1) {
 								if (stream.isClosed()) {
 									throw new OperationCanceledException();
 								}
-								stream.println(line);
+								stream.print(new String(buffer, 0, count));
 							}
+							offset = event.getNextOffset();
 						}
 
 						@Override
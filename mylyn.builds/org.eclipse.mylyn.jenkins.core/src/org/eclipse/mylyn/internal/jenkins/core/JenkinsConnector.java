@@ -57,13 +57,16 @@ public class JenkinsConnector extends BuildConnector {
 		this(getCacheFile());
 	}
 
+	private final File consoleDirectory;
+
 	public JenkinsConnector(File cacheFile) {
 		cache = new JenkinsConfigurationCache(cacheFile);
+		consoleDirectory = (cacheFile != null) ? new File(cacheFile.getParentFile(), "consoles") : null; //$NON-NLS-1$
 	}
 
 	@Override
 	public JenkinsServerBehaviour getBehaviour(RepositoryLocation location) throws CoreException {
-		return new JenkinsServerBehaviour(location, cache);
+		return new JenkinsServerBehaviour(location, cache, consoleDirectory);
 	}
 
 	@Override
@@ -15,6 +15,8 @@
 
 package org.eclipse.mylyn.internal.jenkins.core;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.Reader;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -29,6 +31,7 @@ import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.mylyn.builds.core.BuildState;
 import org.eclipse.mylyn.builds.core.BuildStatus;
 import org.eclipse.mylyn.builds.core.EditType;
@@ -57,6 +60,7 @@ import org.eclipse.mylyn.builds.core.TestCaseResult;
 import org.eclipse.mylyn.builds.core.spi.BuildPlanRequest;
 import org.eclipse.mylyn.builds.core.spi.BuildServerBehaviour;
 import org.eclipse.mylyn.builds.core.spi.BuildServerConfiguration;
+import org.eclipse.mylyn.builds.core.spi.ConsoleOutput;
 import org.eclipse.mylyn.builds.core.spi.GetBuildsRequest;
 import org.eclipse.mylyn.builds.core.spi.GetBuildsRequest.Kind;
 import org.eclipse.mylyn.builds.core.spi.GetBuildsRequest.Scope;
@@ -79,6 +83,7 @@ import org.eclipse.mylyn.internal.hudson.model.HudsonTasksJunitTestResult;
 import org.eclipse.mylyn.internal.hudson.model.HudsonTasksTestAggregatedTestResultAction;
 import org.eclipse.mylyn.internal.hudson.model.HudsonTasksTestAggregatedTestResultActionChildReport;
 import org.eclipse.mylyn.internal.jenkins.core.client.JenkinsConfigurationCache;
+import org.eclipse.mylyn.internal.jenkins.core.client.JenkinsConsoleLog;
 import org.eclipse.mylyn.internal.jenkins.core.client.JenkinsException;
 import org.eclipse.mylyn.internal.jenkins.core.client.JenkinsResourceNotFoundException;
 import org.eclipse.mylyn.internal.jenkins.core.client.JenkinsServerInfo;
@@ -104,8 +109,21 @@ public class JenkinsServerBehaviour extends BuildServerBehaviour {
 
 	private final JenkinsUrlUtil jenkinsUrlUtil;
 
+	private final File consoleDirectory;
+
 	public JenkinsServerBehaviour(RepositoryLocation location, JenkinsConfigurationCache cache) {
+		this(location, cache, null);
+	}
+
+	/**
+	 * @param consoleDirectory
+	 *            the directory that keeps local copies of console output or <code>null</code>, to retrieve the complete
+	 *            output on each request
+	 */
+	public JenkinsServerBehaviour(RepositoryLocation location, JenkinsConfigurationCache cache,
+			File consoleDirectory) {
 		this.location = location;
+		this.consoleDirectory = consoleDirectory;
 		client = new RestfulJenkinsClient(location, cache);
 		jenkinsUrlUtil = new JenkinsUrlUtil(this.location);
 	}
@@ -201,6 +219,39 @@ public class JenkinsServerBehaviour extends BuildServerBehaviour {
 		}
 	}
 
+	@Override
+	public ConsoleOutput getConsole(IBuild build, long offset, IOperationMonitor monitor) throws CoreException {
+		if (consoleDirectory == null || build.getBuildNumber() < 0) {
+			return super.getConsole(build, offset, monitor);
+		}
+		try {
+			HudsonModelJob job = createJobParameter(build.getPlan());
+			HudsonModelBuild hudsonBuild = createBuildParameter(build);
+			JenkinsConsoleLog log = JenkinsConsoleLog.get(consoleDirectory,
+					location.getUrl() + "\n" + build.getPlan().getId() + "\n" + build.getBuildNumber()); //$NON-NLS-1$ //$NON-NLS-2$
+			boolean replaced = false;
+			if (!log.isComplete()) {
+				long length = log.length();
+				client.updateConsole(job, hudsonBuild, log, monitor);
+				if (log.length() < length) {
+					// the output was replaced on the server, start over
+					client.updateConsole(job, hudsonBuild, log, monitor);
+					replaced = true;
+				}
+			}
+			if (replaced || offset > log.length()) {
+				// the output that was read before is gone, e.g. also if the log was evicted in the meantime
+				return log.read(0, offset > 0);
+			}
+			return log.read(offset);
+		} catch (JenkinsException e) {
+			throw JenkinsCorePlugin.toCoreException(e);
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, JenkinsCorePlugin.ID_PLUGIN,
+					"Unexpected error while reading console output: " + e.getMessage(), e)); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Looks for a child named <code>name</code> that has a text value or a nested <code>value</code> tag.
 	 */
@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.jenkins.core.client;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.mylyn.builds.core.spi.ConsoleOutput;
+
+/**
+ * A local append-only copy of the console output of a build. New output is appended as it is retrieved from the server
+ * so that only the output that was added since the last request needs to be transferred. Once the server reports that
+ * the build has no more output a marker file is created and the log is served without contacting the server.
+ * <p>
+ * Offsets are byte offsets into the UTF-8 encoded output as used by the <code>progressiveText</code> API of Jenkins.
+ * <p>
+ * The logs in a directory are bounded by their total size and number. The least recently used logs are removed when a
+ * bound is exceeded.
+ */
+public class JenkinsConsoleLog {
+
+	public static final long DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+
+	public static final int DEFAULT_MAX_COUNT = 100;
+
+	private static final String SUFFIX = ".log"; //$NON-NLS-1$
+
+	private static final ConcurrentMap<File, JenkinsConsoleLog> logByFile = new ConcurrentHashMap<>();
+
+	private final File file;
+
+	private final File completeFile;
+
+	/**
+	 * Returns the log identified by <code>key</code> in <code>directory</code>. The same instance is returned for the same
+	 * key so that concurrent retrievals for a build are serialized.
+	 */
+	public static JenkinsConsoleLog get(File directory, String key) {
+		String name = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString() + SUFFIX;
+		File file = new File(directory, name);
+		if (!logByFile.containsKey(file)) {
+			// track access so that the requested log is retained
+			file.setLastModified(System.currentTimeMillis());
+			evict(directory, DEFAULT_MAX_SIZE, DEFAULT_MAX_COUNT);
+		}
+		return logByFile.computeIfAbsent(file, JenkinsConsoleLog::new);
+	}
+
+	/**
+	 * Removes the least recently used logs from <code>directory</code> if their total size exceeds
+	 * <code>maxSize</code> or if there are more than <code>maxCount</code> logs. Logs are removed until both are at
+	 * three quarters of the bound to avoid evicting each time a log is requested.
+	 */
+	public static synchronized void evict(File directory, long maxSize, int maxCount) {
+		File[] files = directory.listFiles((dir, name) -> name.endsWith(SUFFIX));
+		if (files == null) {
+			return;
+		}
+		long size = 0;
+		long[] lastModified = new long[files.length];
+		Integer[] order = new Integer[files.length];
+		for (int i = 0; i < files.length; i++) {
+			size += files[i].length();
+			lastModified[i] = files[i].lastModified();
+			order[i] = i;
+		}
+		if (size <= maxSize && files.length <= maxCount) {
+			return;
+		}
+		Arrays.sort(order, Comparator.comparingLong(i -> lastModified[i]));
+		int count = files.length;
+		for (int i = 0; i < order.length && (size > maxSize / 4 * 3 || count > maxCount / 4 * 3); i++) {
+			File file = files[order[i]];
+			size -= file.length();
+			count--;
+			JenkinsConsoleLog log = logByFile.remove(file);
+			if (log != null) {
+				log.reset();
+			} else {
+				new JenkinsConsoleLog(file).reset();
+			}
+		}
+	}
+
+	private JenkinsConsoleLog(File file) {
+		this.file = file;
+		this.completeFile = new File(file.getPath() + ".complete"); //$NON-NLS-1$
+	}
+
+	public synchronized boolean isComplete() {
+		return completeFile.exists();
+	}
+
+	public synchronized long length() {
+		return file.length();
+	}
+
+	/**
+	 * Appends the content of <code>in</code> if the log still has a length of <code>start</code>. Returns false, if the
+	 * log was changed in the meantime and the content was discarded.
+	 */
+	public synchronized boolean append(long start, InputStream in) throws IOException {
+		if (isComplete() || length() != start) {
+			return false;
+		}
+		file.getParentFile().mkdirs();
+		try (OutputStream out = new FileOutputStream(file, true)) {
+			in.transferTo(out);
+		}
+		return true;
+	}
+
+	/**
+	 * Marks the log as complete.
+	 */
+	public synchronized void complete() throws IOException {
+		file.getParentFile().mkdirs();
+		if (!file.exists()) {
+			file.createNewFile();
+		}
+		completeFile.createNewFile();
+	}
+
+	/**
+	 * Discards the log, e.g. if the output on the server was replaced.
+	 */
+	public synchronized void reset() {
+		completeFile.delete();
+		file.delete();
+	}
+
+	/**
+	 * Returns the output that follows <code>offset</code> up to the current end of the log. While the log is not
+	 * complete a character that has not been fully received is left for the next part.
+	 */
+	public ConsoleOutput read(long offset) throws IOException {
+		return read(offset, false);
+	}
+
+	/**
+	 * Returns the output that follows <code>offset</code> like {@link #read(long)}.
+	 *
+	 * @param reset
+	 *            true, if the output that was read before was replaced, see {@link ConsoleOutput#isReset()}
+	 */
+	public synchronized ConsoleOutput read(long offset, boolean reset) throws IOException {
+		boolean complete = isComplete();
+		if (!file.exists() || offset >= file.length()) {
+			return new ConsoleOutput(new StringReader(""), offset, complete, reset); //$NON-NLS-1$
+		}
+		// track access for eviction
+		file.setLastModified(System.currentTimeMillis());
+		FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		try {
+			long end = channel.size();
+			if (!complete) {
+				end = getCharacterBoundary(end);
+			}
+			channel.position(offset);
+			InputStream in = new LimitedInputStream(Channels.newInputStream(channel), Math.max(0, end - offset));
+			return new ConsoleOutput(new InputStreamReader(in, StandardCharsets.UTF_8), Math.max(offset, end),
+					complete, reset);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns <code>end</code> or, if the log ends with an incomplete UTF-8 sequence, the offset of its first byte.
+	 */
+	private long getCharacterBoundary(long end) throws IOException {
+		int length = (int) Math.min(4, end);
+		byte[] tail = new byte[length];
+		try (RandomAccessFile in = new RandomAccessFile(file, "r")) { //$NON-NLS-1$
+			in.seek(end - length);
+			in.readFully(tail);
+		}
+		for (int i = length - 1; i >= 0; i--) {
+			int b = tail[i] & 0xFF;
+			if ((b & 0xC0) != 0x80) {
+				int sequenceLength = (b >= 0xF0) ? 4 : (b >= 0xE0) ? 3 : (b >= 0xC0) ? 2 : 1;
+				return (i + sequenceLength > length) ? end - length + i : end;
+			}
+		}
+		return end;
+	}
+
+	private static class LimitedInputStream extends FilterInputStream {
+
+		private long remaining;
+
+		LimitedInputStream(InputStream in, long limit) {
+			super(in);
+			this.remaining = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int b = super.read();
+			if (b != -1) {
+				remaining--;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int n = super.read(b, off, (int) Math.min(len, remaining));
+			if (n > 0) {
+				remaining -= n;
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(Math.min(n, remaining));
+			remaining -= skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return (int) Math.min(super.available(), remaining);
+		}
+
+	}
+
+}
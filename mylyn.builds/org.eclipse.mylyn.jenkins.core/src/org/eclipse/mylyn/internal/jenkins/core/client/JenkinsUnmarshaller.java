@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.jenkins.core.client;
+
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.w3c.dom.Node;
+
+/**
+ * Unmarshals the XML representations of the Jenkins remote API. Creating a {@link JAXBContext} is expensive, so a
+ * context is created once per class and shared. Unmarshallers are not thread-safe and are therefore pooled per class.
+ * Responses are unmarshalled straight from a StAX stream without building a DOM first.
+ */
+public class JenkinsUnmarshaller {
+
+	private static final int MAX_POOLED_UNMARSHALLERS = 4;
+
+	private static final ConcurrentMap<Class<?>, JAXBContext> contextByClass = new ConcurrentHashMap<>();
+
+	private static final ConcurrentMap<Class<?>, BlockingQueue<Unmarshaller>> unmarshallersByClass = new ConcurrentHashMap<>();
+
+	private static final XMLInputFactory inputFactory = createInputFactory();
+
+	private static XMLInputFactory createInputFactory() {
+		XMLInputFactory factory = XMLInputFactory.newFactory();
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		return factory;
+	}
+
+	/**
+	 * Returns a reader for <code>in</code> that is positioned at the start of the root element.
+	 */
+	public static XMLStreamReader createReader(InputStream in) throws XMLStreamException {
+		XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+		reader.nextTag();
+		return reader;
+	}
+
+	/**
+	 * Unmarshals the element at the current position of <code>reader</code>.
+	 */
+	public static <T> T unmarshal(XMLStreamReader reader, Class<T> clazz) throws JAXBException {
+		Unmarshaller unmarshaller = acquire(clazz);
+		try {
+			return unmarshaller.unmarshal(reader, clazz).getValue();
+		} finally {
+			release(clazz, unmarshaller);
+		}
+	}
+
+	public static <T> T unmarshal(Node node, Class<T> clazz) throws JAXBException {
+		Unmarshaller unmarshaller = acquire(clazz);
+		try {
+			return unmarshaller.unmarshal(node, clazz).getValue();
+		} finally {
+			release(clazz, unmarshaller);
+		}
+	}
+
+	private static Unmarshaller acquire(Class<?> clazz) throws JAXBException {
+		Unmarshaller unmarshaller = getPool(clazz).poll();
+		if (unmarshaller == null) {
+			unmarshaller = getContext(clazz).createUnmarshaller();
+		}
+		return unmarshaller;
+	}
+
+	private static void release(Class<?> clazz, Unmarshaller unmarshaller) {
+		getPool(clazz).offer(unmarshaller);
+	}
+
+	private static BlockingQueue<Unmarshaller> getPool(Class<?> clazz) {
+		return unmarshallersByClass.computeIfAbsent(clazz,
+				key -> new ArrayBlockingQueue<>(MAX_POOLED_UNMARSHALLERS));
+	}
+
+	private static JAXBContext getContext(Class<?> clazz) throws JAXBException {
+		JAXBContext context = contextByClass.get(clazz);
+		if (context == null) {
+			context = JAXBContext.newInstance(clazz);
+			JAXBContext existingContext = contextByClass.putIfAbsent(clazz, context);
+			if (existingContext != null) {
+				context = existingContext;
+			}
+		}
+		return context;
+	}
+
+}
@@ -28,13 +28,12 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.apache.http.Header;
 import org.apache.http.HttpStatus;
@@ -60,7 +59,6 @@ import org.eclipse.mylyn.internal.hudson.model.HudsonTasksTestAggregatedTestResu
 import org.eclipse.mylyn.internal.jenkins.core.client.JenkinsServerInfo.Type;
 import org.eclipse.osgi.util.NLS;
 import org.w3c.dom.Document;
-import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.xml.sax.SAXException;
 
@@ -127,7 +125,7 @@ public class RestfulJenkinsClient {
 			protected List<HudsonModelRun> doProcess(CommonHttpResponse response, IOperationMonitor monitor)
 					throws IOException, JenkinsException, JAXBException {
 				InputStream in = response.getResponseEntityAsStream();
-				HudsonModelProject project = unmarshal(parse(in, response.getRequestPath()), HudsonModelProject.class);
+				HudsonModelProject project = unmarshal(in, response.getRequestPath(), HudsonModelProject.class);
 				return project.getBuild();
 			}
 		}.run();
@@ -148,7 +146,7 @@ public class RestfulJenkinsClient {
 			protected HudsonModelBuild doProcess(CommonHttpResponse response, IOperationMonitor monitor)
 					throws IOException, JenkinsException, JAXBException {
 				InputStream in = response.getResponseEntityAsStream();
-				HudsonModelBuild hudsonBuild = unmarshal(parse(in, response.getRequestPath()), HudsonModelBuild.class);
+				HudsonModelBuild hudsonBuild = unmarshal(in, response.getRequestPath(), HudsonModelBuild.class);
 				return hudsonBuild;
 			}
 		}.run();
@@ -178,18 +176,23 @@ public class RestfulJenkinsClient {
 			protected JenkinsTestReport doProcess(CommonHttpResponse response, IOperationMonitor monitor)
 					throws IOException, JenkinsException, JAXBException {
 				InputStream in = response.getResponseEntityAsStream();
-				Element element = parse(in, response.getRequestPath());
-				if ("surefireAggregatedReport".equals(element.getNodeName())) { //$NON-NLS-1$
-					HudsonMavenReportersSurefireAggregatedReport report = unmarshal(element,
-							HudsonMavenReportersSurefireAggregatedReport.class);
-					// unmarshal nested test results
-					for (HudsonTasksTestAggregatedTestResultActionChildReport child : report.getChildReport()) {
-						child.setResult(RestfulJenkinsClient.unmarshal((Node) child.getResult(),
-								HudsonTasksJunitTestResult.class));
+				XMLStreamReader reader = createReader(in, response.getRequestPath());
+				try {
+					if ("surefireAggregatedReport".equals(reader.getLocalName())) { //$NON-NLS-1$
+						HudsonMavenReportersSurefireAggregatedReport report = JenkinsUnmarshaller.unmarshal(reader,
+								HudsonMavenReportersSurefireAggregatedReport.class);
+						// unmarshal nested test results
+						for (HudsonTasksTestAggregatedTestResultActionChildReport child : report.getChildReport()) {
+							child.setResult(
+									unmarshal((Node) child.getResult(), HudsonTasksJunitTestResult.class));
+						}
+						return new JenkinsTestReport(report);
 					}
-					return new JenkinsTestReport(report);
+					return new JenkinsTestReport(
+							JenkinsUnmarshaller.unmarshal(reader, HudsonTasksJunitTestResult.class));
+				} finally {
+					close(reader);
 				}
-				return new JenkinsTestReport(unmarshal(element, HudsonTasksJunitTestResult.class));
 			}
 		}.run();
 	}
@@ -239,8 +242,49 @@ public class RestfulJenkinsClient {
 		}.run();
 	}
 
-	private DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
-		return DocumentBuilderFactory.newInstance().newDocumentBuilder();
+	/**
+	 * Appends the console output of <code>build</code> that follows the content of <code>log</code> through the
+	 * <code>progressiveText</code> API and marks the log as complete once the server reports that no more output will
+	 * follow.
+	 */
+	public void updateConsole(final HudsonModelJob job, final HudsonModelBuild hudsonBuild, final JenkinsConsoleLog log,
+			final IOperationMonitor monitor) throws JenkinsException {
+		final long start = log.length();
+		new JenkinsOperation<>(client) {
+			@Override
+			public Object execute() throws IOException, JenkinsException, JAXBException {
+				HttpRequestBase request = createGetRequest(
+						getBuildUrl(job, hudsonBuild) + "/logText/progressiveText?start=" + start); //$NON-NLS-1$
+				CommonHttpResponse response = execute(request, monitor);
+				return processAndRelease(response, monitor);
+			}
+
+			@Override
+			protected Object doProcess(CommonHttpResponse response, IOperationMonitor monitor)
+					throws IOException, JenkinsException {
+				Header textSize = response.getResponse().getFirstHeader("X-Text-Size"); //$NON-NLS-1$
+				if (textSize != null && parseLong(textSize.getValue()) < start) {
+					// the output was replaced, e.g. because the build was deleted and run again
+					log.reset();
+					return null;
+				}
+				if (log.append(start, response.getResponseEntityAsStream())) {
+					Header moreData = response.getResponse().getFirstHeader("X-More-Data"); //$NON-NLS-1$
+					if (moreData == null || !Boolean.parseBoolean(moreData.getValue())) {
+						log.complete();
+					}
+				}
+				return null;
+			}
+		}.run();
+	}
+
+	private static long parseLong(String value) throws JenkinsException {
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			throw new JenkinsException(NLS.bind("Invalid text size ''{0}''", value), e); //$NON-NLS-1$
+		}
 	}
 
 	public List<HudsonModelJob> getJobs(final List<String> ids, final IOperationMonitor monitor)
@@ -315,7 +359,7 @@ public class RestfulJenkinsClient {
 
 				InputStream in = response.getResponseEntityAsStream();
 
-				HudsonModelHudson hudson = unmarshal(parse(in, response.getRequestPath()), HudsonModelHudson.class);
+				HudsonModelHudson hudson = unmarshal(in, response.getRequestPath(), HudsonModelHudson.class);
 
 				List<HudsonModelJob> buildPlans = new ArrayList<>();
 				List<Object> jobsNodes = hudson.getJob();
@@ -350,9 +394,9 @@ public class RestfulJenkinsClient {
 		return jenkinsUrlUtil.getJobUrlFromJobId(job.getName());
 	}
 
-	Element parse(InputStream in, String url) throws JenkinsException {
+	XMLStreamReader createReader(InputStream in, String url) throws JenkinsException {
 		try {
-			return getDocumentBuilder().parse(in).getDocumentElement();
+			return JenkinsUnmarshaller.createReader(in);
 		} catch (OperationCanceledException e) {
 			throw e;
 		} catch (Exception e) {
@@ -360,6 +404,23 @@ public class RestfulJenkinsClient {
 		}
 	}
 
+	<T> T unmarshal(InputStream in, String url, Class<T> clazz) throws JenkinsException, JAXBException {
+		XMLStreamReader reader = createReader(in, url);
+		try {
+			return JenkinsUnmarshaller.unmarshal(reader, clazz);
+		} finally {
+			close(reader);
+		}
+	}
+
+	private void close(XMLStreamReader reader) {
+		try {
+			reader.close();
+		} catch (XMLStreamException e) {
+			// ignore
+		}
+	}
+
 	public Document getJobConfig(final HudsonModelJob job, final IOperationMonitor monitor) throws JenkinsException {
 		return new JenkinsOperation<Document>(client) {
 			@Override
@@ -448,12 +509,7 @@ public class RestfulJenkinsClient {
 	}
 
 	public static <T> T unmarshal(Node node, Class<T> clazz) throws JAXBException {
-		JAXBContext ctx = JAXBContext.newInstance(clazz);
-
-		Unmarshaller unmarshaller = ctx.createUnmarshaller();
-
-		JAXBElement<T> hudsonElement = unmarshaller.unmarshal(node, clazz);
-		return hudsonElement.getValue();
+		return JenkinsUnmarshaller.unmarshal(node, clazz);
 	}
 
 	public JenkinsServerInfo validate(final IOperationMonitor monitor) throws JenkinsException {
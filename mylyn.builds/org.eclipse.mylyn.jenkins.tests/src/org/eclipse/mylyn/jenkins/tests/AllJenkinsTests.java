@@ -18,6 +18,8 @@ import org.eclipse.mylyn.commons.sdk.util.ManagedSuite;
 import org.eclipse.mylyn.commons.sdk.util.ManagedTestSuite;
 import org.eclipse.mylyn.commons.sdk.util.TestConfiguration;
 import org.eclipse.mylyn.jenkins.tests.client.JenkinsClientTest;
+import org.eclipse.mylyn.jenkins.tests.client.JenkinsConsoleLogTest;
+import org.eclipse.mylyn.jenkins.tests.client.JenkinsUnmarshallerTest;
 import org.eclipse.mylyn.jenkins.tests.client.JenkinsUrlTest;
 import org.eclipse.mylyn.jenkins.tests.client.JenkinsValidationTest;
 import org.eclipse.mylyn.jenkins.tests.core.JenkinsConnectorTest;
@@ -55,6 +57,8 @@ public class AllJenkinsTests {
 		suite.addTestSuite(JenkinsConnectorTest.class);
 		suite.addTestSuite(JenkinsServerBehaviourTest.class);
 		suite.addTestSuite(JenkinsUrlTest.class);
+		suite.addTestSuite(JenkinsUnmarshallerTest.class);
+		suite.addTestSuite(JenkinsConsoleLogTest.class);
 		if (!configuration.isLocalOnly()) {
 			// network tests
 			suite.addTestSuite(JenkinsValidationTest.class);
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.jenkins.tests.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.UUID;
+
+import org.eclipse.mylyn.builds.core.spi.ConsoleOutput;
+import org.eclipse.mylyn.internal.jenkins.core.client.JenkinsConsoleLog;
+
+import junit.framework.TestCase;
+
+@SuppressWarnings("nls")
+public class JenkinsConsoleLogTest extends TestCase {
+
+	private File directory;
+
+	private JenkinsConsoleLog log;
+
+	@Override
+	protected void setUp() throws Exception {
+		directory = Files.createTempDirectory("consoles").toFile();
+		log = JenkinsConsoleLog.get(directory, getName());
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		log.reset();
+		directory.delete();
+	}
+
+	public void testAppendAndRead() throws Exception {
+		assertFalse(log.isComplete());
+		assertTrue(log.append(0, toStream("one\n")));
+		assertTrue(log.append(4, toStream("two\n")));
+
+		ConsoleOutput output = log.read(0);
+		assertEquals("one\ntwo\n", read(output));
+		assertEquals(8, output.getNextOffset());
+		assertFalse(output.isComplete());
+		assertTrue(output.isIncremental());
+
+		output = log.read(4);
+		assertEquals("two\n", read(output));
+		assertEquals(8, output.getNextOffset());
+
+		output = log.read(8);
+		assertEquals("", read(output));
+		assertEquals(8, output.getNextOffset());
+	}
+
+	public void testAppendDiscardsUnexpectedStart() throws Exception {
+		assertTrue(log.append(0, toStream("one\n")));
+		assertFalse(log.append(0, toStream("one\n")));
+		assertEquals(4, log.length());
+	}
+
+	public void testComplete() throws Exception {
+		assertTrue(log.append(0, toStream("one\n")));
+		log.complete();
+		assertTrue(log.isComplete());
+		assertFalse(log.append(4, toStream("two\n")));
+
+		ConsoleOutput output = log.read(0);
+		assertEquals("one\n", read(output));
+		assertTrue(output.isComplete());
+		assertSame(log, JenkinsConsoleLog.get(directory, getName()));
+
+		log.reset();
+		assertFalse(log.isComplete());
+		assertEquals(0, log.length());
+	}
+
+	public void testReadStopsAtCharacterBoundary() throws Exception {
+		byte[] bytes = "a\u00e9\u20ac".getBytes(StandardCharsets.UTF_8);
+		assertEquals(6, bytes.length);
+		// the last character is only received partially
+		assertTrue(log.append(0, new ByteArrayInputStream(bytes, 0, 5)));
+
+		ConsoleOutput output = log.read(0);
+		assertEquals("a\u00e9", read(output));
+		assertEquals(3, output.getNextOffset());
+
+		assertTrue(log.append(5, new ByteArrayInputStream(bytes, 5, 1)));
+		output = log.read(3);
+		assertEquals("\u20ac", read(output));
+		assertEquals(6, output.getNextOffset());
+	}
+
+	public void testReadReset() throws Exception {
+		assertTrue(log.append(0, toStream("one\n")));
+		assertFalse(log.read(0).isReset());
+
+		ConsoleOutput output = log.read(0, true);
+		assertEquals("one\n", read(output));
+		assertTrue(output.isReset());
+		assertTrue(log.read(4, true).isReset());
+	}
+
+	public void testEvictLeastRecentlyUsed() throws Exception {
+		JenkinsConsoleLog[] logs = new JenkinsConsoleLog[4];
+		for (int i = 0; i < logs.length; i++) {
+			logs[i] = JenkinsConsoleLog.get(directory, getName() + i);
+			assertTrue(logs[i].append(0, toStream("0123456789")));
+			logs[i].complete();
+		}
+		setLastModified(1, 3, 0, 2);
+
+		JenkinsConsoleLog.evict(directory, 40, 10);
+		assertEquals(4, directory.list((dir, name) -> name.endsWith(".log")).length);
+
+		// exceeding the size removes logs until three quarters of the size are left
+		JenkinsConsoleLog.evict(directory, 39, 10);
+		assertEquals(0, logs[1].length());
+		assertFalse(logs[1].isComplete());
+		assertEquals(0, logs[3].length());
+		assertEquals(10, logs[0].length());
+		assertEquals(10, logs[2].length());
+		assertTrue(logs[2].isComplete());
+		assertNotSame(logs[1], JenkinsConsoleLog.get(directory, getName() + 1));
+		assertSame(logs[0], JenkinsConsoleLog.get(directory, getName() + 0));
+
+		// exceeding the number of logs
+		JenkinsConsoleLog.evict(directory, 100, 1);
+		assertEquals(0, directory.list((dir, name) -> name.endsWith(".log")).length);
+
+		for (int i = 0; i < logs.length; i++) {
+			JenkinsConsoleLog.get(directory, getName() + i).reset();
+		}
+	}
+
+	/**
+	 * Sets the modification time of the logs so that they are used in the order of <code>indices</code>.
+	 */
+	private void setLastModified(int... indices) {
+		long time = System.currentTimeMillis() - 60 * 1000;
+		for (int i = 0; i < indices.length; i++) {
+			String name = UUID.nameUUIDFromBytes((getName() + indices[i]).getBytes(StandardCharsets.UTF_8)) + ".log";
+			assertTrue(new File(directory, name).setLastModified(time + i * 1000));
+		}
+	}
+
+	private String read(ConsoleOutput output) throws IOException {
+		try (Reader reader = output.getReader()) {
+			StringBuilder sb = new StringBuilder();
+			char[] buffer = new char[16];
+			int count;
+			while ((count = reader.read(buffer)) != -1) {
+				sb.append(buffer, 0, count);
+			}
+			return sb.toString();
+		}
+	}
+
+	private ByteArrayInputStream toStream(String text) {
+		return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.jenkins.tests.client;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.mylyn.internal.hudson.model.HudsonMavenReportersSurefireAggregatedReport;
+import org.eclipse.mylyn.internal.hudson.model.HudsonModelBallColor;
+import org.eclipse.mylyn.internal.hudson.model.HudsonModelHudson;
+import org.eclipse.mylyn.internal.hudson.model.HudsonModelJob;
+import org.eclipse.mylyn.internal.hudson.model.HudsonTasksJunitTestResult;
+import org.eclipse.mylyn.internal.hudson.model.HudsonTasksTestAggregatedTestResultActionChildReport;
+import org.eclipse.mylyn.internal.jenkins.core.client.JenkinsUnmarshaller;
+import org.w3c.dom.Node;
+
+import junit.framework.TestCase;
+
+@SuppressWarnings("nls")
+public class JenkinsUnmarshallerTest extends TestCase {
+
+	public void testUnmarshalJobs() throws Exception {
+		XMLStreamReader reader = createReader(
+				"<hudson><job><name>one</name><color>blue</color></job><job><name>two</name></job></hudson>");
+		HudsonModelHudson hudson = JenkinsUnmarshaller.unmarshal(reader, HudsonModelHudson.class);
+
+		assertEquals(2, hudson.getJob().size());
+		HudsonModelJob job = JenkinsUnmarshaller.unmarshal((Node) hudson.getJob().get(0), HudsonModelJob.class);
+		assertEquals("one", job.getName());
+		assertEquals(HudsonModelBallColor.BLUE, job.getColor());
+		job = JenkinsUnmarshaller.unmarshal((Node) hudson.getJob().get(1), HudsonModelJob.class);
+		assertEquals("two", job.getName());
+		assertNull(job.getColor());
+	}
+
+	public void testUnmarshalAggregatedReport() throws Exception {
+		XMLStreamReader reader = createReader("<?xml version=\"1.0\"?><surefireAggregatedReport>"
+				+ "<failCount>1</failCount><totalCount>3</totalCount>"
+				+ "<childReport><result><failCount>1</failCount><passCount>2</passCount></result></childReport>"
+				+ "</surefireAggregatedReport>");
+		assertEquals("surefireAggregatedReport", reader.getLocalName());
+		HudsonMavenReportersSurefireAggregatedReport report = JenkinsUnmarshaller.unmarshal(reader,
+				HudsonMavenReportersSurefireAggregatedReport.class);
+
+		assertEquals(1, report.getFailCount());
+		assertEquals(3, report.getTotalCount());
+		assertEquals(1, report.getChildReport().size());
+		HudsonTasksTestAggregatedTestResultActionChildReport child = report.getChildReport().get(0);
+		HudsonTasksJunitTestResult result = JenkinsUnmarshaller.unmarshal((Node) child.getResult(),
+				HudsonTasksJunitTestResult.class);
+		assertEquals(1, result.getFailCount());
+		assertEquals(2, result.getPassCount());
+	}
+
+	public void testUnmarshalRepeatedly() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			HudsonModelJob job = JenkinsUnmarshaller.unmarshal(createReader("<job><name>" + i + "</name></job>"),
+					HudsonModelJob.class);
+			assertEquals(String.valueOf(i), job.getName());
+		}
+	}
+
+	private XMLStreamReader createReader(String xml) throws Exception {
+		return JenkinsUnmarshaller.createReader(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+	}
+
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.context.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+
+import org.eclipse.mylyn.context.core.IInteractionContextScaling;
+import org.eclipse.mylyn.monitor.core.InteractionEvent;
+import org.eclipse.mylyn.monitor.core.InteractionEvent.Kind;
+
+/**
+ * Reads contexts that were written by {@link BinaryContextWriter}. Strings are only decoded once when they are first
+ * referenced.
+ */
+public class BinaryContextReader {
+
+	private IInteractionContextScaling contextScaling;
+
+	private ByteBuffer buffer;
+
+	private int stringOffsetsPosition;
+
+	private int stringDataPosition;
+
+	private String[] strings;
+
+	public void setContextScaling(IInteractionContextScaling contextScaling) {
+		this.contextScaling = contextScaling;
+	}
+
+	/**
+	 * Reads the context stored in <code>file</code>.
+	 *
+	 * @param xmlFile
+	 *            the XML file of the context
+	 * @return the context or <code>null</code>, if the file does not exist or was not written for the current version
+	 *         of <code>xmlFile</code>
+	 * @throws IOException
+	 *             if the file is not readable or corrupt
+	 */
+	public InteractionContext readContext(String handleIdentifier, File xmlFile, File file) throws IOException {
+		if (!file.exists()) {
+			return null;
+		}
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				throw new IOException("Context file too large: " + file); //$NON-NLS-1$
+			}
+			// all events are decoded eagerly, read the file into memory rather than mapping it so that it is not
+			// kept open and can be replaced when the context is written again
+			buffer = ByteBuffer.allocate((int) size);
+			while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+			}
+			buffer.flip();
+			return read(handleIdentifier, xmlFile);
+		} catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+				| NegativeArraySizeException e) {
+			throw new IOException("Corrupt context file: " + file, e); //$NON-NLS-1$
+		} finally {
+			buffer = null;
+			strings = null;
+		}
+	}
+
+	private InteractionContext read(String handleIdentifier, File xmlFile) throws IOException {
+		if (buffer.remaining() < 24 || buffer.getInt() != BinaryContextWriter.MAGIC) {
+			throw new IOException("Not a context file"); //$NON-NLS-1$
+		}
+		if (buffer.getInt() != BinaryContextWriter.VERSION) {
+			return null;
+		}
+		long xmlLength = buffer.getLong();
+		long xmlLastModified = buffer.getLong();
+		if (xmlLength != xmlFile.length() || xmlLastModified != xmlFile.lastModified()) {
+			return null;
+		}
+		int contentLimitedTo = buffer.getInt();
+
+		int stringCount = buffer.getInt();
+		if (stringCount < 0 || stringCount > buffer.remaining() / 4) {
+			throw new IOException("Invalid string table"); //$NON-NLS-1$
+		}
+		strings = new String[stringCount];
+		stringOffsetsPosition = buffer.position();
+		stringDataPosition = stringOffsetsPosition + (stringCount + 1) * 4;
+		buffer.position(stringDataPosition + buffer.getInt(stringOffsetsPosition + stringCount * 4));
+
+		InteractionContext context = new InteractionContext(handleIdentifier, contextScaling);
+		context.setContentLimitedTo(getString(contentLimitedTo));
+		int eventCount = buffer.getInt();
+		for (int i = 0; i < eventCount; i++) {
+			Kind kind = Kind.fromString(getString(buffer.getInt()));
+			String structureKind = getString(buffer.getInt());
+			String structureHandle = getString(buffer.getInt());
+			String originId = getString(buffer.getInt());
+			String navigation = getString(buffer.getInt());
+			String delta = getString(buffer.getInt());
+			float interest = buffer.getFloat();
+			Date startDate = new Date(buffer.getLong());
+			Date endDate = new Date(buffer.getLong());
+			InteractionEvent event;
+			if (buffer.get() == 1) {
+				int numEvents = buffer.getInt();
+				int eventCountOnCreation = buffer.getInt();
+				event = new AggregateInteractionEvent(kind, structureKind, structureHandle, originId, navigation, delta,
+						interest, startDate, endDate, numEvents, eventCountOnCreation);
+			} else {
+				event = new InteractionEvent(kind, structureKind, structureHandle, originId, navigation, delta,
+						interest, startDate, endDate);
+			}
+			context.parseEvent(event);
+		}
+		return context;
+	}
+
+	private String getString(int index) {
+		if (index == BinaryContextWriter.NULL_STRING) {
+			return null;
+		}
+		String string = strings[index];
+		if (string == null) {
+			int start = buffer.getInt(stringOffsetsPosition + index * 4);
+			int end = buffer.getInt(stringOffsetsPosition + index * 4 + 4);
+			byte[] bytes = new byte[end - start];
+			buffer.get(stringDataPosition + start, bytes);
+			string = new String(bytes, StandardCharsets.UTF_8);
+			strings[index] = string;
+		}
+		return string;
+	}
+
+}
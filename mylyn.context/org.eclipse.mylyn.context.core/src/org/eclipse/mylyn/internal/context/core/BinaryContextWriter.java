@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.context.core;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.mylyn.context.core.IInteractionContext;
+import org.eclipse.mylyn.monitor.core.InteractionEvent;
+
+/**
+ * Writes contexts in a compact binary format that can be read without inflating and parsing the XML representation.
+ * All strings are stored once in a string table and referenced by index from the events. The binary file records the
+ * length and modification time of the XML file it was written with and is only considered valid as long as the XML
+ * file is unchanged.
+ * <p>
+ * Layout, all numbers big endian:
+ *
+ * <pre>
+ * int magic, int version, long xml length, long xml modification time
+ * int content limited to (string index or -1)
+ * int string count, int[string count + 1] string offsets, byte[] UTF-8 string data
+ * int event count, events
+ * </pre>
+ *
+ * Each event is stored as the string indexes of kind, structure kind, handle, origin id, navigation and delta, followed
+ * by the interest as float, start and end date as long, a byte that is 1 for aggregate events and for aggregate events
+ * the number of events and the event count on creation.
+ *
+ * @see BinaryContextReader
+ */
+public class BinaryContextWriter {
+
+	static final int MAGIC = 0x4D434358; // "MCCX"
+
+	static final int VERSION = 1;
+
+	static final int NULL_STRING = -1;
+
+	private final Map<String, Integer> indexByString = new HashMap<>();
+
+	private final List<String> strings = new ArrayList<>();
+
+	/**
+	 * Writes <code>context</code> to <code>file</code>. The file is replaced atomically if supported by the file system
+	 * so that readers never see a partially written file.
+	 *
+	 * @param xmlFile
+	 *            the XML file that was written for the same context
+	 */
+	public void write(IInteractionContext context, File xmlFile, File file) throws IOException {
+		indexByString.clear();
+		strings.clear();
+
+		List<InteractionEvent> events = context.getInteractionHistory();
+		int contentLimitedTo = index(context.getContentLimitedTo());
+		int[] eventStrings = new int[events.size() * 6];
+		int i = 0;
+		for (InteractionEvent event : events) {
+			eventStrings[i++] = index(event.getKind() != null ? event.getKind().toString() : null);
+			eventStrings[i++] = index(event.getStructureKind());
+			eventStrings[i++] = index(event.getStructureHandle());
+			eventStrings[i++] = index(event.getOriginId());
+			eventStrings[i++] = index(event.getNavigation());
+			eventStrings[i++] = index(event.getDelta());
+		}
+
+		File tempFile = File.createTempFile(file.getName(), ".tmp", file.getParentFile()); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeLong(xmlFile.length());
+				out.writeLong(xmlFile.lastModified());
+				out.writeInt(contentLimitedTo);
+				writeStrings(out);
+
+				out.writeInt(events.size());
+				i = 0;
+				for (InteractionEvent event : events) {
+					for (int j = 0; j < 6; j++) {
+						out.writeInt(eventStrings[i++]);
+					}
+					out.writeFloat(event.getInterestContribution());
+					out.writeLong(event.getDate().getTime());
+					out.writeLong(event.getEndDate().getTime());
+					if (event instanceof AggregateInteractionEvent aggregateEvent) {
+						out.writeByte(1);
+						out.writeInt(aggregateEvent.getNumCollapsedEvents());
+						out.writeInt(aggregateEvent.getEventCountOnCreation());
+					} else {
+						out.writeByte(0);
+					}
+				}
+			}
+			try {
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			tempFile.delete();
+		}
+	}
+
+	private void writeStrings(DataOutputStream out) throws IOException {
+		List<byte[]> data = new ArrayList<>(strings.size());
+		for (String string : strings) {
+			data.add(string.getBytes(StandardCharsets.UTF_8));
+		}
+		out.writeInt(strings.size());
+		int offset = 0;
+		for (byte[] bytes : data) {
+			out.writeInt(offset);
+			offset += bytes.length;
+		}
+		out.writeInt(offset);
+		for (byte[] bytes : data) {
+			out.write(bytes);
+		}
+	}
+
+	private int index(String string) {
+		if (string == null) {
+			return NULL_STRING;
+		}
+		Integer index = indexByString.get(string);
+		if (index == null) {
+			index = strings.size();
+			strings.add(string);
+			indexByString.put(string, index);
+		}
+		return index;
+	}
+
+}
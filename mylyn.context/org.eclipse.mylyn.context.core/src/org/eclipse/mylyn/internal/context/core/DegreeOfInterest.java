@@ -13,7 +13,8 @@
 package org.eclipse.mylyn.internal.context.core;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
@@ -27,9 +28,50 @@ import org.eclipse.mylyn.monitor.core.InteractionEvent;
 // TODO: make package-visible
 public class DegreeOfInterest implements IDegreeOfInterest {
 
-	private final List<InteractionEvent> events = new ArrayList<>();
+	/**
+	 * Accumulates the events of one kind. The collapsed event is only created when requested.
+	 */
+	private static class KindSummary {
+
+		private InteractionEvent first;
+
+		private InteractionEvent last;
+
+		private float interestContribution;
+
+		private int numCollapsedEvents;
+
+		void add(InteractionEvent event) {
+			if (first == null) {
+				first = event;
+				numCollapsedEvents = event instanceof AggregateInteractionEvent
+						? ((AggregateInteractionEvent) event).getNumCollapsedEvents()
+						: 1;
+				interestContribution = event.getInterestContribution();
+			} else {
+				numCollapsedEvents++;
+				interestContribution += event.getInterestContribution();
+			}
+			last = event;
+		}
+
+		InteractionEvent toEvent(int eventCountOnCreation) {
+			if (first == last) {
+				return first;
+			}
+			return new AggregateInteractionEvent(last.getKind(), last.getStructureKind(), last.getStructureHandle(),
+					last.getOriginId(), last.getNavigation(), last.getDelta(), interestContribution, first.getDate(),
+					last.getEndDate(), numCollapsedEvents, eventCountOnCreation);
+		}
 
-	private final Map<InteractionEvent.Kind, InteractionEvent> collapsedEvents = new HashMap<>();
+	}
+
+	/**
+	 * The raw events, only retained if requested through {@link #setRetainEvents(boolean)}.
+	 */
+	private List<InteractionEvent> events;
+
+	private final Map<InteractionEvent.Kind, KindSummary> summaries = new EnumMap<>(InteractionEvent.Kind.class);
 
 	protected IInteractionContextScaling contextScaling;
 
@@ -61,29 +103,24 @@ public class DegreeOfInterest implements IDegreeOfInterest {
 			this.eventCountOnCreation = eventCountOnCreation;
 		}
 		contextScaling = scaling;
+		if (context != null && context.isRetainElementEvents()) {
+			events = new ArrayList<>();
+		}
 	}
 
 	/**
 	 * TODO: make package-visible
 	 */
 	public void addEvent(InteractionEvent event) {
-		events.add(event); // NOTE: was events.add(0, event);
-		InteractionEvent last = collapsedEvents.get(event.getKind());
-		if (last != null) {
-
-			int numCollapsedEvents = 1;
-			if (last instanceof AggregateInteractionEvent) {
-				numCollapsedEvents = ((AggregateInteractionEvent) last).getNumCollapsedEvents();
-			}
-
-			AggregateInteractionEvent aggregateEvent = new AggregateInteractionEvent(event.getKind(),
-					event.getStructureKind(), event.getStructureHandle(), event.getOriginId(), event.getNavigation(),
-					event.getDelta(), last.getInterestContribution() + event.getInterestContribution(), last.getDate(),
-					event.getEndDate(), numCollapsedEvents + 1, eventCountOnCreation);
-			collapsedEvents.put(event.getKind(), aggregateEvent);
-		} else {
-			collapsedEvents.put(event.getKind(), event);
+		if (events != null) {
+			events.add(event); // NOTE: was events.add(0, event);
+		}
+		KindSummary summary = summaries.get(event.getKind());
+		if (summary == null) {
+			summary = new KindSummary();
+			summaries.put(event.getKind(), summary);
 		}
+		summary.add(event);
 
 		updateEventState(event);
 	}
@@ -130,6 +167,35 @@ public class DegreeOfInterest implements IDegreeOfInterest {
 		return value;
 	}
 
+	/**
+	 * Returns the value this interest would have if it had not decayed since the context started counting events. Since
+	 * all interest objects of a context decay at the same rate, ordering by this value is the same as ordering by
+	 * {@link #getValue()} and the order does not change unless events are added.
+	 */
+	double getUndecayedValue() {
+		double value = 0;
+		value += selections * contextScaling.get(InteractionEvent.Kind.SELECTION);
+		value += edits * contextScaling.get(InteractionEvent.Kind.EDIT);
+		value += commands * contextScaling.get(InteractionEvent.Kind.COMMAND);
+		value += manipulationBias;
+		value += predictedBias;
+		value += propagatedBias;
+		value += (double) eventCountOnCreation * contextScaling.getDecay();
+		return value;
+	}
+
+	/**
+	 * Returns an upper bound for the magnitude of the terms that make up {@link #getUndecayedValue()}.
+	 */
+	double getUndecayedMagnitude() {
+		double magnitude = Math.abs(selections * contextScaling.get(InteractionEvent.Kind.SELECTION));
+		magnitude += Math.abs(edits * contextScaling.get(InteractionEvent.Kind.EDIT));
+		magnitude += Math.abs(commands * contextScaling.get(InteractionEvent.Kind.COMMAND));
+		magnitude += Math.abs(manipulationBias) + Math.abs(predictedBias) + Math.abs(propagatedBias);
+		magnitude += Math.abs((double) eventCountOnCreation * contextScaling.getDecay());
+		return magnitude;
+	}
+
 	/**
 	 * @return a scaled decay count based on the number of events since the creation of this interest object
 	 */
@@ -174,15 +240,43 @@ public class DegreeOfInterest implements IDegreeOfInterest {
 	}
 
 	/**
+	 * Returns the events that were added to this interest object. Unless raw events are retained the collapsed events
+	 * are returned, i.e. one event per kind that summarizes all events of that kind.
+	 * <p>
 	 * TODO: make unmodifiable? Clients should not muck with this list.
+	 * 
+	 * @see #setRetainEvents(boolean)
 	 */
 	@Override
 	public List<InteractionEvent> getEvents() {
-		return events;
+		if (events != null) {
+			return events;
+		}
+		return Collections.unmodifiableList(getCollapsedEvents());
 	}
 
 	public List<InteractionEvent> getCollapsedEvents() {
-		return new ArrayList<>(collapsedEvents.values());
+		List<InteractionEvent> collapsedEvents = new ArrayList<>(summaries.size());
+		for (KindSummary summary : summaries.values()) {
+			collapsedEvents.add(summary.toEvent(eventCountOnCreation));
+		}
+		return collapsedEvents;
+	}
+
+	/**
+	 * Specifies if the raw events are kept in addition to the per kind summaries. Events that were added before
+	 * retaining was enabled are not available.
+	 */
+	public void setRetainEvents(boolean retainEvents) {
+		if (retainEvents && events == null) {
+			events = new ArrayList<>();
+		} else if (!retainEvents) {
+			events = null;
+		}
+	}
+
+	public boolean isRetainEvents() {
+		return events != null;
 	}
 
 	// private void writeObject(ObjectOutputStream stream) throws IOException {
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.mylyn.context.core.IInteractionContext;
 import org.eclipse.mylyn.context.core.IInteractionContextScaling;
@@ -41,6 +42,8 @@ public class InteractionContext implements IInteractionContext {
 
 	private final Map<String, IInteractionElement> landmarkMap;
 
+	private final InterestIndex interestIndex;
+
 	/**
 	 * The last element that was added to this context.
 	 */
@@ -52,16 +55,19 @@ public class InteractionContext implements IInteractionContext {
 
 	private String contentLimitedTo;
 
-	private int numUserEvents;
+	private volatile int numUserEvents;
 
 	private final IInteractionContextScaling contextScaling;
 
+	private boolean retainElementEvents;
+
 	public InteractionContext(String id, IInteractionContextScaling scaling) {
 		handleIdentifier = id;
 		contextScaling = scaling;
 		interactionHistory = new ArrayList<>();
 		elementMap = new HashMap<>();
-		landmarkMap = new HashMap<>();
+		landmarkMap = new ConcurrentHashMap<>();
+		interestIndex = new InterestIndex();
 
 		for (InteractionEvent event : interactionHistory) {
 			parseInteractionEvent(event);
@@ -134,6 +140,7 @@ public class InteractionContext implements IInteractionContext {
 		DegreeOfInterest doi = (DegreeOfInterest) node.getInterest();
 
 		doi.addEvent(event);
+		interestIndex.update(node);
 		if (doi.isLandmark()) {
 			landmarkMap.put(node.getHandleIdentifier(), node);
 		} else {
@@ -165,20 +172,34 @@ public class InteractionContext implements IInteractionContext {
 		return false;
 	}
 
+	/**
+	 * Returns the interesting elements ordered by decreasing interest. Does not block while events are parsed.
+	 */
 	@Override
-	public synchronized List<IInteractionElement> getInteresting() {
-		List<IInteractionElement> elements = new ArrayList<>();
-		for (String key : elementMap.keySet()) {
-			InteractionContextElement info = elementMap.get(key);
-			if (info != null && info.getInterest().isInteresting()) {
-				elements.add(info);
+	public List<IInteractionElement> getInteresting() {
+		return getMostInteresting(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns up to <code>count</code> of the most interesting elements ordered by decreasing interest. Does not block
+	 * while events are parsed.
+	 */
+	public List<IInteractionElement> getMostInteresting(int count) {
+		if (!interestIndex.isCurrent(contextScaling)) {
+			synchronized (this) {
+				if (!interestIndex.isCurrent(contextScaling)) {
+					interestIndex.rebuild(elementMap.values(), contextScaling);
+				}
 			}
 		}
-		return elements;
+		return interestIndex.getInteresting(contextScaling, numUserEvents, count);
 	}
 
+	/**
+	 * Does not block while events are parsed.
+	 */
 	@Override
-	public synchronized List<IInteractionElement> getLandmarks() {
+	public List<IInteractionElement> getLandmarks() {
 		return new ArrayList<>(landmarkMap.values());
 	}
 
@@ -203,7 +224,10 @@ public class InteractionContext implements IInteractionContext {
 		for (IInteractionElement node : nodes) {
 			handlesToRemove.add(node.getHandleIdentifier());
 			landmarkMap.remove(node.getHandleIdentifier());
-			elementMap.remove(node.getHandleIdentifier());
+			InteractionContextElement element = elementMap.remove(node.getHandleIdentifier());
+			if (element != null) {
+				interestIndex.remove(element);
+			}
 
 			if (activeNode != null && node.getHandleIdentifier().equals(activeNode.getHandleIdentifier())) {
 				activeNode = null;
@@ -251,13 +275,14 @@ public class InteractionContext implements IInteractionContext {
 		elementMap.clear();
 		interactionHistory.clear();
 		landmarkMap.clear();
+		interestIndex.clear();
 		activeNode = null;
 		numUserEvents = 0;
 		lastEdgeEvent = null;
 		lastEdgeNode = null;
 	}
 
-	public synchronized int getUserEventCount() {
+	public int getUserEventCount() {
 		return numUserEvents;
 	}
 
@@ -331,6 +356,30 @@ public class InteractionContext implements IInteractionContext {
 		return Objects.hash(contentLimitedTo, handleIdentifier);
 	}
 
+	/**
+	 * Returns true, if the interest of elements and relations created by this context retains the raw events. By default
+	 * only a summary per event kind is kept.
+	 * 
+	 * @see DegreeOfInterest#setRetainEvents(boolean)
+	 */
+	public synchronized boolean isRetainElementEvents() {
+		return retainElementEvents;
+	}
+
+	/**
+	 * Specifies if the interest of elements and relations retains the raw events. Only affects events that are parsed
+	 * after this has been set.
+	 */
+	public synchronized void setRetainElementEvents(boolean retainElementEvents) {
+		this.retainElementEvents = retainElementEvents;
+		for (InteractionContextElement node : elementMap.values()) {
+			((DegreeOfInterest) node.getInterest()).setRetainEvents(retainElementEvents);
+			for (InteractionContextRelation relation : node.getRelations()) {
+				((DegreeOfInterest) relation.getInterest()).setRetainEvents(retainElementEvents);
+			}
+		}
+	}
+
 	@Override
 	public IInteractionContextScaling getScaling() {
 		return contextScaling;
@@ -74,8 +74,17 @@ public class InteractionContextExternalizer {
 
 	public static final String ATR_VERSION = "Version"; //$NON-NLS-1$
 
+	/**
+	 * The extension that is appended to the name of a context file for the binary representation of the context.
+	 */
+	public static final String BINARY_FILE_EXTENSION = ".bin"; //$NON-NLS-1$
+
 	static final String DATE_FORMAT_STRING = "yyyy-MM-dd HH:mm:ss.S z"; //$NON-NLS-1$
 
+	private boolean binaryFormatEnabled;
+
+	private File binaryFormatDirectory;
+
 	static String getFirstContextHandle(File sourceFile) throws CoreException {
 		try {
 			try (ZipFile zipFile = new ZipFile(sourceFile)) {
@@ -123,6 +132,96 @@ public class InteractionContextExternalizer {
 				ZipOutputStream outputStream = new ZipOutputStream(fileOutputStream)) {
 			writeContext(context, outputStream, writer);
 		}
+		if (isBinaryFormatEnabled(file)) {
+			writeContextToBinary(context, file);
+		}
+	}
+
+	/**
+	 * Writes the binary representation of <code>context</code> next to <code>xmlFile</code>. Failures are logged since
+	 * the XML file remains the authoritative copy of the context.
+	 */
+	private void writeContextToBinary(IInteractionContext context, File xmlFile) {
+		File binaryFile = getBinaryFile(xmlFile);
+		try {
+			new BinaryContextWriter().write(context, xmlFile, binaryFile);
+		} catch (IOException e) {
+			binaryFile.delete();
+			StatusHandler.log(new Status(IStatus.WARNING, ContextCorePlugin.ID_PLUGIN,
+					"Could not write binary context: " + binaryFile.getAbsolutePath(), e)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Returns the file that holds the binary representation of the context stored in <code>xmlFile</code>.
+	 */
+	public static File getBinaryFile(File xmlFile) {
+		return new File(xmlFile.getParentFile(), xmlFile.getName() + BINARY_FILE_EXTENSION);
+	}
+
+	/**
+	 * Returns true, if <code>file</code> holds the binary representation of a context rather than the context itself.
+	 */
+	public static boolean isBinaryFile(File file) {
+		return file.getName().endsWith(BINARY_FILE_EXTENSION);
+	}
+
+	/**
+	 * Renames the context file <code>xmlFile</code> to <code>targetFile</code> and moves its binary representation
+	 * along. A binary file of a previous context at <code>targetFile</code> is removed since it no longer matches.
+	 *
+	 * @return true, if the context file was renamed
+	 */
+	public static boolean moveContextFile(File xmlFile, File targetFile) {
+		File binaryFile = getBinaryFile(xmlFile);
+		File targetBinaryFile = getBinaryFile(targetFile);
+		targetBinaryFile.delete();
+		if (!xmlFile.renameTo(targetFile)) {
+			return false;
+		}
+		if (binaryFile.exists() && !binaryFile.renameTo(targetBinaryFile)) {
+			// the binary file is recreated from the XML file on the next read
+			binaryFile.delete();
+		}
+		return true;
+	}
+
+	/**
+	 * Returns true, if contexts are also written in the binary format and read from it when it is up-to-date.
+	 */
+	public boolean isBinaryFormatEnabled() {
+		return binaryFormatEnabled;
+	}
+
+	/**
+	 * Specifies if contexts are also written in a compact binary format next to the XML file. When reading, the
+	 * binary file is used as long as the XML file has not changed since it was written, otherwise the XML file is read
+	 * and the binary file is recreated from it.
+	 */
+	public void setBinaryFormatEnabled(boolean binaryFormatEnabled) {
+		this.binaryFormatEnabled = binaryFormatEnabled;
+	}
+
+	/**
+	 * Restricts the binary format to context files in <code>directory</code>, e.g. the context store, so that no binary
+	 * files are created next to imported or exported contexts. If <code>null</code>, the binary format is used for all
+	 * files.
+	 */
+	public void setBinaryFormatDirectory(File directory) {
+		this.binaryFormatDirectory = directory;
+	}
+
+	private boolean isBinaryFormatEnabled(File xmlFile) {
+		if (!binaryFormatEnabled) {
+			return false;
+		}
+		if (binaryFormatDirectory == null) {
+			return true;
+		}
+		return xmlFile.getAbsoluteFile()
+				.toPath()
+				.normalize()
+				.startsWith(binaryFormatDirectory.getAbsoluteFile().toPath().normalize());
 	}
 
 	public void writeContext(IInteractionContext context, ZipOutputStream outputStream) throws IOException {
@@ -213,7 +312,34 @@ public class InteractionContextExternalizer {
 
 	public IInteractionContext readContextFromXml(String handleIdentifier, File fromFile,
 			IInteractionContextScaling scaling) {
-		return readContextFromXml(handleIdentifier, fromFile, new SaxContextReader(), scaling);
+		boolean useBinaryFormat = isBinaryFormatEnabled(fromFile);
+		if (useBinaryFormat && fromFile.exists()) {
+			InteractionContext context = readContextFromBinary(handleIdentifier, fromFile, scaling);
+			if (context != null) {
+				return context;
+			}
+		}
+		IInteractionContext context = readContextFromXml(handleIdentifier, fromFile, new SaxContextReader(), scaling);
+		if (useBinaryFormat && context != null && !context.getInteractionHistory().isEmpty()) {
+			// migrate
+			writeContextToBinary(context, fromFile);
+		}
+		return context;
+	}
+
+	private InteractionContext readContextFromBinary(String handleIdentifier, File xmlFile,
+			IInteractionContextScaling scaling) {
+		File binaryFile = getBinaryFile(xmlFile);
+		try {
+			BinaryContextReader reader = new BinaryContextReader();
+			reader.setContextScaling(scaling);
+			return reader.readContext(handleIdentifier, xmlFile, binaryFile);
+		} catch (IOException e) {
+			StatusHandler.log(new Status(IStatus.WARNING, ContextCorePlugin.ID_PLUGIN,
+					"Could not read binary context, falling back to XML: " + binaryFile.getAbsolutePath(), e)); //$NON-NLS-1$
+			binaryFile.delete();
+			return null;
+		}
 	}
 
 	/**
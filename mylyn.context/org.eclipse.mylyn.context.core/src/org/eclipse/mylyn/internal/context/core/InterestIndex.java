@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.context.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.mylyn.context.core.IInteractionContextScaling;
+import org.eclipse.mylyn.context.core.IInteractionElement;
+import org.eclipse.mylyn.monitor.core.InteractionEvent;
+
+/**
+ * Orders the elements of an {@link InteractionContext} by interest. Since all elements decay at the same rate the order
+ * is kept by the undecayed value of each element which only changes when an event is added to that element. Queries
+ * walk the elements from the most interesting one and stop at the first element that is below the threshold.
+ * <p>
+ * Updates must be made while holding the lock of the context. Queries may run concurrently with updates and do not
+ * need the lock; an element that is updated while a query runs may be missed by that query.
+ */
+class InterestIndex {
+
+	private static class Entry implements Comparable<Entry> {
+
+		private final InteractionContextElement element;
+
+		private final double key;
+
+		private final long sequence;
+
+		Entry(InteractionContextElement element, double key, long sequence) {
+			this.element = element;
+			this.key = key;
+			this.sequence = sequence;
+		}
+
+		@Override
+		public int compareTo(Entry other) {
+			int result = Double.compare(other.key, key);
+			if (result == 0) {
+				result = Long.compare(sequence, other.sequence);
+			}
+			return result;
+		}
+
+	}
+
+	/**
+	 * The relative error that is tolerated between the undecayed value of an element and its actual value. Elements
+	 * within this margin of a threshold are checked against their actual value.
+	 */
+	private static final double TOLERANCE = 1E-4;
+
+	private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>();
+
+	private final Map<InteractionContextElement, Entry> entryByElement = new IdentityHashMap<>();
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private volatile double magnitude;
+
+	private volatile float[] scalingFactors;
+
+	/**
+	 * Returns false, if the index was built with different scaling factors and needs to be rebuilt.
+	 */
+	boolean isCurrent(IInteractionContextScaling scaling) {
+		float[] factors = scalingFactors;
+		return factors == null || Arrays.equals(factors, getScalingFactors(scaling));
+	}
+
+	void rebuild(Collection<InteractionContextElement> elements, IInteractionContextScaling scaling) {
+		clear();
+		scalingFactors = getScalingFactors(scaling);
+		for (InteractionContextElement element : elements) {
+			update(element);
+		}
+	}
+
+	void update(InteractionContextElement element) {
+		DegreeOfInterest interest = (DegreeOfInterest) element.getInterest();
+		if (scalingFactors == null) {
+			scalingFactors = getScalingFactors(interest.contextScaling);
+		}
+		Entry entry = new Entry(element, interest.getUndecayedValue(), sequence.incrementAndGet());
+		magnitude = Math.max(magnitude, interest.getUndecayedMagnitude());
+		Entry previous = entryByElement.put(element, entry);
+		if (previous != null) {
+			entries.remove(previous);
+		}
+		entries.add(entry);
+	}
+
+	void remove(IInteractionElement element) {
+		Entry entry = entryByElement.remove(element);
+		if (entry != null) {
+			entries.remove(entry);
+		}
+	}
+
+	void clear() {
+		entries.clear();
+		entryByElement.clear();
+		magnitude = 0;
+		scalingFactors = null;
+	}
+
+	/**
+	 * Returns up to <code>maximum</code> interesting elements, ordered by decreasing interest.
+	 */
+	List<IInteractionElement> getInteresting(IInteractionContextScaling scaling, int userEventCount, int maximum) {
+		List<IInteractionElement> result = new ArrayList<>();
+		double decay = (double) userEventCount * scaling.getDecay();
+		double threshold = scaling.getInteresting() + decay;
+		double margin = TOLERANCE * (1 + magnitude + Math.abs(decay) + Math.abs(scaling.getInteresting()));
+		for (Entry entry : entries) {
+			if (result.size() >= maximum || entry.key <= threshold - margin) {
+				break;
+			}
+			if (entry.key > threshold + margin || entry.element.getInterest().isInteresting()) {
+				result.add(entry.element);
+			}
+		}
+		return result;
+	}
+
+	private static float[] getScalingFactors(IInteractionContextScaling scaling) {
+		return new float[] { scaling.get(InteractionEvent.Kind.SELECTION), scaling.get(InteractionEvent.Kind.EDIT),
+				scaling.get(InteractionEvent.Kind.COMMAND), scaling.getDecay() };
+	}
+
+}
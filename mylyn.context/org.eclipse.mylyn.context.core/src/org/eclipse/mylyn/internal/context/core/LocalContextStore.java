@@ -18,7 +18,6 @@ import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -40,6 +39,11 @@ import org.eclipse.mylyn.context.core.IInteractionContextScaling;
  */
 public class LocalContextStore implements IContextStore {
 
+	/**
+	 * System property that disables the binary context format if set to <code>false</code>.
+	 */
+	public static final String PROPERTY_BINARY_FORMAT = "org.eclipse.mylyn.context.core.binary.format"; //$NON-NLS-1$
+
 	private File contextDirectory;
 
 	/**
@@ -55,10 +59,13 @@ public class LocalContextStore implements IContextStore {
 
 	public LocalContextStore(IInteractionContextScaling commonContextScaling) {
 		this.commonContextScaling = commonContextScaling;
+		externalizer.setBinaryFormatEnabled(
+				Boolean.parseBoolean(System.getProperty(PROPERTY_BINARY_FORMAT, Boolean.TRUE.toString())));
 	}
 
 	public synchronized void setContextDirectory(File directory) {
 		contextDirectory = directory;
+		externalizer.setBinaryFormatDirectory(directory);
 		contextFiles = null;
 		for (IContextStoreListener listener : listeners) {
 			listener.contextStoreMoved(directory);
@@ -175,7 +182,13 @@ public class LocalContextStore implements IContextStore {
 		if (contextFiles == null) {
 			contextFiles = new HashSet<>();
 			File[] files = contextDirectory.listFiles();
-			Collections.addAll(contextFiles, files);
+			if (files != null) {
+				for (File file : files) {
+					if (!InteractionContextExternalizer.isBinaryFile(file)) {
+						contextFiles.add(file);
+					}
+				}
+			}
 		}
 	}
 
@@ -250,6 +263,10 @@ public class LocalContextStore implements IContextStore {
 			if (file.exists()) {
 				file.delete();
 			}
+			File binaryFile = InteractionContextExternalizer.getBinaryFile(file);
+			if (binaryFile.exists()) {
+				binaryFile.delete();
+			}
 
 			if (contextFiles != null) {
 				contextFiles.remove(getFileForContext(handleIdentifier));
@@ -260,6 +277,24 @@ public class LocalContextStore implements IContextStore {
 		}
 	}
 
+	/**
+	 * Moves the context stored in <code>file</code> to the context file of <code>handleIdentifier</code>, together with
+	 * its binary representation.
+	 *
+	 * @return true, if the context was moved
+	 */
+	public boolean moveContextFile(File file, String handleIdentifier) {
+		File targetFile = getFileForContext(handleIdentifier);
+		if (!InteractionContextExternalizer.moveContextFile(file, targetFile)) {
+			return false;
+		}
+		if (contextFiles != null) {
+			contextFiles.remove(file);
+			contextFiles.add(targetFile);
+		}
+		return true;
+	}
+
 	/**
 	 * Can consider making this API, but it should not expose a zip stream.
 	 */
@@ -13,14 +13,23 @@
 
 package org.eclipse.mylyn.context.tasks.tests;
 
+import java.io.File;
+
+import org.eclipse.mylyn.context.core.ContextCore;
+import org.eclipse.mylyn.context.core.IInteractionContext;
 import org.eclipse.mylyn.internal.context.core.ContextCorePlugin;
+import org.eclipse.mylyn.internal.context.core.InteractionContext;
+import org.eclipse.mylyn.internal.context.core.InteractionContextExternalizer;
+import org.eclipse.mylyn.internal.context.core.LocalContextStore;
 import org.eclipse.mylyn.internal.context.tasks.ui.TaskContextStore;
 import org.eclipse.mylyn.internal.monitor.ui.MonitorUiPlugin;
 import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
 import org.eclipse.mylyn.internal.tasks.core.LocalTask;
+import org.eclipse.mylyn.internal.tasks.core.RepositoryTaskHandleUtil;
 import org.eclipse.mylyn.internal.tasks.core.TaskActivityManager;
 import org.eclipse.mylyn.internal.tasks.core.TaskList;
 import org.eclipse.mylyn.internal.tasks.ui.TasksUiPlugin;
+import org.eclipse.mylyn.monitor.core.InteractionEvent;
 import org.eclipse.mylyn.tasks.core.ITask;
 import org.eclipse.mylyn.tasks.tests.TaskTestUtil;
 import org.junit.After;
@@ -133,6 +142,40 @@ public class TaskContextStoreTest extends TestCase {
 		assertEquals("Expected activity to be moved", 60 * 1000, activityManager.getElapsedTime(targetTask));
 	}
 
+	@Test
+	public void testRefactorRepositoryUrlMovesBinaryContext() throws Exception {
+		LocalContextStore contextStore = ContextCorePlugin.getContextStore();
+		String oldHandle = RepositoryTaskHandleUtil.getHandle("http://old.example.com", "1");
+		String newHandle = RepositoryTaskHandleUtil.getHandle("http://new.example.com", "1");
+		InteractionContext context = new InteractionContext(oldHandle, ContextCore.getCommonContextScaling());
+		context.parseEvent(new InteractionEvent(InteractionEvent.Kind.SELECTION, "kind", "element", "origin"));
+		contextStore.saveContext(context);
+
+		File file = contextStore.getFileForContext(oldHandle);
+		File binaryFile = InteractionContextExternalizer.getBinaryFile(file);
+		assertTrue(file.exists());
+		assertTrue(binaryFile.exists());
+		long length = file.length();
+
+		store.refactorRepositoryUrl(null, "http://old.example.com", "http://new.example.com");
+
+		File newFile = contextStore.getFileForContext(newHandle);
+		File newBinaryFile = InteractionContextExternalizer.getBinaryFile(newFile);
+		try {
+			assertFalse(file.exists());
+			assertFalse(binaryFile.exists());
+			assertEquals("Expected the zipped context to be moved", length, newFile.length());
+			assertTrue(newBinaryFile.exists());
+			assertFalse(contextStore.hasContext(oldHandle));
+			assertTrue(contextStore.hasContext(newHandle));
+			IInteractionContext loaded = contextStore.loadContext(newHandle);
+			assertNotNull(loaded.get("element"));
+		} finally {
+			contextStore.deleteContext(newHandle);
+		}
+		assertFalse(newBinaryFile.exists());
+	}
+
 	private void addTime(ITask task, long time) {
 		MonitorUiPlugin.getDefault()
 		.getActivityContextManager()
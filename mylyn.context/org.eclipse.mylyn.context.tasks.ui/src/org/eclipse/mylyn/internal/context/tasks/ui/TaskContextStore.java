@@ -35,6 +35,7 @@ import org.eclipse.mylyn.context.core.ContextCore;
 import org.eclipse.mylyn.context.core.IInteractionContext;
 import org.eclipse.mylyn.internal.context.core.ContextCorePlugin;
 import org.eclipse.mylyn.internal.context.core.InteractionContext;
+import org.eclipse.mylyn.internal.context.core.InteractionContextExternalizer;
 import org.eclipse.mylyn.internal.context.core.InteractionContextManager;
 import org.eclipse.mylyn.internal.context.tasks.ui.TaskContextStoreEvent.Kind;
 import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
@@ -296,7 +297,11 @@ public class TaskContextStore extends AbstractTaskContextStore {
 		if (dataDir.exists() && dataDir.isDirectory()) {
 			File[] files = dataDir.listFiles();
 			if (files != null) {
-				for (File file : dataDir.listFiles()) {
+				for (File file : files) {
+					if (InteractionContextExternalizer.isBinaryFile(file)) {
+						// moved along with the context file
+						continue;
+					}
 					int dotIndex = file.getName().lastIndexOf(".xml"); //$NON-NLS-1$
 					if (dotIndex != -1) {
 						String storedHandle;
@@ -309,8 +314,7 @@ public class TaskContextStore extends AbstractTaskContextStore {
 								if (oldUrl.equals(storedUrl)) {
 									String id = RepositoryTaskHandleUtil.getTaskId(storedHandle);
 									String newHandle = RepositoryTaskHandleUtil.getHandle(newUrl, id);
-									File newFile = ContextCorePlugin.getContextStore().getFileForContext(newHandle);
-									file.renameTo(newFile);
+									ContextCorePlugin.getContextStore().moveContextFile(file, newHandle);
 								}
 							}
 						} catch (Exception e) {
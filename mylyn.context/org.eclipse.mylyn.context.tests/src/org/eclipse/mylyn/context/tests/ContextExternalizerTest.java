@@ -250,6 +250,140 @@ public class ContextExternalizerTest extends AbstractContextTest {
 		assertEquals(doi2, loadedNode2.getInterest().getValue());
 	}
 
+	public void testBinaryExternalization() throws Exception {
+		InteractionContextExternalizer externalizer = new InteractionContextExternalizer();
+		externalizer.setBinaryFormatEnabled(true);
+		IInteractionElement node = context.parseEvent(mockSelection("1"));
+		context.parseEvent(mockNavigation("2"));
+		context.parseEvent(mockSelection("1"));
+		context.parseEvent(mockInterestContribution("3", scaling.getLandmark() + scaling.getDecay() * 3));
+		context.setContentLimitedTo("foobar");
+		float doi = node.getInterest().getValue();
+
+		contextFile = File.createTempFile("context", InteractionContextManager.CONTEXT_FILE_EXTENSION);
+		File binaryFile = InteractionContextExternalizer.getBinaryFile(contextFile);
+		binaryFile.deleteOnExit();
+		externalizer.writeContextToXml(context, contextFile);
+		assertTrue(binaryFile.exists());
+
+		IInteractionContext loaded = externalizer.readContextFromXml(CONTEXT_HANDLE, contextFile, scaling);
+		assertEquals(context.getInteractionHistory().size(), loaded.getInteractionHistory().size());
+		assertEquals("foobar", loaded.getContentLimitedTo());
+		assertEquals(doi, loaded.get("1").getInterest().getValue());
+		assertEquals(1, loaded.get("1").getRelations().size());
+		assertTrue(loaded.get("3").getInterest().isLandmark());
+		assertEquals("1", loaded.getActiveNode().getHandleIdentifier());
+
+		// the XML file remains readable on its own
+		binaryFile.delete();
+		IInteractionContext loadedFromXml = new InteractionContextExternalizer().readContextFromXml(CONTEXT_HANDLE,
+				contextFile, scaling);
+		assertEquals(doi, loadedFromXml.get("1").getInterest().getValue());
+	}
+
+	public void testBinaryMigrationFromXml() throws Exception {
+		context.parseEvent(mockSelection("1"));
+		contextFile = File.createTempFile("context", InteractionContextManager.CONTEXT_FILE_EXTENSION);
+		File binaryFile = InteractionContextExternalizer.getBinaryFile(contextFile);
+		binaryFile.deleteOnExit();
+		new InteractionContextExternalizer().writeContextToXml(context, contextFile);
+		assertFalse(binaryFile.exists());
+
+		InteractionContextExternalizer externalizer = new InteractionContextExternalizer();
+		externalizer.setBinaryFormatEnabled(true);
+		IInteractionContext loaded = externalizer.readContextFromXml(CONTEXT_HANDLE, contextFile, scaling);
+		assertNotNull(loaded.get("1"));
+		assertTrue(binaryFile.exists());
+	}
+
+	public void testBinaryNotMigratedOutsideDirectory() throws Exception {
+		context.parseEvent(mockSelection("1"));
+		contextFile = File.createTempFile("context", InteractionContextManager.CONTEXT_FILE_EXTENSION);
+		File binaryFile = InteractionContextExternalizer.getBinaryFile(contextFile);
+		binaryFile.deleteOnExit();
+		File directory = new File(contextFile.getParentFile(), "contexts");
+
+		InteractionContextExternalizer externalizer = new InteractionContextExternalizer();
+		externalizer.setBinaryFormatEnabled(true);
+		externalizer.setBinaryFormatDirectory(directory);
+		externalizer.writeContextToXml(context, contextFile);
+		assertFalse(binaryFile.exists());
+		IInteractionContext loaded = externalizer.readContextFromXml(CONTEXT_HANDLE, contextFile, scaling);
+		assertNotNull(loaded.get("1"));
+		assertFalse(binaryFile.exists());
+
+		externalizer.setBinaryFormatDirectory(contextFile.getParentFile());
+		externalizer.readContextFromXml(CONTEXT_HANDLE, contextFile, scaling);
+		assertTrue(binaryFile.exists());
+	}
+
+	public void testBinaryIgnoredWhenXmlChanged() throws Exception {
+		InteractionContextExternalizer externalizer = new InteractionContextExternalizer();
+		externalizer.setBinaryFormatEnabled(true);
+		context.parseEvent(mockSelection("1"));
+		contextFile = File.createTempFile("context", InteractionContextManager.CONTEXT_FILE_EXTENSION);
+		File binaryFile = InteractionContextExternalizer.getBinaryFile(contextFile);
+		binaryFile.deleteOnExit();
+		externalizer.writeContextToXml(context, contextFile);
+		assertTrue(binaryFile.exists());
+
+		// simulate a write by a version that does not know about the binary format
+		context.parseEvent(mockSelection("2"));
+		new InteractionContextExternalizer().writeContextToXml(context, contextFile);
+		contextFile.setLastModified(contextFile.lastModified() + 2000);
+
+		IInteractionContext loaded = externalizer.readContextFromXml(CONTEXT_HANDLE, contextFile, scaling);
+		assertNotNull(loaded.get("2"));
+		loaded = externalizer.readContextFromXml(CONTEXT_HANDLE, contextFile, scaling);
+		assertNotNull(loaded.get("2"));
+	}
+
+	public void testBinaryCorruptFallsBackToXml() throws Exception {
+		InteractionContextExternalizer externalizer = new InteractionContextExternalizer();
+		externalizer.setBinaryFormatEnabled(true);
+		context.parseEvent(mockSelection("1"));
+		contextFile = File.createTempFile("context", InteractionContextManager.CONTEXT_FILE_EXTENSION);
+		File binaryFile = InteractionContextExternalizer.getBinaryFile(contextFile);
+		binaryFile.deleteOnExit();
+		externalizer.writeContextToXml(context, contextFile);
+		try (FileOutputStream out = new FileOutputStream(binaryFile)) {
+			out.write(new byte[] { 1, 2, 3 });
+		}
+
+		IInteractionContext loaded = externalizer.readContextFromXml(CONTEXT_HANDLE, contextFile, scaling);
+		assertNotNull(loaded.get("1"));
+	}
+
+	public void testMoveContextFileWithBinary() throws Exception {
+		InteractionContextExternalizer externalizer = new InteractionContextExternalizer();
+		externalizer.setBinaryFormatEnabled(true);
+		context.parseEvent(mockSelection("1"));
+		contextFile = File.createTempFile("context", InteractionContextManager.CONTEXT_FILE_EXTENSION);
+		File binaryFile = InteractionContextExternalizer.getBinaryFile(contextFile);
+		binaryFile.deleteOnExit();
+		externalizer.writeContextToXml(context, contextFile);
+		assertTrue(binaryFile.exists());
+		assertTrue(InteractionContextExternalizer.isBinaryFile(binaryFile));
+		assertFalse(InteractionContextExternalizer.isBinaryFile(contextFile));
+
+		File targetFile = File.createTempFile("target", InteractionContextManager.CONTEXT_FILE_EXTENSION);
+		targetFile.deleteOnExit();
+		File targetBinaryFile = InteractionContextExternalizer.getBinaryFile(targetFile);
+		targetBinaryFile.deleteOnExit();
+		long length = contextFile.length();
+		assertTrue(InteractionContextExternalizer.moveContextFile(contextFile, targetFile));
+		assertFalse(contextFile.exists());
+		assertFalse(binaryFile.exists());
+		assertEquals(length, targetFile.length());
+		assertTrue(targetBinaryFile.exists());
+
+		IInteractionContext loaded = externalizer.readContextFromXml(CONTEXT_HANDLE, targetFile, scaling);
+		assertNotNull(loaded.get("1"));
+		targetBinaryFile.delete();
+		loaded = new InteractionContextExternalizer().readContextFromXml(CONTEXT_HANDLE, targetFile, scaling);
+		assertNotNull(loaded.get("1"));
+	}
+
 	private IInteractionContext writeAndReadContext(InteractionContext contextToWrite,
 			InteractionContextExternalizer externalizer) throws Exception {
 		File file = ContextCorePlugin.getContextStore().getFileForContext(contextToWrite.getHandleIdentifier());
@@ -13,7 +13,10 @@
 
 package org.eclipse.mylyn.context.tests;
 
+import java.util.List;
+
 import org.eclipse.mylyn.context.core.ContextCore;
+import org.eclipse.mylyn.internal.context.core.AggregateInteractionEvent;
 import org.eclipse.mylyn.internal.context.core.DegreeOfInterest;
 import org.eclipse.mylyn.internal.context.core.InteractionContext;
 import org.eclipse.mylyn.internal.context.core.InteractionContextScaling;
@@ -94,4 +97,64 @@ public class DegreeOfInterestTest extends TestCase {
 		assertFalse(doi.isPropagated());
 		assertFalse(doi.isPredicted());
 	}
+
+	public void testCollapsedEvents() {
+		DegreeOfInterest doi = new DegreeOfInterest(mockContext, ContextCore.getCommonContextScaling());
+		for (int i = 0; i < 3; i++) {
+			doi.addEvent(new InteractionEvent(InteractionEvent.Kind.SELECTION, "kind", "handle", "source-id", "id",
+					null, 2));
+		}
+		InteractionEvent edit = new InteractionEvent(InteractionEvent.Kind.EDIT, "kind", "handle", "source-id", "id",
+				null, 1);
+		doi.addEvent(edit);
+
+		List<InteractionEvent> collapsedEvents = doi.getCollapsedEvents();
+		assertEquals(2, collapsedEvents.size());
+		assertSame(edit, collapsedEvents.get(collapsedEvents.indexOf(edit)));
+		AggregateInteractionEvent selection = (AggregateInteractionEvent) collapsedEvents
+				.get(1 - collapsedEvents.indexOf(edit));
+		assertEquals(3, selection.getNumCollapsedEvents());
+		assertEquals(6f, selection.getInterestContribution());
+	}
+
+	public void testCollapsedEventsContinueAggregate() {
+		DegreeOfInterest doi = new DegreeOfInterest(mockContext, ContextCore.getCommonContextScaling());
+		doi.addEvent(new AggregateInteractionEvent(InteractionEvent.Kind.SELECTION, "kind", "handle", "source-id",
+				"id", null, 10, 5, 1));
+		doi.addEvent(
+				new InteractionEvent(InteractionEvent.Kind.SELECTION, "kind", "handle", "source-id", "id", null, 2));
+
+		List<InteractionEvent> collapsedEvents = doi.getCollapsedEvents();
+		assertEquals(1, collapsedEvents.size());
+		AggregateInteractionEvent selection = (AggregateInteractionEvent) collapsedEvents.get(0);
+		assertEquals(6, selection.getNumCollapsedEvents());
+		assertEquals(12f, selection.getInterestContribution());
+	}
+
+	public void testGetEventsCompact() {
+		DegreeOfInterest doi = new DegreeOfInterest(mockContext, ContextCore.getCommonContextScaling());
+		assertFalse(doi.isRetainEvents());
+		assertTrue(doi.getEvents().isEmpty());
+		for (int i = 0; i < 3; i++) {
+			doi.addEvent(new InteractionEvent(InteractionEvent.Kind.SELECTION, "kind", "handle", "source-id", "id",
+					null, 2));
+		}
+		assertEquals(1, doi.getEvents().size());
+	}
+
+	public void testGetEventsRetained() {
+		InteractionContext context = new InteractionContext("doitest", new InteractionContextScaling());
+		context.setRetainElementEvents(true);
+		DegreeOfInterest doi = new DegreeOfInterest(context, ContextCore.getCommonContextScaling());
+		assertTrue(doi.isRetainEvents());
+		for (int i = 0; i < 3; i++) {
+			doi.addEvent(new InteractionEvent(InteractionEvent.Kind.SELECTION, "kind", "handle", "source-id", "id",
+					null, 2));
+		}
+		assertEquals(3, doi.getEvents().size());
+		assertEquals(1, doi.getCollapsedEvents().size());
+
+		doi.setRetainEvents(false);
+		assertEquals(1, doi.getEvents().size());
+	}
 }
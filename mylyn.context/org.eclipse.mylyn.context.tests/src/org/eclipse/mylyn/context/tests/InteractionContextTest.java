@@ -13,6 +13,12 @@
 
 package org.eclipse.mylyn.context.tests;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.mylyn.context.core.IInteractionElement;
 import org.eclipse.mylyn.context.sdk.util.AbstractContextTest;
 import org.eclipse.mylyn.internal.context.core.InteractionContext;
 import org.eclipse.mylyn.internal.context.core.InteractionContextScaling;
@@ -76,4 +82,90 @@ public class InteractionContextTest extends AbstractContextTest {
 		assertNotNull(context.get("1"));
 	}
 
+	public void testGetInterestingOrdered() {
+		InteractionContext context = new InteractionContext("test", new InteractionContextScaling());
+		context.parseEvent(mockInterestContribution("1", 2));
+		context.parseEvent(mockInterestContribution("2", 5));
+		context.parseEvent(mockInterestContribution("3", 3));
+		context.parseEvent(mockInterestContribution("4", -1));
+
+		assertEquals(List.of("2", "3", "1"), getHandles(context.getInteresting()));
+		assertEquals(List.of("2", "3"), getHandles(context.getMostInteresting(2)));
+
+		context.parseEvent(mockInterestContribution("1", 5));
+		assertEquals(List.of("1", "2", "3"), getHandles(context.getInteresting()));
+	}
+
+	public void testGetInterestingAfterDecay() {
+		InteractionContextScaling scaling = new InteractionContextScaling();
+		scaling.setDecay(1f);
+		InteractionContext context = new InteractionContext("test", scaling);
+		context.parseEvent(mockSelection("1"));
+		context.parseEvent(mockInterestContribution("1", 2));
+		context.parseEvent(mockSelection("2"));
+		assertEquals(List.of("1", "2"), getHandles(context.getInteresting()));
+
+		context.parseEvent(mockSelection("3"));
+		context.parseEvent(mockSelection("3"));
+		assertEquals(List.of("3"), getHandles(context.getInteresting()));
+		assertFalse(context.isInteresting("1"));
+		assertFalse(context.isInteresting("2"));
+	}
+
+	public void testGetInterestingAfterScalingChange() {
+		InteractionContextScaling scaling = new InteractionContextScaling();
+		InteractionContext context = new InteractionContext("test", scaling);
+		context.parseEvent(mockSelection("1"));
+		context.parseEvent(mockInterestContribution("2", 1.5f));
+		assertEquals(List.of("2", "1"), getHandles(context.getInteresting()));
+
+		scaling.set(InteractionEvent.Kind.SELECTION, 3f);
+		assertEquals(List.of("1", "2"), getHandles(context.getInteresting()));
+	}
+
+	public void testGetInterestingAfterDelete() {
+		InteractionContext context = new InteractionContext("test", new InteractionContextScaling());
+		context.parseEvent(mockSelection("1"));
+		context.parseEvent(mockSelection("2"));
+		context.delete(context.get("1"));
+		assertEquals(List.of("2"), getHandles(context.getInteresting()));
+
+		context.reset();
+		assertEquals(List.of(), context.getInteresting());
+	}
+
+	public void testGetInterestingMatchesInterest() {
+		Random random = new Random(42);
+		InteractionContext context = new InteractionContext("test", new InteractionContextScaling());
+		for (int i = 0; i < 5000; i++) {
+			String handle = String.valueOf(random.nextInt(200));
+			if (random.nextBoolean()) {
+				context.parseEvent(mockSelection(handle));
+			} else {
+				context.parseEvent(mockInterestContribution(handle, random.nextFloat() * 20 - 10));
+			}
+		}
+		List<String> expected = new ArrayList<>();
+		for (IInteractionElement element : context.getAllElements()) {
+			if (element.getInterest().isInteresting()) {
+				expected.add(element.getHandleIdentifier());
+			}
+		}
+		List<IInteractionElement> interesting = context.getInteresting();
+		assertEquals(new HashSet<>(expected), new HashSet<>(getHandles(interesting)));
+		assertEquals(expected.size(), interesting.size());
+		for (int i = 1; i < interesting.size(); i++) {
+			assertTrue(interesting.get(i - 1).getInterest().getValue() >= interesting.get(i).getInterest().getValue()
+					- 0.001f);
+		}
+	}
+
+	private List<String> getHandles(List<IInteractionElement> elements) {
+		List<String> handles = new ArrayList<>();
+		for (IInteractionElement element : elements) {
+			handles.add(element.getHandleIdentifier());
+		}
+		return handles;
+	}
+
 }
@@ -14,12 +14,16 @@
 package org.eclipse.mylyn.docs.epub.tests.api;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.mylyn.docs.epub.core.EPUB;
@@ -159,7 +163,9 @@ public class TestEPUB extends AbstractTest {
 	/**
 	 * Test method for {@link org.eclipse.mylyn.docs.epub.core.EPUB#pack(java.io.File)}.
 	 * <ul>
-	 * <li>Temporary folder shall not exist when job is done.</li>
+	 * <li>The EPUB file shall be returned when job is done.</li>
+	 * <li>The EPUB file shall start with the uncompressed mimetype entry.</li>
+	 * <li>The EPUB file shall contain the container, package and content files.</li>
 	 * </ul>
 	 *
 	 * @throws Exception
@@ -172,8 +178,43 @@ public class TestEPUB extends AbstractTest {
 		epub.add(oebps);
 		File drawing = new File("testdata/drawing.svg");
 		epub.add(drawing, "image/svg+xml");
-		File tempFolder = epub.pack(getEpubFile());
-		assertEquals(false, tempFolder.exists());
+		File packed = epub.pack(getEpubFile());
+		assertEquals(getEpubFile(), packed);
+		assertTrue(epub.isEPUB(packed));
+		try (ZipFile zipFile = new ZipFile(packed)) {
+			ZipEntry mimetype = zipFile.entries().nextElement();
+			assertEquals("mimetype", mimetype.getName());
+			assertEquals(ZipEntry.STORED, mimetype.getMethod());
+			assertNotNull(zipFile.getEntry("META-INF/container.xml"));
+			assertNotNull(zipFile.getEntry("OEBPS/content.opf"));
+			assertNotNull(zipFile.getEntry("OEBPS/toc.ncx"));
+			assertNotNull(zipFile.getEntry("OEBPS/plain-page.xhtml"));
+			assertNotNull(zipFile.getEntry("SVG+XML_1/drawing.svg"));
+		}
+	}
+
+	/**
+	 * Test method for {@link org.eclipse.mylyn.docs.epub.core.EPUB#pack(java.io.File)}.
+	 * <ul>
+	 * <li>Exception shall be thrown if the EPUB file already exist.</li>
+	 * </ul>
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public final void testPackFileExists() throws Exception {
+		EPUB epub = new EPUB();
+		Publication oebps = new OPSPublication();
+		oebps.addItem(new File("testdata/plain-page.xhtml"));
+		epub.add(oebps);
+		getEpubFile().createNewFile();
+		try {
+			epub.pack(getEpubFile());
+			fail();
+		} catch (IOException e) {
+		} finally {
+			getEpubFile().delete();
+		}
 	}
 
 	/**
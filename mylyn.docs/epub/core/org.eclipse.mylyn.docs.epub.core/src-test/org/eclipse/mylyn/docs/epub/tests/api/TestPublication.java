@@ -17,11 +17,18 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.EList;
@@ -29,6 +36,7 @@ import org.eclipse.mylyn.docs.epub.core.EPUB;
 import org.eclipse.mylyn.docs.epub.core.OPSPublication;
 import org.eclipse.mylyn.docs.epub.core.Publication;
 import org.eclipse.mylyn.docs.epub.core.ValidationException;
+import org.eclipse.mylyn.docs.epub.core.ValidationMessage;
 import org.eclipse.mylyn.docs.epub.dc.Contributor;
 import org.eclipse.mylyn.docs.epub.dc.Coverage;
 import org.eclipse.mylyn.docs.epub.dc.Date;
@@ -41,6 +49,7 @@ import org.eclipse.mylyn.docs.epub.dc.Source;
 import org.eclipse.mylyn.docs.epub.dc.Subject;
 import org.eclipse.mylyn.docs.epub.dc.Title;
 import org.eclipse.mylyn.docs.epub.opf.Item;
+import org.eclipse.mylyn.docs.epub.opf.OPFFactory;
 import org.eclipse.mylyn.docs.epub.opf.Role;
 import org.junit.Assert;
 import org.junit.Before;
@@ -784,6 +793,90 @@ public class TestPublication extends AbstractTest {
 		// TODO
 	}
 
+	/**
+	 * Publication that only knows how to write its table of contents into a folder, used to test the default
+	 * implementation of {@link Publication#writeTableOfContents(String, ZipOutputStream)}.
+	 */
+	private class FolderTableOfContentsPublication extends Publication {
+
+		public FolderTableOfContentsPublication() {
+			getPackage().setManifest(OPFFactory.eINSTANCE.createManifest());
+		}
+
+		@Override
+		protected void generateTableOfContents() throws Exception {
+		}
+
+		@Override
+		public Object getTableOfContents() {
+			return null;
+		}
+
+		@Override
+		protected String getVersion() {
+			return "2.0";
+		}
+
+		@Override
+		protected void readTableOfContents(File tocFile) throws IOException {
+		}
+
+		@Override
+		public void setCover(File image, String title) {
+		}
+
+		@Override
+		public void setTableOfContents(File tocFile) {
+		}
+
+		@Override
+		protected List<ValidationMessage> validateContents() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		protected void writeTableOfContents(File rootFolder) throws IOException {
+			File tocFile = new File(rootFolder, "toc.ncx");
+			FileWriter fw = new FileWriter(tocFile);
+			fw.write("<ncx/>");
+			fw.close();
+			addItem("ncx", null, tocFile, null, "application/x-dtbncx+xml", false, false, false);
+		}
+
+		public void testWriteTableOfContents(String folder, ZipOutputStream out) throws Exception {
+			writeTableOfContents(folder, out);
+		}
+	}
+
+	/**
+	 * Test method for {@link org.eclipse.mylyn.docs.epub.core.Publication#writeTableOfContents(String, ZipOutputStream)}
+	 * . Publications that only implement writing the table of contents into a folder must still be packed directly
+	 * into the EPUB.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public final void testWriteTableOfContentsIntoZip() throws Exception {
+		FolderTableOfContentsPublication publication = new FolderTableOfContentsPublication();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ZipOutputStream out = new ZipOutputStream(bytes);
+		publication.testWriteTableOfContents("OEBPS/", out);
+		out.close();
+
+		ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		ZipEntry entry = in.getNextEntry();
+		assertEquals("OEBPS/toc.ncx", entry.getName());
+		assertEquals("<ncx/>", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+		assertNull(in.getNextEntry());
+		in.close();
+
+		Item item = publication.getItemById("ncx");
+		assertEquals("toc.ncx", item.getHref());
+		// The temporary file is gone so the item must not be copied from it again
+		Assert.assertTrue(item.isGenerated());
+		Assert.assertFalse(new File(item.getFile()).exists());
+	}
+
 	private class EPUB_OPF_Test extends OPSPublication {
 		public void testReadOPF(File rootFile) throws IOException {
 			readOPF(rootFile);
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.docs.epub.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.eclipse.mylyn.docs.epub.internal.TOCGenerator;
+import org.eclipse.mylyn.docs.epub.internal.XHTMLScanner;
+import org.eclipse.mylyn.docs.epub.internal.XHTMLScanner.Heading;
+import org.eclipse.mylyn.docs.epub.ncx.NCXFactory;
+import org.eclipse.mylyn.docs.epub.ncx.NavMap;
+import org.eclipse.mylyn.docs.epub.ncx.NavPoint;
+import org.eclipse.mylyn.docs.epub.ncx.Ncx;
+import org.eclipse.mylyn.docs.epub.opf.Item;
+import org.eclipse.mylyn.docs.epub.opf.OPFFactory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Tests for the single pass XHTML scanner.
+ */
+@SuppressWarnings({ "nls" })
+public class TestXHTMLScanner {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void testSinglePass() throws Exception {
+		Item item = createItem("chapter.xhtml", "<html><head><link rel='stylesheet' href='style.css'/></head>"
+				+ "<body><h1 id='h1-1'>First\nchapter</h1><img src='image.png'/><font>text</font>"
+				+ "<h2>Section</h2><a href='other.xhtml#anchor'>link</a></body></html>");
+		XHTMLScanner scanner = XHTMLScanner.scan(List.of(item)).get(0);
+
+		List<File> references = scanner.getReferences();
+		assertEquals(3, references.size());
+		assertEquals("style.css", references.get(0).getName());
+		assertEquals("image.png", references.get(1).getName());
+		assertEquals("other.xhtml", references.get(2).getName());
+
+		List<Heading> headings = scanner.getHeadings();
+		assertEquals(2, headings.size());
+		assertEquals(1, headings.get(0).getLevel());
+		assertEquals("h1-1", headings.get(0).getId());
+		assertEquals("Firstchapter", headings.get(0).getTitle());
+		assertEquals(2, headings.get(1).getLevel());
+		assertNull(headings.get(1).getId());
+		assertEquals("Section", headings.get(1).getTitle());
+
+		assertEquals(1, scanner.getMessages().size());
+	}
+
+	/**
+	 * Verifies that a table of contents generated from the scanned headers of files scanned in parallel is the same as
+	 * when parsing the files one by one.
+	 */
+	@Test
+	public void testParallelPlayOrder() throws Exception {
+		List<Item> items = new ArrayList<Item>();
+		List<String> contents = new ArrayList<String>();
+		for (int i = 0; i < 20; i++) {
+			String html = String.format("<body><h1 id='a%1$d'>Chapter %1$d</h1><h2 id='b%1$d'>Section %1$d</h2>"
+					+ "<h3>Sub %1$d</h3><h2 id='c%1$d'>Section %1$d</h2></body>", i);
+			contents.add(html);
+			items.add(createItem("chapter" + i + ".xhtml", html));
+		}
+		List<XHTMLScanner> scanners = XHTMLScanner.scan(items);
+		assertEquals(items.size(), scanners.size());
+
+		Ncx expected = createNcx();
+		Ncx actual = createNcx();
+		int expectedPlayOrder = 0;
+		int actualPlayOrder = 0;
+		for (int i = 0; i < items.size(); i++) {
+			expectedPlayOrder = TOCGenerator.parse(new InputSource(new StringReader(contents.get(i))),
+					items.get(i).getHref(), expected, expectedPlayOrder);
+			actualPlayOrder = TOCGenerator.add(scanners.get(i).getHeadings(), items.get(i).getHref(), actual,
+					actualPlayOrder);
+		}
+		assertEquals(80, actualPlayOrder);
+		assertEquals(expectedPlayOrder, actualPlayOrder);
+		assertNavPoints(expected.getNavMap().getNavPoints(), actual.getNavMap().getNavPoints());
+	}
+
+	@Test(expected = IOException.class)
+	public void testMissingFile() throws ParserConfigurationException, SAXException, IOException {
+		Item item = OPFFactory.eINSTANCE.createItem();
+		item.setHref("missing.xhtml");
+		item.setFile(new File(temporaryFolder.getRoot(), "missing.xhtml").getAbsolutePath());
+		List<Item> items = new ArrayList<Item>();
+		items.add(item);
+		items.add(createItem("present.xhtml", "<body/>"));
+		XHTMLScanner.scan(items);
+	}
+
+	private void assertNavPoints(List<NavPoint> expected, List<NavPoint> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getId(), actual.get(i).getId());
+			assertEquals(expected.get(i).getPlayOrder(), actual.get(i).getPlayOrder());
+			assertEquals(expected.get(i).getContent().getSrc(), actual.get(i).getContent().getSrc());
+			assertNavPoints(expected.get(i).getNavPoints(), actual.get(i).getNavPoints());
+		}
+	}
+
+	private Item createItem(String name, String html) throws IOException {
+		File file = new File(temporaryFolder.getRoot(), name);
+		Files.write(file.toPath(), html.getBytes(StandardCharsets.UTF_8));
+		Item item = OPFFactory.eINSTANCE.createItem();
+		item.setHref(name);
+		item.setFile(file.getAbsolutePath());
+		return item;
+	}
+
+	private Ncx createNcx() {
+		Ncx ncx = NCXFactory.eINSTANCE.createNcx();
+		NavMap navMap = NCXFactory.eINSTANCE.createNavMap();
+		ncx.setNavMap(navMap);
+		return ncx;
+	}
+}
@@ -13,8 +13,10 @@
  *******************************************************************************/
 package org.eclipse.mylyn.docs.epub.core;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.MessageFormat;
@@ -24,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
@@ -106,6 +109,9 @@ public class EPUB {
 	/** OEBPS (OPS+OPF) MIME type */
 	private static final String MIMETYPE_OEBPS = "application/oebps-package+xml"; //$NON-NLS-1$
 
+	/** Path of the OCF container file */
+	private static final String OCF_CONTAINER_PATH = "META-INF/container.xml"; //$NON-NLS-1$
+
 	/** The encoding to use for the OCF */
 	private static final String OCF_FILE_ENCODING = "UTF-8"; //$NON-NLS-1$
 
@@ -197,22 +203,6 @@ public class EPUB {
 				rootFile.getMediaType()), Severity.VERBOSE);
 	}
 
-	/**
-	 * Utility method for deleting a folder recursively.
-	 *
-	 * @param folder
-	 *            the folder to delete
-	 */
-	private void deleteFolder(File folder) {
-		if (folder.isDirectory()) {
-			String[] children = folder.list();
-			for (String element : children) {
-				deleteFolder(new File(folder, element));
-			}
-		}
-		folder.delete();
-	}
-
 	/**
 	 * Returns the container instance of the EPUB.
 	 *
@@ -335,20 +325,48 @@ public class EPUB {
 	}
 
 	/**
-	 * Assembles the EPUB file using a temporary working folder. The folder will be deleted as soon as the assembly has
-	 * completed.
+	 * Assembles the EPUB file without a working folder. The content of the publications is streamed from the source
+	 * files directly into the EPUB while the container, package and table of contents files are generated in memory.
+	 * The EPUB file is removed if the assembly fails.
 	 *
 	 * @param epubFile
 	 *            the target EPUB file
+	 * @return the EPUB file
 	 * @throws Exception
 	 */
 	public File pack(File epubFile) throws Exception {
-		File workingFolder = File.createTempFile("epub_", null); //$NON-NLS-1$
-		if (workingFolder.delete() && workingFolder.mkdirs()) {
-			pack(epubFile, workingFolder);
+		if (ocfContainer.getRootfiles().getRootfiles().isEmpty()) {
+			throw new ValidationException("EPUB does not contain any publications"); //$NON-NLS-1$
 		}
-		deleteFolder(workingFolder);
-		return workingFolder;
+		if (epubFile.exists()) {
+			throw new IOException("A file already exists at " + epubFile.getAbsolutePath()); //$NON-NLS-1$
+		}
+		EList<RootFile> publications = ocfContainer.getRootfiles().getRootfiles();
+		log(MessageFormat.format(Messages.getString("EPUB.2"), epubFile.getAbsolutePath()), Severity.INFO); //$NON-NLS-1$
+		boolean packed = false;
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(epubFile))) {
+			EPUBFileUtil.writeEPUBHeader(out);
+			writeOCF(out);
+			for (RootFile rootFile : publications) {
+				Object publication = rootFile.getPublication();
+				String rootPath = rootFile.getFullPath().replace(File.separatorChar, '/');
+				if (publication instanceof Publication) {
+					((Publication) publication).pack(rootPath, out);
+				} else if (publication instanceof File) {
+					EPUBFileUtil.zip(out, rootPath, (File) publication);
+				} else {
+					throw new IllegalArgumentException("Unknown publication type in root file"); //$NON-NLS-1$
+				}
+			}
+			packed = true;
+		} finally {
+			if (!packed) {
+				epubFile.delete();
+			}
+		}
+		log(MessageFormat.format(Messages.getString("EPUB.3"), //$NON-NLS-1$
+				publications.size()), Severity.INFO);
+		return epubFile;
 	}
 
 	/**
@@ -552,4 +570,22 @@ public class EPUB {
 			resource.save(null);
 		}
 	}
+
+	/**
+	 * Writes the required (as per the OPS specification) <b>META-INF/container.xml</b> into the EPUB. This is part of
+	 * the packing procedure.
+	 *
+	 * @param out
+	 *            the EPUB zip stream
+	 * @see <a href="http://idpf.org/epub/30/spec/epub30-ocf.html">EPUB3 OCF specification</a>
+	 * @see <a href="http://idpf.org/epub/20/spec/OCF_2.0.1_draft.doc">EPUB2 OCF specification</a>
+	 */
+	private void writeOCF(ZipOutputStream out) throws IOException {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		Resource resource = resourceSet.createResource(URI.createURI(OCF_CONTAINER_PATH));
+		resource.getContents().add(ocfContainer);
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		resource.save(content, null);
+		EPUBFileUtil.zip(out, OCF_CONTAINER_PATH, content.toByteArray());
+	}
 }
@@ -13,15 +13,15 @@
  *******************************************************************************/
 package org.eclipse.mylyn.docs.epub.core;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileReader;
 import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.ZipOutputStream;
 
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -34,8 +34,8 @@ import org.eclipse.emf.ecore.util.FeatureMapUtil;
 import org.eclipse.emf.ecore.xmi.XMLHelper;
 import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.mylyn.docs.epub.core.ILogger.Severity;
+import org.eclipse.mylyn.docs.epub.internal.EPUBFileUtil;
 import org.eclipse.mylyn.docs.epub.internal.EPUBXMLHelperImp;
-import org.eclipse.mylyn.docs.epub.internal.OPSValidator;
 import org.eclipse.mylyn.docs.epub.internal.TOCGenerator;
 import org.eclipse.mylyn.docs.epub.ncx.DocTitle;
 import org.eclipse.mylyn.docs.epub.ncx.Head;
@@ -54,7 +54,6 @@ import org.eclipse.mylyn.docs.epub.opf.Manifest;
 import org.eclipse.mylyn.docs.epub.opf.Metadata;
 import org.eclipse.mylyn.docs.epub.opf.OPFFactory;
 import org.eclipse.mylyn.docs.epub.opf.Spine;
-import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 /**
@@ -144,6 +143,7 @@ public class OPSPublication extends Publication {
 		meta.setContent(getIdentifier().getMixed().getValue(0).toString());
 		ncxTOC.getHead().getMetas().add(meta);
 		int playOrder = 0;
+		List<Item> tocItems = new ArrayList<Item>();
 		// Iterate over the spine
 		EList<Itemref> spineItems = getSpine().getSpineItems();
 		EList<Item> manifestItems = opfPackage.getManifest().getItems();
@@ -159,13 +159,16 @@ public class OPSPublication extends Publication {
 			}
 			if (referencedItem != null && !referencedItem.isNoToc()
 					&& referencedItem.getMedia_type().equals(MIMETYPE_XHTML)) {
-				File file = new File(referencedItem.getFile());
-				FileInputStream fis = new FileInputStream(file);
-				log(MessageFormat.format(Messages.getString("OPS2Publication.1"), referencedItem.getHref()), //$NON-NLS-1$
-						Severity.VERBOSE, indent);
-				playOrder = TOCGenerator.parse(new InputSource(fis), referencedItem.getHref(), ncxTOC, playOrder);
+				tocItems.add(referencedItem);
 			}
 		}
+		// Scan the files in parallel, but add the headers in reading order so that the play order is deterministic
+		scanContents(tocItems);
+		for (Item item : tocItems) {
+			log(MessageFormat.format(Messages.getString("OPS2Publication.1"), item.getHref()), //$NON-NLS-1$
+					Severity.VERBOSE, indent);
+			playOrder = TOCGenerator.add(getScanner(item).getHeadings(), item.getHref(), ncxTOC, playOrder);
+		}
 		indent--;
 	}
 
@@ -331,6 +334,8 @@ public class OPSPublication extends Publication {
 			throws ParserConfigurationException, SAXException, IOException {
 		EList<Item> manifestItems = opfPackage.getManifest().getItems();
 		ArrayList<ValidationMessage> messages = new ArrayList<ValidationMessage>();
+		List<Item> missingItems = new ArrayList<Item>();
+		List<Item> contentItems = new ArrayList<Item>();
 		for (Item item : manifestItems) {
 			// if the "file" attribute is not set we probably have an item
 			// that is in the model because we're repacking an EPUB. We'll try
@@ -341,11 +346,21 @@ public class OPSPublication extends Publication {
 				String href = item.getHref();
 				File file = new File(rootFolder, href);
 				if (!file.exists()) {
-					messages.add(new ValidationMessage(ValidationMessage.Severity.ERROR,
-							MessageFormat.format(Messages.getString("OPSPublication.7"), item.getHref()))); //$NON-NLS-1$
+					missingItems.add(item);
 				}
 				item.setFile(file.toString());
 			}
+			if (item.getMedia_type().equals(MIMETYPE_XHTML)) {
+				contentItems.add(item);
+			}
+		}
+		// Scan all XHTML items in parallel before reporting in manifest order
+		scanContents(contentItems);
+		for (Item item : manifestItems) {
+			if (missingItems.contains(item)) {
+				messages.add(new ValidationMessage(ValidationMessage.Severity.ERROR,
+						MessageFormat.format(Messages.getString("OPSPublication.7"), item.getHref()))); //$NON-NLS-1$
+			}
 			if (!isLegalType(item)) {
 				Item fallback = getItemById(item.getFallback());
 				if (fallback == null) {
@@ -364,14 +379,52 @@ public class OPSPublication extends Publication {
 			}
 			// Validate the XHTML items to see if they contain illegal attributes and elements
 			if (item.getMedia_type().equals(MIMETYPE_XHTML)) {
-				File file = new File(item.getFile());
-				FileReader fr = new FileReader(file);
-				messages.addAll(OPSValidator.validate(new InputSource(fr), item.getHref()));
+				messages.addAll(getScanner(item).getMessages());
 			}
 		}
 		return messages;
 	}
 
+	/**
+	 * Configures the NCX table of contents, generating it from the spine if requested, and adds it to a new resource
+	 * at the given location.
+	 *
+	 * @param uri
+	 *            the location of the NCX file
+	 * @return the resource holding the table of contents
+	 * @throws IOException
+	 * @throws SAXException
+	 * @throws ParserConfigurationException
+	 */
+	private Resource createTableOfContentsResource(URI uri)
+			throws IOException, ParserConfigurationException, SAXException {
+		configureNCX();
+		ResourceSet resourceSet = new ResourceSetImpl();
+		// Register the packages to make it available during loading.
+		resourceSet.getPackageRegistry().put(NCXPackage.eNS_URI, NCXPackage.eINSTANCE);
+		Resource resource = resourceSet.createResource(uri);
+		// We've been asked to generate a table of contents using pages
+		// contained in the spine.
+		if (opfPackage.isGenerateTableOfContents()) {
+			generateTableOfContents();
+		}
+		resource.getContents().add(ncxTOC);
+		return resource;
+	}
+
+	/**
+	 * Returns the options used when saving the NCX table of contents.
+	 *
+	 * @return the save options
+	 */
+	private Map<String, Object> getTableOfContentsSaveOptions() {
+		Map<String, Object> options = new HashMap<String, Object>();
+		// NCX requires that we encode using UTF-8
+		options.put(XMLResource.OPTION_ENCODING, XML_ENCODING);
+		options.put(XMLResource.OPTION_EXTENDED_META_DATA, Boolean.TRUE);
+		return options;
+	}
+
 	/**
 	 * Writes the table of contents file in the specified folder using the NCX format. If a table of contents file has
 	 * not been specified an empty one will be created (since it is required to have one). If in addition it has been
@@ -391,24 +444,9 @@ public class OPSPublication extends Publication {
 		// If a table of contents file has not been specified we must create
 		// one. If it has been specified it will be copied.
 		if (getItemById(opfPackage.getSpine().getToc()) == null) {
-			configureNCX();
 			File ncxFile = new File(oepbsFolder.getAbsolutePath() + File.separator + TOCFILE_NAME);
-			ResourceSet resourceSet = new ResourceSetImpl();
-			// Register the packages to make it available during loading.
-			resourceSet.getPackageRegistry().put(NCXPackage.eNS_URI, NCXPackage.eINSTANCE);
-			URI fileURI = URI.createFileURI(ncxFile.getAbsolutePath());
-			Resource resource = resourceSet.createResource(fileURI);
-			// We've been asked to generate a table of contents using pages
-			// contained in the spine.
-			if (opfPackage.isGenerateTableOfContents()) {
-				generateTableOfContents();
-			}
-			resource.getContents().add(ncxTOC);
-			Map<String, Object> options = new HashMap<String, Object>();
-			// NCX requires that we encode using UTF-8
-			options.put(XMLResource.OPTION_ENCODING, XML_ENCODING);
-			options.put(XMLResource.OPTION_EXTENDED_META_DATA, Boolean.TRUE);
-			resource.save(options);
+			Resource resource = createTableOfContentsResource(URI.createFileURI(ncxFile.getAbsolutePath()));
+			resource.save(getTableOfContentsSaveOptions());
 			// Make sure the table of contents file is in the manifest and
 			// referenced in the spine. We also want it to be the first element
 			// in the manifest.
@@ -417,4 +455,31 @@ public class OPSPublication extends Publication {
 		}
 	}
 
+	/**
+	 * Writes the table of contents into the EPUB using the NCX format. The table of contents is created as described
+	 * in {@link #writeTableOfContents(File)}, but kept in memory instead of being written to a file.
+	 *
+	 * @param folder
+	 *            the path of the OEBPS folder in the EPUB
+	 * @param out
+	 *            the EPUB zip stream
+	 * @throws IOException
+	 * @throws SAXException
+	 * @throws ParserConfigurationException
+	 * @see {@link #setTableOfContents(File)}
+	 */
+	@Override
+	protected void writeTableOfContents(String folder, ZipOutputStream out)
+			throws IOException, ParserConfigurationException, SAXException {
+		if (getItemById(opfPackage.getSpine().getToc()) == null) {
+			Resource resource = createTableOfContentsResource(URI.createURI(folder + TOCFILE_NAME));
+			ByteArrayOutputStream content = new ByteArrayOutputStream();
+			resource.save(content, getTableOfContentsSaveOptions());
+			EPUBFileUtil.zip(out, folder + TOCFILE_NAME, content.toByteArray());
+			// The table of contents must be the first element in the manifest.
+			Item item = addGeneratedItem(opfPackage.getSpine().getToc(), TOCFILE_NAME, MIMETYPE_NCX);
+			opfPackage.getManifest().getItems().move(0, item);
+		}
+	}
+
 }
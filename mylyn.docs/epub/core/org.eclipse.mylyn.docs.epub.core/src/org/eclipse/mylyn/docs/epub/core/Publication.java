@@ -13,19 +13,26 @@
  *******************************************************************************/
 package org.eclipse.mylyn.docs.epub.core;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.zip.ZipOutputStream;
 
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -63,7 +70,7 @@ import org.eclipse.mylyn.docs.epub.dc.Subject;
 import org.eclipse.mylyn.docs.epub.dc.Title;
 import org.eclipse.mylyn.docs.epub.internal.EPUBFileUtil;
 import org.eclipse.mylyn.docs.epub.internal.EPUBXMLHelperImp;
-import org.eclipse.mylyn.docs.epub.internal.ReferenceScanner;
+import org.eclipse.mylyn.docs.epub.internal.XHTMLScanner;
 import org.eclipse.mylyn.docs.epub.opf.Item;
 import org.eclipse.mylyn.docs.epub.opf.Itemref;
 import org.eclipse.mylyn.docs.epub.opf.OPFFactory;
@@ -108,6 +115,9 @@ public abstract class Publication {
 
 	protected static final String CREATION_DATE_ID = "creation"; //$NON-NLS-1$
 
+	/** Name of the generated cover page */
+	private static final String COVER_PAGE_NAME = "cover-page.xhtml"; //$NON-NLS-1$
+
 	private static final String EMPTY_STRING = ""; //$NON-NLS-1$
 
 	public final static String MIMETYPE_CSS = "text/css"; //$NON-NLS-1$
@@ -164,6 +174,9 @@ public abstract class Publication {
 	/** The root folder TODO: Move to opfPackage */
 	private File rootFolder;
 
+	/** Results of scanning the XHTML content files, by item */
+	private final Map<Item, XHTMLScanner> scanners = new HashMap<Item, XHTMLScanner>();
+
 	protected Publication() {
 		opfPackage = OPFFactory.eINSTANCE.createPackage();
 		registerOPFResourceFactory();
@@ -1064,26 +1077,28 @@ public abstract class Publication {
 		EList<Item> manifestItems = opfPackage.getManifest().getItems();
 		// Compose a list of file references
 		HashMap<File, List<File>> references = new HashMap<File, List<File>>();
+		List<Item> contentItems = new ArrayList<Item>();
 		for (Item item : manifestItems) {
 			// Only parse XHTML-files and files that are not generated
 			if (item.getMedia_type().equals(MIMETYPE_XHTML) && !item.isGenerated()) {
-				File source = null;
 				if (item.getSourcePath() != null) {
-					source = new File(item.getSourcePath());
-					log(MessageFormat.format(Messages.getString("OPSPublication.24"), source), Severity.VERBOSE, //$NON-NLS-1$
-							indent);
-					references.put(source, ReferenceScanner.parse(item));
+					log(MessageFormat.format(Messages.getString("OPSPublication.24"), item.getSourcePath()), //$NON-NLS-1$
+							Severity.VERBOSE, indent);
 				} else {
-					source = new File(item.getFile());
-					log(MessageFormat.format(Messages.getString("OPSPublication.25"), source), Severity.VERBOSE, //$NON-NLS-1$
-							indent);
+					log(MessageFormat.format(Messages.getString("OPSPublication.25"), item.getFile()), //$NON-NLS-1$
+							Severity.VERBOSE, indent);
 				}
-				references.put(source, ReferenceScanner.parse(item));
+				contentItems.add(item);
 			} else {
 				log(MessageFormat.format(Messages.getString("OPSPublication.26"), item.getFile()), Severity.DEBUG, //$NON-NLS-1$
 						indent);
 			}
 		}
+		scanContents(contentItems);
+		for (Item item : contentItems) {
+			File source = new File(item.getSourcePath() != null ? item.getSourcePath() : item.getFile());
+			references.put(source, getScanner(item).getReferences());
+		}
 		indent--;
 		// Add all referenced items to the manifest
 		for (File root : references.keySet()) {
@@ -1119,6 +1134,50 @@ public abstract class Publication {
 		indent--;
 	}
 
+	/**
+	 * Scans the XHTML content files of the given items that have not already been scanned while packing the
+	 * publication. The files are parsed in parallel, each in a single pass collecting referenced resources, headers
+	 * for the table of contents and validation messages.
+	 *
+	 * @param items
+	 *            the XHTML items to scan
+	 * @throws ParserConfigurationException
+	 * @throws SAXException
+	 * @throws IOException
+	 */
+	void scanContents(List<Item> items) throws ParserConfigurationException, SAXException, IOException {
+		Set<Item> pending = new LinkedHashSet<Item>();
+		for (Item item : items) {
+			if (!scanners.containsKey(item)) {
+				pending.add(item);
+			}
+		}
+		List<Item> unscanned = new ArrayList<Item>(pending);
+		List<XHTMLScanner> results = XHTMLScanner.scan(unscanned);
+		for (int i = 0; i < unscanned.size(); i++) {
+			scanners.put(unscanned.get(i), results.get(i));
+		}
+	}
+
+	/**
+	 * Returns the result of scanning the XHTML content file of the given item. The file is scanned if this has not
+	 * already been done.
+	 *
+	 * @param item
+	 *            the XHTML item
+	 * @return the scanner holding the result
+	 * @throws ParserConfigurationException
+	 * @throws SAXException
+	 * @throws IOException
+	 * @see #scanContents(List)
+	 */
+	XHTMLScanner getScanner(Item item) throws ParserConfigurationException, SAXException, IOException {
+		if (!scanners.containsKey(item)) {
+			scanContents(Collections.singletonList(item));
+		}
+		return scanners.get(item);
+	}
+
 	/**
 	 * Logs a message using the specified logger. If no logger has been assigned, the message is ignored.
 	 *
@@ -1158,43 +1217,13 @@ public abstract class Publication {
 	 *             when the SAX parser cannot configured
 	 */
 	void pack(File rootFile) throws IOException, ValidationException, ParserConfigurationException, SAXException {
-		if (opfPackage.getSpine().getSpineItems().isEmpty()) {
-			throw new ValidationException("Spine does not contain any items"); //$NON-NLS-1$
-		}
-		// Include items that have been referenced
-		if (opfPackage.isIncludeReferencedResources()) {
-			includeReferencedResources();
-		}
-		// Make sure all data is in place in the OPF
-		addCompulsoryData();
+		prepare();
 		// Note that order is important here. Some of the steps for assembling
 		// the EPUB may insert data into the publication structure. Hence the OPF must
 		// be written last.
 		this.rootFolder = rootFile.getAbsoluteFile().getParentFile();
 		if (rootFolder.isDirectory() || rootFolder.mkdirs()) {
-			// Validate contents.
-			messages = validateContents();
-			log(Messages.getString("OPSPublication.5"), Severity.INFO, indent); //$NON-NLS-1$
-			indent++;
-			for (ValidationMessage validation : messages) {
-				switch (validation.getSeverity()) {
-				case ERROR:
-					throw new ValidationException(validation.getMessage());
-				case WARNING:
-					log(validation.getMessage(), Severity.WARNING, indent);
-					break;
-				default:
-					break;
-				}
-			}
-			indent--;
-			// Validate metadata. These are "hard" requirements, so any problem here is an exception
-			List<Diagnostic> problems = validateMetadata();
-			if (problems.size() > 0) {
-				for (Diagnostic diagnostic : problems) {
-					throw new ValidationException(diagnostic.getMessage());
-				}
-			}
+			validate();
 			// Validation OK -- Write content.
 			if (opfPackage.isGenerateCoverHTML()) {
 				writeCoverHTML(rootFolder);
@@ -1207,6 +1236,84 @@ public abstract class Publication {
 		}
 	}
 
+	/**
+	 * Assembles the OPS publication directly into the EPUB zip stream. The content of each item is streamed from its
+	 * source file while the cover page, table of contents and OPF are generated in memory. The same validation as in
+	 * {@link #pack(File)} is performed.
+	 *
+	 * @param rootPath
+	 *            the path of the root file in the EPUB, using '/' as separator
+	 * @param out
+	 *            the EPUB zip stream
+	 * @throws ValidationException
+	 *             when the EPUB contains errors
+	 * @throws SAXException
+	 *             when content cannot be read
+	 * @throws ParserConfigurationException
+	 *             when the SAX parser cannot configured
+	 */
+	void pack(String rootPath, ZipOutputStream out)
+			throws IOException, ValidationException, ParserConfigurationException, SAXException {
+		prepare();
+		validate();
+		String folder = rootPath.substring(0, rootPath.lastIndexOf('/') + 1);
+		Set<String> entries = new HashSet<String>();
+		if (opfPackage.isGenerateCoverHTML()) {
+			writeCoverHTML(folder, out, entries);
+		}
+		writeContent(folder, out, entries);
+		writeTableOfContents(folder, out);
+		writeOPF(rootPath, out);
+	}
+
+	/**
+	 * Adds referenced resources and compulsory data to the publication prior to packing.
+	 */
+	private void prepare() throws ValidationException, ParserConfigurationException, SAXException, IOException {
+		if (opfPackage.getSpine().getSpineItems().isEmpty()) {
+			throw new ValidationException("Spine does not contain any items"); //$NON-NLS-1$
+		}
+		// Content files may have changed since the publication was last packed
+		scanners.clear();
+		// Include items that have been referenced
+		if (opfPackage.isIncludeReferencedResources()) {
+			includeReferencedResources();
+		}
+		// Make sure all data is in place in the OPF
+		addCompulsoryData();
+	}
+
+	/**
+	 * Validates the contents and the metadata of the publication.
+	 *
+	 * @throws ValidationException
+	 *             when the publication contains errors
+	 */
+	private void validate() throws ValidationException, ParserConfigurationException, SAXException, IOException {
+		messages = validateContents();
+		log(Messages.getString("OPSPublication.5"), Severity.INFO, indent); //$NON-NLS-1$
+		indent++;
+		for (ValidationMessage validation : messages) {
+			switch (validation.getSeverity()) {
+			case ERROR:
+				throw new ValidationException(validation.getMessage());
+			case WARNING:
+				log(validation.getMessage(), Severity.WARNING, indent);
+				break;
+			default:
+				break;
+			}
+		}
+		indent--;
+		// Validate metadata. These are "hard" requirements, so any problem here is an exception
+		List<Diagnostic> problems = validateMetadata();
+		if (problems.size() > 0) {
+			for (Diagnostic diagnostic : problems) {
+				throw new ValidationException(diagnostic.getMessage());
+			}
+		}
+	}
+
 	/**
 	 * Reads the root file.
 	 *
@@ -1431,6 +1538,33 @@ public abstract class Publication {
 		}
 	}
 
+	/**
+	 * Streams all items part of the publication into the EPUB unless the item in question will be generated.
+	 *
+	 * @param folder
+	 *            the path of the OEBPS folder in the EPUB
+	 * @param out
+	 *            the EPUB zip stream
+	 * @param entries
+	 *            the names of the entries that have been written
+	 * @throws IOException
+	 */
+	private void writeContent(String folder, ZipOutputStream out, Set<String> entries) throws IOException {
+		log(Messages.getString("OPSPublication.22"), Severity.INFO, indent); //$NON-NLS-1$
+		EList<Item> items = opfPackage.getManifest().getItems();
+		for (Item item : items) {
+			if (!item.isGenerated()) {
+				String name = folder + item.getHref();
+				if (entries.add(name)) {
+					EPUBFileUtil.zip(out, name, new File(item.getFile()));
+				} else {
+					log(MessageFormat.format(Messages.getString("Publication.0"), //$NON-NLS-1$
+							item.getHref()), Severity.WARNING, indent + 1);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Writes a XHTML-file for the cover image. This is added to the publication and all required references set.
 	 *
@@ -1440,42 +1574,13 @@ public abstract class Publication {
 	 */
 	private void writeCoverHTML(File rootFolder) throws IOException {
 		Item coverImage = getItemById(COVER_IMAGE_ID);
-		File coverFile = new File(rootFolder.getAbsolutePath() + File.separator + "cover-page.xhtml"); //$NON-NLS-1$
+		File coverFile = new File(rootFolder.getAbsolutePath() + File.separator + COVER_PAGE_NAME);
 		if (!coverFile.exists()) {
 			try {
 				log(MessageFormat.format(Messages.getString("OPSPublication.28"), coverImage.getHref()), Severity.INFO, //$NON-NLS-1$
 						indent);
 				FileWriter fw = new FileWriter(coverFile);
-				fw.append("<?xml version=\"1.0\" encoding=\"utf-8\" standalone=\"no\"?>\n"); //$NON-NLS-1$
-				fw.append(
-						"<!DOCTYPE html PUBLIC \"-//W3C//DTD XHTML 1.1//EN\" \"http://www.w3.org/TR/xhtml11/DTD/xhtml11.dtd\">\n"); //$NON-NLS-1$
-				fw.append("<html xmlns=\"http://www.w3.org/1999/xhtml\">\n"); //$NON-NLS-1$
-				fw.append("  <head>\n"); //$NON-NLS-1$
-				fw.append("    <title>" + coverImage.getTitle() + "</title>\n"); //$NON-NLS-1$ //$NON-NLS-2$
-				fw.append("    <style type=\"text/css\">"); //$NON-NLS-1$
-				fw.append("      #cover-body {\n"); //$NON-NLS-1$
-				fw.append("        margin: 0px;\n"); //$NON-NLS-1$
-				fw.append("        text-align: center;\n"); //$NON-NLS-1$
-				fw.append("        background-color: #222222;\n"); //$NON-NLS-1$
-				fw.append("      }\n"); //$NON-NLS-1$
-				fw.append("      #cover-block {\n"); //$NON-NLS-1$
-				fw.append("        height: 100%;\n"); //$NON-NLS-1$
-				fw.append("        margin-top: 0;\n"); //$NON-NLS-1$
-				fw.append("      }\n"); //$NON-NLS-1$
-				fw.append("      #cover-image {\n"); //$NON-NLS-1$
-				fw.append("        height: 100%;\n"); //$NON-NLS-1$
-				fw.append("        text-align: center;\n"); //$NON-NLS-1$
-				fw.append("        max-width: 100%;\n"); //$NON-NLS-1$
-				fw.append("      }\n"); //$NON-NLS-1$
-				fw.append("    </style>\n"); //$NON-NLS-1$
-				fw.append("  </head>\n"); //$NON-NLS-1$
-				fw.append("  <body id=\"cover-body\">\n"); //$NON-NLS-1$
-				fw.append("    <div id=\"cover-block\">\n"); //$NON-NLS-1$
-				fw.append("      <img id=\"cover-image\" src=\"" + coverImage.getHref() + "\" alt=\"" //$NON-NLS-1$ //$NON-NLS-2$
-						+ coverImage.getTitle() + "\"/>\n"); //$NON-NLS-1$
-				fw.append("    </div>\n"); //$NON-NLS-1$
-				fw.append("  </body>\n"); //$NON-NLS-1$
-				fw.append("</html>\n"); //$NON-NLS-1$
+				fw.append(createCoverHTML(coverImage));
 				fw.close();
 			} catch (IOException e) {
 				e.printStackTrace();
@@ -1483,6 +1588,85 @@ public abstract class Publication {
 		}
 		// Add the cover page item
 		Item coverPage = addItem(COVER_ID, null, coverFile, null, MIMETYPE_XHTML, true, false, false);
+		addCoverPage(coverPage, coverImage);
+	}
+
+	/**
+	 * Writes a XHTML-file for the cover image into the EPUB. This is added to the publication and all required
+	 * references set.
+	 *
+	 * @param folder
+	 *            the path of the OEBPS folder in the EPUB
+	 * @param out
+	 *            the EPUB zip stream
+	 * @param entries
+	 *            the names of the entries that have been written
+	 * @throws IOException
+	 */
+	private void writeCoverHTML(String folder, ZipOutputStream out, Set<String> entries) throws IOException {
+		Item coverImage = getItemById(COVER_IMAGE_ID);
+		log(MessageFormat.format(Messages.getString("OPSPublication.28"), coverImage.getHref()), Severity.INFO, //$NON-NLS-1$
+				indent);
+		EPUBFileUtil.zip(out, folder + COVER_PAGE_NAME,
+				createCoverHTML(coverImage).getBytes(StandardCharsets.UTF_8));
+		entries.add(folder + COVER_PAGE_NAME);
+		// Add the cover page item
+		Item coverPage = addGeneratedItem(COVER_ID, COVER_PAGE_NAME, MIMETYPE_XHTML);
+		// The cover page has no headings to include in the table of contents
+		coverPage.setNoToc(true);
+		Itemref ref = OPFFactory.eINSTANCE.createItemref();
+		ref.setLinear("no"); //$NON-NLS-1$
+		ref.setIdref(COVER_ID);
+		getSpine().getSpineItems().add(ref);
+		addCoverPage(coverPage, coverImage);
+	}
+
+	/**
+	 * Creates the XHTML content of the cover page.
+	 *
+	 * @param coverImage
+	 *            the cover image item
+	 * @return the cover page content
+	 */
+	private String createCoverHTML(Item coverImage) {
+		StringBuilder html = new StringBuilder();
+		html.append("<?xml version=\"1.0\" encoding=\"utf-8\" standalone=\"no\"?>\n"); //$NON-NLS-1$
+		html.append(
+				"<!DOCTYPE html PUBLIC \"-//W3C//DTD XHTML 1.1//EN\" \"http://www.w3.org/TR/xhtml11/DTD/xhtml11.dtd\">\n"); //$NON-NLS-1$
+		html.append("<html xmlns=\"http://www.w3.org/1999/xhtml\">\n"); //$NON-NLS-1$
+		html.append("  <head>\n"); //$NON-NLS-1$
+		html.append("    <title>" + coverImage.getTitle() + "</title>\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		html.append("    <style type=\"text/css\">"); //$NON-NLS-1$
+		html.append("      #cover-body {\n"); //$NON-NLS-1$
+		html.append("        margin: 0px;\n"); //$NON-NLS-1$
+		html.append("        text-align: center;\n"); //$NON-NLS-1$
+		html.append("        background-color: #222222;\n"); //$NON-NLS-1$
+		html.append("      }\n"); //$NON-NLS-1$
+		html.append("      #cover-block {\n"); //$NON-NLS-1$
+		html.append("        height: 100%;\n"); //$NON-NLS-1$
+		html.append("        margin-top: 0;\n"); //$NON-NLS-1$
+		html.append("      }\n"); //$NON-NLS-1$
+		html.append("      #cover-image {\n"); //$NON-NLS-1$
+		html.append("        height: 100%;\n"); //$NON-NLS-1$
+		html.append("        text-align: center;\n"); //$NON-NLS-1$
+		html.append("        max-width: 100%;\n"); //$NON-NLS-1$
+		html.append("      }\n"); //$NON-NLS-1$
+		html.append("    </style>\n"); //$NON-NLS-1$
+		html.append("  </head>\n"); //$NON-NLS-1$
+		html.append("  <body id=\"cover-body\">\n"); //$NON-NLS-1$
+		html.append("    <div id=\"cover-block\">\n"); //$NON-NLS-1$
+		html.append("      <img id=\"cover-image\" src=\"" + coverImage.getHref() + "\" alt=\"" //$NON-NLS-1$ //$NON-NLS-2$
+				+ coverImage.getTitle() + "\"/>\n"); //$NON-NLS-1$
+		html.append("    </div>\n"); //$NON-NLS-1$
+		html.append("  </body>\n"); //$NON-NLS-1$
+		html.append("</html>\n"); //$NON-NLS-1$
+		return html.toString();
+	}
+
+	/**
+	 * Marks the cover page as generated, references it from the guide and moves it first in the spine.
+	 */
+	private void addCoverPage(Item coverPage, Item coverImage) {
 		coverPage.setGenerated(true);
 		addReference(coverPage.getHref(), coverImage.getTitle(), Type.COVER.getLiteral());
 		// Move the cover page first in the spine.
@@ -1498,6 +1682,29 @@ public abstract class Publication {
 		}
 	}
 
+	/**
+	 * Adds an item for content that is generated while packing the publication and hence has no source file.
+	 *
+	 * @param id
+	 *            identifier of the item
+	 * @param href
+	 *            location of the item relative to the OPF
+	 * @param type
+	 *            MIME type of the item
+	 * @return the new item
+	 */
+	protected Item addGeneratedItem(String id, String href, String type) {
+		Item item = OPFFactory.eINSTANCE.createItem();
+		item.setId(id);
+		item.setHref(href);
+		item.setMedia_type(type);
+		item.setGenerated(true);
+		log(MessageFormat.format(Messages.getString("OPSPublication.8"), item.getHref(), item.getMedia_type()), //$NON-NLS-1$
+				Severity.VERBOSE, indent);
+		opfPackage.getManifest().getItems().add(item);
+		return item;
+	}
+
 	/**
 	 * Writes the <b>content.opf</b> file.
 	 *
@@ -1514,14 +1721,85 @@ public abstract class Publication {
 		resource.save(null);
 	}
 
+	/**
+	 * Writes the <b>content.opf</b> file into the EPUB.
+	 *
+	 * @param path
+	 *            the path of the OPF file in the EPUB
+	 * @param out
+	 *            the EPUB zip stream
+	 * @throws IOException
+	 */
+	private void writeOPF(String path, ZipOutputStream out) throws IOException {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		Resource resource = resourceSet.createResource(URI.createURI(path));
+		resource.getContents().add(opfPackage);
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		resource.save(content, null);
+		EPUBFileUtil.zip(out, path, content.toByteArray());
+	}
+
 	/**
 	 * Implement to handle writing of the table of contents. Note that this method should do nothing if the table of
 	 * contents has already been specified using {@link #setTableOfContents(File)}.
 	 *
 	 * @param rootFolder
 	 *            the folder to write in
-	 * @throws Exception
+	 * @throws IOException
+	 *             when the table of contents cannot be written
+	 * @throws ParserConfigurationException
+	 *             when the SAX parser cannot configured
+	 * @throws SAXException
+	 *             when content cannot be read
 	 */
 	protected abstract void writeTableOfContents(File rootFolder)
 			throws IOException, ParserConfigurationException, SAXException;
+
+	/**
+	 * Handles writing of the table of contents into the EPUB. Note that this method should do nothing if the table of
+	 * contents has already been specified using {@link #setTableOfContents(File)}.
+	 * <p>
+	 * The default implementation writes the table of contents into a temporary folder using
+	 * {@link #writeTableOfContents(File)} and copies the items added to the manifest from there into the EPUB.
+	 * Implementors should override it to create the table of contents in memory.
+	 * </p>
+	 *
+	 * @param folder
+	 *            the path of the OEBPS folder in the EPUB
+	 * @param out
+	 *            the EPUB zip stream
+	 * @throws IOException
+	 *             when the table of contents cannot be written
+	 * @throws ParserConfigurationException
+	 *             when the SAX parser cannot configured
+	 * @throws SAXException
+	 *             when content cannot be read
+	 * @since 4.1
+	 */
+	protected void writeTableOfContents(String folder, ZipOutputStream out)
+			throws IOException, ParserConfigurationException, SAXException {
+		File tocFolder = File.createTempFile("epub_", null); //$NON-NLS-1$
+		if (!tocFolder.delete() || !tocFolder.mkdirs()) {
+			throw new IOException(MessageFormat.format("Could not create folder {0}", tocFolder)); //$NON-NLS-1$
+		}
+		try {
+			List<Item> existing = new ArrayList<Item>(opfPackage.getManifest().getItems());
+			writeTableOfContents(tocFolder);
+			for (Item item : opfPackage.getManifest().getItems()) {
+				if (!existing.contains(item) && !item.isGenerated()) {
+					EPUBFileUtil.zip(out, folder + item.getHref(), new File(item.getFile()));
+					// The temporary file is deleted below, so the item can only be regenerated
+					item.setGenerated(true);
+				}
+			}
+		} finally {
+			File[] files = tocFolder.listFiles();
+			if (files != null) {
+				for (File file : files) {
+					file.delete();
+				}
+			}
+			tocFolder.delete();
+		}
+	}
 }
@@ -18,6 +18,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
@@ -266,6 +267,43 @@ public class EPUBFileUtil {
 		out.close();
 	}
 
+	/**
+	 * Adds the contents of <i>source</i> to the zip stream as a compressed entry named <i>name</i>. The modification
+	 * time of the file is retained.
+	 *
+	 * @param out
+	 *            the zip output stream
+	 * @param name
+	 *            the name of the entry, using '/' as separator
+	 * @param source
+	 *            the file to add
+	 * @throws IOException
+	 */
+	public static void zip(ZipOutputStream out, String name, File source) throws IOException {
+		ZipEntry entry = new ZipEntry(name);
+		entry.setTime(source.lastModified());
+		out.putNextEntry(entry);
+		Files.copy(source.toPath(), out);
+		out.closeEntry();
+	}
+
+	/**
+	 * Adds <i>content</i> to the zip stream as a compressed entry named <i>name</i>.
+	 *
+	 * @param out
+	 *            the zip output stream
+	 * @param name
+	 *            the name of the entry, using '/' as separator
+	 * @param content
+	 *            the content of the entry
+	 * @throws IOException
+	 */
+	public static void zip(ZipOutputStream out, String name, byte[] content) throws IOException {
+		out.putNextEntry(new ZipEntry(name));
+		out.write(content);
+		out.closeEntry();
+	}
+
 	/**
 	 * Adds a folder recursively to the output stream.
 	 *
@@ -117,25 +117,43 @@ public class OPSValidator extends DefaultHandler {
 
 	private boolean recording = false;
 
+	/** Whether or not the contents are recorded, only messages are collected if not */
+	private final boolean recordContents;
+
 	public OPSValidator(String href, Mode mode) {
+		this(href, mode, true);
+	}
+
+	/**
+	 * Creates a validator that may skip recording the contents, e.g. when only the messages are of interest.
+	 *
+	 * @param href
+	 *            the file being validated
+	 * @param mode
+	 *            the validation mode
+	 * @param recordContents
+	 *            whether or not to record the contents
+	 */
+	OPSValidator(String href, Mode mode, boolean recordContents) {
 		super();
 		this.href = href;
 		buffer = new StringBuilder();
 		contents = new StringBuilder();
 		messages = new ArrayList<ValidationMessage>();
 		this.mode = mode;
+		this.recordContents = recordContents;
 	}
 
 	@Override
 	public void characters(char[] ch, int start, int length) throws SAXException {
-		if (recording) {
+		if (recording && recordContents) {
 			buffer.append(ch, start, length);
 		}
 	}
 
 	@Override
 	public void endElement(String uri, String localName, String qName) throws SAXException {
-		if (isLegalElement(qName)) {
+		if (isLegalElement(qName) && recordContents) {
 			contents.append(buffer);
 			contents.append("</" + qName + ">"); //$NON-NLS-1$ //$NON-NLS-2$
 			buffer.setLength(0);
@@ -196,38 +214,37 @@ public class OPSValidator extends DefaultHandler {
 	public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
 		if (isPassthroughElement(qName)) {
 			// Record any text content
-			contents.append('<');
-			contents.append(qName);
-			for (int i = 0; i < attributes.getLength(); i++) {
-				String name = attributes.getQName(i);
-				contents.append(' ');
-				contents.append(name);
-				contents.append("=\""); //$NON-NLS-1$
-				contents.append(attributes.getValue(i));
-				contents.append("\""); //$NON-NLS-1$
+			if (recordContents) {
+				contents.append('<');
+				contents.append(qName);
+				for (int i = 0; i < attributes.getLength(); i++) {
+					appendAttribute(attributes, i);
+				}
+				contents.append('>');
 			}
-			contents.append('>');
 			recording = true;
 
 		} else if (mode.equals(Mode.WARN) || isLegalElement(qName)) {
 			// Record any text content
-			contents.append('<');
-			contents.append(qName);
+			if (recordContents) {
+				contents.append('<');
+				contents.append(qName);
+			}
 			for (int i = 0; i < attributes.getLength(); i++) {
 				String name = attributes.getQName(i);
 				if (mode.equals(Mode.WARN) || isLegalAttribute(name)) {
-					contents.append(' ');
-					contents.append(name);
-					contents.append("=\""); //$NON-NLS-1$
-					contents.append(attributes.getValue(i));
-					contents.append("\""); //$NON-NLS-1$
+					if (recordContents) {
+						appendAttribute(attributes, i);
+					}
 					if (!isLegalAttribute(name)) {
 						messages.add(new ValidationMessage(Severity.WARNING, MessageFormat.format(
 								"Attribute \"{0}\" in file \"{1}\" is not in OPS Preferred Vocabularies", name, href))); //$NON-NLS-1$
 					}
 				}
 			}
-			contents.append('>');
+			if (recordContents) {
+				contents.append('>');
+			}
 			recording = true;
 			if (!isLegalElement(qName)) {
 				messages.add(new ValidationMessage(Severity.WARNING, MessageFormat
@@ -236,4 +253,12 @@ public class OPSValidator extends DefaultHandler {
 			}
 		}
 	}
+
+	private void appendAttribute(Attributes attributes, int index) {
+		contents.append(' ');
+		contents.append(attributes.getQName(index));
+		contents.append("=\""); //$NON-NLS-1$
+		contents.append(attributes.getValue(index));
+		contents.append("\""); //$NON-NLS-1$
+	}
 }
@@ -14,6 +14,7 @@
 package org.eclipse.mylyn.docs.epub.internal;
 
 import java.io.IOException;
+import java.util.List;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
@@ -62,31 +63,43 @@ public class TOCGenerator extends AbstractXHTMLScanner {
 	@Override
 	public void endElement(String uri, String localName, String qName) throws SAXException {
 		int currentLevel = isHeader(qName);
-		int parentLevel = currentLevel - 1;
 		// only handle header level specifications H1 through H6
 		if (currentLevel > 0 && currentLevel < 7) {
 			recording = false;
-			NavPoint navPoint = createNavPoint(buffer.toString());
-			// determine the actual parent element as it may not exist at the
-			// level immediately above, as one would expect.
-			if (currentLevel > 1) {
-				NavPoint parent = headers[parentLevel - 1];
-				while (parent == null && parentLevel > 1) {
-					parentLevel = parentLevel - 1;
-					parent = headers[parentLevel - 1];
-				}
-				if (parent == null) {
-					ncx.getNavMap().getNavPoints().add(navPoint);
-					headers[0] = navPoint;
-				} else {
-					parent.getNavPoints().add(navPoint);
-					headers[parentLevel] = navPoint;
-				}
-			} else {
+			addHeading(currentLevel, buffer.toString());
+			buffer.setLength(0);
+		}
+	}
+
+	/**
+	 * Adds a navigation point for a header at the given level to the table of contents.
+	 *
+	 * @param currentLevel
+	 *            the header level, 1 through 6
+	 * @param title
+	 *            the header text
+	 */
+	private void addHeading(int currentLevel, String title) {
+		int parentLevel = currentLevel - 1;
+		NavPoint navPoint = createNavPoint(title);
+		// determine the actual parent element as it may not exist at the
+		// level immediately above, as one would expect.
+		if (currentLevel > 1) {
+			NavPoint parent = headers[parentLevel - 1];
+			while (parent == null && parentLevel > 1) {
+				parentLevel = parentLevel - 1;
+				parent = headers[parentLevel - 1];
+			}
+			if (parent == null) {
 				ncx.getNavMap().getNavPoints().add(navPoint);
 				headers[0] = navPoint;
+			} else {
+				parent.getNavPoints().add(navPoint);
+				headers[parentLevel] = navPoint;
 			}
-			buffer.setLength(0);
+		} else {
+			ncx.getNavMap().getNavPoints().add(navPoint);
+			headers[0] = navPoint;
 		}
 	}
 
@@ -149,4 +162,28 @@ public class TOCGenerator extends AbstractXHTMLScanner {
 		return tocGenerator.getPlayOrder();
 	}
 
+	/**
+	 * Generates a table of contents for a chapter from headers that have already been collected by a
+	 * {@link XHTMLScanner}. The result is the same as when parsing the file using
+	 * {@link #parse(InputSource, String, Ncx, int)}.
+	 *
+	 * @param headings
+	 *            the headers of the chapter in document order
+	 * @param href
+	 *            the XHTML file referencing this file
+	 * @param ncx
+	 *            the NCX to add headers to
+	 * @param playOrder
+	 *            initial play order
+	 * @return the current play order
+	 */
+	public static int add(List<XHTMLScanner.Heading> headings, String href, Ncx ncx, int playOrder) {
+		TOCGenerator tocGenerator = new TOCGenerator(href, ncx, playOrder);
+		for (XHTMLScanner.Heading heading : headings) {
+			tocGenerator.currentId = heading.getId();
+			tocGenerator.addHeading(heading.getLevel(), heading.getTitle());
+		}
+		return tocGenerator.getPlayOrder();
+	}
+
 }
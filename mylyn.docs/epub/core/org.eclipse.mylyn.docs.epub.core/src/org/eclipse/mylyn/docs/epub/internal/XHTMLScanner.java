@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.docs.epub.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.eclipse.mylyn.docs.epub.core.ValidationMessage;
+import org.eclipse.mylyn.docs.epub.internal.OPSValidator.Mode;
+import org.eclipse.mylyn.docs.epub.opf.Item;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * This type is a SAX parser that will read a XHTML file once and collect everything that is needed when packing a
+ * publication: the referenced files as found by the {@link ReferenceScanner}, the headers used by the
+ * {@link TOCGenerator} and the validation messages of the {@link OPSValidator}.
+ * <p>
+ * Use {@link #scan(List)} to scan a number of files in parallel. The parsers are pooled and reused between files.
+ * </p>
+ */
+public class XHTMLScanner extends AbstractXHTMLScanner {
+
+	/**
+	 * A header (<b>H1</b> through <b>H6</b>) found in the XHTML file.
+	 */
+	public static class Heading {
+
+		private final int level;
+
+		private final String id;
+
+		private final String title;
+
+		Heading(int level, String id, String title) {
+			this.level = level;
+			this.id = id;
+			this.title = title;
+		}
+
+		/**
+		 * @return the header level, 1 through 6
+		 */
+		public int getLevel() {
+			return level;
+		}
+
+		/**
+		 * @return the identifier of the header element or <code>null</code>
+		 */
+		public String getId() {
+			return id;
+		}
+
+		/**
+		 * @return the header text
+		 */
+		public String getTitle() {
+			return title;
+		}
+
+	}
+
+	private static SAXParserFactory factory;
+
+	private static final Queue<SAXParser> parsers = new ConcurrentLinkedQueue<SAXParser>();
+
+	private final ReferenceScanner referenceScanner;
+
+	private final OPSValidator validator;
+
+	private final List<Heading> headings;
+
+	private String currentId = null;
+
+	public XHTMLScanner(Item item) {
+		super();
+		currentHref = item.getHref();
+		referenceScanner = new ReferenceScanner(item);
+		validator = new OPSValidator(item.getHref(), Mode.WARN, false);
+		headings = new ArrayList<Heading>();
+	}
+
+	/**
+	 * @return the files referenced from the XHTML file
+	 */
+	public List<File> getReferences() {
+		return referenceScanner.files;
+	}
+
+	/**
+	 * @return the headers of the XHTML file in document order
+	 */
+	public List<Heading> getHeadings() {
+		return headings;
+	}
+
+	/**
+	 * @return warnings for elements and attributes not in the OPS preferred vocabulary
+	 */
+	public List<ValidationMessage> getMessages() {
+		return validator.getMessages();
+	}
+
+	@Override
+	public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+		super.startElement(uri, localName, qName, attributes);
+		referenceScanner.startElement(uri, localName, qName, attributes);
+		validator.startElement(uri, localName, qName, attributes);
+		if (isHeader(qName) > 0) {
+			recording = true;
+			currentId = attributes.getValue("id"); //$NON-NLS-1$
+		}
+	}
+
+	@Override
+	public void endElement(String uri, String localName, String qName) throws SAXException {
+		super.endElement(uri, localName, qName);
+		referenceScanner.endElement(uri, localName, qName);
+		validator.endElement(uri, localName, qName);
+		int level = isHeader(qName);
+		if (level > 0) {
+			recording = false;
+			headings.add(new Heading(level, currentId, buffer.toString()));
+			buffer.setLength(0);
+		}
+	}
+
+	@Override
+	public void characters(char[] ch, int start, int length) throws SAXException {
+		super.characters(ch, start, length);
+		validator.characters(ch, start, length);
+	}
+
+	/**
+	 * Scans the XHTML files of the given items. The files are parsed in parallel, each in a single pass.
+	 *
+	 * @param items
+	 *            the items to scan
+	 * @return the scanners, in the same order as the items
+	 * @throws ParserConfigurationException
+	 * @throws SAXException
+	 * @throws IOException
+	 */
+	public static List<XHTMLScanner> scan(List<Item> items)
+			throws ParserConfigurationException, SAXException, IOException {
+		List<XHTMLScanner> scanners = new ArrayList<XHTMLScanner>(items.size());
+		int parallelism = Math.min(items.size(), Runtime.getRuntime().availableProcessors());
+		if (parallelism <= 1) {
+			for (Item item : items) {
+				scanners.add(scan(item));
+			}
+			return scanners;
+		}
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			List<ForkJoinTask<XHTMLScanner>> tasks = new ArrayList<ForkJoinTask<XHTMLScanner>>(items.size());
+			for (final Item item : items) {
+				tasks.add(pool.submit(() -> scan(item)));
+			}
+			// collect in the order of the items so that the results are deterministic
+			for (ForkJoinTask<XHTMLScanner> task : tasks) {
+				scanners.add(task.get());
+			}
+			return scanners;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof SAXException) {
+				throw (SAXException) cause;
+			} else if (cause instanceof ParserConfigurationException) {
+				throw (ParserConfigurationException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private static XHTMLScanner scan(Item item) throws ParserConfigurationException, SAXException, IOException {
+		XHTMLScanner scanner = new XHTMLScanner(item);
+		SAXParser parser = acquireParser();
+		try (InputStream in = new FileInputStream(item.getFile())) {
+			parser.parse(new InputSource(in), scanner);
+		} catch (SAXException e) {
+			System.err.println("Could not parse " + item.getHref()); //$NON-NLS-1$
+			e.printStackTrace();
+		} finally {
+			releaseParser(parser);
+		}
+		return scanner;
+	}
+
+	private static SAXParser acquireParser() throws ParserConfigurationException, SAXException {
+		SAXParser parser = parsers.poll();
+		if (parser == null) {
+			parser = newParser();
+		}
+		return parser;
+	}
+
+	private static void releaseParser(SAXParser parser) {
+		parser.reset();
+		parsers.offer(parser);
+	}
+
+	private static synchronized SAXParser newParser() throws ParserConfigurationException, SAXException {
+		if (factory == null) {
+			SAXParserFactory newFactory = SAXParserFactory.newInstance();
+			newFactory.setFeature("http://xml.org/sax/features/validation", false); //$NON-NLS-1$
+			newFactory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false); //$NON-NLS-1$
+			factory = newFactory;
+		}
+		return factory.newSAXParser();
+	}
+
+}
@@ -40,8 +40,6 @@ public class ConvertFromMarkupWizard extends Wizard {
 
 	private IFile epubFile;
 
-	private File epubFolder;
-
 	private IFile markupFile;
 
 	private File markupFolder = null;
@@ -110,7 +108,7 @@ public class ConvertFromMarkupWizard extends Wizard {
 						monitor.worked(1);
 						EPUB publication = new EPUB();
 						publication.add(oebps);
-						epubFolder = publication.pack(epubFile.getLocation().toFile());
+						publication.pack(epubFile.getLocation().toFile());
 						monitor.worked(1);
 						epubFile.refreshLocal(IResource.DEPTH_ONE, monitor);
 						monitor.worked(1);
@@ -124,7 +122,6 @@ public class ConvertFromMarkupWizard extends Wizard {
 						ms.add(new Status(IStatus.ERROR, EPUBUIPlugin.PLUGIN_ID, Messages.ConvertFromMarkupWizard_3,
 								e));
 					} finally {
-						deleteFolder(epubFolder);
 						deleteFolder(markupFolder);
 						monitor.done();
 					}
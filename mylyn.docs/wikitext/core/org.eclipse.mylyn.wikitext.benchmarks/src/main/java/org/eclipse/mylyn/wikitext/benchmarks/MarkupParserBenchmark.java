@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.wikitext.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.mylyn.wikitext.asciidoc.AsciiDocLanguage;
+import org.eclipse.mylyn.wikitext.commonmark.CommonMarkLanguage;
+import org.eclipse.mylyn.wikitext.confluence.ConfluenceLanguage;
+import org.eclipse.mylyn.wikitext.creole.CreoleLanguage;
+import org.eclipse.mylyn.wikitext.markdown.MarkdownLanguage;
+import org.eclipse.mylyn.wikitext.mediawiki.MediaWikiLanguage;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.builder.DocBookDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.NoOpDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.XslfoDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguage;
+import org.eclipse.mylyn.wikitext.textile.TextileLanguage;
+import org.eclipse.mylyn.wikitext.tracwiki.TracWikiLanguage;
+import org.eclipse.mylyn.wikitext.twiki.TWikiLanguage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link MarkupParser} throughput for each markup language emitting into each of the commonly used document
+ * builders, over corpora of increasing size. Run with {@link BenchmarkMain} to report allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class MarkupParserBenchmark {
+
+	public enum Language {
+		TEXTILE("sample.textile", TextileLanguage::new), //
+		MARKDOWN("sample.md", MarkdownLanguage::new), //
+		COMMONMARK("sample.commonmark", CommonMarkLanguage::new), //
+		MEDIAWIKI("sample.mediawiki", MediaWikiLanguage::new), //
+		CONFLUENCE("sample.confluence", ConfluenceLanguage::new), //
+		TRACWIKI("sample.tracwiki", TracWikiLanguage::new), //
+		TWIKI("sample.twiki", TWikiLanguage::new), //
+		CREOLE("sample.creole", CreoleLanguage::new), //
+		ASCIIDOC("sample.asciidoc", AsciiDocLanguage::new);
+
+		private final String sample;
+
+		private final Supplier<MarkupLanguage> factory;
+
+		Language(String sample, Supplier<MarkupLanguage> factory) {
+			this.sample = sample;
+			this.factory = factory;
+		}
+
+		String readSample() throws IOException {
+			try (InputStream in = MarkupParserBenchmark.class.getResourceAsStream(sample)) {
+				if (in == null) {
+					throw new IOException("Missing sample " + sample); //$NON-NLS-1$
+				}
+				return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+			}
+		}
+	}
+
+	public enum Builder {
+		HTML(HtmlDocumentBuilder::new), //
+		DOCBOOK(DocBookDocumentBuilder::new), //
+		XSLFO(XslfoDocumentBuilder::new), //
+		NOOP(out -> new NoOpDocumentBuilder());
+
+		private final Function<Writer, DocumentBuilder> factory;
+
+		Builder(Function<Writer, DocumentBuilder> factory) {
+			this.factory = factory;
+		}
+	}
+
+	public enum Corpus {
+		/**
+		 * a single sample document of a few kilobytes
+		 */
+		SMALL(0),
+		/**
+		 * the sample repeated to at least 256 kilobytes
+		 */
+		MEDIUM(256 * 1024),
+		/**
+		 * the sample repeated to at least 8 megabytes
+		 */
+		LARGE(8 * 1024 * 1024);
+
+		private final int minimumLength;
+
+		Corpus(int minimumLength) {
+			this.minimumLength = minimumLength;
+		}
+
+		String create(String sample) {
+			StringBuilder content = new StringBuilder(Math.max(minimumLength, sample.length()) + sample.length());
+			do {
+				content.append(sample).append("\n\n"); //$NON-NLS-1$
+			} while (content.length() < minimumLength);
+			return content.toString();
+		}
+	}
+
+	@Param
+	public Language language;
+
+	@Param
+	public Builder builder;
+
+	@Param
+	public Corpus corpus;
+
+	private MarkupLanguage markupLanguage;
+
+	private String content;
+
+	@Setup
+	public void setUp() throws IOException {
+		markupLanguage = language.factory.get();
+		content = corpus.create(language.readSample());
+	}
+
+	@Benchmark
+	public long parse() {
+		CountingWriter out = new CountingWriter();
+		MarkupParser parser = new MarkupParser(markupLanguage, builder.factory.apply(out));
+		parser.parse(content);
+		return out.count;
+	}
+
+	/**
+	 * Discards output while counting the characters written so that the cost of retaining the output is not measured.
+	 */
+	private static class CountingWriter extends Writer {
+
+		private long count;
+
+		@Override
+		public void write(int c) {
+			count++;
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+			count += len;
+		}
+
+		@Override
+		public void write(String str, int off, int len) {
+			count += len;
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
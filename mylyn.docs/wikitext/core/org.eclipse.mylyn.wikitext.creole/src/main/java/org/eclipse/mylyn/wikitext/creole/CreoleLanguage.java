@@ -115,6 +115,14 @@ public class CreoleLanguage extends AbstractMarkupLanguage {
 		return new ParagraphBlock();
 	}
 
+	/**
+	 * Blocks are processed a line at a time, so content read from a reader does not need to be buffered.
+	 */
+	@Override
+	protected boolean requiresMarkupContent() {
+		return false;
+	}
+
 	@Override
 	public DocumentBuilder createDocumentBuilder(Writer out, boolean formatting) {
 		return new CreoleDocumentBuilder(out);
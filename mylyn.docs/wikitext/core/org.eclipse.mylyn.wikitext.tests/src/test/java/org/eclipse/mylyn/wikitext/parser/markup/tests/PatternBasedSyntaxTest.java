@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.wikitext.parser.markup.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.eclipse.mylyn.wikitext.parser.markup.AbstractMarkupLanguage.PatternBasedSyntax;
+import org.eclipse.mylyn.wikitext.parser.markup.PatternBasedElement;
+import org.eclipse.mylyn.wikitext.parser.markup.PatternBasedElementProcessor;
+import org.junit.Before;
+import org.junit.Test;
+
+@SuppressWarnings("nls")
+public class PatternBasedSyntaxTest {
+
+	private static class TestElement extends PatternBasedElement {
+
+		private final String pattern;
+
+		private final int groupCount;
+
+		TestElement(String pattern, int groupCount) {
+			this.pattern = pattern;
+			this.groupCount = groupCount;
+		}
+
+		@Override
+		protected String getPattern(int groupOffset) {
+			return pattern;
+		}
+
+		@Override
+		protected int getPatternGroupCount() {
+			return groupCount;
+		}
+
+		@Override
+		protected PatternBasedElementProcessor newProcessor() {
+			return new TestProcessor(this);
+		}
+	}
+
+	private static class TestProcessor extends PatternBasedElementProcessor {
+
+		private final TestElement element;
+
+		TestProcessor(TestElement element) {
+			this.element = element;
+		}
+
+		@Override
+		public void emit() {
+		}
+
+		@SuppressWarnings("deprecation")
+		Map<Integer, ?> getGroupByIndex() {
+			return groupByIndex;
+		}
+	}
+
+	private PatternBasedSyntax syntax;
+
+	private TestElement bold;
+
+	private TestElement entity;
+
+	private TestElement acronym;
+
+	@Before
+	public void setUp() {
+		syntax = new PatternBasedSyntax();
+		bold = new TestElement("\\*(\\w+)\\*", 1);
+		entity = new TestElement("&(#?[a-z0-9]+);", 1);
+		acronym = new TestElement("(?:(?<=\\W)|^)([A-Z]{3,})(?:\\(([^\\)]+)\\))?", 2);
+		syntax.add(bold);
+		syntax.add(entity);
+		syntax.add(acronym);
+	}
+
+	@Test
+	public void findNoMatch() {
+		assertNull(syntax.findPatternBasedElement("plain text without markup", 0));
+		assertNull(syntax.findPatternBasedElement("", 0));
+	}
+
+	@Test
+	public void findFirstElement() {
+		TestProcessor processor = find("some *bold* text &amp; more", 0);
+		assertSame(bold, processor.element);
+		assertEquals(5, processor.getLineStartOffset());
+		assertEquals(11, processor.getLineEndOffset());
+		assertEquals("*bold*", processor.group(0));
+		assertEquals("bold", processor.group(1));
+		assertEquals(6, processor.start(1));
+		assertEquals(10, processor.end(1));
+		assertNull(processor.group(2));
+		assertEquals(-1, processor.start(2));
+	}
+
+	@Test
+	public void findFromOffset() {
+		TestProcessor processor = find("some *bold* text &amp; more", 11);
+		assertSame(entity, processor.element);
+		assertEquals(17, processor.getLineStartOffset());
+		assertEquals("amp", processor.group(1));
+	}
+
+	@Test
+	public void findOptionalGroup() {
+		TestProcessor processor = find("an ABC here", 0);
+		assertSame(acronym, processor.element);
+		assertEquals("ABC", processor.group(1));
+		assertNull(processor.group(2));
+		assertEquals(-1, processor.start(2));
+
+		processor = find("an ABC(A B C) here", 0);
+		assertEquals("A B C", processor.group(2));
+	}
+
+	@Test
+	public void findAnchoredAtOffset() {
+		// the start of the region is treated as the start of the line
+		TestProcessor processor = find("xABC", 1);
+		assertSame(acronym, processor.element);
+		assertEquals(1, processor.getLineStartOffset());
+
+		assertNull(syntax.findPatternBasedElement("xABC", 0));
+	}
+
+	@Test
+	public void findAfterAdd() {
+		assertNull(syntax.findPatternBasedElement("a ~tilde~ b", 0));
+
+		TestElement tilde = new TestElement("~(\\w+)~", 1);
+		syntax.add(tilde);
+
+		TestProcessor processor = find("a ~tilde~ b", 0);
+		assertSame(tilde, processor.element);
+		assertEquals("tilde", processor.group(1));
+	}
+
+	@Test
+	public void findAfterClear() {
+		syntax.clear();
+		assertNull(syntax.getPattern());
+		assertNull(syntax.findPatternBasedElement("some *bold* text", 0));
+	}
+
+	@Test
+	public void findNested() {
+		TestProcessor outer = find("*one* and *two*", 0);
+		TestProcessor inner = find("*two*", 0);
+		assertEquals("one", outer.group(1));
+		assertEquals("two", inner.group(1));
+		assertEquals(1, outer.start(1));
+	}
+
+	@Test
+	public void setGroupAfterFind() {
+		TestProcessor processor = find("some *bold* text", 0);
+		processor.setGroup(2, "extra", 0, 5);
+		assertEquals("extra", processor.group(2));
+		assertEquals("bold", processor.group(1));
+		assertEquals("*bold*", processor.group(0));
+	}
+
+	@Test
+	public void groupByIndexView() {
+		TestProcessor processor = find("some *bold* text", 0);
+		Map<Integer, ?> groupByIndex = processor.getGroupByIndex();
+		assertEquals(2, groupByIndex.size());
+		assertTrue(groupByIndex.containsKey(1));
+		assertNotNull(groupByIndex.get(1));
+		assertFalse(groupByIndex.containsKey(2));
+		assertNull(groupByIndex.get(2));
+
+		processor.setGroup(2, "extra", 0, 5);
+		assertEquals(3, groupByIndex.size());
+		assertEquals(3, groupByIndex.entrySet().size());
+		assertNotNull(groupByIndex.get(2));
+	}
+
+	private TestProcessor find(String text, int offset) {
+		return (TestProcessor) syntax.findPatternBasedElement(text, offset);
+	}
+}
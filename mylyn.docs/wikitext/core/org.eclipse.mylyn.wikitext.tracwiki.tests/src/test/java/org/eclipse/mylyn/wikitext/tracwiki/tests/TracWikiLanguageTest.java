@@ -15,14 +15,18 @@
  *******************************************************************************/
 package org.eclipse.mylyn.wikitext.tracwiki.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.regex.Pattern;
 
 import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguage;
 import org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguageConfiguration;
 import org.eclipse.mylyn.wikitext.tracwiki.TracWikiLanguage;
@@ -163,6 +167,18 @@ public class TracWikiLanguageTest {
 				.find());
 	}
 
+	@Test
+	public void testParseReader() throws IOException {
+		String markup = "= Heading =\n\nfirst para\nnew line\n\n{{{\ncode\n}}}\n * item '''bold'''\n";
+		String expected = parser.parseToHtml(markup);
+
+		StringWriter out = new StringWriter();
+		parser.setBuilder(new HtmlDocumentBuilder(out));
+		parser.parse(new StringReader(markup));
+
+		assertEquals(expected, out.toString());
+	}
+
 	@Test
 	public void testBoldItalic() {
 		String html = parser.parseToHtml("normal '''''bold italic text''''' normal");
@@ -306,4 +306,12 @@ public class TracWikiLanguage extends AbstractMarkupLanguage {
 		return new ParagraphBlock();
 	}
 
+	/**
+	 * Blocks are processed a line at a time, so content read from a reader does not need to be buffered.
+	 */
+	@Override
+	protected boolean requiresMarkupContent() {
+		return false;
+	}
+
 }
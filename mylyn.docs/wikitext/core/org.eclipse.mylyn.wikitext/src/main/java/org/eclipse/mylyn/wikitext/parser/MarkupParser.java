@@ -75,8 +75,15 @@ public class MarkupParser {
 		parse(markupContent, true);
 	}
 
+	/**
+	 * parse the given markup content. The content is read incrementally if the markup language
+	 * {@link MarkupLanguage#processContent(MarkupParser, Reader, boolean) supports it}, otherwise it is read fully before
+	 * parsing. Of the markup languages provided by WikiText only Creole and TracWiki read incrementally, all others need
+	 * the whole document, for example for a table of contents. The reader is not closed.
+	 */
 	public void parse(Reader markupContent, boolean asDocument) throws IOException {
-		parse(readFully(markupContent), asDocument);
+		checkState();
+		markupLanguage.processContent(this, markupContent, asDocument);
 	}
 
 	public void parse(String markupContent) {
@@ -84,22 +91,17 @@ public class MarkupParser {
 	}
 
 	public void parse(String markupContent, boolean asDocument) {
+		checkState();
+		markupLanguage.processContent(this, markupContent, asDocument);
+	}
+
+	private void checkState() {
 		if (markupLanguage == null) {
 			throw new IllegalStateException("markup language is not set"); //$NON-NLS-1$
 		}
 		if (builder == null) {
 			throw new IllegalStateException("builder is not set"); //$NON-NLS-1$
 		}
-		markupLanguage.processContent(this, markupContent, asDocument);
-	}
-
-	private String readFully(Reader reader) throws IOException {
-		StringWriter writer = new StringWriter();
-		int c;
-		while ((c = reader.read()) != -1) {
-			writer.write(c);
-		}
-		return writer.toString();
 	}
 
 	/**
@@ -15,14 +15,14 @@
 package org.eclipse.mylyn.wikitext.parser.markup;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Stack;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -86,11 +86,19 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 			groups.push(new Group());
 		}
 
+		private CompiledSyntax compiledSyntax;
+
+		/**
+		 * a matcher that may be reused by the next call to {@link #findPatternBasedElement(String, int)}, which is
+		 * reentrant since processors emit nested content
+		 */
+		private final AtomicReference<Matcher> reusableMatcher = new AtomicReference<>();
+
 		public PatternBasedSyntax() {
 		}
 
 		public void add(PatternBasedElement element) {
-			elementPattern = null;
+			invalidate();
 			elements.add(element);
 			if (groups.peek().count++ > 0) {
 				patternBuffer.append('|');
@@ -119,7 +127,7 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 		}
 
 		private void add(String regexFragment, int size, boolean beginGroup) {
-			elementPattern = null;
+			invalidate();
 			if (beginGroup) {
 				if (groups.peek().count++ > 0) {
 					patternBuffer.append('|');
@@ -137,32 +145,39 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 		}
 
 		public PatternBasedElementProcessor findPatternBasedElement(String lineText, int offset) {
-			Matcher matcher = getPattern().matcher(lineText);
-			if (offset > 0) {
-				matcher.region(offset, lineText.length());
+			CompiledSyntax syntax = getCompiledSyntax();
+			if (syntax == null) {
+				return null;
+			}
+			Matcher matcher = reusableMatcher.getAndSet(null);
+			if (matcher == null || matcher.pattern() != syntax.pattern) {
+				matcher = syntax.pattern.matcher(lineText);
+			} else {
+				matcher.reset(lineText);
 			}
-			if (matcher.find()) {
-				int size = elementGroup.size();
-				for (int x = 0; x < size; ++x) {
-					int group = elementGroup.get(x);
-					String value = matcher.group(group);
-					if (value != null) {
-						PatternBasedElement element = elements.get(x);
-						PatternBasedElementProcessor processor = element.newProcessor();
-						processor.setLineStartOffset(matcher.start());
-						processor.setLineEndOffset(matcher.end());
-						processor.setGroup(0, matcher.group(0), matcher.start(0), matcher.end(0));
-						for (int y = 0; y < element.getPatternGroupCount(); ++y) {
-							final int groupIndex = group + y + 1;
-							processor.setGroup(y + 1, matcher.group(groupIndex), matcher.start(groupIndex),
-									matcher.end(groupIndex));
+			try {
+				if (offset > 0) {
+					matcher.region(offset, lineText.length());
+				}
+				if (matcher.find()) {
+					int[] elementGroups = syntax.elementGroups;
+					for (int x = 0; x < elementGroups.length; ++x) {
+						int group = elementGroups[x];
+						if (matcher.start(group) != -1) {
+							PatternBasedElement element = elements.get(x);
+							PatternBasedElementProcessor processor = element.newProcessor();
+							processor.setLineStartOffset(matcher.start());
+							processor.setLineEndOffset(matcher.end());
+							processor.setGroups(lineText, matcher, group, element.getPatternGroupCount());
+							return processor;
 						}
-						return processor;
 					}
+					throw new IllegalStateException();
+				} else {
+					return null;
 				}
-				throw new IllegalStateException();
-			} else {
-				return null;
+			} finally {
+				reusableMatcher.set(matcher);
 			}
 		}
 
@@ -177,9 +192,35 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 			return elementPattern;
 		}
 
+		/**
+		 * Compiles the pattern used for finding elements, which is equivalent to {@link #getPattern()} but guarded
+		 * by a lookahead for the characters that can start an element when they can be determined. This allows the
+		 * regular expression engine to skip positions at which no element can start without trying every
+		 * alternative.
+		 */
+		private CompiledSyntax getCompiledSyntax() {
+			CompiledSyntax syntax = compiledSyntax;
+			if (syntax == null && patternBuffer.length() > 0) {
+				String regex = patternBuffer.toString();
+				String lookahead = FirstCharacterAnalyzer.createLookahead(regex);
+				Pattern pattern = lookahead == null
+						? getPattern()
+						: Pattern.compile(lookahead + "(?:" + regex + ")"); //$NON-NLS-1$ //$NON-NLS-2$
+				syntax = new CompiledSyntax(pattern, elementGroup);
+				compiledSyntax = syntax;
+			}
+			return syntax;
+		}
+
+		private void invalidate() {
+			elementPattern = null;
+			compiledSyntax = null;
+			reusableMatcher.set(null);
+		}
+
 		public void clear() {
 			elements.clear();
-			elementPattern = null;
+			invalidate();
 			elementGroup.clear();
 			patternBuffer.delete(0, patternBuffer.length());
 			patternGroup = 0;
@@ -189,6 +230,18 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 
 	}
 
+	private static class CompiledSyntax {
+
+		final Pattern pattern;
+
+		final int[] elementGroups;
+
+		CompiledSyntax(Pattern pattern, List<Integer> elementGroup) {
+			this.pattern = pattern;
+			elementGroups = elementGroup.stream().mapToInt(Integer::intValue).toArray();
+		}
+	}
+
 	private static class LineState {
 		int lineOffset;
 
@@ -231,6 +284,46 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 
 	@Override
 	public void processContent(MarkupParser parser, String markupContent, boolean asDocument) {
+		try {
+			processContent(parser, markupContent, new StringReader(markupContent), asDocument);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Processes markup content read from the given reader. If the markup language {@link #requiresMarkupContent()
+	 * requires the full markup content} it is read before processing, otherwise lines are processed as they are read.
+	 */
+	@Override
+	public void processContent(MarkupParser parser, Reader markupContent, boolean asDocument) throws IOException {
+		if (requiresMarkupContent()) {
+			super.processContent(parser, markupContent, asDocument);
+		} else {
+			processContent(parser, null, markupContent, asDocument);
+		}
+	}
+
+	/**
+	 * Indicates if this markup language requires the full {@link ContentState#getMarkupContent() markup content} while
+	 * processing, for example to look ahead of the current line or to build a table of contents. Markup languages that
+	 * only process content a line at a time may override to return false, in which case content read from a
+	 * {@link Reader} is not buffered and {@link ContentState#getMarkupContent()} is null. The default implementation
+	 * returns true.
+	 * <p>
+	 * Of the markup languages provided by WikiText only Creole and TracWiki return false. The others need the whole
+	 * document: their table of contents blocks outline the complete content, Textile numbers footnotes in a first pass,
+	 * MediaWiki expands templates before parsing and Markdown looks ahead of the current line.
+	 * </p>
+	 *
+	 * @since 4.5
+	 */
+	protected boolean requiresMarkupContent() {
+		return true;
+	}
+
+	private void processContent(MarkupParser parser, String markupContent, Reader in, boolean asDocument)
+			throws IOException {
 		initializeSyntax(false);
 		initProcessors();
 		ContentState state = newContentState();
@@ -239,7 +332,8 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 		DocumentBuilder builder = parser.getBuilder();
 		builder.setLocator(state);
 
-		try (LocationTrackingReader reader = new LocationTrackingReader(new StringReader(markupContent))) {
+		try {
+			LocationTrackingReader reader = new LocationTrackingReader(in);
 			if (asDocument) {
 				builder.beginDocument();
 			}
@@ -247,95 +341,90 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 			Stack<LineState> lineStates = null;
 			String line;
 			Block currentBlock = null;
-			try {
-				line = reader.readLine();
-				int lineOffset = 0;
-				while (line != null) {
-
-					state.setLineNumber(reader.getLineNumber() + 1);
-					state.setLineOffset(reader.getLineOffset());
-					state.setLineCharacterOffset(lineOffset);
-					state.setLineSegmentEndOffset(0);
-					state.setLineLength(line.length());
-
-					for (;;) {
-						popClosedBlocks(nestedBlocks);
+			line = reader.readLine();
+			int lineOffset = 0;
+			while (line != null) {
+
+				state.setLineNumber(reader.getLineNumber() + 1);
+				state.setLineOffset(reader.getLineOffset());
+				state.setLineCharacterOffset(lineOffset);
+				state.setLineSegmentEndOffset(0);
+				state.setLineLength(line.length());
+
+				for (;;) {
+					popClosedBlocks(nestedBlocks);
+					if (nestedBlocks != null && !nestedBlocks.isEmpty()) {
+						Block nestedParent = nestedBlocks.peek();
+						int closeOffset = nestedParent.findCloseOffset(line, lineOffset);
+						if (closeOffset != -1) {
+							if (closeOffset > lineOffset) {
+								String truncatedLine = line.substring(0, closeOffset);
+								if (lineStates == null) {
+									lineStates = new Stack<>();
+								}
+								lineStates.push(new LineState(line, closeOffset));
+								line = truncatedLine;
+							} else {
+								if (currentBlock != null) {
+									currentBlock.setClosed(true);
+									currentBlock = null;
+								}
+								currentBlock = nestedBlocks.pop();
+								lineOffset = closeOffset;
+								state.setLineCharacterOffset(lineOffset);
+							}
+						}
+					}
+					if (currentBlock == null) {
 						if (nestedBlocks != null && !nestedBlocks.isEmpty()) {
 							Block nestedParent = nestedBlocks.peek();
-							int closeOffset = nestedParent.findCloseOffset(line, lineOffset);
-							if (closeOffset != -1) {
-								if (closeOffset > lineOffset) {
-									String truncatedLine = line.substring(0, closeOffset);
-									if (lineStates == null) {
-										lineStates = new Stack<>();
-									}
-									lineStates.push(new LineState(line, closeOffset));
-									line = truncatedLine;
-								} else {
-									if (currentBlock != null) {
-										currentBlock.setClosed(true);
-										currentBlock = null;
-									}
-									currentBlock = nestedBlocks.pop();
-									lineOffset = closeOffset;
-									state.setLineCharacterOffset(lineOffset);
-								}
+							if (nestedParent.canResume(line, lineOffset)) {
+								currentBlock = nestedBlocks.pop();
 							}
 						}
 						if (currentBlock == null) {
-							if (nestedBlocks != null && !nestedBlocks.isEmpty()) {
-								Block nestedParent = nestedBlocks.peek();
-								if (nestedParent.canResume(line, lineOffset)) {
-									currentBlock = nestedBlocks.pop();
-								}
-							}
+							currentBlock = startBlock(line, lineOffset);
 							if (currentBlock == null) {
-								currentBlock = startBlock(line, lineOffset);
-								if (currentBlock == null) {
-									break;
-								}
-								currentBlock.setMarkupLanguage(this);
-								currentBlock.setState(state);
-								currentBlock.setParser(parser);
-							}
-						}
-						lineOffset = currentBlock.processLineContent(line, lineOffset);
-						if (currentBlock.isClosed()) {
-							currentBlock = null;
-						} else if (currentBlock.beginNesting()) {
-							if (nestedBlocks == null) {
-								nestedBlocks = new Stack<>();
+								break;
 							}
-							nestedBlocks.push(currentBlock);
-							currentBlock = null;
+							currentBlock.setMarkupLanguage(this);
+							currentBlock.setState(state);
+							currentBlock.setParser(parser);
 						}
-						if (lineOffset < line.length() && lineOffset >= 0) {
-							if (currentBlock != null) {
-								throw new IllegalStateException(String.format(
-										"if a block does not fully process a line then it must be closed, at or near line %s lineOffset %s, block %s", //$NON-NLS-1$
-										reader.getLineNumber(), lineOffset, currentBlock.getClass().getName()));
-							}
-						} else {
-							break;
+					}
+					lineOffset = currentBlock.processLineContent(line, lineOffset);
+					if (currentBlock.isClosed()) {
+						currentBlock = null;
+					} else if (currentBlock.beginNesting()) {
+						if (nestedBlocks == null) {
+							nestedBlocks = new Stack<>();
 						}
+						nestedBlocks.push(currentBlock);
+						currentBlock = null;
 					}
-					if (lineStates != null && !lineStates.isEmpty()) {
-						LineState lineState = lineStates.pop();
-						line = lineState.line;
-						lineOffset = lineState.lineOffset;
+					if (lineOffset < line.length() && lineOffset >= 0) {
+						if (currentBlock != null) {
+							throw new IllegalStateException(String.format(
+									"if a block does not fully process a line then it must be closed, at or near line %s lineOffset %s, block %s", //$NON-NLS-1$
+									reader.getLineNumber(), lineOffset, currentBlock.getClass().getName()));
+						}
 					} else {
-						lineOffset = 0;
-						line = reader.readLine();
+						break;
 					}
 				}
-				state.setLineNumber(reader.getLineNumber() + 1);
-				state.setLineOffset(reader.getLineOffset());
-				state.setLineCharacterOffset(0);
-				state.setLineLength(0);
-
-			} catch (IOException e) {
-				throw new IllegalStateException(e);
+				if (lineStates != null && !lineStates.isEmpty()) {
+					LineState lineState = lineStates.pop();
+					line = lineState.line;
+					lineOffset = lineState.lineOffset;
+				} else {
+					lineOffset = 0;
+					line = reader.readLine();
+				}
 			}
+			state.setLineNumber(reader.getLineNumber() + 1);
+			state.setLineOffset(reader.getLineOffset());
+			state.setLineCharacterOffset(0);
+			state.setLineLength(0);
 
 			if (currentBlock != null && !currentBlock.isClosed()) {
 				currentBlock.setClosed(true);
@@ -354,8 +443,6 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 				builder.endDocument();
 			}
 			builder.flush();
-		} catch (IOException e) {
-			Logger.getLogger(getClass().getName()).log(Level.SEVERE, e.getMessage(), e);
 		} finally {
 			builder.setLocator(null);
 		}
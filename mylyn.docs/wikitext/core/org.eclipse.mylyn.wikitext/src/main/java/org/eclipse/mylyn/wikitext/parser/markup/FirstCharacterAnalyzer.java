@@ -0,0 +1,455 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.wikitext.parser.markup;
+
+import java.util.BitSet;
+
+/**
+ * Computes the set of characters that can start a match of a regular expression. The analysis is conservative: if a
+ * construct is not understood, or the expression can match the empty string, no set is computed. Used by
+ * {@link AbstractMarkupLanguage.PatternBasedSyntax} to guard its combined pattern with a single character class so that
+ * positions at which no element can start are rejected without trying every alternative.
+ */
+class FirstCharacterAnalyzer {
+
+	private static class UnsupportedSyntaxException extends Exception {
+
+		private static final long serialVersionUID = 1L;
+
+	}
+
+	private static class Result {
+
+		final BitSet characters = new BitSet();
+
+		boolean any;
+
+		boolean nullable;
+
+		void add(Result other) {
+			characters.or(other.characters);
+			any |= other.any;
+		}
+
+		static Result nullable() {
+			Result result = new Result();
+			result.nullable = true;
+			return result;
+		}
+
+		static Result any() {
+			Result result = new Result();
+			result.any = true;
+			return result;
+		}
+
+		static Result of(char c) {
+			Result result = new Result();
+			if (Character.isSurrogate(c)) {
+				result.any = true;
+			} else {
+				result.characters.set(c);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Returns a lookahead such as <code>(?=[ab])</code> that matches the characters that can start a match of the
+	 * given regular expression, or null if they cannot be determined.
+	 */
+	static String createLookahead(String regex) {
+		BitSet characters = analyze(regex);
+		if (characters == null) {
+			return null;
+		}
+		StringBuilder lookahead = new StringBuilder("(?=["); //$NON-NLS-1$
+		int start = characters.nextSetBit(0);
+		while (start >= 0) {
+			int end = characters.nextClearBit(start) - 1;
+			appendCharacter(lookahead, start);
+			if (end > start) {
+				lookahead.append('-');
+				appendCharacter(lookahead, end);
+			}
+			start = characters.nextSetBit(end + 1);
+		}
+		return lookahead.append("])").toString(); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the characters that can start a match of the given regular expression, or null if they cannot be
+	 * determined.
+	 */
+	static BitSet analyze(String regex) {
+		FirstCharacterAnalyzer analyzer = new FirstCharacterAnalyzer(regex);
+		try {
+			Result result = analyzer.alternation();
+			if (analyzer.index != regex.length() || result.any || result.nullable
+					|| result.characters.isEmpty()) {
+				return null;
+			}
+			return result.characters;
+		} catch (UnsupportedSyntaxException e) {
+			return null;
+		}
+	}
+
+	private static void appendCharacter(StringBuilder buffer, int c) {
+		buffer.append(String.format("\\u%04x", c)); //$NON-NLS-1$
+	}
+
+	private final String regex;
+
+	private int index;
+
+	private FirstCharacterAnalyzer(String regex) {
+		this.regex = regex;
+	}
+
+	private Result alternation() throws UnsupportedSyntaxException {
+		Result result = sequence();
+		while (index < regex.length() && regex.charAt(index) == '|') {
+			++index;
+			Result alternative = sequence();
+			result.add(alternative);
+			result.nullable |= alternative.nullable;
+		}
+		return result;
+	}
+
+	private Result sequence() throws UnsupportedSyntaxException {
+		Result result = Result.nullable();
+		while (index < regex.length()) {
+			char c = regex.charAt(index);
+			if (c == '|' || c == ')') {
+				break;
+			}
+			Result atom = atom();
+			boolean optional = quantifier();
+			if (result.nullable) {
+				result.add(atom);
+				result.nullable = atom.nullable || optional;
+			}
+		}
+		return result;
+	}
+
+	private Result atom() throws UnsupportedSyntaxException {
+		char c = regex.charAt(index++);
+		switch (c) {
+		case '(':
+			return group();
+		case '[':
+			return characterClass();
+		case '\\':
+			return escape();
+		case '.':
+			return Result.any();
+		case '^':
+		case '$':
+			return Result.nullable();
+		case '*':
+		case '+':
+		case '?':
+		case '{':
+			throw new UnsupportedSyntaxException();
+		default:
+			return Result.of(c);
+		}
+	}
+
+	private Result group() throws UnsupportedSyntaxException {
+		boolean lookaround = false;
+		if (regex.startsWith("?", index)) { //$NON-NLS-1$
+			if (regex.startsWith("?:", index) || regex.startsWith("?>", index)) { //$NON-NLS-1$ //$NON-NLS-2$
+				index += 2;
+			} else if (regex.startsWith("?=", index) || regex.startsWith("?!", index)) { //$NON-NLS-1$ //$NON-NLS-2$
+				index += 2;
+				lookaround = true;
+			} else if (regex.startsWith("?<=", index) || regex.startsWith("?<!", index)) { //$NON-NLS-1$ //$NON-NLS-2$
+				index += 3;
+				lookaround = true;
+			} else if (regex.startsWith("?<", index)) { //$NON-NLS-1$
+				int end = regex.indexOf('>', index);
+				if (end == -1) {
+					throw new UnsupportedSyntaxException();
+				}
+				index = end + 1;
+			} else {
+				// inline flags may change how characters are matched
+				throw new UnsupportedSyntaxException();
+			}
+		}
+		Result result = alternation();
+		if (index >= regex.length() || regex.charAt(index) != ')') {
+			throw new UnsupportedSyntaxException();
+		}
+		++index;
+		return lookaround ? Result.nullable() : result;
+	}
+
+	private Result characterClass() throws UnsupportedSyntaxException {
+		Result result = new Result();
+		if (index < regex.length() && regex.charAt(index) == '^') {
+			result.any = true;
+			++index;
+		}
+		int previous = -1;
+		while (index < regex.length()) {
+			char c = regex.charAt(index++);
+			int current;
+			if (c == ']') {
+				return result;
+			} else if (c == '[' || (c == '&' && regex.startsWith("&", index))) { //$NON-NLS-1$
+				throw new UnsupportedSyntaxException();
+			} else if (c == '-' && previous != -1 && index < regex.length() && regex.charAt(index) != ']') {
+				int end = classCharacter(regex.charAt(index++));
+				if (end == -1 || end < previous) {
+					throw new UnsupportedSyntaxException();
+				}
+				if (isSurrogateRange(previous, end)) {
+					result.any = true;
+				} else {
+					result.characters.set(previous, end + 1);
+				}
+				previous = -1;
+				continue;
+			} else {
+				current = classCharacter(c);
+			}
+			if (current == -1) {
+				result.any = true;
+			} else if (Character.isSurrogate((char) current)) {
+				result.any = true;
+			} else {
+				result.characters.set(current);
+			}
+			previous = current;
+		}
+		throw new UnsupportedSyntaxException();
+	}
+
+	private static boolean isSurrogateRange(int start, int end) {
+		return end >= Character.MIN_SURROGATE && start <= Character.MAX_SURROGATE;
+	}
+
+	/**
+	 * Returns the character denoted by a character class member starting with <code>c</code>, or -1 if the member
+	 * denotes a set of characters.
+	 */
+	private int classCharacter(char c) throws UnsupportedSyntaxException {
+		if (c != '\\') {
+			return c;
+		}
+		if (index >= regex.length()) {
+			throw new UnsupportedSyntaxException();
+		}
+		char escaped = regex.charAt(index++);
+		if (escaped == 'Q' || escaped == 'E') {
+			throw new UnsupportedSyntaxException();
+		}
+		return escapedCharacter(escaped);
+	}
+
+	private Result escape() throws UnsupportedSyntaxException {
+		if (index >= regex.length()) {
+			throw new UnsupportedSyntaxException();
+		}
+		char escaped = regex.charAt(index++);
+		switch (escaped) {
+		case 'Q': {
+			int end = regex.indexOf("\\E", index); //$NON-NLS-1$
+			if (end == -1) {
+				end = regex.length();
+			}
+			Result result = end == index ? Result.nullable() : Result.of(regex.charAt(index));
+			index = Math.min(end + 2, regex.length());
+			return result;
+		}
+		case 'b':
+		case 'B':
+		case 'A':
+		case 'G':
+		case 'Z':
+		case 'z':
+			return Result.nullable();
+		case 'k': {
+			int end = regex.indexOf('>', index);
+			if (end == -1) {
+				throw new UnsupportedSyntaxException();
+			}
+			index = end + 1;
+			return anyOrEmpty();
+		}
+		default:
+			if (escaped >= '1' && escaped <= '9') {
+				while (index < regex.length() && Character.isDigit(regex.charAt(index))) {
+					++index;
+				}
+				return anyOrEmpty();
+			}
+			int c = escapedCharacter(escaped);
+			return c == -1 ? Result.any() : Result.of((char) c);
+		}
+	}
+
+	/**
+	 * a back reference may match any text, including the empty string
+	 */
+	private static Result anyOrEmpty() {
+		Result result = Result.any();
+		result.nullable = true;
+		return result;
+	}
+
+	/**
+	 * Returns the character denoted by an escape sequence, or -1 if the escape denotes a set of characters.
+	 */
+	private int escapedCharacter(char escaped) throws UnsupportedSyntaxException {
+		switch (escaped) {
+		case 't':
+			return '\t';
+		case 'n':
+			return '\n';
+		case 'r':
+			return '\r';
+		case 'f':
+			return '\f';
+		case 'a':
+			return '\u0007';
+		case 'e':
+			return '\u001B';
+		case 'x':
+			if (regex.startsWith("{", index)) { //$NON-NLS-1$
+				int end = regex.indexOf('}', index);
+				if (end == -1) {
+					throw new UnsupportedSyntaxException();
+				}
+				int codePoint = hex(index + 1, end);
+				index = end + 1;
+				return codePoint > Character.MAX_VALUE ? -1 : codePoint;
+			}
+			index += 2;
+			return hex(index - 2, index);
+		case 'u':
+			index += 4;
+			return hex(index - 4, index);
+		case '0': {
+			int start = index;
+			while (index < regex.length() && index - start < 3 && regex.charAt(index) >= '0'
+					&& regex.charAt(index) <= '7') {
+				++index;
+			}
+			if (start == index) {
+				throw new UnsupportedSyntaxException();
+			}
+			return Integer.parseInt(regex.substring(start, index), 8);
+		}
+		case 'c':
+			if (index >= regex.length()) {
+				throw new UnsupportedSyntaxException();
+			}
+			return regex.charAt(index++) ^ 64;
+		case 'p':
+		case 'P':
+			if (regex.startsWith("{", index)) { //$NON-NLS-1$
+				int end = regex.indexOf('}', index);
+				if (end == -1) {
+					throw new UnsupportedSyntaxException();
+				}
+				index = end + 1;
+			} else {
+				++index;
+			}
+			return -1;
+		case 'd':
+		case 'D':
+		case 'w':
+		case 'W':
+		case 's':
+		case 'S':
+		case 'h':
+		case 'H':
+		case 'v':
+		case 'V':
+		case 'R':
+		case 'X':
+		case 'N':
+			return -1;
+		default:
+			if (Character.isLetterOrDigit(escaped)) {
+				throw new UnsupportedSyntaxException();
+			}
+			return escaped;
+		}
+	}
+
+	private int hex(int start, int end) throws UnsupportedSyntaxException {
+		if (end > regex.length() || start >= end) {
+			throw new UnsupportedSyntaxException();
+		}
+		try {
+			return Integer.parseInt(regex.substring(start, end), 16);
+		} catch (NumberFormatException e) {
+			throw new UnsupportedSyntaxException();
+		}
+	}
+
+	/**
+	 * Consumes a quantifier following an atom, if any.
+	 *
+	 * @return true if the quantifier allows the atom to be matched zero times
+	 */
+	private boolean quantifier() throws UnsupportedSyntaxException {
+		if (index >= regex.length()) {
+			return false;
+		}
+		boolean optional;
+		char c = regex.charAt(index);
+		switch (c) {
+		case '?':
+		case '*':
+			optional = true;
+			++index;
+			break;
+		case '+':
+			optional = false;
+			++index;
+			break;
+		case '{': {
+			int end = regex.indexOf('}', index);
+			if (end == -1) {
+				throw new UnsupportedSyntaxException();
+			}
+			String bounds = regex.substring(index + 1, end);
+			int comma = bounds.indexOf(',');
+			String minimum = comma == -1 ? bounds : bounds.substring(0, comma);
+			try {
+				optional = Integer.parseInt(minimum.trim()) == 0;
+			} catch (NumberFormatException e) {
+				throw new UnsupportedSyntaxException();
+			}
+			index = end + 1;
+			break;
+		}
+		default:
+			return false;
+		}
+		if (index < regex.length() && (regex.charAt(index) == '?' || regex.charAt(index) == '+')) {
+			++index;
+		}
+		return optional;
+	}
+}
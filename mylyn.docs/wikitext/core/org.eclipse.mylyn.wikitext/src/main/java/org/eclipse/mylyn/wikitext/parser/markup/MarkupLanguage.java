@@ -15,6 +15,8 @@ package org.eclipse.mylyn.wikitext.parser.markup;
 
 import static org.eclipse.mylyn.wikitext.util.Preconditions.checkArgument;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
 import java.util.Collections;
 import java.util.Objects;
@@ -151,6 +153,27 @@ public abstract class MarkupLanguage implements Cloneable {
 
 	public abstract void processContent(MarkupParser parser, String markupContent, boolean asDocument);
 
+	/**
+	 * Processes markup content read from the given reader. The default implementation reads the content fully and
+	 * delegates to {@link #processContent(MarkupParser, String, boolean)}; subclasses that can process content a line
+	 * at a time may override to avoid holding the whole document in memory. The reader is not closed.
+	 *
+	 * @since 4.5
+	 */
+	public void processContent(MarkupParser parser, Reader markupContent, boolean asDocument) throws IOException {
+		processContent(parser, readFully(markupContent), asDocument);
+	}
+
+	private static String readFully(Reader reader) throws IOException {
+		StringBuilder buffer = new StringBuilder(8192);
+		char[] chars = new char[8192];
+		int length;
+		while ((length = reader.read(chars)) != -1) {
+			buffer.append(chars, 0, length);
+		}
+		return buffer.toString();
+	}
+
 	/**
 	 * Creates a {@link DocumentBuilder} suitable for emitting content in this markup language. Equivalent to
 	 * {@code createDocumentBuilder(out,false)}.
@@ -12,8 +12,13 @@
  *******************************************************************************/
 package org.eclipse.mylyn.wikitext.parser.markup;
 
-import java.util.HashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.regex.Matcher;
 
 /**
@@ -29,7 +34,14 @@ public abstract class PatternBasedElementProcessor extends Processor
 
 	protected int lineEndOffset;
 
-	protected Map<Integer, Group> groupByIndex;
+	/**
+	 * a view of the captured groups by their index
+	 *
+	 * @deprecated use {@link #group(int)}, {@link #start(int)} and {@link #end(int)} instead, groups are no longer
+	 *             stored in a map
+	 */
+	@Deprecated
+	protected Map<Integer, Group> groupByIndex = new GroupMap();
 
 	private static class Group {
 		private final String text;
@@ -45,6 +57,82 @@ public abstract class PatternBasedElementProcessor extends Processor
 		}
 	}
 
+	/**
+	 * Provides the groups that are stored in arrays through the {@link Map} interface of {@link #groupByIndex}.
+	 */
+	private class GroupMap extends AbstractMap<Integer, Group> {
+
+		@Override
+		public Group get(Object key) {
+			if (!containsKey(key)) {
+				return null;
+			}
+			int index = (Integer) key;
+			return new Group(group(index), start(index), end(index));
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return key instanceof Integer && (Integer) key >= 0 && (Integer) key < size();
+		}
+
+		@Override
+		public int size() {
+			return groupStart == null ? 0 : groupStart.length;
+		}
+
+		@Override
+		public Group put(Integer key, Group value) {
+			Group previous = get(key);
+			setGroup(key, value.text, value.start, value.end);
+			return previous;
+		}
+
+		@Override
+		public Set<Entry<Integer, Group>> entrySet() {
+			return new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<Integer, Group>> iterator() {
+					return new Iterator<>() {
+
+						private int index;
+
+						@Override
+						public boolean hasNext() {
+							return index < size();
+						}
+
+						@Override
+						public Entry<Integer, Group> next() {
+							if (!hasNext()) {
+								throw new NoSuchElementException();
+							}
+							Integer key = index++;
+							return new SimpleImmutableEntry<>(key, get(key));
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return GroupMap.this.size();
+				}
+			};
+		}
+	}
+
+	/**
+	 * the text from which the text of groups is extracted when first requested, or null if all groups have been
+	 * extracted
+	 */
+	private String groupSource;
+
+	private String[] groupText;
+
+	private int[] groupStart;
+
+	private int[] groupEnd;
+
 	/**
 	 * Set the captured text for the given group.
 	 *
@@ -55,10 +143,50 @@ public abstract class PatternBasedElementProcessor extends Processor
 	 * @see #group(int)
 	 */
 	public void setGroup(int group, String capturedText, int start, int end) {
-		if (groupByIndex == null) {
-			groupByIndex = new HashMap<>();
+		if (groupSource != null) {
+			for (int x = 0; x < groupStart.length; ++x) {
+				group(x);
+			}
+			groupSource = null;
+		}
+		ensureGroupCapacity(group + 1);
+		groupText[group] = capturedText;
+		groupStart[group] = start;
+		groupEnd[group] = end;
+	}
+
+	/**
+	 * Set the groups from the current match of the given matcher without extracting their text, which is only done
+	 * when it is {@link #group(int) requested}.
+	 *
+	 * @param text
+	 *            the text being matched
+	 * @param groupOffset
+	 *            the group of the matcher that corresponds to group 0 of this processor
+	 * @param groupCount
+	 *            the number of groups following the group at the offset
+	 */
+	void setGroups(String text, Matcher matcher, int groupOffset, int groupCount) {
+		groupSource = text;
+		ensureGroupCapacity(groupCount + 1);
+		Arrays.fill(groupText, null);
+		groupStart[0] = matcher.start();
+		groupEnd[0] = matcher.end();
+		for (int x = 1; x <= groupCount; ++x) {
+			groupStart[x] = matcher.start(groupOffset + x);
+			groupEnd[x] = matcher.end(groupOffset + x);
+		}
+	}
+
+	private void ensureGroupCapacity(int capacity) {
+		int size = groupStart == null ? 0 : groupStart.length;
+		if (size < capacity) {
+			groupText = groupText == null ? new String[capacity] : Arrays.copyOf(groupText, capacity);
+			groupStart = groupStart == null ? new int[capacity] : Arrays.copyOf(groupStart, capacity);
+			groupEnd = groupEnd == null ? new int[capacity] : Arrays.copyOf(groupEnd, capacity);
+			Arrays.fill(groupStart, size, capacity, -1);
+			Arrays.fill(groupEnd, size, capacity, -1);
 		}
-		groupByIndex.put(group, new Group(capturedText, start, end));
 	}
 
 	/**
@@ -97,11 +225,15 @@ public abstract class PatternBasedElementProcessor extends Processor
 	 */
 	@Override
 	public String group(int groupNumber) {
-		if (groupByIndex == null) {
+		if (groupStart == null || groupNumber < 0 || groupNumber >= groupStart.length) {
 			return null;
 		}
-		Group group = groupByIndex.get(groupNumber);
-		return group == null ? null : group.text;
+		String text = groupText[groupNumber];
+		if (text == null && groupSource != null && groupStart[groupNumber] != -1) {
+			text = groupSource.substring(groupStart[groupNumber], groupEnd[groupNumber]);
+			groupText[groupNumber] = text;
+		}
+		return text;
 	}
 
 	/**
@@ -114,11 +246,10 @@ public abstract class PatternBasedElementProcessor extends Processor
 	 */
 	@Override
 	public int start(int groupNumber) {
-		if (groupByIndex == null) {
+		if (groupStart == null || groupNumber < 0 || groupNumber >= groupStart.length) {
 			return -1;
 		}
-		Group group = groupByIndex.get(groupNumber);
-		return group == null ? -1 : group.start;
+		return groupStart[groupNumber];
 	}
 
 	/**
@@ -131,11 +262,10 @@ public abstract class PatternBasedElementProcessor extends Processor
 	 */
 	@Override
 	public int end(int groupNumber) {
-		if (groupByIndex == null) {
+		if (groupEnd == null || groupNumber < 0 || groupNumber >= groupEnd.length) {
 			return -1;
 		}
-		Group group = groupByIndex.get(groupNumber);
-		return group == null ? -1 : group.end;
+		return groupEnd[groupNumber];
 	}
 
 	/**
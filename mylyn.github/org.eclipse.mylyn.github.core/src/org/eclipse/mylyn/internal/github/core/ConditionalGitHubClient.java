@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.internal.github.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.egit.github.core.client.GitHubClient;
+import org.eclipse.egit.github.core.client.GitHubRequest;
+import org.eclipse.egit.github.core.client.IGitHubConstants;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+
+/**
+ * GitHub client that sends conditional requests for resources that were retrieved before. GitHub answers with
+ * <code>304 Not Modified</code> if the resource has not changed since, which does not count against the rate limit,
+ * and the previous response is returned.
+ */
+public class ConditionalGitHubClient extends GitHubClient {
+
+	/**
+	 * Previous responses by request, shared by the clients of a connector. The least recently used responses are
+	 * discarded when the cache exceeds its maximum number of entries.
+	 */
+	public static class ResponseCache {
+
+		private static final int DEFAULT_MAX_ENTRIES = 1000;
+
+		private final Map<String, CachedResponse> responses;
+
+		/**
+		 * Create response cache with default maximum number of entries
+		 */
+		public ResponseCache() {
+			this(DEFAULT_MAX_ENTRIES);
+		}
+
+		/**
+		 * Create response cache
+		 *
+		 * @param maxEntries
+		 */
+		public ResponseCache(final int maxEntries) {
+			responses = Collections.synchronizedMap(new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+					return size() > maxEntries;
+				}
+			});
+		}
+
+		CachedResponse get(String key) {
+			return responses.get(key);
+		}
+
+		void put(String key, CachedResponse response) {
+			responses.put(key, response);
+		}
+
+		/**
+		 * Get number of cached responses
+		 *
+		 * @return size
+		 */
+		public int size() {
+			return responses.size();
+		}
+
+		/**
+		 * Discard all cached responses
+		 */
+		public void clear() {
+			responses.clear();
+		}
+
+	}
+
+	private static class CachedResponse {
+
+		private final String etag;
+
+		private final Object body;
+
+		CachedResponse(String etag, Object body) {
+			this.etag = etag;
+			this.body = body;
+		}
+
+	}
+
+	/** PAGE_SIZE */
+	public static final int PAGE_SIZE = 100;
+
+	private static final String HEADER_ETAG = "ETag"; //$NON-NLS-1$
+
+	private static final String HEADER_IF_NONE_MATCH = "If-None-Match"; //$NON-NLS-1$
+
+	private static final String PARAM_PER_PAGE = "per_page"; //$NON-NLS-1$
+
+	private static final String PARAM_PAGE = "page"; //$NON-NLS-1$
+
+	/**
+	 * Create client for task repository
+	 *
+	 * @param repository
+	 * @param cache
+	 * @return client
+	 */
+	public static ConditionalGitHubClient createClient(TaskRepository repository, ResponseCache cache) {
+		String host;
+		try {
+			host = new URL(repository.getRepositoryUrl()).getHost();
+		} catch (MalformedURLException e) {
+			throw new IllegalArgumentException(e);
+		}
+		if (IGitHubConstants.HOST_DEFAULT.equals(host) || IGitHubConstants.HOST_GISTS.equals(host)) {
+			host = IGitHubConstants.HOST_API;
+		}
+		ConditionalGitHubClient client = new ConditionalGitHubClient(host, cache);
+		GitHub.addCredentials(client, repository);
+		GitHub.configureClient(client);
+		return client;
+	}
+
+	private final String hostname;
+
+	private final ResponseCache cache;
+
+	/**
+	 * Create client
+	 *
+	 * @param hostname
+	 * @param cache
+	 */
+	public ConditionalGitHubClient(String hostname, ResponseCache cache) {
+		super(hostname);
+		this.hostname = hostname;
+		this.cache = cache;
+	}
+
+	/**
+	 * Get resource at uri. A conditional request is sent if the resource was retrieved before.
+	 *
+	 * @param uri
+	 * @param type
+	 * @return resource
+	 * @throws IOException
+	 */
+	public <V> V getConditional(String uri, Class<V> type) throws IOException {
+		GitHubRequest request = new GitHubRequest().setUri(uri).setType(type);
+		String key = hostname + '\n' + getUser() + '\n' + request.generateUri();
+		CachedResponse cached = cache.get(key);
+
+		HttpURLConnection connection = createGet(request.generateUri());
+		if (cached != null) {
+			connection.setRequestProperty(HEADER_IF_NONE_MATCH, cached.etag);
+		}
+		int code = connection.getResponseCode();
+		updateRateLimits(connection);
+		if (code == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+			return type.cast(cached.body);
+		}
+		InputStream stream = getStream(connection);
+		if (!isOk(code)) {
+			throw createException(stream, code, connection.getResponseMessage());
+		}
+		Object body = getBody(request, stream);
+		String etag = connection.getHeaderField(HEADER_ETAG);
+		if (etag != null && body != null) {
+			cache.put(key, new CachedResponse(etag, body));
+		}
+		return type.cast(body);
+	}
+
+	/**
+	 * Get all pages of the list resource at uri. A conditional request is sent for each page that was retrieved
+	 * before.
+	 *
+	 * @param uri
+	 * @param type
+	 * @return non-null but possibly empty list of elements
+	 * @throws IOException
+	 */
+	public <V> List<V> getAllConditional(String uri, Class<V[]> type) throws IOException {
+		List<V> elements = new ArrayList<>();
+		for (int page = 1;; page++) {
+			V[] pageElements = getConditional(
+					uri + '?' + PARAM_PER_PAGE + '=' + PAGE_SIZE + '&' + PARAM_PAGE + '=' + page, type);
+			if (pageElements == null) {
+				break;
+			}
+			elements.addAll(Arrays.asList(pageElements));
+			if (pageElements.length < PAGE_SIZE) {
+				break;
+			}
+		}
+		return elements;
+	}
+}
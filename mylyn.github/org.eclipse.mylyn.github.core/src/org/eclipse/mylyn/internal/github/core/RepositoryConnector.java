@@ -13,13 +13,29 @@
 package org.eclipse.mylyn.internal.github.core;
 
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.mylyn.commons.net.Policy;
 import org.eclipse.mylyn.tasks.core.AbstractRepositoryConnector;
 import org.eclipse.mylyn.tasks.core.ITask;
 import org.eclipse.mylyn.tasks.core.TaskRepository;
 import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.eclipse.mylyn.tasks.core.data.TaskDataCollector;
 import org.eclipse.mylyn.tasks.core.data.TaskMapper;
 
 /**
@@ -27,6 +43,26 @@ import org.eclipse.mylyn.tasks.core.data.TaskMapper;
  */
 public abstract class RepositoryConnector extends AbstractRepositoryConnector {
 
+	/**
+	 * The maximum number of tasks that are retrieved concurrently by
+	 * {@link #getMultiTaskData(TaskRepository, Set, TaskDataCollector, IProgressMonitor)}.
+	 */
+	private static final int MAX_CONCURRENT_REQUESTS = 4;
+
+	private static final long POLL_INTERVAL = 500;
+
+	private static final ThreadFactory retrievalThreadFactory = new ThreadFactory() {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "GitHub Task Data Retrieval-" + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		}
+	};
+
 	@Override
 	public boolean canCreateNewTask(TaskRepository repository) {
 		return true;
@@ -74,4 +110,67 @@ public abstract class RepositoryConnector extends AbstractRepositoryConnector {
 		}
 		new TaskMapper(taskData).applyTo(task);
 	}
+
+	/**
+	 * Retrieves the task data of each of the given tasks with
+	 * {@link #getTaskData(TaskRepository, String, IProgressMonitor)} on up to {@link #MAX_CONCURRENT_REQUESTS} threads.
+	 * Task data is passed to the collector on the calling thread in the order in which it is retrieved.
+	 *
+	 * @param repository
+	 * @param taskIds
+	 * @param collector
+	 * @param monitor
+	 * @throws CoreException
+	 */
+	public void getMultiTaskData(TaskRepository repository, Set<String> taskIds, TaskDataCollector collector,
+			IProgressMonitor monitor) throws CoreException {
+		final IProgressMonitor progress = Policy.monitorFor(monitor);
+		progress.beginTask("", taskIds.size()); //$NON-NLS-1$
+		final IProgressMonitor workerMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return super.isCanceled() || progress.isCanceled();
+			}
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(
+				Math.max(1, Math.min(MAX_CONCURRENT_REQUESTS, taskIds.size())), retrievalThreadFactory);
+		try {
+			CompletionService<TaskData> completionService = new ExecutorCompletionService<>(executor);
+			Map<Future<TaskData>, String> taskIdByFuture = new HashMap<>();
+			for (String taskId : taskIds) {
+				taskIdByFuture.put(completionService.submit(() -> getTaskData(repository, taskId, workerMonitor)),
+						taskId);
+			}
+			for (int i = 0; i < taskIdByFuture.size(); i++) {
+				Future<TaskData> future;
+				while ((future = completionService.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS)) == null) {
+					Policy.checkCanceled(progress);
+				}
+				String taskId = taskIdByFuture.get(future);
+				try {
+					TaskData taskData = future.get();
+					if (taskData != null) {
+						collector.accept(taskData);
+					}
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof OperationCanceledException) {
+						throw (OperationCanceledException) cause;
+					} else if (cause instanceof CoreException) {
+						collector.failed(taskId, ((CoreException) cause).getStatus());
+					} else {
+						collector.failed(taskId, GitHub.createErrorStatus(cause));
+					}
+				}
+				progress.worked(1);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			workerMonitor.setCanceled(true);
+			executor.shutdownNow();
+			progress.done();
+		}
+	}
 }
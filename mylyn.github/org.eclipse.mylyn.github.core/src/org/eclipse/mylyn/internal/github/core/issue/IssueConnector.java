@@ -37,6 +37,7 @@ import org.eclipse.egit.github.core.PullRequest;
 import org.eclipse.egit.github.core.Repository;
 import org.eclipse.egit.github.core.RepositoryId;
 import org.eclipse.egit.github.core.client.GitHubClient;
+import org.eclipse.egit.github.core.client.IGitHubConstants;
 import org.eclipse.egit.github.core.service.IssueService;
 import org.eclipse.egit.github.core.service.LabelService;
 import org.eclipse.egit.github.core.service.MilestoneService;
@@ -45,6 +46,7 @@ import org.eclipse.egit.github.core.util.MilestoneComparator;
 import org.eclipse.mylyn.commons.net.AuthenticationCredentials;
 import org.eclipse.mylyn.commons.net.AuthenticationType;
 import org.eclipse.mylyn.commons.net.Policy;
+import org.eclipse.mylyn.internal.github.core.ConditionalGitHubClient;
 import org.eclipse.mylyn.internal.github.core.GitHub;
 import org.eclipse.mylyn.internal.github.core.QueryUtils;
 import org.eclipse.mylyn.internal.github.core.RepositoryConnector;
@@ -130,6 +132,8 @@ public class IssueConnector extends RepositoryConnector {
 	private final Map<TaskRepository, List<Milestone>> repositoryMilestones = Collections
 			.synchronizedMap(new HashMap<TaskRepository, List<Milestone>>());
 
+	private final ConditionalGitHubClient.ResponseCache responseCache = new ConditionalGitHubClient.ResponseCache();
+
 	/**
 	 * Create GitHub issue repository connector
 	 */
@@ -326,17 +330,13 @@ public class IssueConnector extends RepositoryConnector {
 				filterData.put(IssueService.FILTER_STATE, status);
 				List<Issue> issues = service.getIssues(repo.getOwner(), repo.getName(), filterData);
 
-				// collect task data
+				// collect partial task data, comments are retrieved with the full task data of changed issues
 				for (Issue issue : issues) {
 					if (isPullRequest(issue)) {
 						continue;
 					}
-					List<Comment> comments = null;
-					if (issue.getComments() > 0) {
-						comments = service.getComments(owner, name, Integer.toString(issue.getNumber()));
-					}
-					TaskData taskData = taskDataHandler.createTaskData(
-							repository, monitor, owner, name, issue, comments);
+					TaskData taskData = taskDataHandler.createTaskData(repository, monitor, owner, name, issue);
+					taskData.setPartial(true);
 					collector.accept(taskData);
 				}
 				monitor.worked(1);
@@ -360,15 +360,17 @@ public class IssueConnector extends RepositoryConnector {
 		RepositoryId repo = GitHub.getRepository(repository.getRepositoryUrl());
 
 		try {
-			GitHubClient client = createClient(repository);
-			IssueService service = new IssueService(client);
-			Issue issue = service.getIssue(repo.getOwner(), repo.getName(), taskId);
+			// unchanged issues and comments are answered with 304 Not Modified
+			ConditionalGitHubClient client = ConditionalGitHubClient.createClient(repository, responseCache);
+			String uri = IGitHubConstants.SEGMENT_REPOS + '/' + repo.generateId() + IGitHubConstants.SEGMENT_ISSUES
+					+ '/' + taskId;
+			Issue issue = client.getConditional(uri, Issue.class);
 			if (isPullRequest(issue)) {
 				return null;
 			}
 			List<Comment> comments = null;
 			if (issue.getComments() > 0) {
-				comments = service.getComments(repo.getOwner(), repo.getName(), taskId);
+				comments = client.getAllConditional(uri + IGitHubConstants.SEGMENT_COMMENTS, Comment[].class);
 			}
 			return taskDataHandler.createTaskData(repository, monitor, repo.getOwner(), repo.getName(), issue,
 					comments);
@@ -39,6 +39,7 @@ import org.eclipse.mylyn.tasks.core.RepositoryResponse.ResponseKind;
 import org.eclipse.mylyn.tasks.core.TaskRepository;
 import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
 import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.eclipse.mylyn.tasks.core.data.TaskDataCollector;
 
 /**
  * GitHub issue task data handler
@@ -303,6 +304,17 @@ public class IssueTaskDataHandler extends GitHubTaskDataHandler {
 		}
 	}
 
+	@Override
+	public boolean canGetMultiTaskData(TaskRepository repository) {
+		return true;
+	}
+
+	@Override
+	public void getMultiTaskData(TaskRepository repository, Set<String> taskIds, TaskDataCollector collector,
+			IProgressMonitor monitor) throws CoreException {
+		connector.getMultiTaskData(repository, taskIds, collector, monitor);
+	}
+
 	@Override
 	public RepositoryResponse postTaskData(TaskRepository repository, TaskData taskData,
 			Set<TaskAttribute> oldAttributes, IProgressMonitor monitor) throws CoreException {
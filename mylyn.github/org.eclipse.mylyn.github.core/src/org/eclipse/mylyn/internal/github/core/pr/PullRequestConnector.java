@@ -23,6 +23,7 @@ import org.eclipse.egit.github.core.Comment;
 import org.eclipse.egit.github.core.IRepositoryIdProvider;
 import org.eclipse.egit.github.core.PullRequest;
 import org.eclipse.egit.github.core.Repository;
+import org.eclipse.egit.github.core.RepositoryCommit;
 import org.eclipse.egit.github.core.RepositoryId;
 import org.eclipse.egit.github.core.client.GitHubClient;
 import org.eclipse.egit.github.core.client.GsonUtils;
@@ -31,6 +32,7 @@ import org.eclipse.egit.github.core.service.IssueService;
 import org.eclipse.egit.github.core.service.PullRequestService;
 import org.eclipse.mylyn.commons.net.AuthenticationCredentials;
 import org.eclipse.mylyn.commons.net.AuthenticationType;
+import org.eclipse.mylyn.internal.github.core.ConditionalGitHubClient;
 import org.eclipse.mylyn.internal.github.core.GitHub;
 import org.eclipse.mylyn.internal.github.core.QueryUtils;
 import org.eclipse.mylyn.internal.github.core.RepositoryConnector;
@@ -155,6 +157,8 @@ public class PullRequestConnector extends RepositoryConnector {
 	 */
 	private final PullRequestTaskDataHandler taskDataHandler;
 
+	private final ConditionalGitHubClient.ResponseCache responseCache = new ConditionalGitHubClient.ResponseCache();
+
 	/**
 	 * Create GitHub issue repository connector
 	 */
@@ -201,26 +205,17 @@ public class PullRequestConnector extends RepositoryConnector {
 
 			GitHubClient client = IssueConnector.createClient(repository);
 			PullRequestService service = new PullRequestService(client);
-			IssueService commentService = new IssueService(client);
 
 			for (String status : statuses) {
 				List<PullRequest> pulls = service.getPullRequests(repo, status);
 
-				// collect task data
+				// collect partial task data, comments and commits are retrieved with the full task data of changed
+				// pull requests
 				for (PullRequest pr : pulls) {
-					pr = service.getPullRequest(repo, pr.getNumber());
 					PullRequestComposite prComp = new PullRequestComposite();
 					prComp.setRequest(pr);
-					List<Comment> comments = null;
-					if (pr.getComments() > 0) {
-						comments = commentService.getComments(repo.getOwner(), repo.getName(),
-								Integer.toString(pr.getNumber()));
-					}
-					if (pr.getCommits() > 0) {
-						prComp.setCommits(service.getCommits(repo, pr.getNumber()));
-					}
-					TaskData taskData = taskDataHandler.createTaskData(
-							repository, monitor, repo, prComp, comments);
+					TaskData taskData = taskDataHandler.createTaskData(repository, monitor, repo, prComp);
+					taskData.setPartial(true);
 					collector.accept(taskData);
 				}
 				monitor.worked(1);
@@ -239,18 +234,21 @@ public class PullRequestConnector extends RepositoryConnector {
 		RepositoryId repo = getRepository(repository.getRepositoryUrl());
 
 		try {
-			GitHubClient client = IssueConnector.createClient(repository);
-			PullRequestService service = new PullRequestService(client);
-			PullRequest pr = service.getPullRequest(repo, Integer.parseInt(taskId));
+			// unchanged pull requests, comments and commits are answered with 304 Not Modified
+			ConditionalGitHubClient client = ConditionalGitHubClient.createClient(repository, responseCache);
+			String uri = IGitHubConstants.SEGMENT_REPOS + '/' + repo.generateId();
+			PullRequest pr = client.getConditional(uri + IGitHubConstants.SEGMENT_PULLS + '/' + taskId,
+					PullRequest.class);
 			PullRequestComposite prComp = new PullRequestComposite();
 			prComp.setRequest(pr);
-			IssueService commentService = new IssueService(client);
 			List<Comment> comments = null;
 			if (pr.getComments() > 0) {
-				comments = commentService.getComments(repo.getOwner(), repo.getName(), taskId);
+				comments = client.getAllConditional(uri + IGitHubConstants.SEGMENT_ISSUES + '/' + taskId
+						+ IGitHubConstants.SEGMENT_COMMENTS, Comment[].class);
 			}
 			if (pr.getCommits() > 0) {
-				prComp.setCommits(service.getCommits(repo, pr.getNumber()));
+				prComp.setCommits(client.getAllConditional(uri + IGitHubConstants.SEGMENT_PULLS + '/' + taskId
+						+ IGitHubConstants.SEGMENT_COMMITS, RepositoryCommit[].class));
 			}
 			return taskDataHandler.createTaskData(repository, monitor, repo, prComp, comments);
 		} catch (IOException e) {
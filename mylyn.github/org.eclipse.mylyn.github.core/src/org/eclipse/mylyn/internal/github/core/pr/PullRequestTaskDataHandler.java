@@ -36,6 +36,7 @@ import org.eclipse.mylyn.tasks.core.RepositoryResponse.ResponseKind;
 import org.eclipse.mylyn.tasks.core.TaskRepository;
 import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
 import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.eclipse.mylyn.tasks.core.data.TaskDataCollector;
 
 /**
  * GitHub issue task data handler
@@ -44,13 +45,15 @@ public class PullRequestTaskDataHandler extends GitHubTaskDataHandler {
 
 	private static final String DATA_VERSION = "1.1"; //$NON-NLS-1$
 
+	private final PullRequestConnector connector;
+
 	/**
 	 * Create GitHub issue task data handler for connector
 	 *
 	 * @param connector
 	 */
 	public PullRequestTaskDataHandler(PullRequestConnector connector) {
-		// empty
+		this.connector = connector;
 	}
 
 	/**
@@ -165,6 +168,17 @@ public class PullRequestTaskDataHandler extends GitHubTaskDataHandler {
 		return true;
 	}
 
+	@Override
+	public boolean canGetMultiTaskData(TaskRepository repository) {
+		return true;
+	}
+
+	@Override
+	public void getMultiTaskData(TaskRepository repository, Set<String> taskIds, TaskDataCollector collector,
+			IProgressMonitor monitor) throws CoreException {
+		connector.getMultiTaskData(repository, taskIds, collector, monitor);
+	}
+
 	@Override
 	public RepositoryResponse postTaskData(TaskRepository repository, TaskData taskData,
 			Set<TaskAttribute> oldAttributes, IProgressMonitor monitor) throws CoreException {
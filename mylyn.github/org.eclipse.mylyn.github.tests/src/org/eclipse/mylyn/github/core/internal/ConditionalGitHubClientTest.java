@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.github.core.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.mylyn.internal.github.core.ConditionalGitHubClient;
+import org.eclipse.mylyn.internal.github.core.ConditionalGitHubClient.ResponseCache;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ConditionalGitHubClient} with stubbed connections
+ */
+@SuppressWarnings({ "nls", "restriction" })
+public class ConditionalGitHubClientTest {
+
+	private static class StubConnection extends HttpURLConnection {
+
+		private final int code;
+
+		private final String etag;
+
+		private final String body;
+
+		StubConnection(String uri, int code, String etag, String body) throws IOException {
+			super(new URL("https://api.github.com" + uri));
+			this.code = code;
+			this.etag = etag;
+			this.body = body;
+		}
+
+		@Override
+		public int getResponseCode() {
+			return code;
+		}
+
+		@Override
+		public String getResponseMessage() {
+			return "Status " + code;
+		}
+
+		@Override
+		public String getHeaderField(String name) {
+			return "ETag".equals(name) ? etag : null;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			if (body == null) {
+				throw new IOException("No content");
+			}
+			return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public InputStream getErrorStream() {
+			return new ByteArrayInputStream(new byte[0]);
+		}
+
+		@Override
+		public void connect() {
+		}
+
+		@Override
+		public void disconnect() {
+		}
+
+		@Override
+		public boolean usingProxy() {
+			return false;
+		}
+
+	}
+
+	/**
+	 * Answers requests with the bodies registered for their uris and records the requests. A request with a matching
+	 * If-None-Match header is answered with 304 Not Modified.
+	 */
+	private class StubClient extends ConditionalGitHubClient {
+
+		StubClient() {
+			super("api.github.com", cache);
+		}
+
+		@Override
+		protected HttpURLConnection createGet(String uri) throws IOException {
+			String body = bodies.get(uri);
+			String etag = "\"" + Integer.toHexString(String.valueOf(body).hashCode()) + "\"";
+			StubConnection connection = new StubConnection(uri, HttpURLConnection.HTTP_OK, etag, body) {
+				@Override
+				public int getResponseCode() {
+					if (body == null) {
+						return HttpURLConnection.HTTP_NOT_FOUND;
+					}
+					return etag.equals(getRequestProperty("If-None-Match"))
+							? HttpURLConnection.HTTP_NOT_MODIFIED
+							: HttpURLConnection.HTTP_OK;
+				}
+
+				@Override
+				public InputStream getInputStream() throws IOException {
+					if (getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+						throw new IOException("Not modified responses have no content");
+					}
+					return super.getInputStream();
+				}
+			};
+			connections.add(connection);
+			return connection;
+		}
+
+	}
+
+	private final Map<String, String> bodies = new HashMap<>();
+
+	private final List<HttpURLConnection> connections = new ArrayList<>();
+
+	private ResponseCache cache;
+
+	private StubClient client;
+
+	@Before
+	public void before() {
+		cache = new ResponseCache(2);
+		client = new StubClient();
+	}
+
+	@Test
+	public void testNotModifiedReusesCachedBody() throws Exception {
+		bodies.put("/repos/o/r/labels", "[\"bug\",\"feature\"]");
+
+		String[] first = client.getConditional("/repos/o/r/labels", String[].class);
+		assertArrayEquals(new String[] { "bug", "feature" }, first);
+		assertNull(connections.get(0).getRequestProperty("If-None-Match"));
+
+		String[] second = client.getConditional("/repos/o/r/labels", String[].class);
+		assertSame(first, second);
+		assertEquals(HttpURLConnection.HTTP_NOT_MODIFIED, connections.get(1).getResponseCode());
+		assertEquals(connections.get(0).getHeaderField("ETag"), connections.get(1).getRequestProperty("If-None-Match"));
+
+		// a changed resource is retrieved again
+		bodies.put("/repos/o/r/labels", "[\"bug\"]");
+		String[] third = client.getConditional("/repos/o/r/labels", String[].class);
+		assertArrayEquals(new String[] { "bug" }, third);
+		assertEquals(HttpURLConnection.HTTP_OK, connections.get(2).getResponseCode());
+	}
+
+	@Test
+	public void testResponseCacheEviction() throws Exception {
+		bodies.put("/a", "[\"a\"]");
+		bodies.put("/b", "[\"b\"]");
+		bodies.put("/c", "[\"c\"]");
+
+		client.getConditional("/a", String[].class);
+		client.getConditional("/b", String[].class);
+		assertEquals(2, cache.size());
+		// access a so that b is the least recently used response
+		client.getConditional("/a", String[].class);
+		client.getConditional("/c", String[].class);
+		assertEquals(2, cache.size());
+
+		connections.clear();
+		client.getConditional("/b", String[].class);
+		assertNull(connections.get(0).getRequestProperty("If-None-Match"));
+		client.getConditional("/b", String[].class);
+		assertEquals(HttpURLConnection.HTTP_NOT_MODIFIED, connections.get(1).getResponseCode());
+
+		cache.clear();
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testGetAllConditionalStopsAfterShortPage() throws Exception {
+		bodies.put(page(1), createPage(0, ConditionalGitHubClient.PAGE_SIZE));
+		bodies.put(page(2), createPage(ConditionalGitHubClient.PAGE_SIZE, ConditionalGitHubClient.PAGE_SIZE));
+		bodies.put(page(3), createPage(2 * ConditionalGitHubClient.PAGE_SIZE, 5));
+		bodies.put(page(4), createPage(0, 1));
+
+		List<String> elements = client.getAllConditional("/repos/o/r/issues/1/comments", String[].class);
+		assertEquals(2 * ConditionalGitHubClient.PAGE_SIZE + 5, elements.size());
+		assertEquals("0", elements.get(0));
+		assertEquals(String.valueOf(2 * ConditionalGitHubClient.PAGE_SIZE + 4), elements.get(elements.size() - 1));
+		assertEquals(3, connections.size());
+	}
+
+	@Test
+	public void testGetAllConditionalStopsAfterEmptyPage() throws Exception {
+		bodies.put(page(1), createPage(0, ConditionalGitHubClient.PAGE_SIZE));
+		bodies.put(page(2), "[]");
+		bodies.put(page(3), createPage(0, 1));
+
+		List<String> elements = client.getAllConditional("/repos/o/r/issues/1/comments", String[].class);
+		assertEquals(ConditionalGitHubClient.PAGE_SIZE, elements.size());
+		assertEquals(2, connections.size());
+	}
+
+	@Test
+	public void testGetAllConditionalStopsAfterNullPage() throws Exception {
+		bodies.put(page(1), "null");
+		bodies.put(page(2), createPage(0, 1));
+
+		List<String> elements = client.getAllConditional("/repos/o/r/issues/1/comments", String[].class);
+		assertEquals(0, elements.size());
+		assertEquals(1, connections.size());
+	}
+
+	private String page(int page) {
+		return "/repos/o/r/issues/1/comments?per_page=" + ConditionalGitHubClient.PAGE_SIZE + "&page=" + page;
+	}
+
+	private String createPage(int start, int count) {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = start; i < start + count; i++) {
+			if (i > start) {
+				sb.append(',');
+			}
+			sb.append('"').append(i).append('"');
+		}
+		return sb.append(']').toString();
+	}
+
+}
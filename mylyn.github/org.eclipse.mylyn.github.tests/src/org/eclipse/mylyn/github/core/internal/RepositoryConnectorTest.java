@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.github.core.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.mylyn.internal.github.core.GitHub;
+import org.eclipse.mylyn.internal.github.core.RepositoryConnector;
+import org.eclipse.mylyn.internal.github.core.issue.IssueConnector;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.eclipse.mylyn.tasks.core.data.TaskAttributeMapper;
+import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.eclipse.mylyn.tasks.core.data.TaskDataCollector;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RepositoryConnector#getMultiTaskData(TaskRepository, Set, TaskDataCollector, IProgressMonitor)}
+ */
+@SuppressWarnings({ "nls", "restriction" })
+public class RepositoryConnectorTest {
+
+	private RepositoryConnector connector;
+
+	private TaskRepository repository;
+
+	private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+	@Before
+	public void before() {
+		repository = new TaskRepository(GitHub.CONNECTOR_KIND, GitHub.createGitHubUrl("foo", "bar"));
+		connector = new IssueConnector() {
+			@Override
+			public TaskData getTaskData(TaskRepository repository, String taskId, IProgressMonitor monitor)
+					throws CoreException {
+				threads.add(Thread.currentThread());
+				if ("2".equals(taskId)) {
+					throw new CoreException(new Status(IStatus.ERROR, "test", "failed " + taskId));
+				} else if ("3".equals(taskId)) {
+					throw new IllegalStateException("unexpected " + taskId);
+				} else if ("4".equals(taskId)) {
+					return null;
+				}
+				return new TaskData(new TaskAttributeMapper(repository), GitHub.CONNECTOR_KIND,
+						repository.getRepositoryUrl(), taskId);
+			}
+		};
+	}
+
+	@Test
+	public void testGetMultiTaskDataReportsFailedTasks() throws Exception {
+		Map<String, TaskData> accepted = new ConcurrentHashMap<>();
+		Map<String, IStatus> failed = new ConcurrentHashMap<>();
+		connector.getMultiTaskData(repository, Set.of("1", "2", "3", "4", "5"), new TaskDataCollector() {
+			@Override
+			public void accept(TaskData taskData) {
+				accepted.put(taskData.getTaskId(), taskData);
+			}
+
+			@Override
+			public void failed(String taskId, IStatus status) {
+				failed.put(taskId, status);
+			}
+		}, new NullProgressMonitor());
+
+		assertEquals(Set.of("1", "5"), accepted.keySet());
+		assertEquals(Set.of("2", "3"), failed.keySet());
+		assertEquals("failed 2", failed.get("2").getMessage());
+		assertEquals(IStatus.ERROR, failed.get("3").getSeverity());
+		assertNotNull(failed.get("3").getException());
+		for (Thread thread : threads) {
+			assertTrue(thread.isDaemon());
+			assertTrue(thread.getName(), thread.getName().startsWith("GitHub Task Data Retrieval-"));
+		}
+	}
+
+}
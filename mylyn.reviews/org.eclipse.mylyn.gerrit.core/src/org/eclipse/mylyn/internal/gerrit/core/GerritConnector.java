@@ -45,6 +45,7 @@ import org.eclipse.mylyn.internal.gerrit.core.client.GerritCapabilities;
 import org.eclipse.mylyn.internal.gerrit.core.client.GerritClient;
 import org.eclipse.mylyn.internal.gerrit.core.client.GerritClientStateListener;
 import org.eclipse.mylyn.internal.gerrit.core.client.GerritConfiguration;
+import org.eclipse.mylyn.internal.gerrit.core.client.GerritContentCache;
 import org.eclipse.mylyn.internal.gerrit.core.client.GerritException;
 import org.eclipse.mylyn.internal.gerrit.core.client.GerritHttpException;
 import org.eclipse.mylyn.internal.gerrit.core.client.GerritLoginException;
@@ -130,9 +131,13 @@ public class GerritConnector extends ReviewsConnector {
 
 	private final ConcurrentMap<TaskRepository, GerritConfiguration> configurationCache = new ConcurrentHashMap<>();
 
+	private GerritContentCache contentCache;
+
 	public GerritConnector() {
 		if (GerritCorePlugin.getDefault() != null) {
 			GerritCorePlugin.getDefault().setConnector(this);
+			contentCache = new GerritContentCache(
+					GerritCorePlugin.getDefault().getStateLocation().append("content").toFile()); //$NON-NLS-1$
 		}
 	}
 
@@ -424,8 +429,9 @@ public class GerritConnector extends ReviewsConnector {
 	protected GerritClient createReviewClient(final TaskRepository repository, boolean b) {
 		GerritConfiguration config = loadConfiguration(repository);
 		GerritAuthenticationState authState = loadAuthState(repository);
-		return GerritClient.create(repository, taskRepositoryLocationFactory.createWebLocation(repository), config,
-				authState, null, new GerritClientStateListener() {
+		GerritClient client = GerritClient.create(repository,
+				taskRepositoryLocationFactory.createWebLocation(repository), config, authState, null,
+				new GerritClientStateListener() {
 					@Override
 					protected void configurationChanged(GerritConfiguration config) {
 						saveConfiguration(repository, config);
@@ -436,6 +442,8 @@ public class GerritConnector extends ReviewsConnector {
 						repository.setProperty(KEY_REPOSITORY_AUTH, authStateToString(authState));
 					}
 				});
+		client.setContentCache(contentCache);
+		return client;
 	}
 
 	private static String authStateToString(GerritAuthenticationState authState) {
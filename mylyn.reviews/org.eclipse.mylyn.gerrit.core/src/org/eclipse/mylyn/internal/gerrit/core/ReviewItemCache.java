@@ -1,10 +1,10 @@
 /*******************************************************************************
  * Copyright (c) 2012 Tasktop Technologies and others.
- * 
+ *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
  * https://www.eclipse.org/legal/epl-2.0
- * 
+ *
  * SPDX-License-Identifier: EPL-2.0
  *
  *     Tasktop Technologies - initial API and implementation
@@ -12,28 +12,100 @@
 
 package org.eclipse.mylyn.internal.gerrit.core;
 
-import java.util.HashMap;
-import java.util.Map;
-
+import org.eclipse.mylyn.reviews.core.model.IFileItem;
+import org.eclipse.mylyn.reviews.core.model.IFileVersion;
 import org.eclipse.mylyn.reviews.core.model.IReviewItem;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
 /**
+ * Caches review items by their id. Ids are derived from immutable Gerrit identifiers such as patch keys so items can be
+ * shared by all reviews that are retrieved through the same factory. The cache is bounded by the estimated size of the
+ * items, most of which is the content of file versions, including the versions referenced by file items.
+ *
  * @author Steffen Pingel
  */
 public class ReviewItemCache {
 
-	private final Map<String, IReviewItem> reviewItemById;
+	public static final long DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * Estimated size of an item excluding its content.
+	 */
+	private static final int ITEM_SIZE = 512;
+
+	private final Cache<String, IReviewItem> reviewItemById;
 
 	public ReviewItemCache() {
-		reviewItemById = new HashMap<>();
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * @param maxSize
+	 *            the maximum estimated size of all cached items in bytes
+	 */
+	public ReviewItemCache(long maxSize) {
+		reviewItemById = Caffeine.newBuilder()
+				.maximumWeight(maxSize)
+				.weigher((String id, IReviewItem item) -> getSize(item))
+				// evict on the calling thread to keep the cache predictable
+				.executor(Runnable::run)
+				.recordStats()
+				.build();
 	}
 
 	public IReviewItem getItem(String id) {
-		return reviewItemById.get(id);
+		return reviewItemById.getIfPresent(id);
 	}
 
 	public void put(IReviewItem item) {
 		reviewItemById.put(item.getId(), item);
 	}
 
+	public long size() {
+		return reviewItemById.estimatedSize();
+	}
+
+	/**
+	 * Returns the number of hits and misses since the cache was created.
+	 */
+	public CacheStats getStats() {
+		return reviewItemById.stats();
+	}
+
+	public double getHitRate() {
+		return getStats().hitRate();
+	}
+
+	/**
+	 * Estimates the memory retained by the given item. A file item keeps its base and target versions reachable for as
+	 * long as it is cached, so their content is included in its size even though the versions are usually cached on
+	 * their own as well. Items have to be put again after their versions have been set to update their size.
+	 */
+	private static int getSize(IReviewItem item) {
+		long size = ITEM_SIZE;
+		if (item instanceof IFileVersion) {
+			size += getContentSize((IFileVersion) item);
+		} else if (item instanceof IFileItem) {
+			IFileItem fileItem = (IFileItem) item;
+			size += getContentSize(fileItem.getBase()) + getContentSize(fileItem.getTarget());
+		}
+		return (int) Math.min(size, Integer.MAX_VALUE);
+	}
+
+	private static long getContentSize(IFileVersion version) {
+		long size = 0;
+		if (version != null) {
+			if (version.getContent() != null) {
+				size += 2L * version.getContent().length();
+			}
+			if (version.getBinaryContent() != null) {
+				size += version.getBinaryContent().length;
+			}
+		}
+		return size;
+	}
+
 }
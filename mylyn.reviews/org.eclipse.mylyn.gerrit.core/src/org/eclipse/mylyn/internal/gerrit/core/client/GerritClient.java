@@ -21,6 +21,7 @@
  *********************************************************************/
 package org.eclipse.mylyn.internal.gerrit.core.client;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -34,10 +35,20 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -52,9 +63,11 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.mylyn.commons.core.StatusHandler;
 import org.eclipse.mylyn.commons.net.AbstractWebLocation;
+import org.eclipse.mylyn.commons.net.Policy;
 import org.eclipse.mylyn.commons.net.WebUtil;
 import org.eclipse.mylyn.internal.gerrit.core.GerritCorePlugin;
 import org.eclipse.mylyn.internal.gerrit.core.GerritUtil;
@@ -143,6 +156,25 @@ public abstract class GerritClient extends ReviewsClient {
 
 	final String NOT_SIGNED_IN = "Not Signed In"; //$NON-NLS-1$
 
+	/**
+	 * Maximum number of patch scripts that are retrieved concurrently.
+	 */
+	private static final int MAX_CONCURRENT_REQUESTS = 4;
+
+	private static final long POLL_INTERVAL = 500;
+
+	private static final ThreadFactory patchScriptThreadFactory = new ThreadFactory() {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "Gerrit Patch Script Retrieval-" + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		}
+	};
+
 	private static final Pattern GERRIT_VERSION_PATTERN = Pattern.compile("Powered by Gerrit Code Review (.+)</p>"); //$NON-NLS-1$
 
 	private GerritHttpClient client;
@@ -161,6 +193,8 @@ public abstract class GerritClient extends ReviewsClient {
 
 	private volatile boolean configRefreshed;
 
+	private volatile GerritContentCache contentCache;
+
 	public abstract ChangeDetail rebase(String reviewId, int patchSetId, IProgressMonitor monitor)
 			throws GerritException;
 
@@ -425,12 +459,72 @@ public abstract class GerritClient extends ReviewsClient {
 			PatchSetDetail targetDetail = getPatchSetDetail(baseId, targetId, monitor);
 			patchSetContent.setTargetDetail(targetDetail);
 		}
-		for (Patch patch : patchSetContent.getTargetDetail().getPatches()) {
-			PatchScriptX patchScript = getPatchScript(patch.getKey(), baseId, targetId, monitor);
+		Iterator<Patch> patches = patchSetContent.getTargetDetail().getPatches().iterator();
+		if (patches.hasNext()) {
+			// the first patch script is retrieved on the calling thread to establish the session
+			Patch.Key key = patches.next().getKey();
+			PatchScriptX patchScript = getPatchScript(key, baseId, targetId, monitor);
 			if (patchScript != null) {
-				patchSetContent.putPatchScriptByPatchKey(patch.getKey(), patchScript);
+				patchSetContent.putPatchScriptByPatchKey(key, patchScript);
 			}
 		}
+		if (patches.hasNext()) {
+			loadPatchScriptsConcurrently(patchSetContent, patches, baseId, targetId, monitor);
+		}
+	}
+
+	private void loadPatchScriptsConcurrently(PatchSetContent patchSetContent, Iterator<Patch> patches,
+			final Id baseId, final Id targetId, final IProgressMonitor monitor) throws GerritException {
+		final IProgressMonitor workerMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return super.isCanceled() || (monitor != null && monitor.isCanceled());
+			}
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(MAX_CONCURRENT_REQUESTS,
+				patchScriptThreadFactory);
+		try {
+			CompletionService<PatchScriptX> completionService = new ExecutorCompletionService<>(executor);
+			Map<Future<PatchScriptX>, Patch.Key> keyByFuture = new HashMap<>();
+			while (patches.hasNext() || !keyByFuture.isEmpty()) {
+				while (patches.hasNext() && keyByFuture.size() < MAX_CONCURRENT_REQUESTS) {
+					final Patch.Key key = patches.next().getKey();
+					Future<PatchScriptX> future = completionService
+							.submit(() -> getPatchScript(key, baseId, targetId, workerMonitor));
+					keyByFuture.put(future, key);
+				}
+
+				Future<PatchScriptX> future;
+				while ((future = completionService.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS)) == null) {
+					Policy.checkCanceled(monitor);
+				}
+				Policy.checkCanceled(monitor);
+				Patch.Key key = keyByFuture.remove(future);
+				try {
+					PatchScriptX patchScript = future.get();
+					if (patchScript != null) {
+						patchSetContent.putPatchScriptByPatchKey(key, patchScript);
+					}
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof GerritException) {
+						throw (GerritException) cause;
+					} else if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					} else if (cause instanceof Error) {
+						throw (Error) cause;
+					} else {
+						throw new GerritException(cause);
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			workerMonitor.setCanceled(true);
+			executor.shutdownNow();
+		}
 	}
 
 	protected PatchSetDetail getPatchSetDetail(PatchSet.Id idBase, PatchSet.Id idTarget, IProgressMonitor monitor)
@@ -493,14 +587,33 @@ public abstract class GerritClient extends ReviewsClient {
 	}
 
 	protected byte[] fetchBinaryContent(String url, IProgressMonitor monitor) throws GerritException {
-		final TypeToken<Byte[]> byteArrayType = new TypeToken<>() {
-		};
-		byte[] bin = restClient.executeGetRestRequest("/cat/" + url, byteArrayType.getType(), monitor); //$NON-NLS-1$
-		if (isZippedContent(bin)) {
-			return unzip(bin);
-		} else {
-			return bin;
+		// the content of a file in a patch set or its parent never changes
+		GerritContentCache cache = getContentCache();
+		String key = getContentCacheKey("cat", url); //$NON-NLS-1$
+		byte[] bin = (cache != null) ? cache.get(key) : null;
+		if (bin == null) {
+			bin = restClient.executeGetBinaryRequest("/cat/" + url, monitor); //$NON-NLS-1$
+			if (cache != null) {
+				cache.put(key, bin);
+			}
 		}
+		return bin;
+	}
+
+	/**
+	 * Reads binary content as returned by the <code>/cat/</code> servlet and extracts it, if it is zipped.
+	 */
+	static byte[] readBinaryContent(InputStream in) throws IOException {
+		BufferedInputStream buffered = new BufferedInputStream(in);
+		buffered.mark(5);
+		byte[] header = buffered.readNBytes(5);
+		buffered.reset();
+		if (isZippedContent(header)) {
+			ZipInputStream zis = new ZipInputStream(buffered);
+			zis.getNextEntry(); // expecting a single entry
+			return zis.readAllBytes();
+		}
+		return buffered.readAllBytes();
 	}
 
 	/**
@@ -1034,6 +1147,26 @@ public abstract class GerritClient extends ReviewsClient {
 		return new GerritRemoteFactoryProvider(this);
 	}
 
+	/**
+	 * Sets the cache for content of patch sets that does not change. Patch set content is always retrieved from the
+	 * server, if no cache is set.
+	 */
+	public void setContentCache(GerritContentCache contentCache) {
+		this.contentCache = contentCache;
+	}
+
+	public GerritContentCache getContentCache() {
+		return contentCache;
+	}
+
+	protected String getContentCacheKey(String... segments) {
+		StringBuilder key = new StringBuilder(getRepository().getRepositoryUrl());
+		for (String segment : segments) {
+			key.append('\n').append(segment);
+		}
+		return key.toString();
+	}
+
 	public GerritRestClient getRestClient() {
 		return restClient;
 	}
@@ -86,6 +86,8 @@ public class GerritClient212 extends GerritClient29 {
 
 	private final String SELF_ACCOUNT_ID = "self"; //$NON-NLS-1$
 
+	private final JSonSupport json = new JSonSupport();
+
 	protected GerritClient212(TaskRepository repository, Version version) {
 		super(repository, version);
 	}
@@ -176,12 +178,7 @@ public class GerritClient212 extends GerritClient29 {
 		} catch (GerritException e) {
 			diffPrefs = null;
 		}
-		DiffInfo diffInfo;
-		if (leftId == null) {
-			diffInfo = retrieveDiffInfoAgainstBase(rightId, fileName, monitor);
-		} else {
-			diffInfo = retrieveDiffInfoNotBase(rightId, leftId, fileName, monitor);
-		}
+		DiffInfo diffInfo = retrieveDiffInfo(rightId, leftId, fileName, monitor);
 
 		CommentDetail commentDetail = new CommentDetail(leftId, rightId);
 		if (diffInfo != null) {
@@ -552,6 +549,36 @@ public class GerritClient212 extends GerritClient29 {
 		return getRestClient().executeGetRestRequest(accQuery, AccountInfo.class, monitor);
 	}
 
+	/**
+	 * Returns the diff of <code>fileName</code> between two patch sets or a patch set and its parent. Diffs never change
+	 * and are therefore served from the content cache, if available.
+	 */
+	private DiffInfo retrieveDiffInfo(PatchSet.Id targetId, PatchSet.Id baseId, String fileName,
+			IProgressMonitor monitor) throws GerritException {
+		GerritContentCache cache = getContentCache();
+		String key = getContentCacheKey("diff", targetId.toString(), String.valueOf(baseId), fileName); //$NON-NLS-1$
+		if (cache != null) {
+			String content = cache.getString(key);
+			if (content != null) {
+				try {
+					return json.parseResponse(content, DiffInfo.class);
+				} catch (RuntimeException e) {
+					// ignore invalid entry and retrieve diff again
+				}
+			}
+		}
+		DiffInfo diffInfo;
+		if (baseId == null) {
+			diffInfo = retrieveDiffInfoAgainstBase(targetId, fileName, monitor);
+		} else {
+			diffInfo = retrieveDiffInfoNotBase(targetId, baseId, fileName, monitor);
+		}
+		if (cache != null && diffInfo != null) {
+			cache.putString(key, json.toJson(diffInfo));
+		}
+		return diffInfo;
+	}
+
 	private DiffInfo retrieveDiffInfoNotBase(PatchSet.Id targetId, PatchSet.Id baseId, String fileName,
 			IProgressMonitor monitor) throws GerritException {
 		String query = String.format("/changes/%s/revisions/%s/files/%s/diff?base=%s", targetId.getParentKey().get(), //$NON-NLS-1$
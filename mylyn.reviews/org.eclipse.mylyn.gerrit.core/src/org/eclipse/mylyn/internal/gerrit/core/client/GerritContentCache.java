@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.gerrit.core.client;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.UUID;
+
+import org.eclipse.core.runtime.Assert;
+
+/**
+ * A disk cache for content that never changes once a patch set has been uploaded, such as the diff of a file between
+ * two patch sets or the content of a binary file. Entries are keyed by a string that identifies the repository, the
+ * change, the patch sets and the file.
+ * <p>
+ * The cache is bounded by the total size of its entries. The least recently used entries are removed when the bound is
+ * exceeded.
+ */
+public class GerritContentCache {
+
+	public static final long DEFAULT_MAX_SIZE = 256 * 1024 * 1024;
+
+	private static final String SUFFIX = ".bin"; //$NON-NLS-1$
+
+	private final File directory;
+
+	private final long maxSize;
+
+	private long size = -1;
+
+	public GerritContentCache(File directory) {
+		this(directory, DEFAULT_MAX_SIZE);
+	}
+
+	public GerritContentCache(File directory, long maxSize) {
+		Assert.isNotNull(directory);
+		this.directory = directory;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the content stored for <code>key</code> or <code>null</code>, if the cache does not have an entry.
+	 */
+	public byte[] get(String key) {
+		File file = getFile(key);
+		try {
+			byte[] content = Files.readAllBytes(file.toPath());
+			// track access for eviction
+			file.setLastModified(System.currentTimeMillis());
+			return content;
+		} catch (IOException e) {
+			// not cached or not readable
+			return null;
+		}
+	}
+
+	public String getString(String key) {
+		byte[] content = get(key);
+		return (content != null) ? new String(content, StandardCharsets.UTF_8) : null;
+	}
+
+	/**
+	 * Stores <code>content</code> for <code>key</code>. Failures are ignored since the content can be retrieved from
+	 * the server again.
+	 */
+	public void put(String key, byte[] content) {
+		if (content == null || content.length > maxSize) {
+			return;
+		}
+		File file = getFile(key);
+		try {
+			Files.createDirectories(directory.toPath());
+			File tempFile = File.createTempFile(file.getName(), ".tmp", directory); //$NON-NLS-1$
+			try {
+				Files.write(tempFile.toPath(), content);
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				tempFile.delete();
+			}
+			added(content.length);
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+
+	public void putString(String key, String content) {
+		if (content != null) {
+			put(key, content.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	public void clear() {
+		File[] files = listFiles();
+		for (File file : files) {
+			file.delete();
+		}
+		synchronized (this) {
+			size = 0;
+		}
+	}
+
+	private File getFile(String key) {
+		return new File(directory, UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + SUFFIX);
+	}
+
+	private File[] listFiles() {
+		File[] files = directory.listFiles((dir, name) -> name.endsWith(SUFFIX));
+		return (files != null) ? files : new File[0];
+	}
+
+	private synchronized void added(long length) {
+		if (size == -1) {
+			size = 0;
+			for (File file : listFiles()) {
+				size += file.length();
+			}
+		} else {
+			size += length;
+		}
+		if (size > maxSize) {
+			evict();
+		}
+	}
+
+	private void evict() {
+		File[] files = listFiles();
+		long[] lastModified = new long[files.length];
+		Integer[] order = new Integer[files.length];
+		for (int i = 0; i < files.length; i++) {
+			lastModified[i] = files[i].lastModified();
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparingLong(i -> lastModified[i]));
+		size = 0;
+		for (File file : files) {
+			size += file.length();
+		}
+		// remove entries until the cache is at three quarters of its size to avoid evicting on each put
+		for (int i = 0; i < order.length && size > maxSize / 4 * 3; i++) {
+			File file = files[order[i]];
+			long length = file.length();
+			if (file.delete()) {
+				size -= length;
+			}
+		}
+	}
+
+}
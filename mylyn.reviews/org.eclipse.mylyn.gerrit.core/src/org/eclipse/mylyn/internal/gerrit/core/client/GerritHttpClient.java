@@ -219,7 +219,7 @@ public class GerritHttpClient {
 
 	private static final String BECOME_URL = "/become"; //$NON-NLS-1$
 
-	private HostConfiguration hostConfiguration;
+	private volatile HostConfiguration hostConfiguration;
 
 	private final HttpClient httpClient;
 
@@ -290,6 +290,33 @@ public class GerritHttpClient {
 		return restRequest(HttpMethod.GET, serviceUri, null, resultType, null, monitor);
 	}
 
+	/**
+	 * Retrieves the content of <code>serviceUri</code> as raw bytes. Zipped content is extracted while it is read from
+	 * the response.
+	 */
+	public byte[] getBinaryRequest(final String serviceUri, IProgressMonitor monitor)
+			throws IOException, GerritException {
+		Assert.isNotNull(serviceUri, "Service URI must be not null."); //$NON-NLS-1$
+
+		return execute(new Request<byte[]>() {
+			@Override
+			public HttpMethodBase createMethod() throws IOException {
+				return new GetMethod(getUrl() + serviceUri);
+			}
+
+			@Override
+			public byte[] process(HttpMethodBase method) throws IOException {
+				InputStream in = method.getResponseBodyAsStream();
+				if (in == null) {
+					return null;
+				}
+				try (in) {
+					return GerritClient.readBinaryContent(in);
+				}
+			}
+		}, monitor);
+	}
+
 	public <T> T putRestRequest(final String serviceUri, final Object input, Type resultType, ErrorHandler handler,
 			IProgressMonitor monitor) throws IOException, GerritException {
 		Assert.isNotNull(input, "Input object must be not null."); //$NON-NLS-1$
@@ -321,31 +348,38 @@ public class GerritHttpClient {
 			throws IOException, GerritException {
 		String openIdProvider = getOpenIdProvider();
 
-		hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
+		// requests are executed from several threads, the setup and authentication modify client wide state
+		synchronized (this) {
+			hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
+		}
 
 		for (int attempt = 0; attempt < 2; attempt++) {
-			if (authenticateIfNeeded) {
-				// force authentication
-				if (needsAuthentication()) {
-					AuthenticationCredentials credentials = location.getCredentials(AuthenticationType.REPOSITORY);
-					if (openIdProvider != null || credentials != null) {
-						authenticate(openIdProvider, monitor);
+			String authority = null;
+			Cookie session;
+			synchronized (this) {
+				if (authenticateIfNeeded) {
+					// force authentication
+					if (needsAuthentication()) {
+						AuthenticationCredentials credentials = location.getCredentials(AuthenticationType.REPOSITORY);
+						if (openIdProvider != null || credentials != null) {
+							authenticate(openIdProvider, monitor);
+						}
+					}
+					if (!obtainedXsrfKey) {
+						updateXsrfKey(monitor);
 					}
 				}
-				if (!obtainedXsrfKey) {
-					updateXsrfKey(monitor);
+				if (obtainedXsrfKey) {
+					authority = GerritVersion.isVersion2120OrLater(version) ? getXsrfKey() : xsrfKey;
 				}
+				session = xsrfCookie;
 			}
 
 			HttpMethodBase method = request.createMethod();
-			if (obtainedXsrfKey) {
+			if (authority != null) {
 				// required to authenticate against Gerrit 2.6+ REST endpoints
 				// harmless in previous versions
-				if (GerritVersion.isVersion2120OrLater(version)) {
-					method.setRequestHeader(X_GERRIT_AUTHORITY, getXsrfKey());
-				} else {
-					method.setRequestHeader(X_GERRIT_AUTHORITY, xsrfKey);
-				}
+				method.setRequestHeader(X_GERRIT_AUTHORITY, authority);
 			}
 			try {
 				// Execute the method.
@@ -379,9 +413,14 @@ public class GerritHttpClient {
 				if (code == HttpURLConnection.HTTP_UNAUTHORIZED || code == HttpURLConnection.HTTP_FORBIDDEN
 						|| code == HttpURLConnection.HTTP_NOT_FOUND) {
 					// login or re-authenticate due to an expired session, or resource that is specified by the URL is not found or is not visible to the calling user
-					authenticate(openIdProvider, monitor);
+					synchronized (this) {
+						// skip if another request has already established a new session in the meantime
+						if (session == null || session == xsrfCookie) {
+							authenticate(openIdProvider, monitor);
 
-					obtainedXsrfKey = false;
+							obtainedXsrfKey = false;
+						}
+					}
 				} else {
 					throw new GerritHttpException(code);
 				}
@@ -424,7 +463,9 @@ public class GerritHttpClient {
 	}
 
 	GetMethod getRequest(String serviceUri, IProgressMonitor monitor) throws IOException {
-		hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
+		synchronized (this) {
+			hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
+		}
 		GetMethod method = new GetMethod(getUrl() + serviceUri);
 		try {
 			// Execute the method.
@@ -737,7 +778,9 @@ public class GerritHttpClient {
 			throw new GerritLoginException();
 		}
 
-		hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
+		synchronized (this) {
+			hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
+		}
 	}
 
 	protected void validateAuthenticationState(HttpClient httpClient) throws GerritLoginException {
@@ -138,6 +138,19 @@ public class GerritRestClient {
 		});
 	}
 
+	protected byte[] executeGetBinaryRequest(final String url, IProgressMonitor monitor) throws GerritException {
+		return execute(monitor, new Operation<byte[]>(client) {
+			@Override
+			public void execute(IProgressMonitor monitor) throws GerritException {
+				try {
+					setResult(client.getBinaryRequest(url, monitor));
+				} catch (IOException e) {
+					throw new GerritException(e);
+				}
+			}
+		});
+	}
+
 	protected <T> T executePutRestRequest(final String url, final Object input, final Type resultType,
 			final ErrorHandler handler, IProgressMonitor monitor) throws GerritException {
 		return execute(monitor, new Operation<T>(client) {
@@ -204,6 +204,8 @@ public abstract class PatchSetContentRemoteFactory<RemoteKeyType>
 					getCache().put(targetVersion);
 				}
 				item.setTarget(targetVersion);
+				// update the cached size of the item which now retains the content of both versions
+				getCache().put(item);
 			}
 		}
 		return items;
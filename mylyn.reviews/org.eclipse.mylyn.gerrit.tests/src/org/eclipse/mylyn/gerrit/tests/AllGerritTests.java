@@ -17,8 +17,10 @@ import org.eclipse.mylyn.commons.sdk.util.ManagedTestSuite;
 import org.eclipse.mylyn.commons.sdk.util.TestConfiguration;
 import org.eclipse.mylyn.gerrit.tests.core.GerritConnectorTest;
 import org.eclipse.mylyn.gerrit.tests.core.GerritSynchronizationTest;
+import org.eclipse.mylyn.gerrit.tests.core.ReviewItemCacheTest;
 import org.eclipse.mylyn.gerrit.tests.core.client.GerritCapabilitiesTest;
 import org.eclipse.mylyn.gerrit.tests.core.client.GerritClientTest;
+import org.eclipse.mylyn.gerrit.tests.core.client.GerritContentCacheTest;
 import org.eclipse.mylyn.gerrit.tests.core.client.GerritVersionTest;
 import org.eclipse.mylyn.gerrit.tests.core.client.compat.ChangeDetailXTest;
 import org.eclipse.mylyn.gerrit.tests.core.client.compat.PatchScriptXTest;
@@ -83,6 +85,8 @@ public class AllGerritTests {
 		suite.addTestSuite(SubmitInputTest.class);
 		suite.addTestSuite(ChangeDetailXTest.class);
 		suite.addTestSuite(PatchScriptXTest.class);
+		suite.addTestSuite(GerritContentCacheTest.class);
+		suite.addTestSuite(ReviewItemCacheTest.class);
 		if (!configuration.isLocalOnly()) {
 			// network tests
 			//FIXME: AF: enable tests
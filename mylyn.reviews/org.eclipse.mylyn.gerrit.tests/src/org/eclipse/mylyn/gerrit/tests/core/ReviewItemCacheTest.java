@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.gerrit.tests.core;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.mylyn.internal.gerrit.core.ReviewItemCache;
+import org.eclipse.mylyn.reviews.core.model.IFileItem;
+import org.eclipse.mylyn.reviews.core.model.IFileVersion;
+import org.eclipse.mylyn.reviews.core.model.IReviewsFactory;
+
+import junit.framework.TestCase;
+
+@SuppressWarnings("nls")
+public class ReviewItemCacheTest extends TestCase {
+
+	public void testGetItem() {
+		ReviewItemCache cache = new ReviewItemCache();
+		IFileItem item = IReviewsFactory.INSTANCE.createFileItem();
+		item.setId("1,1,file:1,2,file");
+		cache.put(item);
+
+		assertSame(item, cache.getItem("1,1,file:1,2,file"));
+		assertNull(cache.getItem("1,1,file:1,3,file"));
+		assertEquals(1, cache.getStats().hitCount());
+		assertEquals(1, cache.getStats().missCount());
+		assertEquals(0.5, cache.getHitRate(), 0.001);
+	}
+
+	public void testBoundedByContentSize() {
+		ReviewItemCache cache = new ReviewItemCache(10 * 1024);
+		for (int i = 0; i < 10; i++) {
+			cache.put(createFileVersion("1," + i + ",file", 2 * 1024));
+		}
+		// each version is estimated at more than 4 KB
+		assertTrue(cache.size() <= 2);
+		assertEquals(10, cache.getStats().evictionCount() + cache.size());
+	}
+
+	public void testBoundedBySizeOfFileItemVersions() {
+		ReviewItemCache cache = new ReviewItemCache(64 * 1024);
+		for (int i = 0; i < 20; i++) {
+			cache.put(createFileItem("1," + i + ",file", 2 * 1024));
+		}
+		// each item retains two versions estimated at more than 4 KB each
+		assertTrue(cache.size() <= 7);
+		assertEquals(20, cache.getStats().evictionCount() + cache.size());
+	}
+
+	public void testEvictionReleasesFileItemVersions() throws Exception {
+		ReviewItemCache cache = new ReviewItemCache(64 * 1024);
+		List<WeakReference<IFileVersion>> versions = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			IFileItem item = createFileItem("1," + i + ",file", 2 * 1024);
+			versions.add(new WeakReference<>(item.getBase()));
+			versions.add(new WeakReference<>(item.getTarget()));
+			cache.put(item);
+		}
+		// no more than 7 items fit, so the versions of at least 13 evicted items must become unreachable
+		int expected = versions.size() - 2 * (int) cache.size();
+		assertTrue(expected >= 26);
+		int released = 0;
+		for (int attempt = 0; attempt < 10 && released < expected; attempt++) {
+			System.gc();
+			Thread.sleep(10);
+			released = 0;
+			for (WeakReference<IFileVersion> version : versions) {
+				if (version.get() == null) {
+					released++;
+				}
+			}
+		}
+		// only the versions of items that are still cached remain reachable
+		assertEquals(expected, released);
+	}
+
+	private IFileItem createFileItem(String id, int length) {
+		IFileItem item = IReviewsFactory.INSTANCE.createFileItem();
+		item.setId("base-" + id + ":" + id);
+		item.setBase(createFileVersion("base-" + id, length));
+		item.setTarget(createFileVersion(id, length));
+		return item;
+	}
+
+	private IFileVersion createFileVersion(String id, int length) {
+		IFileVersion version = IReviewsFactory.INSTANCE.createFileVersion();
+		version.setId(id);
+		version.setContent("x".repeat(length));
+		return version;
+	}
+
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.gerrit.tests.core.client;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.eclipse.mylyn.internal.gerrit.core.client.GerritContentCache;
+
+import junit.framework.TestCase;
+
+@SuppressWarnings("nls")
+public class GerritContentCacheTest extends TestCase {
+
+	private File directory;
+
+	@Override
+	protected void setUp() throws Exception {
+		directory = Files.createTempDirectory("gerrit-content").toFile();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		new GerritContentCache(directory).clear();
+		directory.delete();
+	}
+
+	public void testPutAndGet() {
+		GerritContentCache cache = new GerritContentCache(directory);
+		assertNull(cache.get("http://gerrit\ncat\n1,1,file^0"));
+
+		cache.put("http://gerrit\ncat\n1,1,file^0", new byte[] { 1, 2, 3 });
+		cache.putString("http://gerrit\ndiff\n1,1\nnull\nfile", "{}");
+
+		assertTrue(Arrays.equals(new byte[] { 1, 2, 3 }, cache.get("http://gerrit\ncat\n1,1,file^0")));
+		assertEquals("{}", cache.getString("http://gerrit\ndiff\n1,1\nnull\nfile"));
+		assertNull(cache.get("http://other\ncat\n1,1,file^0"));
+		// entries are shared by all instances for the directory
+		assertEquals("{}", new GerritContentCache(directory).getString("http://gerrit\ndiff\n1,1\nnull\nfile"));
+	}
+
+	public void testEvictsLeastRecentlyUsed() throws Exception {
+		GerritContentCache cache = new GerritContentCache(directory, 300);
+		cache.put("a", new byte[100]);
+		cache.put("b", new byte[100]);
+		cache.put("c", new byte[100]);
+		setLastModified("a", 1000);
+		setLastModified("b", 3000);
+		setLastModified("c", 2000);
+
+		cache.put("d", new byte[100]);
+
+		assertNull(cache.get("a"));
+		assertNull(cache.get("c"));
+		assertNotNull(cache.get("b"));
+		assertNotNull(cache.get("d"));
+	}
+
+	public void testIgnoresContentLargerThanCache() {
+		GerritContentCache cache = new GerritContentCache(directory, 10);
+		cache.put("a", new byte[11]);
+		assertNull(cache.get("a"));
+	}
+
+	private void setLastModified(String key, long time) {
+		String name = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + ".bin";
+		assertTrue(new File(directory, name).setLastModified(time));
+	}
+
+}
@@ -26,7 +26,7 @@ import org.junit.runners.Suite;
 
 @RunWith(ManagedSuite.class)
 @Suite.SuiteClasses({ RepositoryKeyTest.class, BugzillaRestFlagMapperTest.class,
-	BugzillaRestConnectorNoFixtureTest.class })
+	BugzillaRestConnectorNoFixtureTest.class, BugzillaRestBatchRequestTest.class })
 @TestConfigurationProperty()
 @SuppressWarnings("restriction")
 public class AllBugzillaRestCoreTests {
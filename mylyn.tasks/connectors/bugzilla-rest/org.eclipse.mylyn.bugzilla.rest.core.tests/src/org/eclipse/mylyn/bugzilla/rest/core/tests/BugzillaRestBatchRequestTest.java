@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.bugzilla.rest.core.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.mylyn.commons.repositories.core.RepositoryLocation;
+import org.eclipse.mylyn.commons.repositories.http.core.CommonHttpClient;
+import org.eclipse.mylyn.internal.bugzilla.rest.core.BugzillaRestClient;
+import org.eclipse.mylyn.internal.bugzilla.rest.core.BugzillaRestGetTaskAttachments;
+import org.eclipse.mylyn.internal.bugzilla.rest.core.BugzillaRestGetTaskComments;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
+import org.eclipse.mylyn.tasks.core.data.TaskAttributeMapper;
+import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.junit.Before;
+import org.junit.Test;
+
+@SuppressWarnings({ "nls", "restriction" })
+public class BugzillaRestBatchRequestTest {
+
+	private static final String REPOSITORY_URL = "http://mylyn.org/bugzilla";
+
+	private class TestTaskComments extends BugzillaRestGetTaskComments {
+
+		public TestTaskComments(List<TaskData> taskDataList) {
+			super(client, taskDataList);
+		}
+
+		@Override
+		public String getUrlSuffix() {
+			return super.getUrlSuffix();
+		}
+
+		public void parse(String json) {
+			parseFromJson(new InputStreamReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+					StandardCharsets.UTF_8));
+		}
+
+	}
+
+	private class TestTaskAttachments extends BugzillaRestGetTaskAttachments {
+
+		public TestTaskAttachments(List<TaskData> taskDataList) {
+			super(client, taskDataList);
+		}
+
+		@Override
+		public String getUrlSuffix() {
+			return super.getUrlSuffix();
+		}
+
+		public void parse(String json) {
+			parseFromJson(new InputStreamReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+					StandardCharsets.UTF_8));
+		}
+
+	}
+
+	private CommonHttpClient client;
+
+	private TaskData taskData1;
+
+	private TaskData taskData2;
+
+	private TaskData taskData3;
+
+	@Before
+	public void setUp() throws Exception {
+		client = new CommonHttpClient(new RepositoryLocation(REPOSITORY_URL));
+		TaskAttributeMapper mapper = new TaskAttributeMapper(new TaskRepository("bugzillaREST", REPOSITORY_URL));
+		taskData1 = new TaskData(mapper, "bugzillaREST", REPOSITORY_URL, "1");
+		taskData2 = new TaskData(mapper, "bugzillaREST", REPOSITORY_URL, "2");
+		taskData3 = new TaskData(mapper, "bugzillaREST", REPOSITORY_URL, "3");
+	}
+
+	@Test
+	public void testCommentsUrlSuffix() {
+		assertEquals("/bug/1/comment?", new TestTaskComments(List.of(taskData1)).getUrlSuffix());
+		assertEquals("/bug/1/comment?ids=1&ids=2&ids=3",
+				new TestTaskComments(List.of(taskData1, taskData2, taskData3)).getUrlSuffix());
+	}
+
+	@Test
+	public void testAttachmentsUrlSuffix() {
+		assertEquals("/bug/1/attachment?exclude_fields=data",
+				new TestTaskAttachments(List.of(taskData1)).getUrlSuffix());
+		assertEquals("/bug/1/attachment?exclude_fields=data&ids=1&ids=2&ids=3",
+				new TestTaskAttachments(List.of(taskData1, taskData2, taskData3)).getUrlSuffix());
+	}
+
+	@Test
+	public void testCommentsDistributedToTaskData() {
+		TestTaskComments comments = new TestTaskComments(List.of(taskData1, taskData2, taskData3));
+		comments.parse("{\"bugs\":{" //
+				+ "\"1\":{\"comments\":[" + comment(11, 1, "first") + "]}," //
+				+ "\"3\":{\"comments\":[" + comment(31, 1, "third") + "," + comment(32, 2, "fourth") + "]}," //
+				+ "\"4\":{\"comments\":[" + comment(41, 1, "unexpected") + "]}}}");
+
+		assertEquals(Set.of("1", "3"), comments.getReceivedTaskIds());
+		assertEquals("first", getCommentText(taskData1, 1));
+		assertNull(taskData2.getRoot().getAttribute(TaskAttribute.PREFIX_COMMENT + 1));
+		assertEquals("third", getCommentText(taskData3, 1));
+		assertEquals("fourth", getCommentText(taskData3, 2));
+	}
+
+	@Test
+	public void testAttachmentsReceivedTaskIds() {
+		TestTaskAttachments attachments = new TestTaskAttachments(List.of(taskData1, taskData2, taskData3));
+		attachments.parse("{\"bugs\":{\"2\":[],\"3\":[],\"4\":[]}}");
+
+		assertEquals(Set.of("2", "3"), attachments.getReceivedTaskIds());
+		assertEquals(List.of(taskData1),
+				BugzillaRestClient.getMissingTaskData(List.of(taskData1, taskData2, taskData3),
+						attachments.getReceivedTaskIds()));
+	}
+
+	@Test
+	public void testGetMissingTaskData() {
+		List<TaskData> taskDataList = List.of(taskData1, taskData2, taskData3);
+		assertEquals(List.of(), BugzillaRestClient.getMissingTaskData(taskDataList, Set.of("1", "2", "3")));
+		assertEquals(List.of(taskData1, taskData3), BugzillaRestClient.getMissingTaskData(taskDataList, Set.of("2")));
+		assertEquals(taskDataList, BugzillaRestClient.getMissingTaskData(taskDataList, Set.of()));
+		assertEquals(List.of(taskData2), BugzillaRestClient.getMissingTaskData(taskDataList, Set.of("1", "3", "4")));
+	}
+
+	@Test
+	public void testGetMissingTaskDataFromSingleResponse() {
+		// a server that does not support the ids parameter only returns the first bug
+		List<TaskData> taskDataList = List.of(taskData1, taskData2, taskData3);
+		TestTaskComments comments = new TestTaskComments(taskDataList);
+		comments.parse("{\"bugs\":{\"1\":{\"comments\":[" + comment(11, 1, "first") + "]}}}");
+		assertEquals(List.of(taskData2, taskData3),
+				BugzillaRestClient.getMissingTaskData(taskDataList, comments.getReceivedTaskIds()));
+	}
+
+	private String getCommentText(TaskData taskData, int number) {
+		TaskAttribute attribute = taskData.getRoot().getAttribute(TaskAttribute.PREFIX_COMMENT + number);
+		assertNotNull(attribute);
+		return attribute.getAttribute(TaskAttribute.COMMENT_TEXT).getValue();
+	}
+
+	private String comment(int id, int count, String text) {
+		return "{\"id\":" + id + ",\"count\":" + count + ",\"text\":\"" + text
+				+ "\",\"creator\":\"tests@mylyn.eclipse.org\",\"is_private\":false,"
+				+ "\"creation_time\":\"2016-10-22T14:19:13Z\"}";
+	}
+
+}
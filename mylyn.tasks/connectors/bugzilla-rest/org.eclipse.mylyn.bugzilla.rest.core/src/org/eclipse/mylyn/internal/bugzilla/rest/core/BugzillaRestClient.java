@@ -16,11 +16,18 @@ package org.eclipse.mylyn.internal.bugzilla.rest.core;
 
 import java.io.InputStream;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -29,6 +36,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.annotation.NonNull;
@@ -71,6 +79,24 @@ public class BugzillaRestClient {
 
 	public static final int MAX_RETRIEVED_PER_QUERY = 50;
 
+	/**
+	 * The maximum number of bugs whose comments and attachments are retrieved concurrently when they are missing from
+	 * the combined response.
+	 */
+	private static final int MAX_CONCURRENT_RETRIEVALS = 4;
+
+	private static final ThreadFactory retrievalThreadFactory = new ThreadFactory() {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "Bugzilla REST Retrieval-" + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		}
+	};
+
 	public BugzillaRestClient(RepositoryLocation location, BugzillaRestConnector connector) {
 		client = new CommonHttpClient(location);
 		this.connector = connector;
@@ -188,9 +214,8 @@ public class BugzillaRestClient {
 
 				List<TaskData> taskDataArray = new BugzillaRestGetTaskData(client, connector, urlIDList, taskRepository)
 						.run(monitor);
+				getCommentsAndAttachments(taskDataArray, monitor);
 				for (TaskData taskData : taskDataArray) {
-					new BugzillaRestGetTaskComments(getClient(), taskData).run(monitor);
-					new BugzillaRestGetTaskAttachments(getClient(), taskData).run(monitor);
 					config.updateProductOptions(taskData);
 					config.addValidOperations(taskData);
 					config.updateFlags(taskData);
@@ -211,6 +236,86 @@ public class BugzillaRestClient {
 
 	}
 
+	/**
+	 * Retrieves the comments and the attachment meta data of all bugs in <code>taskDataList</code> with one request
+	 * each. Bugs that are missing from a response, e.g. because the server does not support requests for several bugs,
+	 * are retrieved one by one on up to {@link #MAX_CONCURRENT_RETRIEVALS} threads.
+	 */
+	private void getCommentsAndAttachments(List<TaskData> taskDataList, IOperationMonitor monitor)
+			throws BugzillaRestException {
+		if (taskDataList.isEmpty()) {
+			return;
+		}
+		BugzillaRestGetTaskComments comments = new BugzillaRestGetTaskComments(getClient(), taskDataList);
+		comments.run(monitor);
+		BugzillaRestGetTaskAttachments attachments = new BugzillaRestGetTaskAttachments(getClient(), taskDataList);
+		attachments.run(monitor);
+		List<TaskData> missingComments = getMissingTaskData(taskDataList, comments.getReceivedTaskIds());
+		List<TaskData> missingAttachments = getMissingTaskData(taskDataList, attachments.getReceivedTaskIds());
+		List<TaskData> missingTaskData = new ArrayList<>();
+		for (TaskData taskData : taskDataList) {
+			if (missingComments.contains(taskData) || missingAttachments.contains(taskData)) {
+				missingTaskData.add(taskData);
+			}
+		}
+		if (missingTaskData.isEmpty()) {
+			return;
+		} else if (missingTaskData.size() == 1) {
+			getCommentsAndAttachments(missingTaskData.get(0), missingComments, missingAttachments, monitor);
+			return;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min(missingTaskData.size(), MAX_CONCURRENT_RETRIEVALS), retrievalThreadFactory);
+		try {
+			// the requests for one bug run on the same thread since they both modify its task data
+			List<Future<?>> futures = new ArrayList<>(missingTaskData.size());
+			for (TaskData taskData : missingTaskData) {
+				futures.add(executor.submit(() -> {
+					getCommentsAndAttachments(taskData, missingComments, missingAttachments, monitor);
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof BugzillaRestException) {
+				throw (BugzillaRestException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new BugzillaRestException(cause);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void getCommentsAndAttachments(TaskData taskData, List<TaskData> missingComments,
+			List<TaskData> missingAttachments, IOperationMonitor monitor) throws BugzillaRestException {
+		if (missingComments.contains(taskData)) {
+			new BugzillaRestGetTaskComments(getClient(), taskData).run(monitor);
+		}
+		if (missingAttachments.contains(taskData)) {
+			new BugzillaRestGetTaskAttachments(getClient(), taskData).run(monitor);
+		}
+	}
+
+	/**
+	 * Returns the task data of the bugs in <code>taskDataList</code> whose ids are not contained in
+	 * <code>receivedTaskIds</code>, in the order of <code>taskDataList</code>.
+	 */
+	public static List<TaskData> getMissingTaskData(List<TaskData> taskDataList, Set<String> receivedTaskIds) {
+		return taskDataList.stream()
+				.filter(taskData -> !receivedTaskIds.contains(taskData.getTaskId()))
+				.collect(Collectors.toList());
+	}
+
 	public IStatus performQuery(TaskRepository taskRepository, final IRepositoryQuery query,
 			final TaskDataCollector resultCollector, IOperationMonitor monitor) throws BugzillaRestException {
 		String urlIDList = query.getUrl();
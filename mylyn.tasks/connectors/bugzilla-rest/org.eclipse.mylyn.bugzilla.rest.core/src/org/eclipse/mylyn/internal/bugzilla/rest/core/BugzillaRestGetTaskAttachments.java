@@ -20,9 +20,15 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -42,12 +48,41 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 
+/**
+ * Retrieves the attachment meta data of one or more bugs. The attachments of several bugs are requested with a single
+ * request that passes the additional bug ids as <code>ids</code> parameters.
+ */
 public class BugzillaRestGetTaskAttachments extends BugzillaRestGetRequest<ArrayList<TaskAttribute>> {
-	private final TaskData taskData;
+	private final Map<String, TaskData> taskDataById = new HashMap<>();
+
+	private final Set<String> receivedTaskIds = new HashSet<>();
 
 	public BugzillaRestGetTaskAttachments(CommonHttpClient client, TaskData taskData) {
-		super(client, "/bug/" + taskData.getTaskId() + "/attachment?exclude_fields=data", null); //$NON-NLS-1$ //$NON-NLS-2$
-		this.taskData = taskData;
+		this(client, List.of(taskData));
+	}
+
+	public BugzillaRestGetTaskAttachments(CommonHttpClient client, List<TaskData> taskDataList) {
+		super(client, createUrlSuffix(taskDataList), null);
+		for (TaskData taskData : taskDataList) {
+			taskDataById.put(taskData.getTaskId(), taskData);
+		}
+	}
+
+	private static String createUrlSuffix(List<TaskData> taskDataList) {
+		String urlSuffix = "/bug/" + taskDataList.get(0).getTaskId() + "/attachment?exclude_fields=data"; //$NON-NLS-1$ //$NON-NLS-2$
+		if (taskDataList.size() > 1) {
+			urlSuffix += taskDataList.stream()
+					.map(taskData -> "&ids=" + taskData.getTaskId()) //$NON-NLS-1$
+					.collect(Collectors.joining());
+		}
+		return urlSuffix;
+	}
+
+	/**
+	 * Returns the ids of the bugs that were contained in the response.
+	 */
+	public Set<String> getReceivedTaskIds() {
+		return receivedTaskIds;
 	}
 
 	@Override
@@ -69,6 +104,11 @@ public class BugzillaRestGetTaskAttachments extends BugzillaRestGetRequest<Array
 			ArrayList<TaskAttribute> response = new ArrayList<>();
 
 			for (Entry<String, JsonElement> bugEntry : ((JsonObject) json.getAsJsonObject().get("bugs")).entrySet()) { //$NON-NLS-1$
+				TaskData taskData = taskDataById.get(bugEntry.getKey());
+				if (taskData == null) {
+					continue;
+				}
+				receivedTaskIds.add(bugEntry.getKey());
 				for (JsonElement jsonElement : bugEntry.getValue().getAsJsonArray()) {
 					JsonObject attachmentObject = (JsonObject) jsonElement;
 					String id = attachmentObject.get("id").getAsString(); //$NON-NLS-1$
@@ -19,9 +19,15 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -40,12 +46,41 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 
+/**
+ * Retrieves the comments of one or more bugs. The comments of several bugs are requested with a single request that
+ * passes the additional bug ids as <code>ids</code> parameters.
+ */
 public class BugzillaRestGetTaskComments extends BugzillaRestGetRequest<ArrayList<TaskAttribute>> {
-	private final TaskData taskData;
+	private final Map<String, TaskData> taskDataById = new HashMap<>();
+
+	private final Set<String> receivedTaskIds = new HashSet<>();
 
 	public BugzillaRestGetTaskComments(CommonHttpClient client, TaskData taskData) {
-		super(client, "/bug/" + taskData.getTaskId() + "/comment?", null); //$NON-NLS-1$ //$NON-NLS-2$
-		this.taskData = taskData;
+		this(client, List.of(taskData));
+	}
+
+	public BugzillaRestGetTaskComments(CommonHttpClient client, List<TaskData> taskDataList) {
+		super(client, createUrlSuffix(taskDataList), null);
+		for (TaskData taskData : taskDataList) {
+			taskDataById.put(taskData.getTaskId(), taskData);
+		}
+	}
+
+	private static String createUrlSuffix(List<TaskData> taskDataList) {
+		String urlSuffix = "/bug/" + taskDataList.get(0).getTaskId() + "/comment?"; //$NON-NLS-1$ //$NON-NLS-2$
+		if (taskDataList.size() > 1) {
+			urlSuffix += taskDataList.stream()
+					.map(taskData -> "ids=" + taskData.getTaskId()) //$NON-NLS-1$
+					.collect(Collectors.joining("&")); //$NON-NLS-1$
+		}
+		return urlSuffix;
+	}
+
+	/**
+	 * Returns the ids of the bugs that were contained in the response.
+	 */
+	public Set<String> getReceivedTaskIds() {
+		return receivedTaskIds;
 	}
 
 	@Override
@@ -67,6 +102,11 @@ public class BugzillaRestGetTaskComments extends BugzillaRestGetRequest<ArrayLis
 			ArrayList<TaskAttribute> response = new ArrayList<>();
 			for (Entry<String, JsonElement> commentEntry : ((JsonObject) json.getAsJsonObject().get("bugs")) //$NON-NLS-1$
 					.entrySet()) {
+				TaskData taskData = taskDataById.get(commentEntry.getKey());
+				if (taskData == null) {
+					continue;
+				}
+				receivedTaskIds.add(commentEntry.getKey());
 				for (JsonElement jsonElement : ((JsonObject) commentEntry.getValue()).get("comments") //$NON-NLS-1$
 						.getAsJsonArray()) {
 					JsonObject comment = (JsonObject) jsonElement;
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.bugzilla.core;
+
+/**
+ * Determines the number of bugs that are retrieved with a single <code>show_bug.cgi</code> request. The size is adapted
+ * to the time and the length of previous responses: repositories with small bugs and fast responses are queried with
+ * larger batches while the batches for large bugs or slow repositories are reduced so that a single response stays
+ * within {@link #TARGET_RESPONSE_TIME} and {@link #TARGET_RESPONSE_LENGTH}.
+ */
+public class BugzillaBatchSize {
+
+	public static final int MIN_SIZE = 10;
+
+	public static final int MAX_SIZE = 200;
+
+	/**
+	 * Response time in milliseconds that a batch should not exceed.
+	 */
+	public static final long TARGET_RESPONSE_TIME = 10 * 1000;
+
+	/**
+	 * Response length in bytes that a batch should not exceed.
+	 */
+	public static final long TARGET_RESPONSE_LENGTH = 8 * 1024 * 1024;
+
+	private int size;
+
+	public BugzillaBatchSize(int initialSize) {
+		this.size = clamp(initialSize);
+	}
+
+	public synchronized int getSize() {
+		return size;
+	}
+
+	/**
+	 * Adapts the batch size to a response that contained <code>count</code> bugs, took <code>time</code> milliseconds
+	 * and was <code>length</code> bytes long. The size is at most doubled by a single response and reductions are
+	 * averaged with the current size so that a single outlier does not change the size too much.
+	 */
+	public synchronized void update(int count, long time, long length) {
+		if (count <= 0) {
+			return;
+		}
+		double limit = 2.0 * size;
+		if (time > 0) {
+			limit = Math.min(limit, (double) TARGET_RESPONSE_TIME * count / time);
+		}
+		if (length > 0) {
+			limit = Math.min(limit, (double) TARGET_RESPONSE_LENGTH * count / length);
+		}
+		int newSize = (int) limit;
+		if (newSize < size) {
+			newSize = (size + newSize) / 2;
+		}
+		size = clamp(newSize);
+	}
+
+	private static int clamp(int size) {
+		return Math.max(MIN_SIZE, Math.min(MAX_SIZE, size));
+	}
+
+}
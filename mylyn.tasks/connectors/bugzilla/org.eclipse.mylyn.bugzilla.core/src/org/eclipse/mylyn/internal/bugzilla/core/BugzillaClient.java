@@ -20,6 +20,7 @@ import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -41,10 +42,22 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.swing.text.html.HTML.Tag;
 
@@ -72,6 +85,8 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.mylyn.commons.core.HtmlStreamTokenizer;
@@ -117,6 +132,25 @@ public class BugzillaClient {
 
 	public static final int MAX_RETRIEVED_PER_QUERY = 50;
 
+	/**
+	 * Maximum number of <code>show_bug.cgi</code> requests that are in flight at once when retrieving several bugs.
+	 */
+	private static final int MAX_CONCURRENT_BATCHES = 3;
+
+	private static final long POLL_INTERVAL = 100;
+
+	private static final ThreadFactory retrievalThreadFactory = new ThreadFactory() {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "Bugzilla Task Data Retrieval-" + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		}
+	};
+
 	private static final String QUERY_DELIMITER = "?"; //$NON-NLS-1$
 
 	private static final String KEY_ID = "id"; //$NON-NLS-1$
@@ -179,12 +213,14 @@ public class BugzillaClient {
 
 	protected String characterEncoding;
 
-	private boolean loggedIn;
+	private volatile boolean loggedIn;
 
 	private final Map<String, String> configParameters;
 
 	private final HttpClient httpClient = new HttpClient(WebUtil.getConnectionManager());
 
+	private final BugzillaBatchSize batchSize = new BugzillaBatchSize(MAX_RETRIEVED_PER_QUERY);
+
 	private boolean lastModifiedSupported = true;
 
 	private final BugzillaLanguageSettings bugzillaLanguageSettings;
@@ -490,7 +526,7 @@ public class BugzillaClient {
 		return loginToken;
 	}
 
-	public void authenticate(IProgressMonitor monitor) throws CoreException {
+	public synchronized void authenticate(IProgressMonitor monitor) throws CoreException {
 		if (loggedIn || !hasAuthenticationCredentials() && !hasHTTPAuthenticationCredentials()) {
 			return;
 		}
@@ -1113,18 +1149,24 @@ public class BugzillaClient {
 
 		GzipPostMethod postMethod = null;
 		monitor = Policy.monitorFor(monitor);
-		hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
+		// task data may be posted from several threads, the setup modifies client wide state
+		HostConfiguration requestHostConfiguration;
+		synchronized (this) {
+			hostConfiguration = WebUtil.createHostConfiguration(httpClient, location, monitor);
+			requestHostConfiguration = hostConfiguration;
+		}
 		authenticate(monitor);
 
 		postMethod = new GzipPostMethod(WebUtil.getRequestPath(repositoryUrl.toString() + formUrl), true);
 		postMethod.setRequestHeader("Content-Type", //$NON-NLS-1$
 				"application/x-www-form-urlencoded; charset=" + getCharacterEncoding()); //$NON-NLS-1$
 
-		httpClient.getHttpConnectionManager().getParams().setSoTimeout(WebUtil.getConnectionTimeout());
+		// set the timeout for this request only since the connection manager is shared
+		postMethod.getParams().setSoTimeout(WebUtil.getConnectionTimeout());
 
 		postMethod.setRequestBody(formData);
 		postMethod.setDoAuthentication(true);
-		int status = WebUtil.execute(httpClient, hostConfiguration, postMethod, monitor);
+		int status = WebUtil.execute(httpClient, requestHostConfiguration, postMethod, monitor);
 		if (status == HttpStatus.SC_OK) {
 			return postMethod;
 		} else if (status == HttpStatus.SC_MOVED_TEMPORARILY) {
@@ -2240,100 +2282,250 @@ public class BugzillaClient {
 			connector.addRepositoryConfiguration(repositoryConfiguration);
 		}
 
-		GzipPostMethod method = null;
-		HashMap<String, TaskData> taskDataMap = new HashMap<>();
-		// make a copy to modify set
-		taskIds = new HashSet<>(taskIds);
+		Set<String> idsToRetrieve = new LinkedHashSet<>();
+		for (String taskId : taskIds) {
+			// remove leading zeros
+			while (taskId.startsWith("0")) { //$NON-NLS-1$
+				taskId = taskId.substring(1);
+			}
+			idsToRetrieve.add(taskId);
+		}
+		if (idsToRetrieve.size() == 0) {
+			return;
+		}
+
+		// the first batch is retrieved in the calling thread to log in and to measure a response before several
+		// requests are sent at once
+		Iterator<String> itr = idsToRetrieve.iterator();
+		List<String> ids = nextBatch(itr);
 		int authenticationAttempt = 0;
-		while (taskIds.size() > 0) {
+		try {
+			retrieveTaskData(ids, collector, mapper, monitor);
+		} catch (CoreException c) {
+			if (!isLoginError(c)) {
+				throw c;
+			}
+			loggedIn = false;
+			authenticationAttempt++;
+			retrieveTaskData(ids, collector, mapper, monitor);
+		}
+		if (itr.hasNext()) {
+			retrieveTaskDataConcurrently(itr, authenticationAttempt, collector, mapper, monitor);
+		}
+	}
 
-			try {
+	/**
+	 * Retrieves the remaining batches with up to {@link #MAX_CONCURRENT_BATCHES} requests in flight. Each response is
+	 * parsed by the worker thread as it is received while the parsed task data is passed to <code>collector</code> in
+	 * the calling thread in the order in which batches complete.
+	 */
+	private void retrieveTaskDataConcurrently(Iterator<String> itr, int authenticationAttempt,
+			TaskDataCollector collector, TaskAttributeMapper mapper, final IProgressMonitor monitor)
+					throws IOException, CoreException {
+		final IProgressMonitor workerMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return super.isCanceled() || monitor.isCanceled();
+			}
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(MAX_CONCURRENT_BATCHES, retrievalThreadFactory);
+		try {
+			CompletionService<TaskDataBuffer> completionService = new ExecutorCompletionService<>(executor);
+			Map<Future<TaskDataBuffer>, List<String>> batchByFuture = new HashMap<>();
+			Map<Future<TaskDataBuffer>, Integer> attemptByFuture = new HashMap<>();
+			while (itr.hasNext() || !batchByFuture.isEmpty()) {
+				while (itr.hasNext() && batchByFuture.size() < MAX_CONCURRENT_BATCHES) {
+					final List<String> ids = nextBatch(itr);
+					Future<TaskDataBuffer> future = completionService.submit(() -> {
+						TaskDataBuffer buffer = new TaskDataBuffer();
+						retrieveTaskData(ids, buffer, mapper, workerMonitor);
+						return buffer;
+					});
+					batchByFuture.put(future, ids);
+					attemptByFuture.put(future, authenticationAttempt);
+				}
 
-				Set<String> idsToRetrieve = new HashSet<>();
-				Iterator<String> itr = taskIds.iterator();
-				for (int x = 0; itr.hasNext() && x < MAX_RETRIEVED_PER_QUERY; x++) {
-					String taskId = itr.next();
-					String taskIdOrg = taskId;
-					// remove leading zeros
-					boolean changed = false;
-					while (taskId.startsWith("0")) { //$NON-NLS-1$
-						taskId = taskId.substring(1);
-						changed = true;
-					}
-					idsToRetrieve.add(taskId);
-					if (changed) {
-						taskIds.remove(taskIdOrg);
-						taskIds.add(taskId);
+				Future<TaskDataBuffer> future;
+				while ((future = completionService.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS)) == null) {
+					Policy.checkCanceled(monitor);
+				}
+				Policy.checkCanceled(monitor);
+				List<String> ids = batchByFuture.remove(future);
+				int attempt = attemptByFuture.remove(future);
+				try {
+					future.get().flush(collector);
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof CoreException && isLoginError((CoreException) cause)
+							&& (attempt < authenticationAttempt || authenticationAttempt < 1)) {
+						// requests that were sent before the session was renewed are retried with the new session
+						if (attempt == authenticationAttempt) {
+							loggedIn = false;
+							authenticationAttempt++;
+						}
+						retrieveTaskData(ids, collector, mapper, monitor);
+					} else if (cause instanceof CoreException) {
+						throw (CoreException) cause;
+					} else if (cause instanceof IOException) {
+						throw (IOException) cause;
+					} else if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					} else if (cause instanceof Error) {
+						throw (Error) cause;
+					} else {
+						throw new IOException(cause);
 					}
 				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			workerMonitor.setCanceled(true);
+			executor.shutdownNow();
+		}
+	}
 
-				NameValuePair[] formData = new NameValuePair[idsToRetrieve.size() + 2];
+	private List<String> nextBatch(Iterator<String> itr) {
+		int size = batchSize.getSize();
+		List<String> ids = new ArrayList<>(size);
+		while (itr.hasNext() && ids.size() < size) {
+			ids.add(itr.next());
+		}
+		return ids;
+	}
 
-				if (idsToRetrieve.size() == 0) {
-					return;
-				}
+	private boolean isLoginError(CoreException e) {
+		return e.getStatus().getCode() == RepositoryStatus.ERROR_REPOSITORY_LOGIN;
+	}
 
-				itr = idsToRetrieve.iterator();
-				int x = 0;
-				for (; itr.hasNext(); x++) {
-					String taskId = itr.next();
-					formData[x] = new NameValuePair("id", taskId); //$NON-NLS-1$
-					TaskData taskData = new TaskData(mapper, getConnectorKind(), repositoryUrl.toString(), taskId);
-					setupExistingBugAttributes(repositoryUrl.toString(), taskData);
-					taskDataMap.put(taskId, taskData);
-				}
-				formData[x++] = new NameValuePair("ctype", "xml"); //$NON-NLS-1$ //$NON-NLS-2$
-				formData[x] = new NameValuePair("excludefield", "attachmentdata"); //$NON-NLS-1$ //$NON-NLS-2$
-				method = postFormData(IBugzillaConstants.URL_POST_SHOW_BUG, formData, monitor);
-				if (method == null) {
-					throw new IOException("Could not post form, client returned null method."); //$NON-NLS-1$
-				}
+	/**
+	 * Retrieves the bugs with the given ids with a single <code>show_bug.cgi</code> request and passes them to
+	 * <code>collector</code> while the response is parsed. The time and the length of the response are used to adapt
+	 * the size of subsequent batches. Batches after the first one are retrieved by worker threads.
+	 */
+	protected void retrieveTaskData(List<String> ids, TaskDataCollector collector, TaskAttributeMapper mapper,
+			IProgressMonitor monitor) throws IOException, CoreException {
+		HashMap<String, TaskData> taskDataMap = new HashMap<>();
+		NameValuePair[] formData = new NameValuePair[ids.size() + 2];
+		int x = 0;
+		for (String taskId : ids) {
+			formData[x++] = new NameValuePair("id", taskId); //$NON-NLS-1$
+			TaskData taskData = new TaskData(mapper, getConnectorKind(), repositoryUrl.toString(), taskId);
+			setupExistingBugAttributes(repositoryUrl.toString(), taskData);
+			taskDataMap.put(taskId, taskData);
+		}
+		formData[x++] = new NameValuePair("ctype", "xml"); //$NON-NLS-1$ //$NON-NLS-2$
+		formData[x] = new NameValuePair("excludefield", "attachmentdata"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		long startTime = System.currentTimeMillis();
+		GzipPostMethod method = null;
+		try {
+			method = postFormData(IBugzillaConstants.URL_POST_SHOW_BUG, formData, monitor);
+			if (method == null) {
+				throw new IOException("Could not post form, client returned null method."); //$NON-NLS-1$
+			}
 
-				boolean parseable = false;
-				if (method.getResponseHeader("Content-Type") != null) { //$NON-NLS-1$
-					Header responseTypeHeader = method.getResponseHeader("Content-Type"); //$NON-NLS-1$
-					for (String type : VALID_CONFIG_CONTENT_TYPES) {
-						if (responseTypeHeader.getValue().toLowerCase(Locale.ENGLISH).contains(type)) {
-							try (InputStream input = getResponseStream(method, monitor)) {
-								MultiBugReportFactory factory = new MultiBugReportFactory(input, getCharacterEncoding(),
-										connector);
-								List<BugzillaCustomField> customFields = new ArrayList<>();
-								if (repositoryConfiguration != null) {
-									customFields = repositoryConfiguration.getCustomFields();
-								}
-								factory.populateReport(taskDataMap, collector, mapper, customFields);
-								taskIds.removeAll(idsToRetrieve);
-								taskDataMap.clear();
-								parseable = true;
-								break;
+			if (method.getResponseHeader("Content-Type") != null) { //$NON-NLS-1$
+				Header responseTypeHeader = method.getResponseHeader("Content-Type"); //$NON-NLS-1$
+				for (String type : VALID_CONFIG_CONTENT_TYPES) {
+					if (responseTypeHeader.getValue().toLowerCase(Locale.ENGLISH).contains(type)) {
+						try (CountingInputStream input = new CountingInputStream(getResponseStream(method, monitor))) {
+							MultiBugReportFactory factory = new MultiBugReportFactory(input, getCharacterEncoding(),
+									connector);
+							List<BugzillaCustomField> customFields = new ArrayList<>();
+							if (repositoryConfiguration != null) {
+								customFields = repositoryConfiguration.getCustomFields();
 							}
+							factory.populateReport(taskDataMap, collector, mapper, customFields);
+							batchSize.update(ids.size(), System.currentTimeMillis() - startTime, input.getCount());
+							return;
 						}
 					}
 				}
+			}
 
-				if (!parseable) {
-					try (InputStream responseStream = getResponseStream(method, monitor)) {
-						// because html is not a valid config content type it is
-						// save to get the response here
-						throw new CoreException(parseHtmlError(responseStream));
-					}
-				}
-			} catch (CoreException c) {
-				if (c.getStatus().getCode() == RepositoryStatus.ERROR_REPOSITORY_LOGIN && authenticationAttempt < 1) {
-					loggedIn = false;
-					authenticationAttempt++;
-					// StatusHandler.log(c.getStatus());
-				} else {
-					throw c;
-				}
-			} finally {
-				if (method != null) {
-					WebUtil.releaseConnection(method, monitor);
-				}
+			try (InputStream responseStream = getResponseStream(method, monitor)) {
+				// because html is not a valid config content type it is
+				// save to get the response here
+				throw new CoreException(parseHtmlError(responseStream));
+			}
+		} finally {
+			if (method != null) {
+				WebUtil.releaseConnection(method, monitor);
 			}
 		}
 	}
 
+	/**
+	 * Collects the task data of a batch that is retrieved by a worker thread.
+	 */
+	private static class TaskDataBuffer extends TaskDataCollector {
+
+		private final List<TaskData> taskDataList = new ArrayList<>();
+
+		private final Map<String, IStatus> failedTasks = new LinkedHashMap<>();
+
+		@Override
+		public void accept(TaskData taskData) {
+			taskDataList.add(taskData);
+		}
+
+		@Override
+		public void failed(String taskId, IStatus status) {
+			failedTasks.put(taskId, status);
+		}
+
+		void flush(TaskDataCollector collector) {
+			for (TaskData taskData : taskDataList) {
+				collector.accept(taskData);
+			}
+			for (Entry<String, IStatus> entry : failedTasks.entrySet()) {
+				collector.failed(entry.getKey(), entry.getValue());
+			}
+		}
+
+	}
+
+	private static class CountingInputStream extends FilterInputStream {
+
+		private long count;
+
+		CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				count++;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				count += n;
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count += skipped;
+			return skipped;
+		}
+
+		long getCount() {
+			return count;
+		}
+
+	}
+
 	protected String getConnectorKind() {
 		return BugzillaCorePlugin.CONNECTOR_KIND;
 	}
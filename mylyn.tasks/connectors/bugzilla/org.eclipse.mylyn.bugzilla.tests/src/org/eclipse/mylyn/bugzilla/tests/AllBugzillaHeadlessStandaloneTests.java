@@ -19,6 +19,8 @@ import java.util.List;
 
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaAttributeMapperTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaAttributeTest;
+import org.eclipse.mylyn.bugzilla.tests.core.BugzillaBatchSizeTest;
+import org.eclipse.mylyn.bugzilla.tests.core.BugzillaClientTaskDataRetrievalTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaClientTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaConfigurationTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaCustomFieldsTest;
@@ -56,6 +58,8 @@ public class AllBugzillaHeadlessStandaloneTests {
 		suite.addTestSuite(BugzillaAttributeMapperTest.class);
 		suite.addTestSuite(BugzillaAttributeTest.class);
 		suite.addTestSuite(RepositoryConfigurationTest.class);
+		suite.addTestSuite(BugzillaBatchSizeTest.class);
+		suite.addTestSuite(BugzillaClientTaskDataRetrievalTest.class);
 		if (!configuration.isLocalOnly()) {
 			// network tests
 			suite.addTestSuite(BugzillaTaskCompletionTest.class);
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.bugzilla.tests.core;
+
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaBatchSize;
+
+import junit.framework.TestCase;
+
+public class BugzillaBatchSizeTest extends TestCase {
+
+	public void testInitialSizeIsClamped() {
+		assertEquals(50, new BugzillaBatchSize(50).getSize());
+		assertEquals(BugzillaBatchSize.MIN_SIZE, new BugzillaBatchSize(0).getSize());
+		assertEquals(BugzillaBatchSize.MAX_SIZE, new BugzillaBatchSize(10000).getSize());
+	}
+
+	public void testGrowsForFastSmallResponses() {
+		BugzillaBatchSize batchSize = new BugzillaBatchSize(50);
+		batchSize.update(50, 500, 50 * 1024);
+		assertEquals(100, batchSize.getSize());
+		batchSize.update(100, 1000, 100 * 1024);
+		assertEquals(BugzillaBatchSize.MAX_SIZE, batchSize.getSize());
+		batchSize.update(200, 1000, 200 * 1024);
+		assertEquals(BugzillaBatchSize.MAX_SIZE, batchSize.getSize());
+	}
+
+	public void testShrinksForSlowResponses() {
+		BugzillaBatchSize batchSize = new BugzillaBatchSize(50);
+		// 1 second per bug allows 10 bugs per batch
+		batchSize.update(50, 50 * 1000, 1024);
+		assertEquals(30, batchSize.getSize());
+		batchSize.update(30, 30 * 1000, 1024);
+		assertEquals(20, batchSize.getSize());
+		batchSize.update(20, 20 * 1000, 1024);
+		assertEquals(15, batchSize.getSize());
+	}
+
+	public void testShrinksForLargeResponses() {
+		BugzillaBatchSize batchSize = new BugzillaBatchSize(100);
+		// 1 MB per bug allows 8 bugs per batch
+		batchSize.update(100, 1000, 100L * 1024 * 1024);
+		assertEquals(54, batchSize.getSize());
+		for (int i = 0; i < 10; i++) {
+			batchSize.update(batchSize.getSize(), 1000, batchSize.getSize() * 1024L * 1024);
+		}
+		assertEquals(BugzillaBatchSize.MIN_SIZE, batchSize.getSize());
+	}
+
+	public void testIgnoresEmptyResponses() {
+		BugzillaBatchSize batchSize = new BugzillaBatchSize(50);
+		batchSize.update(0, 100000, 100000);
+		assertEquals(50, batchSize.getSize());
+		batchSize.update(50, 0, 0);
+		assertEquals(100, batchSize.getSize());
+	}
+
+}
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.bugzilla.tests.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.mylyn.commons.net.WebLocation;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaClient;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaCorePlugin;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaRepositoryConnector;
+import org.eclipse.mylyn.internal.bugzilla.core.IBugzillaConstants;
+import org.eclipse.mylyn.internal.bugzilla.core.RepositoryConfiguration;
+import org.eclipse.mylyn.tasks.core.RepositoryStatus;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.eclipse.mylyn.tasks.core.data.TaskAttributeMapper;
+import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.eclipse.mylyn.tasks.core.data.TaskDataCollector;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the retrieval of several batches of task data with a client that does not send requests.
+ */
+@SuppressWarnings("nls")
+public class BugzillaClientTaskDataRetrievalTest extends TestCase {
+
+	private static final String REPOSITORY_URL = "http://localhost/bugzilla";
+
+	private static final long TIMEOUT = 10 * 1000;
+
+	/**
+	 * Responds to batches without sending requests. The first batch is retrieved by the calling thread and the
+	 * remaining batches of {@link BugzillaClient#MAX_RETRIEVED_PER_QUERY} ids by worker threads.
+	 */
+	private abstract static class StubBugzillaClient extends BugzillaClient {
+
+		final List<Thread> workerThreads = Collections.synchronizedList(new ArrayList<>());
+
+		StubBugzillaClient() throws Exception {
+			super(new WebLocation(REPOSITORY_URL), "UTF-8", new HashMap<>(),
+					BugzillaRepositoryConnector.getLanguageSetting(IBugzillaConstants.DEFAULT_LANG), null);
+			setRepositoryConfiguration(new RepositoryConfiguration());
+		}
+
+		@Override
+		protected void retrieveTaskData(List<String> ids, TaskDataCollector collector, TaskAttributeMapper mapper,
+				IProgressMonitor monitor) throws IOException, CoreException {
+			if (!ids.get(0).equals("1")) {
+				workerThreads.add(Thread.currentThread());
+			}
+			respond(ids, monitor);
+			for (String id : ids) {
+				collector.accept(new TaskData(mapper, getConnectorKind(), REPOSITORY_URL, id));
+			}
+		}
+
+		protected abstract void respond(List<String> ids, IProgressMonitor monitor) throws CoreException;
+
+	}
+
+	private final List<String> collectedIds = Collections.synchronizedList(new ArrayList<>());
+
+	private final List<Thread> collectingThreads = Collections.synchronizedList(new ArrayList<>());
+
+	private final TaskDataCollector collector = new TaskDataCollector() {
+		@Override
+		public void accept(TaskData taskData) {
+			collectingThreads.add(Thread.currentThread());
+			collectedIds.add(taskData.getTaskId());
+		}
+	};
+
+	private final TaskAttributeMapper mapper = new TaskAttributeMapper(
+			new TaskRepository(BugzillaCorePlugin.CONNECTOR_KIND, REPOSITORY_URL));
+
+	public void testBatchesAreCollectedInCallingThreadAsTheyComplete() throws Exception {
+		final CountDownLatch laterBatchesCollected = new CountDownLatch(2);
+		StubBugzillaClient client = new StubBugzillaClient() {
+			@Override
+			protected void respond(List<String> ids, IProgressMonitor monitor) {
+				if (ids.get(0).equals("51")) {
+					// hold back the second batch until the batches after it have been passed on
+					await(laterBatchesCollected);
+				}
+			}
+		};
+		TaskDataCollector orderCollector = new TaskDataCollector() {
+			@Override
+			public void accept(TaskData taskData) {
+				collector.accept(taskData);
+				if (taskData.getTaskId().equals("150") || taskData.getTaskId().equals("200")) {
+					laterBatchesCollected.countDown();
+				}
+			}
+		};
+
+		client.getTaskData(createIds(200), orderCollector, mapper, new NullProgressMonitor());
+
+		assertEquals(200, collectedIds.size());
+		assertEquals(200, new LinkedHashSet<>(collectedIds).size());
+		assertEquals(createIdList(1, 50), collectedIds.subList(0, 50));
+		assertEquals(createIdList(51, 100), collectedIds.subList(150, 200));
+		// the batches in between may complete in any order but each is passed on in one piece
+		int third = collectedIds.indexOf("101");
+		int fourth = collectedIds.indexOf("151");
+		assertEquals(createIdList(101, 150), collectedIds.subList(third, third + 50));
+		assertEquals(createIdList(151, 200), collectedIds.subList(fourth, fourth + 50));
+
+		assertEquals(Collections.singleton(Thread.currentThread()), new LinkedHashSet<>(collectingThreads));
+		assertEquals(3, client.workerThreads.size());
+		for (Thread thread : client.workerThreads) {
+			assertTrue(thread.isDaemon());
+			assertTrue(thread.getName(), thread.getName().startsWith("Bugzilla Task Data Retrieval-"));
+		}
+	}
+
+	public void testFailedBatchCancelsRemainingBatches() throws Exception {
+		final CoreException failure = new CoreException(new RepositoryStatus(REPOSITORY_URL, IStatus.ERROR,
+				BugzillaCorePlugin.ID_PLUGIN, RepositoryStatus.ERROR_REPOSITORY, "failed"));
+		final CountDownLatch canceledWorkers = new CountDownLatch(2);
+		StubBugzillaClient client = new StubBugzillaClient() {
+			@Override
+			protected void respond(List<String> ids, IProgressMonitor monitor) throws CoreException {
+				if (ids.get(0).equals("101")) {
+					throw failure;
+				} else if (!ids.get(0).equals("1")) {
+					awaitCancellation(monitor, canceledWorkers);
+				}
+			}
+		};
+
+		try {
+			client.getTaskData(createIds(200), collector, mapper, new NullProgressMonitor());
+			fail("Expected CoreException");
+		} catch (CoreException e) {
+			assertSame(failure, e);
+		}
+		assertTrue(canceledWorkers.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertEquals(createIdList(1, 50), collectedIds);
+	}
+
+	public void testCancellationStopsRetrieval() throws Exception {
+		final NullProgressMonitor callerMonitor = new NullProgressMonitor();
+		final CountDownLatch startedWorkers = new CountDownLatch(3);
+		final CountDownLatch canceledWorkers = new CountDownLatch(3);
+		StubBugzillaClient client = new StubBugzillaClient() {
+			@Override
+			protected void respond(List<String> ids, IProgressMonitor monitor) {
+				if (!ids.get(0).equals("1")) {
+					startedWorkers.countDown();
+					if (startedWorkers.getCount() == 0) {
+						callerMonitor.setCanceled(true);
+					}
+					awaitCancellation(monitor, canceledWorkers);
+				}
+			}
+		};
+
+		try {
+			client.getTaskData(createIds(200), collector, mapper, callerMonitor);
+			fail("Expected OperationCanceledException");
+		} catch (OperationCanceledException e) {
+			// expected
+		}
+		assertTrue(canceledWorkers.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertEquals(createIdList(1, 50), collectedIds);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			if (!latch.await(TIMEOUT, TimeUnit.MILLISECONDS)) {
+				throw new IllegalStateException("Timed out");
+			}
+		} catch (InterruptedException e) {
+			throw new OperationCanceledException();
+		}
+	}
+
+	/**
+	 * Blocks a worker until its monitor is canceled like a request that is waiting for a response.
+	 */
+	private static void awaitCancellation(IProgressMonitor monitor, CountDownLatch canceledWorkers) {
+		long deadline = System.currentTimeMillis() + TIMEOUT;
+		try {
+			while (!monitor.isCanceled() && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+		} catch (InterruptedException e) {
+			// the monitor is canceled before the workers are interrupted
+		}
+		if (monitor.isCanceled()) {
+			canceledWorkers.countDown();
+			throw new OperationCanceledException();
+		}
+		throw new IllegalStateException("Timed out");
+	}
+
+	private static Set<String> createIds(int count) {
+		return new LinkedHashSet<>(createIdList(1, count));
+	}
+
+	private static List<String> createIdList(int from, int to) {
+		List<String> ids = new ArrayList<>();
+		for (int i = from; i <= to; i++) {
+			ids.add(Integer.toString(i));
+		}
+		return ids;
+	}
+
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.gitlab.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.eclipse.mylyn.gitlab.core.GitlabConfiguration;
+import org.eclipse.mylyn.gitlab.core.GitlabCoreActivator;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+@SuppressWarnings("nls")
+class GitlabConfigurationStoreTest {
+
+	@TempDir
+	Path folder;
+
+	private TaskRepository repository;
+
+	private GitlabConfigurationStore store;
+
+	@BeforeEach
+	void setUp() {
+		repository = new TaskRepository(GitlabCoreActivator.CONNECTOR_KIND, "http://localhost");
+		repository.setProperty(GitlabCoreActivator.GROUPS, "group");
+		store = new GitlabConfigurationStore(new File(folder.toFile(), "configurations"));
+	}
+
+	@Test
+	void readWrittenConfiguration() {
+		Gson gson = new Gson();
+		GitlabConfiguration configuration = new GitlabConfiguration("http://localhost");
+		configuration.setUserID(BigInteger.valueOf(7));
+		configuration.setUserDetails(gson.fromJson("{\"id\": 7, \"username\": \"user\"}", JsonObject.class));
+		configuration.addProject(gson.fromJson("{\"id\": 42, \"name_with_namespace\": \"Group / Project\"}",
+				JsonObject.class), gson.fromJson("[{\"name\": \"bug\"}]", JsonArray.class),
+				gson.fromJson("[{\"id\": 3, \"title\": \"1.0\"}]", JsonArray.class));
+		configuration.addGroup(gson.fromJson("{\"id\": 5, \"full_path\": \"group\"}", JsonObject.class));
+
+		assertNull(store.read(repository));
+		store.write(repository, configuration);
+		GitlabConfiguration read = store.read(repository);
+
+		assertNotNull(read);
+		assertEquals("http://localhost", read.getRepositoryURL());
+		assertEquals(BigInteger.valueOf(7), read.getUserID());
+		assertEquals(configuration.getUserDetails(), read.getUserDetails());
+		assertEquals(Set.of(42), read.getProjectIDs());
+		assertEquals(configuration.getProductWithID(42), read.getProductWithID(42));
+		assertEquals(configuration.getProjectLabels(42), read.getProjectLabels(42));
+		assertEquals(configuration.getProjectMilestones(42), read.getProjectMilestones(42));
+		assertEquals("5", read.getGroupID("group"));
+	}
+
+	@Test
+	void ignoreConfigurationForChangedSettings() {
+		store.write(repository, new GitlabConfiguration("http://localhost"));
+		assertNotNull(store.read(repository));
+
+		repository.setProperty(GitlabCoreActivator.PROJECTS, "group/project");
+		assertNull(store.read(repository));
+	}
+
+	@Test
+	void removeConfiguration() {
+		store.write(repository, new GitlabConfiguration("http://localhost"));
+		store.remove(repository);
+		assertNull(store.read(repository));
+	}
+
+}
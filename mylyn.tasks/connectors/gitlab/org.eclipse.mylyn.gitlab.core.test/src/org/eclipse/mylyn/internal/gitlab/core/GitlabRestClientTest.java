@@ -11,26 +11,88 @@
 
 package org.eclipse.mylyn.internal.gitlab.core;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpVersion;
 import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.mylyn.commons.core.operations.CancellableOperationMonitorThread;
 import org.eclipse.mylyn.commons.core.operations.IOperationMonitor;
 import org.eclipse.mylyn.commons.repositories.core.RepositoryLocation;
 import org.eclipse.mylyn.commons.repositories.http.core.CommonHttpClient;
+import org.eclipse.mylyn.gitlab.core.GitlabConfiguration;
 import org.eclipse.mylyn.gitlab.core.GitlabCoreActivator;
+import org.eclipse.mylyn.internal.commons.core.operations.NullOperationMonitor;
+import org.eclipse.mylyn.internal.tasks.core.TaskTask;
+import org.eclipse.mylyn.internal.tasks.core.sync.SynchronizationSession;
+import org.eclipse.mylyn.tasks.core.ITask;
 import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.eclipse.mylyn.tasks.core.data.TaskDataCollector;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 class GitlabRestClientTest {
 
+	private static final String REPOSITORY_URL = "http://localhost"; //$NON-NLS-1$
+
+	private CommonHttpClient httpClient;
+
+	private TaskRepository repository;
+
+	private GitlabConfiguration configuration;
+
+	private GitlabRestClient client;
+
+	private GitlabRepositoryConnector connector;
+
+	@SuppressWarnings("nls")
+	@BeforeEach
+	void setUp() {
+		RepositoryLocation location = new RepositoryLocation(REPOSITORY_URL);
+		httpClient = Mockito.mock(CommonHttpClient.class);
+		when(httpClient.getLocation()).thenReturn(location);
+		when(httpClient.getMonitorThread()).thenReturn(CancellableOperationMonitorThread.getInstance());
+		repository = new TaskRepository(GitlabCoreActivator.CONNECTOR_KIND, REPOSITORY_URL);
+		repository.setProperty(GitlabCoreActivator.USE_PERSONAL_ACCESS_TOKEN, "true");
+		repository.setProperty(GitlabCoreActivator.PERSONAL_ACCESS_TOKEN, "test-token");
+		connector = new GitlabRepositoryConnector() {
+			@Override
+			public GitlabConfiguration getRepositoryConfiguration(TaskRepository repository) {
+				return configuration;
+			}
+
+			@Override
+			public GitlabRestClient getClient(TaskRepository repository) {
+				return client;
+			}
+		};
+		client = new GitlabRestClient(location, httpClient, connector, repository);
+	}
+
 	@SuppressWarnings("nls")
 	@Test
 	void ignoreMilestonesForProjectsWithIssuesDisabled() throws Exception {
@@ -54,4 +116,213 @@ class GitlabRestClientTest {
 		client.getProjectMilestones(project, mock(IOperationMonitor.class, Mockito.RETURNS_SELF));
 		verify(httpClient, times(0)).execute(any(HttpRequestBase.class), any(IOperationMonitor.class));
 	}
+
+	@SuppressWarnings("nls")
+	@Test
+	void issuePagesArePassedToCollectorBeforeNextPageIsRequested() throws Exception {
+		List<String> events = new ArrayList<>();
+		when(httpClient.execute(any(HttpRequestBase.class), any(IOperationMonitor.class))).thenAnswer(invocation -> {
+			HttpRequestBase request = invocation.getArgument(0);
+			String uri = request.getURI().toString();
+			events.add(uri);
+			if (uri.contains("page=2")) {
+				return createResponse(issues(issue(2, "2024-01-02T00:00:00.000Z")), null);
+			}
+			return createResponse(issues(issue(1, "2024-01-01T00:00:00.000Z")),
+					"<" + REPOSITORY_URL + "/api/v4/projects/42/issues?per_page=100&page=2>; rel=\"next\"");
+		});
+
+		client.getIssuesUpdatedAfter("/projects/42", "2023-12-31T00:00:00.000Z", new TaskDataCollector() {
+			@Override
+			public void accept(TaskData taskData) {
+				events.add(taskData.getTaskId());
+			}
+		}, new NullOperationMonitor());
+
+		assertEquals(List.of(
+				REPOSITORY_URL + "/api/v4/projects/42/issues?updated_after=2023-12-31T00%3A00%3A00.000Z&per_page=100",
+				"/projects/42/issues/1", REPOSITORY_URL + "/api/v4/projects/42/issues?per_page=100&page=2",
+				"/projects/42/issues/2"), events);
+	}
+
+	@SuppressWarnings("nls")
+	@Test
+	void preSynchronizationMarksTasksUpdatedSinceLastSynchronizationStale() throws Exception {
+		configuration = createConfiguration();
+		repository.setSynchronizationTimeStamp("2024-01-01T00:00:00.000Z");
+		when(httpClient.execute(any(HttpRequestBase.class), any(IOperationMonitor.class)))
+				.thenAnswer(invocation -> createResponse(issues(issue(1, "2024-02-01T00:00:00.000Z"),
+						issue(2, "2024-01-01T00:00:00.000Z")), null));
+		ITask changedTask = new TaskTask(GitlabCoreActivator.CONNECTOR_KIND, REPOSITORY_URL, "/projects/42/issues/1");
+		ITask unchangedTask = new TaskTask(GitlabCoreActivator.CONNECTOR_KIND, REPOSITORY_URL,
+				"/projects/42/issues/2");
+		SynchronizationSession session = createSession(Set.of(changedTask, unchangedTask));
+
+		connector.preSynchronization(session, new NullProgressMonitor());
+
+		assertEquals(Set.of(changedTask), session.getStaleTasks());
+		assertTrue(session.needsPerformQueries());
+		connector.postSynchronization(session, new NullProgressMonitor());
+		assertEquals("2024-02-01T00:00:00.000Z", repository.getSynchronizationTimeStamp());
+	}
+
+	@SuppressWarnings("nls")
+	@Test
+	void preSynchronizationSkipsQueriesIfNoIssueWasUpdated() throws Exception {
+		configuration = createConfiguration();
+		repository.setSynchronizationTimeStamp("2024-01-01T00:00:00.000Z");
+		when(httpClient.execute(any(HttpRequestBase.class), any(IOperationMonitor.class)))
+				.thenAnswer(invocation -> createResponse(issues(issue(2, "2024-01-01T00:00:00.000Z")), null));
+		SynchronizationSession session = createSession(
+				Set.of(new TaskTask(GitlabCoreActivator.CONNECTOR_KIND, REPOSITORY_URL, "/projects/42/issues/2")));
+
+		connector.preSynchronization(session, new NullProgressMonitor());
+
+		assertTrue(session.getStaleTasks().isEmpty());
+		assertFalse(session.needsPerformQueries());
+		verify(httpClient, times(1)).execute(any(HttpRequestBase.class), any(IOperationMonitor.class));
+	}
+
+	@SuppressWarnings("nls")
+	@Test
+	void taskDataOfSeveralIssuesIsRetrievedConcurrently() throws Exception {
+		CountDownLatch issueRequests = new CountDownLatch(3);
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		when(httpClient.execute(any(HttpRequestBase.class), any(IOperationMonitor.class))).thenAnswer(invocation -> {
+			threads.add(Thread.currentThread());
+			HttpRequestBase request = invocation.getArgument(0);
+			String path = request.getURI().getPath();
+			if (path.matches(".*/issues/\\d+")) {
+				// all issue requests are in progress before the first one returns
+				issueRequests.countDown();
+				assertTrue(issueRequests.await(10, TimeUnit.SECONDS));
+				if (path.endsWith("/issues/3")) {
+					return new BasicHttpResponse(HttpVersion.HTTP_1_1, 404, "Not Found");
+				}
+				int iid = Integer.parseInt(path.substring(path.lastIndexOf('/') + 1));
+				return createResponse(issue(iid, "2024-01-01T00:00:00.000Z"), null);
+			}
+			return createResponse("[]", null);
+		});
+		Set<String> accepted = ConcurrentHashMap.newKeySet();
+		Set<String> failed = ConcurrentHashMap.newKeySet();
+
+		client.getTaskData(Set.of("/projects/42/issues/1", "/projects/42/issues/2", "/projects/42/issues/3"),
+				repository, new TaskDataCollector() {
+					@Override
+					public void accept(TaskData taskData) {
+						accepted.add(taskData.getTaskId());
+					}
+
+					@Override
+					public void failed(String taskId, IStatus status) {
+						failed.add(taskId);
+					}
+				}, new NullOperationMonitor());
+
+		assertEquals(Set.of("/projects/42/issues/1", "/projects/42/issues/2"), accepted);
+		assertEquals(Set.of("/projects/42/issues/3"), failed);
+		verify(httpClient, times(12)).execute(any(HttpRequestBase.class), any(IOperationMonitor.class));
+		for (Thread thread : threads) {
+			assertTrue(thread.isDaemon());
+			assertTrue(thread.getName().startsWith("GitLab Retrieval-"), thread.getName());
+		}
+	}
+
+	@SuppressWarnings("nls")
+	@Test
+	void configurationRetrievesLabelsAndMilestonesOfAllProjects() throws Exception {
+		List<String> requests = new ArrayList<>();
+		when(httpClient.execute(any(HttpRequestBase.class), any(IOperationMonitor.class))).thenAnswer(invocation -> {
+			HttpRequestBase request = invocation.getArgument(0);
+			String path = request.getURI().getPath();
+			synchronized (requests) {
+				requests.add(path);
+			}
+			if (path.endsWith("/user")) {
+				return createResponse("{\"id\": 7}", null);
+			} else if (path.endsWith("/users/7/projects")) {
+				return createResponse("[" + project(1, "2024-01-01T00:00:00.000Z") + ","
+						+ project(2, "2024-01-01T00:00:00.000Z") + "]", null);
+			} else if (path.endsWith("/labels")) {
+				return createResponse("[{\"name\": \"label\"}]", null);
+			}
+			return createResponse("[]", null);
+		});
+
+		GitlabConfiguration config = client.getConfiguration(repository, new NullOperationMonitor());
+		// label changes do not update the project, so the labels are retrieved again even if the project is unchanged
+		GitlabConfiguration reloaded = client.getConfiguration(repository, new NullOperationMonitor());
+
+		assertEquals(Set.of(1, 2), config.getProjectIDs());
+		assertEquals(Set.of(1, 2), reloaded.getProjectIDs());
+		assertEquals("label", reloaded.getProjectLabels(2).get(0).getAsJsonObject().get("name").getAsString());
+		for (String path : List.of("/api/v4/projects/1/labels", "/api/v4/projects/1/milestones",
+				"/api/v4/projects/2/labels", "/api/v4/projects/2/milestones")) {
+			assertEquals(2, requests.stream().filter(path::equals).count(), path);
+		}
+	}
+
+	private SynchronizationSession createSession(Set<ITask> tasks) {
+		SynchronizationSession session = new SynchronizationSession();
+		session.setTaskRepository(repository);
+		session.setTasks(tasks);
+		session.setFullSynchronization(true);
+		session.setNeedsPerformQueries(true);
+		return session;
+	}
+
+	@SuppressWarnings("nls")
+	private GitlabConfiguration createConfiguration() {
+		GitlabConfiguration config = new GitlabConfiguration(REPOSITORY_URL);
+		JsonObject project = new Gson().fromJson("""
+				{
+				"id": 42,
+				"name_with_namespace": "Group / Project",
+				"path_with_namespace": "group/project"
+				}
+				""", JsonObject.class);
+		config.addProject(project, new JsonArray(), new JsonArray());
+		return config;
+	}
+
+	@SuppressWarnings("nls")
+	private static String project(int id, String lastActivityAt) {
+		return """
+				{
+				"id": %d,
+				"name_with_namespace": "Group / Project %d",
+				"path_with_namespace": "group/project%d",
+				"issues_enabled": true,
+				"last_activity_at": "%s"
+				}
+				""".formatted(id, id, id, lastActivityAt);
+	}
+
+	@SuppressWarnings("nls")
+	private static String issue(int iid, String updatedAt) {
+		return """
+				{
+				"iid": %d,
+				"project_id": 42,
+				"updated_at": "%s",
+				"_links": { "self": "%s/api/v4/projects/42/issues/%d" }
+				}
+				""".formatted(iid, updatedAt, REPOSITORY_URL, iid);
+	}
+
+	@SuppressWarnings("nls")
+	private static String issues(String... issues) {
+		return "[" + String.join(",", issues) + "]";
+	}
+
+	@SuppressWarnings("nls")
+	private static BasicHttpResponse createResponse(String json, String link) {
+		BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+		response.setEntity(new StringEntity(json, ContentType.APPLICATION_JSON));
+		if (link != null) {
+			response.addHeader("Link", link);
+		}
+		return response;
+	}
 }
@@ -15,6 +15,7 @@ package org.eclipse.mylyn.gitlab.core;
 
 import java.io.Serializable;
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -66,6 +67,14 @@ public final class GitlabConfiguration implements Serializable {
 			return milestonesHash;
 		}
 
+		public JsonArray getLabelsArray() {
+			return toArray(labelsHash.values());
+		}
+
+		public JsonArray getMilestonesArray() {
+			return toArray(milestonesHash.values());
+		}
+
 	}
 
 	private static final GitlabTaskSchema SCHEMA = GitlabTaskSchema.getDefault();
@@ -118,6 +127,14 @@ public final class GitlabConfiguration implements Serializable {
 		return projectIDsMap.get(key).project;
 	}
 
+	public JsonArray getProjectLabels(Integer key) {
+		return projectIDsMap.get(key).getLabelsArray();
+	}
+
+	public JsonArray getProjectMilestones(Integer key) {
+		return projectIDsMap.get(key).getMilestonesArray();
+	}
+
 	public JsonElement getGroupDetail(String group) {
 		return groupsDetailsMap.get(group);
 	}
@@ -236,4 +253,56 @@ public final class GitlabConfiguration implements Serializable {
 			TaskOperation.applyTo(attribute, "close", "Close"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 	}
+
+	/**
+	 * Returns a JSON representation of this configuration that can be read with {@link #fromJson(JsonObject)}.
+	 */
+	public JsonObject toJson() {
+		JsonObject json = new JsonObject();
+		json.addProperty("repositoryURL", repositoryURL); //$NON-NLS-1$
+		if (userID != null) {
+			json.addProperty("userID", userID); //$NON-NLS-1$
+		}
+		if (userDetails != null) {
+			json.add("userDetails", userDetails); //$NON-NLS-1$
+		}
+		JsonArray projects = new JsonArray();
+		for (GitlabProjectDetail detail : projectIDsMap.values()) {
+			JsonObject project = new JsonObject();
+			project.add("project", detail.getProject()); //$NON-NLS-1$
+			project.add("labels", detail.getLabelsArray()); //$NON-NLS-1$
+			project.add("milestones", detail.getMilestonesArray()); //$NON-NLS-1$
+			projects.add(project);
+		}
+		json.add("projects", projects); //$NON-NLS-1$
+		json.add("groups", toArray(groupsDetailsMap.values())); //$NON-NLS-1$
+		return json;
+	}
+
+	/**
+	 * Creates a configuration from a JSON representation that was created by {@link #toJson()}.
+	 */
+	public static GitlabConfiguration fromJson(JsonObject json) {
+		GitlabConfiguration configuration = new GitlabConfiguration(json.get("repositoryURL").getAsString()); //$NON-NLS-1$
+		if (json.has("userID")) { //$NON-NLS-1$
+			configuration.setUserID(json.get("userID").getAsBigInteger()); //$NON-NLS-1$
+		}
+		configuration.setUserDetails(json.get("userDetails")); //$NON-NLS-1$
+		for (JsonElement element : json.getAsJsonArray("projects")) { //$NON-NLS-1$
+			JsonObject project = element.getAsJsonObject();
+			configuration.addProject(project.get("project"), project.get("labels"), project.get("milestones")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		for (JsonElement group : json.getAsJsonArray("groups")) { //$NON-NLS-1$
+			configuration.addGroup(group);
+		}
+		return configuration;
+	}
+
+	private static JsonArray toArray(Collection<JsonElement> elements) {
+		JsonArray array = new JsonArray(elements.size());
+		for (JsonElement element : elements) {
+			array.add(element);
+		}
+		return array;
+	}
 }
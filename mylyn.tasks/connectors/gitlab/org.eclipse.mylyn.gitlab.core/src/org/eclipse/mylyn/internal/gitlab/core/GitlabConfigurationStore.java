@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.gitlab.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.mylyn.commons.core.StatusHandler;
+import org.eclipse.mylyn.gitlab.core.GitlabConfiguration;
+import org.eclipse.mylyn.gitlab.core.GitlabCoreActivator;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.eclipse.osgi.util.NLS;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * Stores repository configurations as JSON files so that they are available right away after a restart. A stored
+ * configuration is only returned if the groups and projects of the repository have not changed since it was written.
+ */
+public class GitlabConfigurationStore {
+
+	private static final int VERSION = 1;
+
+	private static final String FILE_EXTENSION = ".json"; //$NON-NLS-1$
+
+	private final File directory;
+
+	private final Gson gson = new Gson();
+
+	public GitlabConfigurationStore(File directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Returns the stored configuration of <code>repository</code> or <code>null</code>, if none was stored or the
+	 * stored configuration does not match the current settings of the repository.
+	 */
+	public synchronized GitlabConfiguration read(TaskRepository repository) {
+		File file = getFile(repository);
+		if (!file.exists()) {
+			return null;
+		}
+		try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			JsonObject json = gson.fromJson(reader, JsonObject.class);
+			if (json == null || !json.has("version") || json.get("version").getAsInt() != VERSION //$NON-NLS-1$ //$NON-NLS-2$
+					|| !getSettings(repository).equals(json.get("settings"))) { //$NON-NLS-1$
+				return null;
+			}
+			return GitlabConfiguration.fromJson(json.getAsJsonObject("configuration")); //$NON-NLS-1$
+		} catch (IOException | RuntimeException e) {
+			StatusHandler.log(new Status(IStatus.WARNING, GitlabCoreActivator.PLUGIN_ID,
+					NLS.bind("Failed to read stored configuration of repository {0}", repository.getUrl()), e)); //$NON-NLS-1$
+			return null;
+		}
+	}
+
+	public synchronized void write(TaskRepository repository, GitlabConfiguration configuration) {
+		JsonObject json = new JsonObject();
+		json.addProperty("version", VERSION); //$NON-NLS-1$
+		json.add("settings", getSettings(repository)); //$NON-NLS-1$
+		json.add("configuration", configuration.toJson()); //$NON-NLS-1$
+		File file = getFile(repository);
+		File tempFile = new File(directory, file.getName() + ".tmp"); //$NON-NLS-1$
+		try {
+			directory.mkdirs();
+			try (Writer writer = Files.newBufferedWriter(tempFile.toPath(), StandardCharsets.UTF_8)) {
+				gson.toJson(json, writer);
+			}
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			tempFile.delete();
+			StatusHandler.log(new Status(IStatus.WARNING, GitlabCoreActivator.PLUGIN_ID,
+					NLS.bind("Failed to store configuration of repository {0}", repository.getUrl()), e)); //$NON-NLS-1$
+		}
+	}
+
+	public synchronized void remove(TaskRepository repository) {
+		getFile(repository).delete();
+	}
+
+	private File getFile(TaskRepository repository) {
+		String name = UUID.nameUUIDFromBytes(repository.getUrl().getBytes(StandardCharsets.UTF_8)).toString();
+		return new File(directory, name + FILE_EXTENSION);
+	}
+
+	private static JsonObject getSettings(TaskRepository repository) {
+		JsonObject settings = new JsonObject();
+		settings.addProperty("url", repository.getUrl()); //$NON-NLS-1$
+		for (String key : new String[] { GitlabCoreActivator.USE_PERSONAL_ACCESS_TOKEN, GitlabCoreActivator.GROUPS,
+				GitlabCoreActivator.PROJECTS }) {
+			String value = repository.getProperty(key);
+			if (value != null) {
+				settings.addProperty(key, value);
+			}
+		}
+		return settings;
+	}
+
+}
@@ -15,7 +15,6 @@ package org.eclipse.mylyn.internal.gitlab.core;
 
 import java.io.IOException;
 
-import org.apache.http.Header;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.eclipse.mylyn.commons.core.operations.IOperationMonitor;
@@ -31,20 +30,6 @@ public abstract class GitlabJSonArrayOperation extends GitlabOperation<JsonArray
 		super(client, urlSuffix);
 	}
 
-	private String nextPage(Header[] linkHeader) {
-		if (linkHeader.length > 0) {
-			Header firstLinkHeader = linkHeader[0];
-			for (String linkHeaderEntry : firstLinkHeader.getValue().split(", ")) { //$NON-NLS-1$
-				String[] linkHeaderElements = linkHeaderEntry.split("; "); //$NON-NLS-1$
-				if ("rel=\"next\"".equals(linkHeaderElements[1])) { //$NON-NLS-1$
-					return linkHeaderElements[0].substring(1, linkHeaderElements[0].length() - 1);
-				}
-			}
-		}
-
-		return null;
-	}
-
 	@Override
 	protected JsonArray execute(IOperationMonitor monitor) throws IOException, GitlabException {
 		JsonArray result = null;
@@ -52,16 +37,14 @@ public abstract class GitlabJSonArrayOperation extends GitlabOperation<JsonArray
 		addHttpRequestEntities(request);
 		CommonHttpResponse response = execute(request, monitor);
 		result = processAndRelease(response, monitor);
-		Header[] linkHeader = response.getResponse().getHeaders("Link"); //$NON-NLS-1$
-		String nextPageValue = nextPage(linkHeader);
+		String nextPageValue = getNextPage(response);
 		while (nextPageValue != null) {
 			HttpRequestBase looprequest = new HttpGet(nextPageValue);
 			addHttpRequestEntities(looprequest);
 			CommonHttpResponse loopresponse = execute(looprequest, monitor);
 			JsonArray loopresult = processAndRelease(loopresponse, monitor);
 			result.addAll(loopresult);
-			linkHeader = loopresponse.getResponse().getHeaders("Link"); //$NON-NLS-1$
-			nextPageValue = nextPage(linkHeader);
+			nextPageValue = getNextPage(loopresponse);
 		}
 
 		return result;
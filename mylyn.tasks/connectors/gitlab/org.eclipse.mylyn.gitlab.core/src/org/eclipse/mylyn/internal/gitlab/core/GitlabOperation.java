@@ -18,6 +18,7 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 
+import org.apache.http.Header;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.eclipse.core.runtime.IStatus;
@@ -108,6 +109,24 @@ public abstract class GitlabOperation<T> extends CommonHttpOperation<T> {
 		}
 	}
 
+	/**
+	 * Returns the URL of the next page of a paginated response from the <code>Link</code> header or <code>null</code>,
+	 * if <code>response</code> is the last page.
+	 */
+	protected String getNextPage(CommonHttpResponse response) {
+		Header[] linkHeader = response.getResponse().getHeaders("Link"); //$NON-NLS-1$
+		if (linkHeader.length > 0) {
+			Header firstLinkHeader = linkHeader[0];
+			for (String linkHeaderEntry : firstLinkHeader.getValue().split(", ")) { //$NON-NLS-1$
+				String[] linkHeaderElements = linkHeaderEntry.split("; "); //$NON-NLS-1$
+				if (linkHeaderElements.length > 1 && "rel=\"next\"".equals(linkHeaderElements[1])) { //$NON-NLS-1$
+					return linkHeaderElements[0].substring(1, linkHeaderElements[0].length() - 1);
+				}
+			}
+		}
+		return null;
+	}
+
 	protected String baseUrl() {
 		String url = getClient().getLocation().getUrl();
 		if (!url.endsWith(GitlabCoreActivator.API_VERSION)) {
@@ -20,11 +20,16 @@ import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -59,6 +64,7 @@ import org.eclipse.mylyn.tasks.core.data.TaskDataCollector;
 import org.eclipse.mylyn.tasks.core.data.TaskMapper;
 import org.eclipse.mylyn.tasks.core.sync.ISynchronizationSession;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 
@@ -92,10 +98,56 @@ public class GitlabRepositoryConnector extends AbstractRepositoryConnector {
 		}
 	}
 
+	/**
+	 * Tracks the most recent modification date of the issues seen during a synchronization. The value is stored as the
+	 * synchronization time stamp of the repository and used to only look for issues that were updated since.
+	 */
+	private static final class SynchronizationTimestamp {
+
+		private String value;
+
+		private Instant instant;
+
+		public SynchronizationTimestamp(String value) {
+			update(value);
+		}
+
+		public synchronized void update(String timestamp) {
+			Instant other = parse(timestamp);
+			if (other != null && (instant == null || other.isAfter(instant))) {
+				value = timestamp;
+				instant = other;
+			}
+		}
+
+		public synchronized String getValue() {
+			return value;
+		}
+
+		public static Instant parse(String timestamp) {
+			if (timestamp == null || timestamp.isEmpty()) {
+				return null;
+			}
+			try {
+				return Instant.from(DateTimeFormatter.ISO_INSTANT.parse(timestamp));
+			} catch (DateTimeParseException e) {
+				return null;
+			}
+		}
+
+	}
+
 	private static final ThreadLocal<IOperationMonitor> context = new ThreadLocal<>();
 
 	private final LoadingCache<RepositoryKey, Optional<GitlabConfiguration>> configurationCache;
 
+	private final GitlabConfigurationStore configurationStore;
+
+	/**
+	 * Repositories whose configuration was read from the configuration store and has not been revalidated yet.
+	 */
+	private final Set<RepositoryKey> unvalidatedConfigurations = ConcurrentHashMap.newKeySet();
+
 	private SimpleDateFormat simpleFormatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"); //$NON-NLS-1$
 
 	public static Duration CONFIGURATION_CACHE_EXPIRE_DURATION = new Duration(7, TimeUnit.DAYS);
@@ -107,6 +159,7 @@ public class GitlabRepositoryConnector extends AbstractRepositoryConnector {
 	private boolean ignoredProperty(String propertyName) {
 		if (propertyName.equals(RepositoryLocation.PROPERTY_LABEL) || propertyName.equals(TaskRepository.OFFLINE)
 				|| propertyName.equals(IRepositoryConstants.PROPERTY_ENCODING)
+				|| propertyName.equals(IRepositoryConstants.PROPERTY_SYNCTIMESTAMP)
 				|| propertyName.equals(TaskRepository.PROXY_HOSTNAME) || propertyName.equals(TaskRepository.PROXY_PORT)
 				|| propertyName.equals("org.eclipse.mylyn.tasklist.repositories.savePassword") //$NON-NLS-1$
 				|| propertyName.equals("org.eclipse.mylyn.tasklist.repositories.proxy.usedefault") //$NON-NLS-1$
@@ -135,12 +188,38 @@ public class GitlabRepositoryConnector extends AbstractRepositoryConnector {
 	}
 
 	public GitlabRepositoryConnector(Duration refreshAfterWriteDuration) {
+		this(refreshAfterWriteDuration, createDefaultConfigurationStore());
+	}
+
+	/**
+	 * @param configurationStore
+	 *            the store for repository configurations or <code>null</code>, if configurations should only be kept
+	 *            in memory
+	 */
+	public GitlabRepositoryConnector(Duration refreshAfterWriteDuration, GitlabConfigurationStore configurationStore) {
+		this.configurationStore = configurationStore;
 		configurationCache = createCacheBuilder(CONFIGURATION_CACHE_EXPIRE_DURATION, refreshAfterWriteDuration)
-				.build(key -> {
-					GitlabRestClient client = clientCache.get(key);
-					TaskRepository repository = key.getRepository();
-					repository.addChangeListener(repositoryChangeListener4ConfigurationCache);
-					return Optional.ofNullable(client.getConfiguration(key.getRepository(), context.get()));
+				.build(new CacheLoader<RepositoryKey, Optional<GitlabConfiguration>>() {
+					@Override
+					public Optional<GitlabConfiguration> load(RepositoryKey key) throws Exception {
+						TaskRepository repository = key.getRepository();
+						repository.addChangeListener(repositoryChangeListener4ConfigurationCache);
+						if (configurationStore != null) {
+							GitlabConfiguration configuration = configurationStore.read(repository);
+							if (configuration != null) {
+								unvalidatedConfigurations.add(key);
+								return Optional.of(configuration);
+							}
+						}
+						return Optional.ofNullable(loadConfiguration(key));
+					}
+
+					@Override
+					public Optional<GitlabConfiguration> reload(RepositoryKey key,
+							Optional<GitlabConfiguration> oldValue) throws Exception {
+						unvalidatedConfigurations.remove(key);
+						return Optional.ofNullable(loadConfiguration(key));
+					}
 				});
 
 		repositoryChangeListener4ClientCache = evt -> {
@@ -154,10 +233,33 @@ public class GitlabRepositoryConnector extends AbstractRepositoryConnector {
 				return;
 			}
 			TaskRepository taskRepository = (TaskRepository) evt.getSource();
+			if (configurationStore != null) {
+				configurationStore.remove(taskRepository);
+			}
 			configurationCache.invalidate(new RepositoryKey(taskRepository));
 		};
 	}
 
+	private static GitlabConfigurationStore createDefaultConfigurationStore() {
+		GitlabCoreActivator activator = GitlabCoreActivator.getDefault();
+		if (activator == null) {
+			return null;
+		}
+		return new GitlabConfigurationStore(activator.getStateLocation().append("configurations").toFile()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Retrieves the configuration of the repository and stores it in the configuration store.
+	 */
+	private GitlabConfiguration loadConfiguration(RepositoryKey key) throws CoreException {
+		GitlabRestClient client = clientCache.get(key);
+		GitlabConfiguration configuration = client.getConfiguration(key.getRepository(), context.get());
+		if (configuration != null && configurationStore != null) {
+			configurationStore.write(key.getRepository(), configuration);
+		}
+		return configuration;
+	}
+
 	public GitlabConfiguration getRepositoryConfiguration(TaskRepository repository) throws CoreException {
 		long startTime = 0, endTime = 0;
 		String traceExitResult = ""; //$NON-NLS-1$
@@ -172,7 +274,12 @@ public class GitlabRepositoryConnector extends AbstractRepositoryConnector {
 				startTime = System.currentTimeMillis();
 			}
 
-			Optional<GitlabConfiguration> configurationOptional = configurationCache.get(new RepositoryKey(repository));
+			RepositoryKey key = new RepositoryKey(repository);
+			Optional<GitlabConfiguration> configurationOptional = configurationCache.get(key);
+			if (unvalidatedConfigurations.remove(key)) {
+				// revalidate the stored configuration in the background
+				configurationCache.refresh(key);
+			}
 			GitlabConfiguration result = configurationOptional.isPresent() ? configurationOptional.get() : null;
 			if (GitlabCoreActivator.DEBUG_REPOSITORY_CONNECTOR) {
 				endTime = System.currentTimeMillis();
@@ -222,10 +329,95 @@ public class GitlabRepositoryConnector extends AbstractRepositoryConnector {
 		return !Objects.equals(latestRemoteModValue, lastKnownLocalModValue);
 	}
 
+	/**
+	 * Looks for issues that were updated since the last full synchronization in the projects and groups of the
+	 * repository configuration. Changed tasks are marked stale and queries are only performed if any issue was updated.
+	 */
+	@Override
+	public void preSynchronization(@NonNull ISynchronizationSession session, @NonNull IProgressMonitor monitor)
+			throws CoreException {
+		TaskRepository repository = session.getTaskRepository();
+		String lastTimestamp = repository.getSynchronizationTimeStamp();
+		SynchronizationTimestamp timestamp = new SynchronizationTimestamp(lastTimestamp);
+		session.setData(timestamp);
+		Instant since = SynchronizationTimestamp.parse(lastTimestamp);
+		if (since == null || session.getTasks().isEmpty()) {
+			return;
+		}
+
+		Map<String, ITask> taskById = new HashMap<>();
+		for (ITask task : session.getTasks()) {
+			taskById.put(task.getTaskId(), task);
+		}
+		boolean[] changed = new boolean[1];
+		TaskDataCollector collector = new TaskDataCollector() {
+			@Override
+			public void accept(TaskData taskData) {
+				String updatedAt = getModificationDate(taskData);
+				Instant updated = SynchronizationTimestamp.parse(updatedAt);
+				if (updated == null || !updated.isAfter(since)) {
+					// updated_after includes issues updated at exactly the time stamp
+					return;
+				}
+				timestamp.update(updatedAt);
+				changed[0] = true;
+				ITask task = taskById.get(taskData.getTaskId());
+				if (task != null && hasTaskChanged(repository, task, taskData)) {
+					session.markStale(task);
+				}
+			}
+		};
+
+		GitlabRestClient client = getClient(repository);
+		Set<String> paths = client.getConfigurationPaths();
+		if (paths.isEmpty()) {
+			return;
+		}
+		monitor.beginTask("Checking for changed tasks", paths.size()); //$NON-NLS-1$
+		try {
+			for (String path : paths) {
+				client.getIssuesUpdatedAfter(path, lastTimestamp, collector, OperationUtil.convert(monitor));
+				monitor.worked(1);
+			}
+		} catch (CoreException e) {
+			// fall back to performing all queries
+			return;
+		} finally {
+			monitor.done();
+		}
+
+		if (!changed[0]) {
+			session.setNeedsPerformQueries(false);
+		}
+	}
+
+	@Override
+	public void postSynchronization(@NonNull ISynchronizationSession session, @NonNull IProgressMonitor monitor)
+			throws CoreException {
+		try {
+			monitor.beginTask("", 1); //$NON-NLS-1$
+			if (session.isFullSynchronization() && session.getStatus() == null
+					&& session.getData() instanceof SynchronizationTimestamp timestamp && timestamp.getValue() != null) {
+				session.getTaskRepository().setSynchronizationTimeStamp(timestamp.getValue());
+			}
+		} finally {
+			monitor.done();
+		}
+	}
+
+	private static String getModificationDate(TaskData taskData) {
+		TaskAttribute attribute = taskData.getRoot().getMappedAttribute(TaskAttribute.DATE_MODIFICATION);
+		return attribute != null ? attribute.getValue() : null;
+	}
+
 	@Override
 	public void updateRepositoryConfiguration(@NonNull TaskRepository taskRepository, @NonNull IProgressMonitor monitor)
 			throws CoreException {
 		context.set(monitor != null ? OperationUtil.convert(monitor) : new NullOperationMonitor());
+		if (configurationStore != null) {
+			configurationStore.remove(taskRepository);
+		}
+		unvalidatedConfigurations.remove(new RepositoryKey(taskRepository));
 		configurationCache.invalidate(new RepositoryKey(taskRepository));
 		getRepositoryConfiguration(taskRepository);
 		context.remove();
@@ -278,7 +470,22 @@ public class GitlabRepositoryConnector extends AbstractRepositoryConnector {
 		try {
 			client = getClient(repository);
 			IOperationMonitor progress = OperationUtil.convert(monitor, "performQuery", 3); //$NON-NLS-1$
-			client.getIssues(query, collector, new NullOperationMonitor());
+			TaskDataCollector queryCollector = collector;
+			if (session != null && session.getData() instanceof SynchronizationTimestamp timestamp) {
+				queryCollector = new TaskDataCollector() {
+					@Override
+					public void accept(TaskData taskData) {
+						timestamp.update(getModificationDate(taskData));
+						collector.accept(taskData);
+					}
+
+					@Override
+					public void failed(String taskId, IStatus status) {
+						collector.failed(taskId, status);
+					}
+				};
+			}
+			client.getIssues(query, queryCollector, new NullOperationMonitor());
 		} catch (CoreException e) {
 			return new Status(IStatus.ERROR, GitlabCoreActivator.PLUGIN_ID, IStatus.INFO,
 					"CoreException from performQuery", e); //$NON-NLS-1$
@@ -28,18 +28,32 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
+import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import org.apache.http.Header;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
@@ -49,10 +63,12 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.mylyn.commons.core.StatusHandler;
 import org.eclipse.mylyn.commons.core.operations.IOperationMonitor;
+import org.eclipse.mylyn.commons.core.operations.IOperationMonitor.OperationFlag;
 import org.eclipse.mylyn.commons.core.operations.OperationUtil;
 import org.eclipse.mylyn.commons.net.AuthenticationCredentials;
 import org.eclipse.mylyn.commons.repositories.core.RepositoryLocation;
@@ -62,6 +78,7 @@ import org.eclipse.mylyn.gitlab.core.GitlabConfiguration;
 import org.eclipse.mylyn.gitlab.core.GitlabCoreActivator;
 import org.eclipse.mylyn.gitlab.core.GitlabCoreActivator.ActivityType;
 import org.eclipse.mylyn.gitlab.core.GitlabException;
+import org.eclipse.mylyn.internal.commons.core.operations.NullOperationMonitor;
 import org.eclipse.mylyn.tasks.core.IRepositoryPerson;
 import org.eclipse.mylyn.tasks.core.IRepositoryQuery;
 import org.eclipse.mylyn.tasks.core.RepositoryResponse;
@@ -102,10 +119,46 @@ public class GitlabRestClient {
 
 	private final TaskRepository taskRepository;
 
+	private static final Pattern ISSUE_ID_PATTERN = Pattern.compile(".*(/projects/\\d+)/issues/(\\d+)", //$NON-NLS-1$
+			Pattern.CASE_INSENSITIVE);
+
 	private static final Pattern linkPattern = Pattern.compile("\\[(.+)\\]\\((.+)\\)"); //$NON-NLS-1$
 
 	public static String AUTHORIZATION_HEADER = "authorization_header"; //$NON-NLS-1$
 
+	private static final int ISSUES_PER_PAGE = 100;
+
+	/**
+	 * The maximum number of requests that are run concurrently when retrieving the task data of several issues or the
+	 * labels and milestones of projects.
+	 */
+	private static final int MAX_CONCURRENT_REQUESTS = 8;
+
+	private static final long POLL_INTERVAL = 200;
+
+	private static final ThreadFactory retrievalThreadFactory = new ThreadFactory() {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "GitLab Retrieval-" + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		}
+	};
+
+	private static final Type TASK_DATA_LIST_TYPE = new TypeToken<List<TaskData>>() {
+	}.getType();
+
+	private final Gson taskDataListGson = new GsonBuilder()
+			.registerTypeAdapter(TASK_DATA_LIST_TYPE, new JSonTaskDataListDeserializer())
+			.create();
+
+	private final Gson taskDataGson = new GsonBuilder()
+			.registerTypeAdapter(TaskData.class, new JSonTaskDataDeserializer())
+			.create();
+
 	@SuppressWarnings("restriction")
 	public GitlabRestClient(RepositoryLocation location, CommonHttpClient client,
 			GitlabRepositoryConnector connector,
@@ -138,11 +191,12 @@ public class GitlabRestClient {
 		getAccessTokenIfNotPresent(monitor);
 		String[] queryProjects = query.getAttribute(GitlabTaskSchema.getDefault().PRODUCT.getKey()).split(","); //$NON-NLS-1$
 		String groupAttribute = query.getAttribute("group"); //$NON-NLS-1$
+		List<String> parameters = getQueryParameters(query);
 
 		if (!queryProjects[0].isEmpty()) {
 			for (String string : queryProjects) {
 				String path = "/projects/" + string.replace("/", "%2F"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-				getIssuesInternal(query, collector, path, monitor);
+				getIssuesInternal(path, parameters, collector, monitor);
 			}
 		}
 		if (groupAttribute != null) {
@@ -150,7 +204,7 @@ public class GitlabRestClient {
 			if (!gueryGroups[0].isEmpty()) {
 				for (String string : gueryGroups) {
 					String path = "/groups/" + string.replace("/", "%2F"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-					getIssuesInternal(query, collector, path, monitor);
+					getIssuesInternal(path, parameters, collector, monitor);
 				}
 			}
 		}
@@ -160,112 +214,140 @@ public class GitlabRestClient {
 		return Status.OK_STATUS;
 	}
 
-	private void getIssuesInternal(IRepositoryQuery query, TaskDataCollector collector, String path,
-			final IOperationMonitor monitor) throws GitlabException {
-		List<TaskData> taskDataArray = new GitlabOperation<List<TaskData>>(client, path + "/issues") { //$NON-NLS-1$
+	/**
+	 * Passes all issues of the project or group identified by <code>path</code> that were updated at or after
+	 * <code>updatedAfter</code> to <code>collector</code>.
+	 *
+	 * @param path
+	 *            the path of a project or group, e.g. <code>/projects/42</code>
+	 * @param updatedAfter
+	 *            an ISO 8601 timestamp
+	 */
+	public void getIssuesUpdatedAfter(String path, String updatedAfter, TaskDataCollector collector,
+			IOperationMonitor monitor) throws GitlabException {
+		getAccessTokenIfNotPresent(monitor);
+		List<String> parameters = new ArrayList<>();
+		parameters.add("updated_after=" + URLEncoder.encode(updatedAfter, StandardCharsets.UTF_8)); //$NON-NLS-1$
+		getIssuesInternal(path, parameters, collector, monitor);
+	}
 
-			@Override
-			protected HttpRequestBase createHttpRequestBase(String url) {
-				String state = query.getAttribute("STATE"); //$NON-NLS-1$
-				ArrayList<String> suffix = new ArrayList<>();
-				switch (state != null ? state : "") { //$NON-NLS-1$
-					case "opened": //$NON-NLS-1$
-						suffix.add("state=opened"); //$NON-NLS-1$
-						break;
-					case "closed": //$NON-NLS-1$
-						suffix.add("state=closed"); //$NON-NLS-1$
-						break;
-					default:
-				}
-				String search = query.getAttribute("SEARCH"); //$NON-NLS-1$
-				if (search != null && !search.isBlank()) {
-					try {
-						suffix.add("search=" + URLEncoder.encode(search, StandardCharsets.UTF_8.toString())); //$NON-NLS-1$
-						String searchIn = query.getAttribute("SEARCH_IN"); //$NON-NLS-1$
-						if (searchIn != null && !searchIn.isBlank()) {
-							suffix.add("in=" + searchIn); //$NON-NLS-1$
-						}
-					} catch (UnsupportedEncodingException e) {
-						// ignore if we not can encode the search value
-						e.printStackTrace();
-					}
-				}
-				if (Boolean.parseBoolean(query.getAttribute("CONFIDENTIAL"))) { //$NON-NLS-1$
-					suffix.add("confidential=true"); //$NON-NLS-1$
-				}
-				if (Boolean.parseBoolean(query.getAttribute("ASSIGNED_TO_ME"))) { //$NON-NLS-1$
-					suffix.add("scope=assigned_to_me"); //$NON-NLS-1$
+	/**
+	 * Returns the paths of the projects and groups that are part of the repository configuration. Projects that belong
+	 * to one of the configured groups are covered by the group and not returned separately.
+	 */
+	public Set<String> getConfigurationPaths() {
+		Set<String> paths = new LinkedHashSet<>();
+		GitlabConfiguration config = getConfiguration();
+		if (config != null) {
+			Set<String> groupNames = config.getGroupNames();
+			for (String groupName : groupNames) {
+				paths.add("/groups/" + groupName.replace("/", "%2F")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			for (Integer projectId : config.getProjectIDs()) {
+				JsonElement pathWithNamespace = config.getProductWithID(projectId).get("path_with_namespace"); //$NON-NLS-1$
+				if (pathWithNamespace == null || !isInGroup(pathWithNamespace.getAsString(), groupNames)) {
+					paths.add("/projects/" + projectId); //$NON-NLS-1$
 				}
+			}
+		}
+		return paths;
+	}
 
-				String suffixStr = suffix.size() > 0 ? "?" + String.join("&", suffix) : ""; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-				HttpRequestBase request = new HttpGet(url + suffixStr);
-				return request;
+	private static boolean isInGroup(String projectPath, Set<String> groupNames) {
+		for (String groupName : groupNames) {
+			if (projectPath.startsWith(groupName + "/")) { //$NON-NLS-1$
+				return true;
 			}
+		}
+		return false;
+	}
 
-			private String nextPage(Header[] linkHeader) {
-				if (linkHeader.length > 0) {
-					Header firstLinkHeader = linkHeader[0];
-					for (String linkHeaderEntry : firstLinkHeader.getValue().split(", ")) { //$NON-NLS-1$
-						String[] linkHeaderElements = linkHeaderEntry.split("; "); //$NON-NLS-1$
-						if ("rel=\"next\"".equals(linkHeaderElements[1])) { //$NON-NLS-1$
-							return linkHeaderElements[0].substring(1, linkHeaderElements[0].length() - 1);
-						}
-					}
-				}
+	private List<String> getQueryParameters(IRepositoryQuery query) {
+		String state = query.getAttribute("STATE"); //$NON-NLS-1$
+		List<String> parameters = new ArrayList<>();
+		switch (state != null ? state : "") { //$NON-NLS-1$
+			case "opened": //$NON-NLS-1$
+				parameters.add("state=opened"); //$NON-NLS-1$
+				break;
+			case "closed": //$NON-NLS-1$
+				parameters.add("state=closed"); //$NON-NLS-1$
+				break;
+			default:
+		}
+		String search = query.getAttribute("SEARCH"); //$NON-NLS-1$
+		if (search != null && !search.isBlank()) {
+			parameters.add("search=" + URLEncoder.encode(search, StandardCharsets.UTF_8)); //$NON-NLS-1$
+			String searchIn = query.getAttribute("SEARCH_IN"); //$NON-NLS-1$
+			if (searchIn != null && !searchIn.isBlank()) {
+				parameters.add("in=" + searchIn); //$NON-NLS-1$
+			}
+		}
+		if (Boolean.parseBoolean(query.getAttribute("CONFIDENTIAL"))) { //$NON-NLS-1$
+			parameters.add("confidential=true"); //$NON-NLS-1$
+		}
+		if (Boolean.parseBoolean(query.getAttribute("ASSIGNED_TO_ME"))) { //$NON-NLS-1$
+			parameters.add("scope=assigned_to_me"); //$NON-NLS-1$
+		}
+		return parameters;
+	}
 
-				return null;
+	/**
+	 * Requests the issues below <code>path</code> page by page and passes the issues of each page to
+	 * <code>collector</code> as soon as the page has been parsed.
+	 */
+	private void getIssuesInternal(String path, List<String> parameters, TaskDataCollector collector,
+			final IOperationMonitor monitor) throws GitlabException {
+		List<String> allParameters = new ArrayList<>(parameters);
+		allParameters.add("per_page=" + ISSUES_PER_PAGE); //$NON-NLS-1$
+		new GitlabOperation<Integer>(client, path + "/issues?" + String.join("&", allParameters)) { //$NON-NLS-1$ //$NON-NLS-2$
+
+			@Override
+			protected HttpRequestBase createHttpRequestBase(String url) {
+				return new HttpGet(url);
 			}
 
 			@Override
-			protected java.util.List<TaskData> execute(IOperationMonitor monitor) throws IOException, GitlabException {
-				List<TaskData> result = null;
+			protected Integer execute(IOperationMonitor monitor) throws IOException, GitlabException {
+				int count = 0;
 				HttpRequestBase request = createHttpRequestBase();
-				addHttpRequestEntities(request);
-				CommonHttpResponse response = execute(request, monitor);
-				result = processAndRelease(response, monitor);
-				Header[] linkHeader = response.getResponse().getHeaders("Link"); //$NON-NLS-1$
-				String nextPageValue = nextPage(linkHeader);
-				while (nextPageValue != null) {
-					HttpRequestBase looprequest = new HttpGet(nextPageValue);
-					addHttpRequestEntities(looprequest);
-					CommonHttpResponse loopresponse = execute(looprequest, monitor);
-					List<TaskData> loopresult = processAndRelease(loopresponse, monitor);
-					result.addAll(loopresult);
-					linkHeader = loopresponse.getResponse().getHeaders("Link"); //$NON-NLS-1$
-					nextPageValue = nextPage(linkHeader);
+				while (request != null) {
+					addHttpRequestEntities(request);
+					CommonHttpResponse response = execute(request, monitor);
+					count += processAndRelease(response, monitor);
+					String nextPage = getNextPage(response);
+					request = (nextPage != null) ? new HttpGet(nextPage) : null;
 				}
-				return result;
+				return count;
 			}
 
 			@Override
-			protected List<TaskData> parseFromJson(InputStreamReader in) throws GitlabException {
-
-				TypeToken<List<TaskData>> type = new TypeToken<>() {
-				};
-
-				return new GsonBuilder().registerTypeAdapter(type.getType(), new JSonTaskDataListDeserializer())
-						.create()
-						.fromJson(in, type.getType());
+			protected Integer parseFromJson(InputStreamReader in) throws GitlabException {
+				List<TaskData> taskDataList = taskDataListGson.fromJson(in, TASK_DATA_LIST_TYPE);
+				for (TaskData taskData : taskDataList) {
+					taskData.setPartial(true);
+					accept(collector, taskData);
+				}
+				return taskDataList.size();
 			}
 		}.run(monitor);
-		for (final TaskData taskData : taskDataArray) {
-			taskData.setPartial(true);
-			SafeRunner.run(new ISafeRunnable() {
+	}
 
-				@Override
-				public void run() throws Exception {
-					collector.accept(taskData);
-				}
+	private void accept(TaskDataCollector collector, TaskData taskData) {
+		SafeRunner.run(new ISafeRunnable() {
 
-				@Override
-				public void handleException(Throwable exception) {
-					StatusHandler.log(new Status(IStatus.ERROR, GitlabCoreActivator.PLUGIN_ID,
-							NLS.bind("Unexpected error during result collection. TaskID {0} in repository {1}", //$NON-NLS-1$
-									taskData.getTaskId(), taskData.getRepositoryUrl()),
-							exception));
-				}
-			});
-		}
+			@Override
+			public void run() throws Exception {
+				collector.accept(taskData);
+			}
+
+			@Override
+			public void handleException(Throwable exception) {
+				StatusHandler.log(new Status(IStatus.ERROR, GitlabCoreActivator.PLUGIN_ID,
+						NLS.bind("Unexpected error during result collection. TaskID {0} in repository {1}", //$NON-NLS-1$
+								taskData.getTaskId(), taskData.getRepositoryUrl()),
+						exception));
+			}
+		});
 	}
 
 	public String getVersion(IOperationMonitor monitor) throws GitlabException {
@@ -502,179 +584,172 @@ public class GitlabRestClient {
 			GitlabCoreActivator.DEBUG_TRACE.traceEntry(GitlabCoreActivator.REST_CLIENT,
 					repository.getUrl() + " id " + taskId); //$NON-NLS-1$
 		}
-		String searchString = ".*(/projects/\\d+)/issues/(\\d+)"; //$NON-NLS-1$
-		Pattern pattern = Pattern.compile(searchString, Pattern.CASE_INSENSITIVE);
-		Matcher matcher = pattern.matcher(taskId);
+		Matcher matcher = ISSUE_ID_PATTERN.matcher(taskId);
 		if (matcher.find()) {
-			GitlabConfiguration config = getConfiguration();
-			if (GitlabCoreActivator.DEBUG_REST_CLIENT_TRACE) {
-				GitlabCoreActivator.DEBUG_TRACE.trace(GitlabCoreActivator.REST_CLIENT_TRACE, "get Configuration "); //$NON-NLS-1$
-			}
 			JsonObject issue = getIssue(matcher.group(1), matcher.group(2), OperationUtil.convert(monitor));
 			if (GitlabCoreActivator.DEBUG_REST_CLIENT_TRACE) {
 				GitlabCoreActivator.DEBUG_TRACE.trace(GitlabCoreActivator.REST_CLIENT_TRACE,
 						"get Issue with path " + matcher.group(1) + " an ID " + matcher.group(2)); //$NON-NLS-1$ //$NON-NLS-2$
 			}
-			TypeToken<TaskData> type = new TypeToken<>() {
-			};
-			result = new GsonBuilder().registerTypeAdapter(type.getType(), new JSonTaskDataDeserializer())
-					.create()
-					.fromJson(issue, type.getType());
-
-//			JsonArray notes = getIssueNotes(matcher.group(1), matcher.group(2), OperationUtil.convert(monitor));
-//			if (notes != null) {
-//				int i = 0;
-//				for (JsonElement jsonElement : notes) {
-//					JsonObject note = jsonElement.getAsJsonObject();
-//					i = createNoteTaskAttribute(repository, result, i, note);
-//				}
-//			}
 			JsonArray discussions = getIssueDiscussions(matcher.group(1), matcher.group(2),
 					OperationUtil.convert(monitor));
 			if (GitlabCoreActivator.DEBUG_REST_CLIENT_TRACE) {
 				GitlabCoreActivator.DEBUG_TRACE.trace(GitlabCoreActivator.REST_CLIENT_TRACE,
 						"get IssueDiscussions with path " + matcher.group(1) + " an ID " + matcher.group(2)); //$NON-NLS-1$ //$NON-NLS-2$
 			}
-			if (discussions != null) {
-				int commentIdx = 0;
-				for (JsonElement jsonElement : discussions) {
-					JsonObject discussion = (JsonObject) jsonElement;
+			JsonArray states = getIssueStateEvents(matcher.group(1), matcher.group(2), OperationUtil.convert(monitor));
+			if (GitlabCoreActivator.DEBUG_REST_CLIENT_TRACE) {
+				GitlabCoreActivator.DEBUG_TRACE.trace(GitlabCoreActivator.REST_CLIENT_TRACE,
+						"get IssueStateEvents with path " + matcher.group(1) + " an ID " + matcher.group(2)); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			JsonArray labels = getIssueLabelEvents(matcher.group(1), matcher.group(2), OperationUtil.convert(monitor));
+			if (GitlabCoreActivator.DEBUG_REST_CLIENT_TRACE) {
+				GitlabCoreActivator.DEBUG_TRACE.trace(GitlabCoreActivator.REST_CLIENT_TRACE,
+						"get getIssueLabelEvents with path " + matcher.group(1) + " an ID " + matcher.group(2)); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			result = createTaskData(repository, issue, discussions, states, labels);
+		}
+		if (GitlabCoreActivator.DEBUG_REST_CLIENT) {
+			GitlabCoreActivator.DEBUG_TRACE.traceExit(GitlabCoreActivator.REST_CLIENT, result);
+		}
+		return result;
+	}
 
-					JsonArray notesArray = discussion.get("notes").getAsJsonArray(); //$NON-NLS-1$
-					String projectId = discussion.get(ID_KEY).getAsString();
-					TaskAttribute attrib;
-					if (discussion.get("individual_note").getAsBoolean()) { //$NON-NLS-1$
-						JsonObject note = notesArray.get(0).getAsJsonObject();
+	/**
+	 * Creates the task data of an issue from the issue and its discussions, state events and label events.
+	 */
+	private TaskData createTaskData(TaskRepository repository, JsonObject issue, JsonArray discussions,
+			JsonArray states, JsonArray labels) {
+		TaskData result = taskDataGson.fromJson(issue, TaskData.class);
+		if (discussions != null) {
+			int commentIdx = 0;
+			for (JsonElement jsonElement : discussions) {
+				JsonObject discussion = (JsonObject) jsonElement;
+
+				JsonArray notesArray = discussion.get("notes").getAsJsonArray(); //$NON-NLS-1$
+				String projectId = discussion.get(ID_KEY).getAsString();
+				TaskAttribute attrib;
+				if (discussion.get("individual_note").getAsBoolean()) { //$NON-NLS-1$
+					JsonObject note = notesArray.get(0).getAsJsonObject();
+					String noteId = note.get(ID_KEY).getAsString();
+					if (!note.get("system").getAsBoolean()) { //$NON-NLS-1$
+						attrib = createNoteTaskAttribute(repository, result.getRoot(), commentIdx++, note);
+					} else {
+						attrib = createActivityEventTaskAttribute(repository, result.getRoot(), note);
+					}
+					attrib.createAttribute("discussions").setValue(projectId); //$NON-NLS-1$
+					attrib.createAttribute("noteable_id").setValue(note.get("noteable_id").getAsString()); //$NON-NLS-1$ //$NON-NLS-2$
+					attrib.createAttribute("note_id").setValue(noteId); //$NON-NLS-1$
+				} else {
+					TaskAttribute reply = null;
+					for (JsonElement noteElement : notesArray) {
+						JsonObject note = noteElement.getAsJsonObject();
 						String noteId = note.get(ID_KEY).getAsString();
 						if (!note.get("system").getAsBoolean()) { //$NON-NLS-1$
-							attrib = createNoteTaskAttribute(repository, result.getRoot(), commentIdx++, note);
+							attrib = createNoteTaskAttribute(repository, reply == null ? result.getRoot() : reply,
+									commentIdx++, note);
+							if (reply == null) {
+								reply = attrib.createAttribute("reply"); //$NON-NLS-1$
+							}
 						} else {
 							attrib = createActivityEventTaskAttribute(repository, result.getRoot(), note);
 						}
 						attrib.createAttribute("discussions").setValue(projectId); //$NON-NLS-1$
 						attrib.createAttribute("noteable_id").setValue(note.get("noteable_id").getAsString()); //$NON-NLS-1$ //$NON-NLS-2$
 						attrib.createAttribute("note_id").setValue(noteId); //$NON-NLS-1$
-					} else {
-						TaskAttribute reply = null;
-						for (JsonElement noteElement : notesArray) {
-							JsonObject note = noteElement.getAsJsonObject();
-							String noteId = note.get(ID_KEY).getAsString();
-							if (!note.get("system").getAsBoolean()) { //$NON-NLS-1$
-								attrib = createNoteTaskAttribute(repository, reply == null ? result.getRoot() : reply,
-										commentIdx++, note);
-								if (reply == null) {
-									reply = attrib.createAttribute("reply"); //$NON-NLS-1$
-								}
-							} else {
-								attrib = createActivityEventTaskAttribute(repository, result.getRoot(), note);
-							}
-							attrib.createAttribute("discussions").setValue(projectId); //$NON-NLS-1$
-							attrib.createAttribute("noteable_id").setValue(note.get("noteable_id").getAsString()); //$NON-NLS-1$ //$NON-NLS-2$
-							attrib.createAttribute("note_id").setValue(noteId); //$NON-NLS-1$
-						}
 					}
 				}
 			}
+		}
+
+		if (states != null) {
+			for (JsonElement stateElem : states) {
+				JsonObject state = (JsonObject) stateElem;
+				Instant instant = Instant
+						.from(DateTimeFormatter.ISO_INSTANT.parse(state.get("created_at").getAsString())); //$NON-NLS-1$
+				LocalDateTime localDateTime = LocalDateTime.ofInstant(instant, TimeZone.getDefault().toZoneId());
+
+				TaskAttribute taskAttribute = result.getRoot()
+						.createAttribute(GitlabCoreActivator.PREFIX_ACTIVITY + instant);
+				taskAttribute.getMetaData().setType(GitlabCoreActivator.ATTRIBUTE_TYPE_ACTIVITY);
+
+				String stateText = state.get("state").getAsString(); //$NON-NLS-1$
+
+				TaskAttribute child = DefaultTaskSchema.getField(TaskAttribute.COMMENT_TEXT)
+						.createAttribute(taskAttribute);
+				child.setValue(stateText);
+				taskAttribute.getMetaData().putValue(TaskAttribute.META_ASSOCIATED_ATTRIBUTE_ID, child.getId());
+
+				child = DefaultTaskSchema.getField(TaskAttribute.COMMENT_DATE).createAttribute(taskAttribute);
+				child.setValue(localDateTime.format(DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM)));
+
+				child = DefaultTaskSchema.getField(TaskAttribute.COMMENT_AUTHOR).createAttribute(taskAttribute);
+				child.setValue(state.get("user").getAsJsonObject().get("name").getAsString()); //$NON-NLS-1$ //$NON-NLS-2$
+
+				TaskAttribute typeAttribute = taskAttribute
+						.createAttribute(GitlabCoreActivator.ATTRIBUTE_TYPE_ACTIVITY);
+
+				if (stateText.startsWith("closed")) { //$NON-NLS-1$
+					typeAttribute.setValue(ActivityType.LOCK.toString());
+				} else if (stateText.startsWith("reopened")) { //$NON-NLS-1$
+					typeAttribute.setValue(ActivityType.REOPEN.toString());
+				}
 
-			JsonArray states = getIssueStateEvents(matcher.group(1), matcher.group(2), OperationUtil.convert(monitor));
-			if (GitlabCoreActivator.DEBUG_REST_CLIENT_TRACE) {
-				GitlabCoreActivator.DEBUG_TRACE.trace(GitlabCoreActivator.REST_CLIENT_TRACE,
-						"get IssueStateEvents with path " + matcher.group(1) + " an ID " + matcher.group(2)); //$NON-NLS-1$ //$NON-NLS-2$
 			}
-			if (states != null) {
-				for (JsonElement stateElem : states) {
-					JsonObject state = (JsonObject) stateElem;
-					Instant instant = Instant
-							.from(DateTimeFormatter.ISO_INSTANT.parse(state.get("created_at").getAsString())); //$NON-NLS-1$
-					LocalDateTime localDateTime = LocalDateTime.ofInstant(instant, TimeZone.getDefault().toZoneId());
+		}
+		if (labels != null) {
+			long lastLabelAt = 0;
+			Instant instantAt = null;
+			TaskAttribute labelText = null;
+			ArrayList<String> added = new ArrayList<>();
+			ArrayList<String> removed = new ArrayList<>();
+			for (JsonElement stateElem : labels) {
+				JsonObject label = (JsonObject) stateElem;
+				Instant instant = Instant
+						.from(DateTimeFormatter.ISO_INSTANT.parse(label.get("created_at").getAsString())); //$NON-NLS-1$
+				LocalDateTime localDateTime = LocalDateTime.ofInstant(instant, TimeZone.getDefault().toZoneId());
+
+				if (!instant.equals(instantAt)) {
+					instantAt = instant;
+
+					buildLableText(labelText, added, removed);
+
+					added.clear();
+					removed.clear();
 
 					TaskAttribute taskAttribute = result.getRoot()
 							.createAttribute(GitlabCoreActivator.PREFIX_ACTIVITY + instant);
 					taskAttribute.getMetaData().setType(GitlabCoreActivator.ATTRIBUTE_TYPE_ACTIVITY);
-
-					String stateText = state.get("state").getAsString(); //$NON-NLS-1$
-
-					TaskAttribute child = DefaultTaskSchema.getField(TaskAttribute.COMMENT_TEXT)
+					TaskAttribute child = DefaultTaskSchema.getField(TaskAttribute.COMMENT_DATE)
 							.createAttribute(taskAttribute);
-					child.setValue(stateText);
-					taskAttribute.getMetaData().putValue(TaskAttribute.META_ASSOCIATED_ATTRIBUTE_ID, child.getId());
-
-					child = DefaultTaskSchema.getField(TaskAttribute.COMMENT_DATE).createAttribute(taskAttribute);
 					child.setValue(localDateTime.format(DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM)));
 
 					child = DefaultTaskSchema.getField(TaskAttribute.COMMENT_AUTHOR).createAttribute(taskAttribute);
-					child.setValue(state.get("user").getAsJsonObject().get("name").getAsString()); //$NON-NLS-1$ //$NON-NLS-2$
+					child.setValue(label.get("user").getAsJsonObject().get("name").getAsString()); //$NON-NLS-1$ //$NON-NLS-2$
 
 					TaskAttribute typeAttribute = taskAttribute
 							.createAttribute(GitlabCoreActivator.ATTRIBUTE_TYPE_ACTIVITY);
-
-					if (stateText.startsWith("closed")) { //$NON-NLS-1$
-						typeAttribute.setValue(ActivityType.LOCK.toString());
-					} else if (stateText.startsWith("reopened")) { //$NON-NLS-1$
-						typeAttribute.setValue(ActivityType.REOPEN.toString());
-					}
-
+					typeAttribute.setValue(ActivityType.LABEL.toString());
+					labelText = DefaultTaskSchema.getField(TaskAttribute.COMMENT_TEXT)
+							.createAttribute(taskAttribute);
+					taskAttribute.getMetaData()
+							.putValue(TaskAttribute.META_ASSOCIATED_ATTRIBUTE_ID, labelText.getId());
 				}
-			}
-			JsonArray labels = getIssueLabelEvents(matcher.group(1), matcher.group(2), OperationUtil.convert(monitor));
-			if (GitlabCoreActivator.DEBUG_REST_CLIENT_TRACE) {
-				GitlabCoreActivator.DEBUG_TRACE.trace(GitlabCoreActivator.REST_CLIENT_TRACE,
-						"get getIssueLabelEvents with path " + matcher.group(1) + " an ID " + matcher.group(2)); //$NON-NLS-1$ //$NON-NLS-2$
-			}
-			if (labels != null) {
-				long lastLabelAt = 0;
-				Instant instantAt = null;
-				TaskAttribute labelText = null;
-				ArrayList<String> added = new ArrayList<>();
-				ArrayList<String> removed = new ArrayList<>();
-				for (JsonElement stateElem : labels) {
-					JsonObject label = (JsonObject) stateElem;
-					Instant instant = Instant
-							.from(DateTimeFormatter.ISO_INSTANT.parse(label.get("created_at").getAsString())); //$NON-NLS-1$
-					LocalDateTime localDateTime = LocalDateTime.ofInstant(instant, TimeZone.getDefault().toZoneId());
-
-					if (!instant.equals(instantAt)) {
-						instantAt = instant;
-
-						buildLableText(labelText, added, removed);
-
-						added.clear();
-						removed.clear();
-
-						TaskAttribute taskAttribute = result.getRoot()
-								.createAttribute(GitlabCoreActivator.PREFIX_ACTIVITY + instant);
-						taskAttribute.getMetaData().setType(GitlabCoreActivator.ATTRIBUTE_TYPE_ACTIVITY);
-						TaskAttribute child = DefaultTaskSchema.getField(TaskAttribute.COMMENT_DATE)
-								.createAttribute(taskAttribute);
-						child.setValue(localDateTime.format(DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM)));
-
-						child = DefaultTaskSchema.getField(TaskAttribute.COMMENT_AUTHOR).createAttribute(taskAttribute);
-						child.setValue(label.get("user").getAsJsonObject().get("name").getAsString()); //$NON-NLS-1$ //$NON-NLS-2$
-
-						TaskAttribute typeAttribute = taskAttribute
-								.createAttribute(GitlabCoreActivator.ATTRIBUTE_TYPE_ACTIVITY);
-						typeAttribute.setValue(ActivityType.LABEL.toString());
-						labelText = DefaultTaskSchema.getField(TaskAttribute.COMMENT_TEXT)
-								.createAttribute(taskAttribute);
-						taskAttribute.getMetaData()
-								.putValue(TaskAttribute.META_ASSOCIATED_ATTRIBUTE_ID, labelText.getId());
-					}
-					if (label.getAsJsonObject().get("action").getAsString().equals("add")) { //$NON-NLS-1$ //$NON-NLS-2$
-						added.add(label.get("label").getAsJsonObject().get("name").getAsString()); //$NON-NLS-1$ //$NON-NLS-2$
-					}
-					if (label.getAsJsonObject().get("action").getAsString().equals("remove")) { //$NON-NLS-1$ //$NON-NLS-2$
-						removed.add(label.get("label").getAsJsonObject().get("name").getAsString()); //$NON-NLS-1$ //$NON-NLS-2$
-					}
-
+				if (label.getAsJsonObject().get("action").getAsString().equals("add")) { //$NON-NLS-1$ //$NON-NLS-2$
+					added.add(label.get("label").getAsJsonObject().get("name").getAsString()); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				if (label.getAsJsonObject().get("action").getAsString().equals("remove")) { //$NON-NLS-1$ //$NON-NLS-2$
+					removed.add(label.get("label").getAsJsonObject().get("name").getAsString()); //$NON-NLS-1$ //$NON-NLS-2$
 				}
-				buildLableText(labelText, added, removed);
 
 			}
+			buildLableText(labelText, added, removed);
 
-			config.updateProductOptions(result);
 		}
-		if (GitlabCoreActivator.DEBUG_REST_CLIENT) {
-			GitlabCoreActivator.DEBUG_TRACE.traceExit(GitlabCoreActivator.REST_CLIENT, result);
+
+		GitlabConfiguration config = getConfiguration();
+		if (config != null) {
+			config.updateProductOptions(result);
 		}
 		return result;
 	}
@@ -839,14 +914,140 @@ public class GitlabRestClient {
 		return attribute;
 	}
 
+	/**
+	 * Retrieves the task data for <code>taskIds</code>. The requests for the issues and their discussions and events
+	 * are run concurrently on up to {@link #MAX_CONCURRENT_REQUESTS} threads and task data is passed to
+	 * <code>collector</code> in the calling thread in the order of completion. Failures to retrieve a single issue are
+	 * reported to {@link TaskDataCollector#failed(String, IStatus)}.
+	 */
 	public void getTaskData(Set<String> taskIds, TaskRepository taskRepository, TaskDataCollector collector,
 			IOperationMonitor monitor) throws GitlabException {
+		if (taskIds.size() <= 1) {
+			for (String taskId : taskIds) {
+				TaskData data;
+				data = getTaskData(taskRepository, taskId, monitor);
+				collector.accept(data);
+			}
+			return;
+		}
+
+		getAccessTokenIfNotPresent(monitor);
+		IOperationMonitor workerMonitor = createWorkerMonitor(monitor);
+		BlockingQueue<Entry<String, Object>> results = new LinkedBlockingQueue<>();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(MAX_CONCURRENT_REQUESTS, taskIds.size() * 4),
+				retrievalThreadFactory);
+		try {
+			int pending = 0;
+			for (String taskId : taskIds) {
+				Matcher matcher = ISSUE_ID_PATTERN.matcher(taskId);
+				if (!matcher.find()) {
+					collector.failed(taskId, new Status(IStatus.ERROR, GitlabCoreActivator.PLUGIN_ID,
+							NLS.bind("Invalid task id {0}", taskId))); //$NON-NLS-1$
+					continue;
+				}
+				String path = matcher.group(1);
+				String id = matcher.group(2);
+				CompletableFuture<JsonObject> issue = supplyAsync(() -> getIssue(path, id, workerMonitor), executor);
+				CompletableFuture<JsonArray> discussions = supplyAsync(
+						() -> getIssueDiscussions(path, id, workerMonitor), executor);
+				CompletableFuture<JsonArray> states = supplyAsync(() -> getIssueStateEvents(path, id, workerMonitor),
+						executor);
+				CompletableFuture<JsonArray> labels = supplyAsync(() -> getIssueLabelEvents(path, id, workerMonitor),
+						executor);
+				CompletableFuture.allOf(issue, discussions, states, labels)
+						.thenApply(v -> createTaskData(taskRepository, issue.join(), discussions.join(), states.join(),
+								labels.join()))
+						.whenComplete((taskData, e) -> results.add(new SimpleEntry<>(taskId, e != null ? e : taskData)));
+				pending++;
+			}
+			for (; pending > 0; pending--) {
+				Entry<String, Object> result;
+				while ((result = results.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS)) == null) {
+					if (monitor.isCanceled()) {
+						throw new OperationCanceledException();
+					}
+				}
+				if (result.getValue() instanceof TaskData taskData) {
+					accept(collector, taskData);
+				} else {
+					collector.failed(result.getKey(), getStatus(result.getKey(), (Throwable) result.getValue()));
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			workerMonitor.setCanceled(true);
+			executor.shutdownNow();
+		}
+	}
+
+	private interface GitlabRequest<T> {
+
+		T run() throws GitlabException;
+
+	}
+
+	private static <T> CompletableFuture<T> supplyAsync(GitlabRequest<T> request, ExecutorService executor) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return request.run();
+			} catch (GitlabException e) {
+				throw new CompletionException(e);
+			}
+		}, executor);
+	}
+
+	/**
+	 * Returns a monitor for requests that run on worker threads. The monitor is canceled when <code>monitor</code> is
+	 * canceled.
+	 */
+	private static IOperationMonitor createWorkerMonitor(IOperationMonitor monitor) {
+		IOperationMonitor workerMonitor = new NullOperationMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return super.isCanceled() || (monitor != null && monitor.isCanceled());
+			}
+		};
+		workerMonitor.addFlag(OperationFlag.BACKGROUND);
+		return workerMonitor;
+	}
+
+	/**
+	 * Waits for <code>future</code> to complete and returns its result.
+	 */
+	private static <T> T await(CompletableFuture<T> future, IOperationMonitor monitor) throws GitlabException {
+		try {
+			while (true) {
+				try {
+					return future.get(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+				} catch (TimeoutException e) {
+					if (monitor != null && monitor.isCanceled()) {
+						throw new OperationCanceledException();
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof GitlabException gitlabException) {
+				throw gitlabException;
+			} else if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new GitlabException(new Status(IStatus.ERROR, GitlabCoreActivator.PLUGIN_ID,
+					e.getCause().getMessage(), e.getCause()));
+		}
+	}
 
-		for (String taskId : taskIds) {
-			TaskData data;
-			data = getTaskData(taskRepository, taskId, monitor);
-			collector.accept(data);
+	private static IStatus getStatus(String taskId, Throwable exception) {
+		Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+		if (cause instanceof CoreException coreException) {
+			return coreException.getStatus();
 		}
+		return new Status(IStatus.ERROR, GitlabCoreActivator.PLUGIN_ID,
+				NLS.bind("Retrieving task {0} failed", taskId), cause); //$NON-NLS-1$
 	}
 
 	public JsonObject getUser(IOperationMonitor monitor) throws GitlabException {
@@ -1241,6 +1442,10 @@ public class GitlabRestClient {
 		return jsonElement;
 	}
 
+	/**
+	 * Retrieves the configuration of <code>repository</code>. The labels and milestones of the projects are retrieved
+	 * concurrently.
+	 */
 	public GitlabConfiguration getConfiguration(TaskRepository repository, IOperationMonitor monitor)
 			throws GitlabException {
 		if (GitlabCoreActivator.DEBUG_REST_CLIENT) {
@@ -1254,12 +1459,11 @@ public class GitlabRestClient {
 			GitlabCoreActivator.DEBUG_TRACE.trace(GitlabCoreActivator.REST_CLIENT_TRACE,
 					/* repository.getRepositoryUrl() + */ "get User"); //$NON-NLS-1$
 		}
+		Map<Integer, JsonObject> projectsById = new LinkedHashMap<>();
 		JsonElement projects = getProjects("/users/" + config.getUserID(), monitor); //$NON-NLS-1$
 		for (JsonElement project : (JsonArray) projects) {
 			JsonObject projectObject = (JsonObject) project;
-			JsonArray labels = getProjectLabels(projectObject.get(ID_KEY).getAsString(), monitor);
-			JsonArray milestones = getProjectMilestones(projectObject, monitor);
-			config.addProject(projectObject, labels, milestones);
+			projectsById.put(projectObject.get(ID_KEY).getAsInt(), projectObject);
 		}
 		if (GitlabCoreActivator.DEBUG_REST_CLIENT_TRACE) {
 			GitlabCoreActivator.DEBUG_TRACE.trace(GitlabCoreActivator.REST_CLIENT_TRACE,
@@ -1278,15 +1482,7 @@ public class GitlabRestClient {
 								/* repository.getRepositoryUrl() + */ "get Project: (" + (i + 1) + "/" //$NON-NLS-1$ //$NON-NLS-2$
 										+ projectList.length + "): " + project + " "); //$NON-NLS-1$ //$NON-NLS-2$
 					}
-					JsonObject projectObject = projectDetail;
-					JsonArray labels = getProjectLabels(projectObject.get(ID_KEY).getAsString(), monitor);
-					JsonArray milestones = getProjectMilestones(projectObject, monitor);
-					if (GitlabCoreActivator.DEBUG_REST_CLIENT_TRACE) {
-						GitlabCoreActivator.DEBUG_TRACE.trace(GitlabCoreActivator.REST_CLIENT_TRACE,
-								/* repository.getRepositoryUrl() + */ "get Project: (" + (i + 1) + "/" //$NON-NLS-1$ //$NON-NLS-2$
-										+ projectList.length + "): " + project + " Labels/Milestone "); //$NON-NLS-1$ //$NON-NLS-2$
-					}
-					config.addProject(projectObject, labels, milestones);
+					projectsById.put(projectDetail.get(ID_KEY).getAsInt(), projectDetail);
 				} catch (UnsupportedEncodingException e) {
 					throw new GitlabException(new Status(IStatus.ERROR, GitlabCoreActivator.PLUGIN_ID,
 							"UnsupportedEncodingException", e)); //$NON-NLS-1$
@@ -1311,29 +1507,51 @@ public class GitlabRestClient {
 							/* repository.getRepositoryUrl() + */ "get Group (" + (i + 1) + "/" + groupList.length //$NON-NLS-1$ //$NON-NLS-2$
 									+ "): " + group + " projects"); //$NON-NLS-1$ //$NON-NLS-2$
 				}
-				JsonArray projectsArray = (JsonArray) projects;
-				for (int j = 0; j < projectsArray.size(); j++) {
-					JsonElement project = projectsArray.get(j);
+				for (JsonElement project : (JsonArray) projects) {
 					JsonObject projectObject = (JsonObject) project;
-					String projectId = projectObject.get(ID_KEY).getAsString();
-					JsonArray labels = getProjectLabels(projectId, monitor);
-					JsonArray milestones = getProjectMilestones(projectObject, monitor);
-					if (GitlabCoreActivator.DEBUG_REST_CLIENT_TRACE) {
-						GitlabCoreActivator.DEBUG_TRACE.trace(GitlabCoreActivator.REST_CLIENT_TRACE,
-								/* repository.getRepositoryUrl() + */ "get Group (" + (i + 1) + "/" + groupList.length //$NON-NLS-1$ //$NON-NLS-2$
-										+ "): " + group + " Projects (" + (j + 1) + "/" + projectsArray.size() + "): " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
-										+ projectId + " Labels/Milestone: "); //$NON-NLS-1$
-					}
-					config.addProject(projectObject, labels, milestones);
+					projectsById.put(projectObject.get(ID_KEY).getAsInt(), projectObject);
 				}
 			}
 		}
+		addProjects(config, projectsById.values(), monitor);
 		if (GitlabCoreActivator.DEBUG_REST_CLIENT) {
 			GitlabCoreActivator.DEBUG_TRACE.traceExit(GitlabCoreActivator.REST_CLIENT, config.toString());
 		}
 		return config;
 	}
 
+	/**
+	 * Adds <code>projects</code> with their labels and milestones to <code>config</code>. The labels and milestones
+	 * are always retrieved, concurrently, since changes to them do not update the time stamps of the project.
+	 */
+	private void addProjects(GitlabConfiguration config, Collection<JsonObject> projects, IOperationMonitor monitor)
+			throws GitlabException {
+		if (projects.isEmpty()) {
+			return;
+		}
+		List<JsonObject> projectList = new ArrayList<>(projects);
+		getAccessTokenIfNotPresent(monitor);
+		IOperationMonitor workerMonitor = createWorkerMonitor(monitor);
+		ExecutorService executor = Executors
+				.newFixedThreadPool(Math.min(MAX_CONCURRENT_REQUESTS, projectList.size() * 2), retrievalThreadFactory);
+		try {
+			List<CompletableFuture<JsonArray>> labels = new ArrayList<>();
+			List<CompletableFuture<JsonArray>> milestones = new ArrayList<>();
+			for (JsonObject project : projectList) {
+				labels.add(supplyAsync(() -> getProjectLabels(project.get(ID_KEY).getAsString(), workerMonitor),
+						executor));
+				milestones.add(supplyAsync(() -> getProjectMilestones(project, workerMonitor), executor));
+			}
+			for (int i = 0; i < projectList.size(); i++) {
+				config.addProject(projectList.get(i), await(labels.get(i), monitor),
+						await(milestones.get(i), monitor));
+			}
+		} finally {
+			workerMonitor.setCanceled(true);
+			executor.shutdownNow();
+		}
+	}
+
 	Map<String, String> updatable = Map.ofEntries(Map.entry(GitlabTaskSchema.getDefault().SUMMARY.getKey(), "title"), //$NON-NLS-1$
 			Map.entry(GitlabTaskSchema.getDefault().DESCRIPTION.getKey(), "description"), //$NON-NLS-1$
 			Map.entry(GitlabTaskSchema.getDefault().DISCUSSION_LOCKED.getKey(),
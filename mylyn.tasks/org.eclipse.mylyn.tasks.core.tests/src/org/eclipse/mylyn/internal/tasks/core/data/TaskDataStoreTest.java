@@ -17,6 +17,7 @@ package org.eclipse.mylyn.internal.tasks.core.data;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
@@ -174,6 +175,59 @@ public class TaskDataStoreTest {
 		assertNoFailures(failures);
 	}
 
+	@Test
+	public void getTaskDataStateCached() throws Exception {
+		File file = newTaskDataZipFile();
+		TaskDataStore store = newTaskDataStore();
+
+		TaskDataState state1 = store.getTaskDataState(file);
+		TaskDataState state2 = store.getTaskDataState(file);
+
+		assertEquals(1, store.getCacheMissCount());
+		assertEquals(1, store.getCacheHitCount());
+		assertEquals(state1, state2);
+		assertNotSame(state1, state2);
+	}
+
+	@Test
+	public void putEditsInvalidatesCache() throws Exception {
+		File file = newTaskDataZipFile();
+		TaskDataStore store = newTaskDataStore();
+
+		store.getTaskDataState(file);
+		store.putEdits(file, TASK_DATA);
+		store.getTaskDataState(file);
+
+		assertEquals(1, store.getCacheHitCount());
+		assertEquals(2, store.getCacheMissCount());
+	}
+
+	@Test
+	public void discardEditsInvalidatesCache() throws Exception {
+		File file = newTaskDataZipFile();
+		TaskDataStore store = newTaskDataStore();
+
+		store.getTaskDataState(file);
+		store.discardEdits(file);
+		store.getTaskDataState(file);
+
+		assertEquals(1, store.getCacheHitCount());
+		assertEquals(2, store.getCacheMissCount());
+	}
+
+	@Test
+	public void getTaskDataStateCacheDisabled() throws Exception {
+		File file = newTaskDataZipFile();
+		TaskDataStore store = newTaskDataStore();
+		store.setCacheSize(0);
+
+		store.getTaskDataState(file);
+		store.getTaskDataState(file);
+
+		assertEquals(0, store.getCacheHitCount());
+		assertEquals(2, store.getCacheMissCount());
+	}
+
 	private static TaskDataStore newTaskDataStore() {
 		TaskRepositoryManager manager = new TaskRepositoryManager();
 		TaskDataExternalizer externalizer = new TaskDataExternalizer(manager) {
@@ -97,6 +97,11 @@ public abstract class AbstractTask extends AbstractTaskContainer implements ITas
 
 	private String ownerId;
 
+	/**
+	 * The task list that indexes this task by its key.
+	 */
+	private volatile TaskList taskList;
+
 	public AbstractTask(String repositoryUrl, String taskId, String summary) {
 		super(RepositoryTaskHandleUtil.getHandle(repositoryUrl, taskId));
 		this.repositoryUrl = repositoryUrl;
@@ -512,11 +517,20 @@ public abstract class AbstractTask extends AbstractTaskContainer implements ITas
 	public void setTaskKey(String taskKey) {
 		if (!areEqual(this.taskKey, taskKey)) {
 			String oldValue = this.taskKey;
+			String oldTaskKey = getTaskKey();
 			this.taskKey = taskKey;
 			firePropertyChange("taskKey", oldValue, taskKey); //$NON-NLS-1$
+			TaskList taskList = this.taskList;
+			if (taskList != null) {
+				taskList.taskKeyChanged(this, oldTaskKey);
+			}
 		}
 	}
 
+	void setTaskList(TaskList taskList) {
+		this.taskList = taskList;
+	}
+
 	@Override
 	public synchronized String getAttribute(String key) {
 		return attributeMap != null ? attributeMap.getAttribute(key) : null;
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core;
+
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * Elapsed time in milliseconds accumulated in hour buckets. Buckets are identified by the time in milliseconds of the
+ * start of the hour and kept in ascending order together with a running total so that the sum of any range of buckets
+ * can be computed with two binary searches.
+ * <p>
+ * Time is usually added to the latest bucket which is a constant time operation; adding to an earlier bucket or
+ * removing buckets is linear in the number of later buckets.
+ */
+public class ElapsedTimeSeries {
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	private long[] hours = new long[0];
+
+	/**
+	 * Sum of the elapsed time of all buckets up to and including the bucket at the same index.
+	 */
+	private long[] totals = new long[0];
+
+	private int size;
+
+	/**
+	 * Adds <code>elapsed</code> milliseconds to the bucket that starts at <code>hour</code>.
+	 */
+	public synchronized void add(long hour, long elapsed) {
+		int index = Arrays.binarySearch(hours, 0, size, hour);
+		if (index < 0) {
+			index = -index - 1;
+			ensureCapacity(size + 1);
+			System.arraycopy(hours, index, hours, index + 1, size - index);
+			System.arraycopy(totals, index, totals, index + 1, size - index);
+			hours[index] = hour;
+			totals[index] = getTotalBefore(index);
+			size++;
+		}
+		for (int i = index; i < size; i++) {
+			totals[i] += elapsed;
+		}
+	}
+
+	/**
+	 * Returns the sum of all buckets that start at or after <code>from</code> and before <code>to</code>.
+	 */
+	public synchronized long getElapsed(long from, long to) {
+		if (from >= to) {
+			return 0;
+		}
+		return getTotalBefore(lowerBound(to)) - getTotalBefore(lowerBound(from));
+	}
+
+	/**
+	 * Returns the sum of all buckets.
+	 */
+	public synchronized long getElapsed() {
+		return getTotalBefore(size);
+	}
+
+	/**
+	 * Removes all buckets that start at or after <code>from</code> and before <code>to</code>.
+	 */
+	public synchronized void remove(long from, long to) {
+		if (from >= to) {
+			return;
+		}
+		int start = lowerBound(from);
+		int end = lowerBound(to);
+		if (start == end) {
+			return;
+		}
+		long removed = getTotalBefore(end) - getTotalBefore(start);
+		System.arraycopy(hours, end, hours, start, size - end);
+		System.arraycopy(totals, end, totals, start, size - end);
+		size -= end - start;
+		for (int i = start; i < size; i++) {
+			totals[i] -= removed;
+		}
+	}
+
+	/**
+	 * Returns the start of the first bucket or <code>null</code>, if the series is empty.
+	 */
+	public synchronized Date getFirstHour() {
+		return (size > 0) ? new Date(hours[0]) : null;
+	}
+
+	/**
+	 * Returns the start of the last bucket or <code>null</code>, if the series is empty.
+	 */
+	public synchronized Date getLastHour() {
+		return (size > 0) ? new Date(hours[size - 1]) : null;
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	public synchronized boolean isEmpty() {
+		return size == 0;
+	}
+
+	private long getTotalBefore(int index) {
+		return (index > 0) ? totals[index - 1] : 0;
+	}
+
+	/**
+	 * Returns the index of the first bucket that starts at or after <code>hour</code>.
+	 */
+	private int lowerBound(long hour) {
+		int index = Arrays.binarySearch(hours, 0, size, hour);
+		return (index >= 0) ? index : -index - 1;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > hours.length) {
+			int newCapacity = Math.max(INITIAL_CAPACITY, Math.max(capacity, hours.length + (hours.length >> 1)));
+			hours = Arrays.copyOf(hours, newCapacity);
+			totals = Arrays.copyOf(totals, newCapacity);
+		}
+	}
+
+}
@@ -77,4 +77,11 @@ public interface IRepositoryConstants {
 	 */
 	String PROPERTY_USE_TOKEN = IRepositoryConstants.class.getPackage().getName() + ".REPO_USE_TOKEN"; //$NON-NLS-1$
 
+	/**
+	 * Key for a repository property storing the maximum number of tasks that are retrieved concurrently when
+	 * synchronizing tasks of a repository whose connector does not support retrieving multiple tasks at once. Values
+	 * less than 2 or a missing property cause tasks to be retrieved one at a time.
+	 */
+	String PROPERTY_SYNCHRONIZATION_CONCURRENCY = "org.eclipse.mylyn.tasklist.repositories.synchronization.concurrency"; //$NON-NLS-1$
+
 }
@@ -70,14 +70,14 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 	private final SortedMap<Calendar, Set<ITask>> dueTasks = Collections
 			.synchronizedSortedMap(new TreeMap<Calendar, Set<ITask>>());
 
-	// Map of Calendar (hour) to Tasks active during that hour
-	private final SortedMap<Calendar, Set<AbstractTask>> activeTasks = Collections
-			.synchronizedSortedMap(new TreeMap<Calendar, Set<AbstractTask>>());
+	// Map of start of hour (milliseconds) to Tasks active during that hour
+	private final SortedMap<Long, Set<AbstractTask>> activeTasks = Collections
+			.synchronizedSortedMap(new TreeMap<Long, Set<AbstractTask>>());
 
-	// For a given task maps Calendar Hour to duration of time spent (milliseconds) with task active
-	private final Map<AbstractTask, SortedMap<Calendar, Long>> taskElapsedTimeMap = new ConcurrentHashMap<>();
+	// For a given task the duration of time spent (milliseconds) with task active per hour
+	private final Map<AbstractTask, ElapsedTimeSeries> taskElapsedTimeMap = new ConcurrentHashMap<>();
 
-	private final Map<String, SortedMap<Calendar, Long>> workingSetElapsedTimeMap = new ConcurrentHashMap<>();
+	private final Map<String, ElapsedTimeSeries> workingSetElapsedTimeMap = new ConcurrentHashMap<>();
 
 	private final TaskList taskList;
 
@@ -220,7 +220,7 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 		Assert.isNotNull(startDate);
 		Assert.isNotNull(endDate);
 		// remove any time that has already accumulated in data structures
-		SortedMap<Calendar, Long> activityMap = taskElapsedTimeMap.get(task);
+		ElapsedTimeSeries activityMap = taskElapsedTimeMap.get(task);
 		if (activityMap != null) {
 			Calendar start = TaskActivityUtil.getCalendar();
 			start.setTime(startDate);
@@ -228,11 +228,8 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 			Calendar end = TaskActivityUtil.getCalendar();
 			end.setTime(endDate);
 			TaskActivityUtil.snapEndOfHour(end);
-			activityMap = activityMap.subMap(start, end);
-			for (Calendar cal : new HashSet<>(activityMap.keySet())) {
-				activityMap.remove(cal);
-			}
-			long elapsedTime = getElapsedTime(task);
+			activityMap.remove(start.getTimeInMillis(), end.getTimeInMillis());
+			long elapsedTime = activityMap.getElapsed();
 			for (ITaskActivityListener listener : new ArrayList<>(activityListeners)) {
 				try {
 					listener.elapsedTimeUpdated(task, elapsedTime);
@@ -262,22 +259,10 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 		}
 
 		// granularity to the hour
-		Calendar hourOfDay = TaskActivityUtil.getCalendar();
-		hourOfDay.setTime(startDate);
-		snapToStartOfHour(hourOfDay);
-		SortedMap<Calendar, Long> noTaskActiveMap = workingSetElapsedTimeMap.get(workingSetName);
-		if (noTaskActiveMap == null) {
-			noTaskActiveMap = Collections.synchronizedSortedMap(new TreeMap<Calendar, Long>());
-			workingSetElapsedTimeMap.put(workingSetName, noTaskActiveMap);
-		}
-		Long daysActivity = noTaskActiveMap.get(hourOfDay);
-		if (daysActivity == null) {
-			daysActivity = 0L;
-		}
-
-		daysActivity = daysActivity.longValue() + attentionSpan;
-
-		noTaskActiveMap.put(hourOfDay, daysActivity);
+		long hourOfDay = getStartOfHour(startDate);
+		ElapsedTimeSeries noTaskActiveMap = workingSetElapsedTimeMap.computeIfAbsent(workingSetName,
+				name -> new ElapsedTimeSeries());
+		noTaskActiveMap.add(hourOfDay, attentionSpan);
 	}
 
 	public long getElapsedForWorkingSet(String workingSetId, Calendar startDate, Calendar endDate) {
@@ -286,19 +271,11 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 
 		Calendar endRange = snapToEndOfHour(getNewInstance(endDate));
 
-		long result = 0;
-
-		SortedMap<Calendar, Long> noTaskActiveMap = workingSetElapsedTimeMap.get(workingSetId);
+		ElapsedTimeSeries noTaskActiveMap = workingSetElapsedTimeMap.get(workingSetId);
 		if (noTaskActiveMap != null) {
-
-			Map<Calendar, Long> subMap = noTaskActiveMap.subMap(startRange, endRange);
-			for (Long time : subMap.values()) {
-				if (time != null && time > 0) {
-					result += time;
-				}
-			}
+			return noTaskActiveMap.getElapsed(startRange.getTimeInMillis(), endRange.getTimeInMillis());
 		}
-		return result;
+		return 0;
 	}
 
 	public Set<String> getWorkingSets() {
@@ -310,11 +287,7 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 		Assert.isNotNull(startDate);
 		Assert.isNotNull(endDate);
 
-		SortedMap<Calendar, Long> activityMap = taskElapsedTimeMap.get(task);
-		if (activityMap == null) {
-			activityMap = Collections.synchronizedSortedMap(new TreeMap<Calendar, Long>());
-			taskElapsedTimeMap.put(task, activityMap);
-		}
+		ElapsedTimeSeries activityMap = taskElapsedTimeMap.computeIfAbsent(task, t -> new ElapsedTimeSeries());
 
 		long attentionSpan = endDate.getTime() - startDate.getTime();
 
@@ -324,26 +297,19 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 		}
 
 		// granularity to the hour
-		Calendar hourOfDay = TaskActivityUtil.getCalendar();
-		hourOfDay.setTime(startDate);
-		snapToStartOfHour(hourOfDay);
-		Long daysActivity = activityMap.get(hourOfDay);
-		if (daysActivity == null) {
-			daysActivity = (long) 0;
-		}
-
-		daysActivity = daysActivity.longValue() + attentionSpan;
+		long hourOfDay = getStartOfHour(startDate);
+		activityMap.add(hourOfDay, attentionSpan);
 
-		activityMap.put(hourOfDay, daysActivity);
-
-		Set<AbstractTask> active = activeTasks.get(hourOfDay);
-		if (active == null) {
-			active = new HashSet<>();
-			activeTasks.put(hourOfDay, active);
+		synchronized (activeTasks) {
+			Set<AbstractTask> active = activeTasks.get(hourOfDay);
+			if (active == null) {
+				active = new HashSet<>();
+				activeTasks.put(hourOfDay, active);
+			}
+			active.add(task);
 		}
-		active.add(task);
 
-		long totalElapsed = getElapsedTime(activityMap);
+		long totalElapsed = activityMap.getElapsed();
 
 		for (ITaskActivityListener listener : new ArrayList<>(activityListeners)) {
 			try {
@@ -355,6 +321,12 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 		}
 	}
 
+	private long getStartOfHour(Date date) {
+		Calendar hourOfDay = TaskActivityUtil.getCalendar();
+		hourOfDay.setTime(date);
+		return snapToStartOfHour(hourOfDay).getTimeInMillis();
+	}
+
 	private Calendar getNewInstance(Calendar cal) {
 		Calendar newCal = TaskActivityUtil.getCalendar();
 		newCal.setTimeInMillis(cal.getTimeInMillis());
@@ -574,7 +546,8 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 		TaskActivityUtil.snapStartOfHour(endInternal);
 
 		synchronized (activeTasks) {
-			SortedMap<Calendar, Set<AbstractTask>> result = activeTasks.subMap(startInternal, endInternal);
+			SortedMap<Long, Set<AbstractTask>> result = activeTasks.subMap(startInternal.getTimeInMillis(),
+					endInternal.getTimeInMillis());
 			for (Set<AbstractTask> set : result.values()) {
 				resultingTasks.addAll(set);
 			}
@@ -585,23 +558,8 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 	/** total elapsed time based on activation history */
 	@Override
 	public long getElapsedTime(ITask task) {
-		SortedMap<Calendar, Long> activityMap = taskElapsedTimeMap.get(task);
-		return getElapsedTime(activityMap);
-	}
-
-	private long getElapsedTime(SortedMap<Calendar, Long> activityMap) {
-		// TODO: Keep a running total instead of recalculating all the time
-		long result = 0;
-		if (activityMap != null) {
-			synchronized (activityMap) {
-				for (Long time : activityMap.values()) {
-					if (time != null) {
-						result += time;
-					}
-				}
-			}
-		}
-		return result;
+		ElapsedTimeSeries activityMap = taskElapsedTimeMap.get(task);
+		return (activityMap != null) ? activityMap.getElapsed() : 0;
 	}
 
 	/**
@@ -615,24 +573,16 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 			return 0;
 		}
 
-		long result = 0;
+		ElapsedTimeSeries activityMap = taskElapsedTimeMap.get(task);
+		if (activityMap == null) {
+			return 0;
+		}
 
 		Calendar startRange = snapToStartOfHour(getNewInstance(start));
 
 		Calendar endRange = snapToEndOfHour(getNewInstance(end));
 
-		SortedMap<Calendar, Long> activityMap = taskElapsedTimeMap.get(task);
-		if (activityMap != null) {
-			synchronized (activityMap) {
-				activityMap = activityMap.subMap(startRange, endRange);
-				for (Long time : activityMap.values()) {
-					if (time != null) {
-						result += time;
-					}
-				}
-			}
-		}
-		return result;
+		return activityMap.getElapsed(startRange.getTimeInMillis(), endRange.getTimeInMillis());
 	}
 
 	/** total elapsed time based on activation history */
@@ -905,20 +855,14 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 
 	@Override
 	public Date getFirstActivity(ITask task) {
-		SortedMap<Calendar, Long> activityMap = taskElapsedTimeMap.get(task);
-		if (activityMap != null && !activityMap.isEmpty()) {
-			return activityMap.firstKey().getTime();
-		}
-		return null;
+		ElapsedTimeSeries activityMap = taskElapsedTimeMap.get(task);
+		return (activityMap != null) ? activityMap.getFirstHour() : null;
 	}
 
 	@Override
 	public Date getLastActivity(ITask task) {
-		SortedMap<Calendar, Long> activityMap = taskElapsedTimeMap.get(task);
-		if (activityMap != null && !activityMap.isEmpty()) {
-			return activityMap.lastKey().getTime();
-		}
-		return null;
+		ElapsedTimeSeries activityMap = taskElapsedTimeMap.get(task);
+		return (activityMap != null) ? activityMap.getLastHour() : null;
 	}
 
 	public Set<ITask> getAllScheduledTasks() {
@@ -13,6 +13,7 @@
 
 package org.eclipse.mylyn.internal.tasks.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -66,6 +67,17 @@ public class TaskList implements ITaskList, ITransferList {
 
 	private Map<String, AbstractTask> tasks;
 
+	/**
+	 * Tasks by repository URL and handle.
+	 */
+	private Map<String, Map<String, AbstractTask>> tasksByRepositoryUrl;
+
+	/**
+	 * Tasks by repository URL and task key. Entries may be stale if the key of a task was changed after it was indexed
+	 * and are verified on lookup.
+	 */
+	private Map<String, Map<String, AbstractTask>> tasksByKey;
+
 	private Set<TaskContainerDelta> delta;
 
 	private int nextHandle = 1;
@@ -264,7 +276,10 @@ public class TaskList implements ITaskList, ITransferList {
 				addToUnmatched((AbstractTask) child, delta);
 			}
 
-			tasks.remove(task.getHandleIdentifier());
+			AbstractTask removedTask = tasks.remove(task.getHandleIdentifier());
+			if (removedTask != null) {
+				removeFromIndex(removedTask);
+			}
 			delta.add(new TaskContainerDelta(task, TaskContainerDelta.Kind.REMOVED));
 			delta.add(new TaskContainerDelta(task, TaskContainerDelta.Kind.DELETED));
 		} finally {
@@ -335,6 +350,7 @@ public class TaskList implements ITaskList, ITransferList {
 		if (task == null) {
 			tasks.put(taskListElement.getHandleIdentifier(), taskListElement);
 			task = taskListElement;
+			addToIndex(task);
 			if (task instanceof LocalTask) {
 				try {
 					int taskId = Integer.parseInt(task.getTaskId());
@@ -402,12 +418,14 @@ public class TaskList implements ITaskList, ITransferList {
 	}
 
 	public AbstractTask getTaskByKey(String repositoryUrl, String taskKey) {
-		for (AbstractTask task : tasks.values()) {
-			String currentTaskKey = task.getTaskKey();
-			if (currentTaskKey != null && currentTaskKey.equals(taskKey)
-					&& task.getRepositoryUrl().equals(repositoryUrl)) {
-				return task;
-			}
+		if (repositoryUrl == null || taskKey == null) {
+			return null;
+		}
+		Map<String, AbstractTask> repositoryTasksByKey = tasksByKey.get(repositoryUrl);
+		AbstractTask task = repositoryTasksByKey != null ? repositoryTasksByKey.get(taskKey) : null;
+		if (task != null && taskKey.equals(task.getTaskKey()) && repositoryUrl.equals(task.getRepositoryUrl())
+				&& tasks.get(task.getHandleIdentifier()) == task) {
+			return task;
 		}
 		return null;
 	}
@@ -426,15 +444,71 @@ public class TaskList implements ITaskList, ITransferList {
 	 * Returns all tasks for the given repository url.
 	 */
 	public Set<ITask> getTasks(String repositoryUrl) {
-		Set<ITask> repositoryTasks = new HashSet<>();
+		return new HashSet<>(getRepositoryTasks(repositoryUrl));
+	}
+
+	/**
+	 * Returns an unmodifiable view of the tasks for the given repository url. The view is not copied and reflects later
+	 * changes to the task list; iterating it while the task list is modified does not fail but may or may not include
+	 * the modifications.
+	 *
+	 * @see #getTasks(String)
+	 */
+	public Collection<AbstractTask> getRepositoryTasks(String repositoryUrl) {
 		if (repositoryUrl != null) {
-			for (ITask task : tasks.values()) {
-				if (task.getRepositoryUrl().equals(repositoryUrl)) {
-					repositoryTasks.add(task);
-				}
+			Map<String, AbstractTask> repositoryTasks = tasksByRepositoryUrl.get(repositoryUrl);
+			if (repositoryTasks != null) {
+				return Collections.unmodifiableCollection(repositoryTasks.values());
+			}
+		}
+		return Collections.emptyList();
+	}
+
+	private void addToIndex(AbstractTask task) {
+		String repositoryUrl = task.getRepositoryUrl();
+		if (repositoryUrl != null) {
+			tasksByRepositoryUrl.computeIfAbsent(repositoryUrl, url -> new ConcurrentHashMap<>())
+					.put(task.getHandleIdentifier(), task);
+			addToKeyIndex(task);
+			task.setTaskList(this);
+		}
+	}
+
+	private void addToKeyIndex(AbstractTask task) {
+		String taskKey = task.getTaskKey();
+		if (taskKey != null) {
+			tasksByKey.computeIfAbsent(task.getRepositoryUrl(), url -> new ConcurrentHashMap<>()).put(taskKey, task);
+		}
+	}
+
+	private void removeFromIndex(AbstractTask task) {
+		String repositoryUrl = task.getRepositoryUrl();
+		if (repositoryUrl != null) {
+			Map<String, AbstractTask> repositoryTasks = tasksByRepositoryUrl.get(repositoryUrl);
+			if (repositoryTasks != null) {
+				repositoryTasks.remove(task.getHandleIdentifier(), task);
+			}
+			String taskKey = task.getTaskKey();
+			Map<String, AbstractTask> repositoryTasksByKey = tasksByKey.get(repositoryUrl);
+			if (taskKey != null && repositoryTasksByKey != null) {
+				repositoryTasksByKey.remove(taskKey, task);
 			}
+			task.setTaskList(null);
+		}
+	}
+
+	/**
+	 * Moves <code>task</code> to its new key in the key index. Invoked by {@link AbstractTask#setTaskKey(String)}.
+	 */
+	void taskKeyChanged(AbstractTask task, String oldTaskKey) {
+		String repositoryUrl = task.getRepositoryUrl();
+		if (repositoryUrl != null && tasks.get(task.getHandleIdentifier()) == task) {
+			Map<String, AbstractTask> repositoryTasksByKey = tasksByKey.get(repositoryUrl);
+			if (oldTaskKey != null && repositoryTasksByKey != null) {
+				repositoryTasksByKey.remove(oldTaskKey, task);
+			}
+			addToKeyIndex(task);
 		}
-		return repositoryTasks;
 	}
 
 	public AbstractTaskContainer getUnmatchedContainer(String repositoryUrl) {
@@ -527,16 +601,20 @@ public class TaskList implements ITaskList, ITransferList {
 
 		try {
 			lock();
-			for (AbstractTask task : tasks.values()) {
+			for (AbstractTask task : new ArrayList<>(getRepositoryTasks(oldRepositoryUrl))) {
 				if (oldRepositoryUrl.equals(RepositoryTaskHandleUtil.getRepositoryUrl(task.getHandleIdentifier()))) {
+					removeFromIndex(task);
 					tasks.remove(task.getHandleIdentifier());
 					task.setRepositoryUrl(newRepositoryUrl);
 					tasks.put(task.getHandleIdentifier(), task);
+					addToIndex(task);
 					String taskUrl = task.getUrl();
 					if (taskUrl != null && taskUrl.startsWith(oldRepositoryUrl)) {
 						task.setUrl(newRepositoryUrl + taskUrl.substring(oldRepositoryUrl.length()));
 					}
 				}
+			}
+			for (AbstractTask task : tasks.values()) {
 				if (oldRepositoryUrl
 						.equals(task.getAttribute(ITasksCoreConstants.ATTRIBUTE_OUTGOING_NEW_REPOSITORY_URL))) {
 					task.setAttribute(ITasksCoreConstants.ATTRIBUTE_OUTGOING_NEW_REPOSITORY_URL, newRepositoryUrl);
@@ -568,6 +646,8 @@ public class TaskList implements ITaskList, ITransferList {
 					delta.add(new TaskContainerDelta(unsubmitted, TaskContainerDelta.Kind.CONTENT));
 				}
 			}
+			// handles of tasks have changed
+			delta.add(new TaskContainerDelta(null, TaskContainerDelta.Kind.ROOT));
 		} finally {
 			unlock();
 		}
@@ -703,6 +783,8 @@ public class TaskList implements ITaskList, ITransferList {
 		try {
 			lock();
 			tasks = new ConcurrentHashMap<>();
+			tasksByRepositoryUrl = new ConcurrentHashMap<>();
+			tasksByKey = new ConcurrentHashMap<>();
 
 			unmatchedMap = new ConcurrentHashMap<>();
 			unsubmittedTasksMap = new ConcurrentHashMap<>();
@@ -35,6 +35,11 @@ public class DefaultTaskContextStore extends AbstractTaskContextStore {
 
 	public static final String CONTEXT_FILE_EXTENSION = ".xml.zip"; //$NON-NLS-1$
 
+	/**
+	 * The extension of the binary representation that the context store keeps next to a context file.
+	 */
+	private static final String BINARY_FILE_EXTENSION = ".bin"; //$NON-NLS-1$
+
 	private File directory;
 
 	private File contextDirectory;
@@ -46,18 +51,12 @@ public class DefaultTaskContextStore extends AbstractTaskContextStore {
 
 	@Override
 	public void clearContext(ITask task) {
-		File file = getFileForContext(task);
-		if (file.exists()) {
-			file.delete();
-		}
+		deleteContextFile(getFileForContext(task));
 	}
 
 	@Override
 	public void deleteContext(ITask task) {
-		File file = getFileForContext(task);
-		if (file.exists()) {
-			file.delete();
-		}
+		deleteContextFile(getFileForContext(task));
 	}
 
 	@Override
@@ -113,6 +112,16 @@ public class DefaultTaskContextStore extends AbstractTaskContextStore {
 		}
 	}
 
+	private void deleteContextFile(File file) {
+		if (file.exists()) {
+			file.delete();
+		}
+		File binaryFile = new File(file.getParentFile(), file.getName() + BINARY_FILE_EXTENSION);
+		if (binaryFile.exists()) {
+			binaryFile.delete();
+		}
+	}
+
 	public File getDirectory() {
 		return directory;
 	}
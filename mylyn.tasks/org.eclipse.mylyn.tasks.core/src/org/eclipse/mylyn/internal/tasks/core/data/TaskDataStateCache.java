@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core.data;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded least-recently-used cache of parsed {@link TaskDataState} objects keyed by the path of the file they were
+ * read from. Entries are validated against the modification time and length of the file and evicted when the total
+ * estimated size exceeds the configured maximum. Since task data states are mutable the cache only ever hands out
+ * copies.
+ */
+class TaskDataStateCache {
+
+	private static class Entry {
+
+		private final TaskDataState state;
+
+		private final long lastModified;
+
+		private final long length;
+
+		private final long size;
+
+		Entry(TaskDataState state, long lastModified, long length, long size) {
+			this.state = state;
+			this.lastModified = lastModified;
+			this.length = length;
+			this.size = size;
+		}
+
+		boolean isValid(File file) {
+			return lastModified == file.lastModified() && length == file.length();
+		}
+
+	}
+
+	private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long maxSize;
+
+	private long size;
+
+	private long hitCount;
+
+	private long missCount;
+
+	public TaskDataStateCache(long maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns a copy of the cached state for <code>file</code> or <code>null</code> if the file is not cached or has
+	 * changed since it was cached.
+	 */
+	public synchronized TaskDataState get(File file) {
+		String key = file.getAbsolutePath();
+		Entry entry = entries.get(key);
+		if (entry != null) {
+			if (entry.isValid(file)) {
+				hitCount++;
+				return copy(entry.state);
+			}
+			remove(key);
+		}
+		missCount++;
+		return null;
+	}
+
+	/**
+	 * Caches a copy of <code>state</code> that was parsed from <code>file</code>. The <code>size</code> is an estimate
+	 * of the memory used by the state, e.g. the number of uncompressed bytes that were parsed.
+	 */
+	public synchronized void put(File file, TaskDataState state, long lastModified, long length, long size) {
+		String key = file.getAbsolutePath();
+		remove(key);
+		if (size > maxSize) {
+			return;
+		}
+		entries.put(key, new Entry(copy(state), lastModified, length, size));
+		this.size += size;
+		evict();
+	}
+
+	public synchronized void invalidate(File file) {
+		remove(file.getAbsolutePath());
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		size = 0;
+	}
+
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	public synchronized long getSize() {
+		return size;
+	}
+
+	public synchronized long getMaxSize() {
+		return maxSize;
+	}
+
+	public synchronized void setMaxSize(long maxSize) {
+		this.maxSize = maxSize;
+		evict();
+	}
+
+	private void remove(String key) {
+		Entry entry = entries.remove(key);
+		if (entry != null) {
+			size -= entry.size;
+		}
+	}
+
+	private void evict() {
+		Iterator<Entry> it = entries.values().iterator();
+		while (size > maxSize && it.hasNext()) {
+			size -= it.next().size;
+			it.remove();
+		}
+	}
+
+	private static TaskDataState copy(TaskDataState state) {
+		TaskDataState copy = new TaskDataState(state.getConnectorKind(), state.getRepositoryUrl(), state.getTaskId());
+		copy.setRepositoryData(TaskDataState.createCopy(state.getRepositoryData()));
+		copy.setLastReadData(TaskDataState.createCopy(state.getLastReadData()));
+		copy.setEditsData(TaskDataState.createCopy(state.getEditsData()));
+		return copy;
+	}
+
+}
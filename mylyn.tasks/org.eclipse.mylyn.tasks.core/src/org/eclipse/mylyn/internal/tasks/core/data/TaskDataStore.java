@@ -18,7 +18,9 @@ import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.zip.ZipEntry;
@@ -42,10 +44,59 @@ public class TaskDataStore {
 
 	private static final String FILE_NAME_INTERNAL = "data.xml"; //$NON-NLS-1$
 
+	/**
+	 * The default maximum number of uncompressed task data bytes that are kept in the cache of parsed states.
+	 */
+	public static final long DEFAULT_CACHE_SIZE = 32 * 1024 * 1024;
+
+	/**
+	 * Counts the number of uncompressed bytes that are consumed by the parser to estimate the size of cached states.
+	 */
+	private static class CountingInputStream extends FilterInputStream {
+
+		private long count;
+
+		CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				count++;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				count += n;
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count += skipped;
+			return skipped;
+		}
+
+		long getCount() {
+			return count;
+		}
+
+	}
+
 	private final TaskDataExternalizer externalizer;
 
 	private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
+	private final TaskDataStateCache cache = new TaskDataStateCache(DEFAULT_CACHE_SIZE);
+
 	public TaskDataStore(IRepositoryManager taskRepositoryManager) {
 		this(new TaskDataExternalizer(taskRepositoryManager));
 	}
@@ -116,18 +167,52 @@ public class TaskDataStore {
 		return state;
 	}
 
+	/**
+	 * Returns the number of times a state was served from the cache of parsed states.
+	 */
+	public long getCacheHitCount() {
+		return cache.getHitCount();
+	}
+
+	/**
+	 * Returns the number of times a state had to be read from disk because it was not in the cache of parsed states.
+	 */
+	public long getCacheMissCount() {
+		return cache.getMissCount();
+	}
+
+	/**
+	 * Sets the maximum number of uncompressed task data bytes that are kept in the cache of parsed states. A value of
+	 * <code>0</code> disables caching.
+	 */
+	public void setCacheSize(long maxSize) {
+		cache.setMaxSize(maxSize);
+	}
+
+	public void clearCache() {
+		cache.clear();
+	}
+
 	private TaskDataState readStateInternal(File file, boolean xml11) throws IOException, SAXException {
+		long lastModified = file.lastModified();
+		long length = file.length();
 		try (ZipInputStream in = new ZipInputStream(new BufferedInputStream(new FileInputStream(file)))) {
 			in.getNextEntry();
+			CountingInputStream counter = new CountingInputStream(in);
 			// bug 268456: When TaskData that contains C0 control characters is written to disk using XML 1.0 reading it back
 			// in fails with a SAXException. The XML 1.1 standard allows C0 entities but fails if C1 entities. If C0 control
 			// characters are detected while parsing file as XML 1.0 a second attempt is made using XML 1.1. If the file contains
 			// C0 and C1 control characters reading will fail regardless.
+			TaskDataState state;
 			if (xml11) {
-				return externalizer.readState(new Xml11InputStream(in));
+				state = externalizer.readState(new Xml11InputStream(counter));
 			} else {
-				return externalizer.readState(in);
+				state = externalizer.readState(counter);
+			}
+			if (state != null) {
+				cache.put(file, state, lastModified, length, counter.getCount());
 			}
+			return state;
 		}
 	}
 
@@ -135,6 +220,10 @@ public class TaskDataStore {
 		lock.readLock().lock();
 		try {
 			if (file.exists()) {
+				TaskDataState state = cache.get(file);
+				if (state != null) {
+					return state;
+				}
 				try {
 					try {
 						return readStateInternal(file, false);
@@ -164,6 +253,7 @@ public class TaskDataStore {
 	private void writeState(File file, TaskDataState state) throws CoreException {
 		lock.writeLock().lock();
 		try {
+			cache.invalidate(file);
 			try (ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
 				out.setMethod(ZipOutputStream.DEFLATED);
 
@@ -187,6 +277,7 @@ public class TaskDataStore {
 	public boolean deleteTaskData(File file) {
 		lock.writeLock().lock();
 		try {
+			cache.invalidate(file);
 			return file.delete();
 		} finally {
 			lock.writeLock().unlock();
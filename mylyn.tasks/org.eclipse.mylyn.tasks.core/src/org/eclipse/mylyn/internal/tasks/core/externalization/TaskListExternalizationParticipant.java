@@ -14,25 +14,43 @@
 package org.eclipse.mylyn.internal.tasks.core.externalization;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.mylyn.commons.core.StatusHandler;
+import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
+import org.eclipse.mylyn.internal.tasks.core.AbstractTaskCategory;
+import org.eclipse.mylyn.internal.tasks.core.AutomaticRepositoryTaskContainer;
 import org.eclipse.mylyn.internal.tasks.core.ITaskListChangeListener;
 import org.eclipse.mylyn.internal.tasks.core.ITaskListRunnable;
 import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.LocalRepositoryConnector;
 import org.eclipse.mylyn.internal.tasks.core.RepositoryModel;
+import org.eclipse.mylyn.internal.tasks.core.RepositoryQuery;
 import org.eclipse.mylyn.internal.tasks.core.TaskContainerDelta;
 import org.eclipse.mylyn.internal.tasks.core.TaskList;
 import org.eclipse.mylyn.internal.tasks.core.TaskRepositoryManager;
 import org.eclipse.mylyn.internal.tasks.core.UnmatchedTaskContainer;
+import org.eclipse.mylyn.internal.tasks.core.externalization.IExternalizationContext.Kind;
+import org.eclipse.mylyn.internal.tasks.core.externalization.TaskListJournal.ElementKey;
+import org.eclipse.mylyn.tasks.core.IRepositoryElement;
 import org.eclipse.mylyn.tasks.core.ITask;
 import org.eclipse.mylyn.tasks.core.ITaskActivationListener;
 import org.eclipse.mylyn.tasks.core.TaskRepository;
 
 /**
+ * Saves the task list. Changes are appended to a {@link TaskListJournal} shortly after they are made so that saving
+ * scales with the number of changed elements rather than the size of the task list. The journal is folded into the
+ * task list file when it grows too large, on full saves and after it was replayed on load.
+ *
  * @author Rob Elves
  */
 public class TaskListExternalizationParticipant extends AbstractExternalizationParticipant
@@ -40,14 +58,59 @@ public class TaskListExternalizationParticipant extends AbstractExternalizationP
 
 	private static final String DESCRIPTION = Messages.TaskListExternalizationParticipant_Task_List;
 
+	private static final long JOURNAL_DELAY = 2 * 1000;
+
+	/**
+	 * The journal is folded into the task list once it is larger than this or larger than a multiple of the task list
+	 * file, whichever is larger.
+	 */
+	private static final long MIN_COMPACTION_LENGTH = 1024 * 1024;
+
+	private static final int COMPACTION_FACTOR = 4;
+
+	private class JournalJob extends Job {
+
+		public JournalJob() {
+			super(DESCRIPTION);
+			setSystem(true);
+			setRule(TaskList.getSchedulingRule());
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			File file = getDataFile();
+			if (file != null && canAppendToJournal(file)) {
+				try {
+					appendToJournal(file, monitor);
+				} catch (CoreException e) {
+					StatusHandler.log(new Status(IStatus.WARNING, ITasksCoreConstants.ID_PLUGIN,
+							"Failed to append to Task List journal", e)); //$NON-NLS-1$
+				}
+			}
+			return Status.OK_STATUS;
+		}
+
+	}
+
 	private final ExternalizationManager manager;
 
 	private final TaskListExternalizer taskListWriter;
 
 	private final TaskList taskList;
 
+	/**
+	 * Set when the task list file needs to be rewritten.
+	 */
 	private boolean dirty;
 
+	private final Set<ElementKey> changedElements = new LinkedHashSet<>();
+
+	private File dataFile;
+
+	private volatile boolean loading;
+
+	private final JournalJob journalJob = new JournalJob();
+
 	private final TaskRepositoryManager taskRepositoryManager;
 
 	private final RepositoryModel repositoryModel;
@@ -68,18 +131,51 @@ public class TaskListExternalizationParticipant extends AbstractExternalizationP
 	}
 
 	@Override
-	public boolean isDirty() {
-		return dirty;
+	public synchronized boolean isDirty() {
+		return dirty || !changedElements.isEmpty() || (dataFile != null && isCompactionRequired(dataFile));
+	}
+
+	@Override
+	public synchronized boolean isDirty(boolean full) {
+		if (full && (!changedElements.isEmpty() || (dataFile != null && getJournal(dataFile).hasRecords()))) {
+			// fold the journal into the task list file on full saves
+			dirty = true;
+		}
+		return isDirty();
+	}
+
+	@Override
+	public void execute(IExternalizationContext context, IProgressMonitor monitor) throws CoreException {
+		File file = getFile(context.getRootPath());
+		synchronized (this) {
+			dataFile = file;
+		}
+		if (context.getKind() == Kind.SAVE && file != null && canAppendToJournal(file)) {
+			appendToJournal(file, monitor);
+		} else {
+			super.execute(context, monitor);
+		}
 	}
 
 	@Override
 	public void load(final File sourceFile, IProgressMonitor monitor) throws CoreException {
+		final TaskListJournal journal = getJournal(sourceFile);
 		ITaskListRunnable loadRunnable = monitor1 -> {
 			resetTaskList();
-			taskListWriter.readTaskList(taskList, sourceFile);
+			taskListWriter.readTaskList(taskList, sourceFile, journal);
 		};
 
-		taskList.run(loadRunnable, monitor);
+		try {
+			loading = true;
+			taskList.run(loadRunnable, monitor);
+		} finally {
+			loading = false;
+		}
+		synchronized (this) {
+			changedElements.clear();
+			// rewrite the task list file if it was restored from a snapshot or the journal was replayed
+			dirty = !sourceFile.equals(dataFile) || journal.hasRecords();
+		}
 	}
 
 	@Override
@@ -105,6 +201,9 @@ public class TaskListExternalizationParticipant extends AbstractExternalizationP
 	 * public for tests
 	 */
 	public void resetTaskList() {
+		synchronized (this) {
+			dirty = true;
+		}
 		repositoryModel.clear();
 		taskList.reset();
 		prepareOrphanContainers();
@@ -124,13 +223,130 @@ public class TaskListExternalizationParticipant extends AbstractExternalizationP
 		ITaskListRunnable saveRunnable = monitor1 -> {
 			synchronized (TaskListExternalizationParticipant.this) {
 				dirty = false;
+				changedElements.clear();
 			}
 			taskListWriter.writeTaskList(taskList, targetFile);
+			getJournal(targetFile).delete();
 		};
 
 		taskList.run(saveRunnable, monitor);
 	}
 
+	private TaskListJournal getJournal(File file) {
+		return new TaskListJournal(TaskListJournal.getJournalFile(file));
+	}
+
+	private synchronized File getDataFile() {
+		return dataFile;
+	}
+
+	private synchronized boolean canAppendToJournal(File file) {
+		if (dirty || !file.exists() || isCompactionRequired(file)) {
+			return false;
+		}
+		TaskListJournal journal = getJournal(file);
+		return !journal.getFile().exists() || journal.isValidFor(file);
+	}
+
+	private boolean isCompactionRequired(File file) {
+		long length = getJournal(file).length();
+		return length > MIN_COMPACTION_LENGTH && length > COMPACTION_FACTOR * file.length();
+	}
+
+	private void appendToJournal(final File file, IProgressMonitor monitor) throws CoreException {
+		ITaskListRunnable journalRunnable = monitor1 -> {
+			Set<ElementKey> changes;
+			synchronized (TaskListExternalizationParticipant.this) {
+				if (changedElements.isEmpty()) {
+					return;
+				}
+				changes = new LinkedHashSet<>(changedElements);
+				changedElements.clear();
+			}
+
+			List<AbstractTask> tasks = new ArrayList<>();
+			List<AbstractTaskCategory> categories = new ArrayList<>();
+			List<RepositoryQuery> queries = new ArrayList<>();
+			List<ElementKey> deleted = new ArrayList<>();
+			for (ElementKey key : changes) {
+				IRepositoryElement element = null;
+				switch (key.getNodeName()) {
+					case TaskListExternalizationConstants.NODE_TASK:
+						AbstractTask task = taskList.getTask(key.getHandle());
+						if (task != null) {
+							tasks.add(task);
+							element = task;
+						}
+						break;
+					case TaskListExternalizationConstants.NODE_CATEGORY:
+						AbstractTaskCategory category = taskList.getContainerForHandle(key.getHandle());
+						if (category != null) {
+							categories.add(category);
+							element = category;
+						}
+						break;
+					case TaskListExternalizationConstants.NODE_QUERY:
+						RepositoryQuery query = getQuery(key.getHandle());
+						if (query != null) {
+							queries.add(query);
+							element = query;
+						}
+						break;
+				}
+				if (element == null) {
+					deleted.add(key);
+				}
+			}
+
+			try {
+				taskListWriter.writeJournalRecord(tasks, categories, queries, deleted, getJournal(file), file);
+			} catch (CoreException e) {
+				synchronized (TaskListExternalizationParticipant.this) {
+					dirty = true;
+				}
+				manager.requestSave();
+				throw e;
+			}
+		};
+
+		taskList.run(journalRunnable, monitor);
+	}
+
+	private RepositoryQuery getQuery(String handle) {
+		for (RepositoryQuery query : taskList.getQueries()) {
+			if (query.getHandleIdentifier().equals(handle)) {
+				return query;
+			}
+		}
+		return null;
+	}
+
+	private static ElementKey getKey(IRepositoryElement element) {
+		if (element instanceof AbstractTask) {
+			return new ElementKey(TaskListExternalizationConstants.NODE_TASK, element.getHandleIdentifier());
+		} else if (element instanceof RepositoryQuery) {
+			return new ElementKey(TaskListExternalizationConstants.NODE_QUERY, element.getHandleIdentifier());
+		} else if (element instanceof AbstractTaskCategory && !(element instanceof AutomaticRepositoryTaskContainer)) {
+			return new ElementKey(TaskListExternalizationConstants.NODE_CATEGORY, element.getHandleIdentifier());
+		}
+		// containers that are not persisted
+		return null;
+	}
+
+	private void recordChange(IRepositoryElement element) {
+		ElementKey key = getKey(element);
+		if (key != null) {
+			changedElements.add(key);
+		}
+	}
+
+	private void requestSave() {
+		manager.requestSave();
+		if (getDataFile() != null) {
+			journalJob.schedule(JOURNAL_DELAY);
+		}
+	}
+
 	@Override
 	public String getDescription() {
 		return DESCRIPTION;
@@ -143,15 +359,36 @@ public class TaskListExternalizationParticipant extends AbstractExternalizationP
 
 	@Override
 	public void containersChanged(Set<TaskContainerDelta> containers) {
-		for (TaskContainerDelta taskContainerDelta : containers) {
-			if (!taskContainerDelta.isTransient()) {
-				synchronized (TaskListExternalizationParticipant.this) {
-					dirty = true;
+		if (loading) {
+			return;
+		}
+		boolean changed = false;
+		synchronized (TaskListExternalizationParticipant.this) {
+			for (TaskContainerDelta taskContainerDelta : containers) {
+				if (!taskContainerDelta.isTransient()) {
+					changed = true;
+					switch (taskContainerDelta.getKind()) {
+						case ROOT:
+							dirty = true;
+							break;
+						case ADDED:
+						case REMOVED:
+							// the membership is stored with the parent
+							if (taskContainerDelta.getParent() instanceof IRepositoryElement parent) {
+								recordChange(parent);
+							}
+							recordChange(taskContainerDelta.getElement());
+							break;
+						default:
+							recordChange(taskContainerDelta.getElement());
+							break;
+					}
 				}
-				manager.requestSave();
-				return;
 			}
 		}
+		if (changed) {
+			requestSave();
+		}
 	}
 
 	@Override
@@ -169,18 +406,18 @@ public class TaskListExternalizationParticipant extends AbstractExternalizationP
 	@Override
 	public void taskActivated(ITask task) {
 		synchronized (TaskListExternalizationParticipant.this) {
-			dirty = true;
+			recordChange(task);
 		}
-		manager.requestSave();
+		requestSave();
 		return;
 	}
 
 	@Override
 	public void taskDeactivated(ITask task) {
 		synchronized (TaskListExternalizationParticipant.this) {
-			dirty = true;
+			recordChange(task);
 		}
-		manager.requestSave();
+		requestSave();
 		return;
 	}
 }
@@ -16,11 +16,18 @@
 package org.eclipse.mylyn.internal.tasks.core.externalization;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -28,15 +35,24 @@ import java.util.zip.ZipOutputStream;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.mylyn.commons.core.StatusHandler;
+import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
+import org.eclipse.mylyn.internal.tasks.core.AbstractTaskCategory;
 import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.ITransferList;
 import org.eclipse.mylyn.internal.tasks.core.RepositoryModel;
+import org.eclipse.mylyn.internal.tasks.core.RepositoryQuery;
 import org.eclipse.mylyn.internal.tasks.core.XmlReaderUtil;
+import org.eclipse.mylyn.internal.tasks.core.externalization.TaskListJournal.ElementKey;
 import org.eclipse.mylyn.tasks.core.IRepositoryManager;
 import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+import org.xml.sax.helpers.XMLFilterImpl;
 
 /**
  * @author Mik Kersten
@@ -78,7 +94,41 @@ public class TaskListExternalizer {
 		}
 	}
 
+	/**
+	 * Appends a record with the current state of the given elements to <code>journal</code>.
+	 *
+	 * @param deleted
+	 *            the elements that were removed from the task list
+	 * @param snapshotFile
+	 *            the task list file the journal belongs to
+	 */
+	public void writeJournalRecord(Collection<AbstractTask> tasks, Collection<AbstractTaskCategory> categories,
+			Collection<RepositoryQuery> queries, Collection<ElementKey> deleted, TaskListJournal journal,
+			File snapshotFile) throws CoreException {
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			SaxTaskListWriter writer = new SaxTaskListWriter();
+			writer.setOutputStream(out);
+			writer.writeElementsToStream(tasks, categories, queries, deleted);
+			journal.append(snapshotFile, out.toByteArray());
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN,
+					"Saving Task List journal failed", e)); //$NON-NLS-1$
+		}
+	}
+
 	public void readTaskList(ITransferList taskList, File inFile) throws CoreException {
+		readTaskList(taskList, inFile, null);
+	}
+
+	/**
+	 * Reads the task list from <code>inFile</code> and replays the records of <code>journal</code> if it was written
+	 * for <code>inFile</code>.
+	 *
+	 * @param journal
+	 *            the journal or <code>null</code>
+	 */
+	public void readTaskList(ITransferList taskList, File inFile, TaskListJournal journal) throws CoreException {
 		if (!inFile.exists()) {
 			throw new CoreException(new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN,
 					"Task list file not found \"" + inFile.getAbsolutePath() + "\"")); //$NON-NLS-1$ //$NON-NLS-2$
@@ -91,7 +141,14 @@ public class TaskListExternalizer {
 		try (InputStream taskListFile = openTaskList(inFile)) {
 			XMLReader reader = XmlReaderUtil.createXmlReader();
 			SaxTaskListHandler handler = new SaxTaskListHandler(taskList, repositoryModel, repositoryManager);
-			reader.setContentHandler(handler);
+			List<byte[]> records = journal != null ? readJournal(journal, inFile) : Collections.emptyList();
+			if (records.isEmpty()) {
+				reader.setContentHandler(handler);
+			} else {
+				JournalReplayFilter filter = new JournalReplayFilter(records);
+				filter.setContentHandler(handler);
+				reader.setContentHandler(filter);
+			}
 			reader.parse(new InputSource(taskListFile));
 			orphanDocument = handler.getOrphans();
 		} catch (SAXException | IOException e) {
@@ -99,6 +156,16 @@ public class TaskListExternalizer {
 		}
 	}
 
+	private List<byte[]> readJournal(TaskListJournal journal, File inFile) {
+		try {
+			return journal.readRecords(inFile);
+		} catch (IOException e) {
+			StatusHandler.log(new Status(IStatus.WARNING, ITasksCoreConstants.ID_PLUGIN,
+					"Failed to read Task List journal", e)); //$NON-NLS-1$
+			return Collections.emptyList();
+		}
+	}
+
 	/**
 	 * Opens the specified XML file
 	 *
@@ -130,4 +197,139 @@ public class TaskListExternalizer {
 		}
 	}
 
+	/**
+	 * Passes the task list to the {@link SaxTaskListHandler} with the elements that were changed in the journal
+	 * replaced by their latest version. Elements that were deleted are dropped.
+	 */
+	private static class JournalReplayFilter extends XMLFilterImpl {
+
+		private final Map<ElementKey, Node> latestElements = new LinkedHashMap<>();
+
+		private final Document journalDocument;
+
+		private int depth;
+
+		private int skipDepth;
+
+		public JournalReplayFilter(List<byte[]> records) throws CoreException, SAXException, IOException {
+			SaxOrphanBuilder builder = new SaxOrphanBuilder();
+			journalDocument = builder.getOrphans();
+			for (byte[] record : records) {
+				XMLReader reader = XmlReaderUtil.createXmlReader();
+				reader.setContentHandler(new JournalRecordHandler(builder, latestElements));
+				try {
+					reader.parse(new InputSource(new ByteArrayInputStream(record)));
+				} catch (SAXException e) {
+					// records are checksummed, this should only happen if the record was written incorrectly
+					StatusHandler.log(new Status(IStatus.WARNING, ITasksCoreConstants.ID_PLUGIN,
+							"Skipped invalid Task List journal record", e)); //$NON-NLS-1$
+				}
+			}
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes atts) throws SAXException {
+			depth++;
+			if (skipDepth == 0 && depth == 2 && latestElements
+					.containsKey(new ElementKey(localName, atts.getValue(TaskListExternalizationConstants.KEY_HANDLE)))) {
+				skipDepth = depth;
+			}
+			if (skipDepth == 0) {
+				super.startElement(uri, localName, qName, atts);
+			}
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) throws SAXException {
+			if (skipDepth == 0) {
+				super.characters(ch, start, length);
+			}
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) throws SAXException {
+			if (skipDepth == 0) {
+				if (depth == 1) {
+					SaxOrphanWriter writer = new SaxOrphanWriter(new ContentHandlerWrapper(getContentHandler()));
+					writer.writeOrphans(journalDocument.getDocumentElement().getChildNodes());
+				}
+				super.endElement(uri, localName, qName);
+			} else if (skipDepth == depth) {
+				skipDepth = 0;
+			}
+			depth--;
+		}
+
+	}
+
+	/**
+	 * Collects the top-level elements of a journal record. Earlier versions of an element are removed from the
+	 * document.
+	 */
+	private static class JournalRecordHandler extends DefaultHandler {
+
+		private final SaxOrphanBuilder builder;
+
+		private final Map<ElementKey, Node> latestElements;
+
+		private ElementKey currentKey;
+
+		private int depth;
+
+		public JournalRecordHandler(SaxOrphanBuilder builder, Map<ElementKey, Node> latestElements) {
+			this.builder = builder;
+			this.latestElements = latestElements;
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) {
+			depth++;
+			if (depth == 2) {
+				String handle = attributes.getValue(TaskListExternalizationConstants.KEY_HANDLE);
+				if (TaskListExternalizationConstants.NODE_DELETED.equals(localName)) {
+					ElementKey key = new ElementKey(attributes.getValue(TaskListExternalizationConstants.KEY_KIND),
+							handle);
+					removeElement(key);
+					latestElements.put(key, null);
+				} else {
+					currentKey = new ElementKey(localName, handle);
+				}
+			}
+			if (currentKey != null) {
+				builder.startElement(localName, attributes);
+			}
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) {
+			if (currentKey != null) {
+				builder.acceptCharacters(ch, start, length);
+			}
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) {
+			if (currentKey != null) {
+				if (depth == 2) {
+					removeElement(currentKey);
+					builder.commitOrphan();
+					latestElements.put(currentKey, builder.getOrphans().getDocumentElement().getLastChild());
+					builder.endElement();
+					currentKey = null;
+				} else {
+					builder.endElement();
+				}
+			}
+			depth--;
+		}
+
+		private void removeElement(ElementKey key) {
+			Node previous = latestElements.remove(key);
+			if (previous != null) {
+				previous.getParentNode().removeChild(previous);
+			}
+		}
+
+	}
+
 }
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core.externalization;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only journal of changes to the task list that is stored next to the task list snapshot. Each record is a
+ * task list document that contains the current state of the tasks, categories and queries that changed since the
+ * previous record and a {@link TaskListExternalizationConstants#NODE_DELETED} element for each element that was
+ * removed. When the task list is read, elements of later records replace elements of the snapshot and of earlier
+ * records.
+ * <p>
+ * The journal records the length and modification time of the snapshot it was started for and is ignored when the
+ * snapshot is replaced. Each record is followed by a checksum so that a record that was only partially written, e.g.
+ * when the workbench crashed, is discarded.
+ */
+public class TaskListJournal {
+
+	/**
+	 * Identifies a top-level element of the task list.
+	 */
+	public static final class ElementKey {
+
+		private final String nodeName;
+
+		private final String handle;
+
+		public ElementKey(String nodeName, String handle) {
+			this.nodeName = nodeName;
+			this.handle = handle;
+		}
+
+		public String getNodeName() {
+			return nodeName;
+		}
+
+		public String getHandle() {
+			return handle;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(nodeName, handle);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ElementKey other)) {
+				return false;
+			}
+			return Objects.equals(nodeName, other.nodeName) && Objects.equals(handle, other.handle);
+		}
+
+		@Override
+		public String toString() {
+			return nodeName + ":" + handle; //$NON-NLS-1$
+		}
+
+	}
+
+	public static final String FILE_EXTENSION = ".journal"; //$NON-NLS-1$
+
+	static final int MAGIC = 0x4D544C4A; // "MTLJ"
+
+	static final int VERSION = 1;
+
+	static final int HEADER_LENGTH = 24;
+
+	private final File file;
+
+	public TaskListJournal(File file) {
+		this.file = file;
+	}
+
+	public static File getJournalFile(File snapshotFile) {
+		return new File(snapshotFile.getParentFile(), snapshotFile.getName() + FILE_EXTENSION);
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Returns true, if records have been appended to the journal.
+	 */
+	public boolean hasRecords() {
+		return file.length() > HEADER_LENGTH;
+	}
+
+	public long length() {
+		return file.length();
+	}
+
+	public void delete() {
+		file.delete();
+	}
+
+	/**
+	 * Appends a record to the journal and forces it to disk. If the journal does not exist or was started for a
+	 * different version of <code>snapshotFile</code> a new journal is started.
+	 *
+	 * @throws IOException
+	 *             if writing fails; the journal is left unchanged in that case if possible
+	 */
+	public synchronized void append(File snapshotFile, byte[] record) throws IOException {
+		if (!isValidFor(snapshotFile)) {
+			writeHeader(snapshotFile);
+		}
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+			long position = channel.size();
+			try {
+				CRC32 crc = new CRC32();
+				crc.update(record);
+				ByteBuffer buffer = ByteBuffer.allocate(record.length + 8);
+				buffer.putInt(record.length);
+				buffer.put(record);
+				buffer.putInt((int) crc.getValue());
+				buffer.flip();
+				channel.position(position);
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+				channel.force(false);
+			} catch (IOException e) {
+				channel.truncate(position);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Returns the records of the journal in the order they were written. Returns an empty list if the journal does not
+	 * exist or was not started for the current version of <code>snapshotFile</code>. A partially written record at the
+	 * end of the journal is removed.
+	 */
+	public synchronized List<byte[]> readRecords(File snapshotFile) throws IOException {
+		List<byte[]> records = new ArrayList<>();
+		if (!isValidFor(snapshotFile)) {
+			return records;
+		}
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ,
+				StandardOpenOption.WRITE)) {
+			long size = channel.size();
+			long position = HEADER_LENGTH;
+			ByteBuffer lengthBuffer = ByteBuffer.allocate(4);
+			while (position + 8 <= size) {
+				lengthBuffer.clear();
+				readFully(channel, lengthBuffer, position);
+				int length = lengthBuffer.getInt(0);
+				if (length < 0 || position + 8 + length > size) {
+					break;
+				}
+				ByteBuffer recordBuffer = ByteBuffer.allocate(length + 4);
+				readFully(channel, recordBuffer, position + 4);
+				byte[] record = new byte[length];
+				recordBuffer.get(0, record);
+				CRC32 crc = new CRC32();
+				crc.update(record);
+				if (recordBuffer.getInt(length) != (int) crc.getValue()) {
+					break;
+				}
+				records.add(record);
+				position += 8 + length;
+			}
+			if (position < size) {
+				channel.truncate(position);
+			}
+		}
+		return records;
+	}
+
+	/**
+	 * Returns true, if the journal exists and was started for the current version of <code>snapshotFile</code>.
+	 */
+	public boolean isValidFor(File snapshotFile) {
+		if (file.length() < HEADER_LENGTH) {
+			return false;
+		}
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+			readFully(channel, header, 0);
+			return header.getInt(0) == MAGIC && header.getInt(4) == VERSION
+					&& header.getLong(8) == snapshotFile.length() && header.getLong(16) == snapshotFile.lastModified();
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private void writeHeader(File snapshotFile) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+			header.putInt(MAGIC);
+			header.putInt(VERSION);
+			header.putLong(snapshotFile.length());
+			header.putLong(snapshotFile.lastModified());
+			header.flip();
+			while (header.hasRemaining()) {
+				channel.write(header);
+			}
+		}
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			int read = channel.read(buffer, position + buffer.position());
+			if (read == -1) {
+				throw new IOException("Unexpected end of journal"); //$NON-NLS-1$
+			}
+		}
+	}
+
+}
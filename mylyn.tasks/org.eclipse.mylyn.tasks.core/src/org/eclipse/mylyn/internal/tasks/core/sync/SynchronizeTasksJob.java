@@ -23,10 +23,18 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -34,6 +42,7 @@ import org.eclipse.mylyn.commons.core.StatusHandler;
 import org.eclipse.mylyn.commons.net.Policy;
 import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
 import org.eclipse.mylyn.internal.tasks.core.AbstractTaskContainer;
+import org.eclipse.mylyn.internal.tasks.core.IRepositoryConstants;
 import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants.MutexSchedulingRule;
 import org.eclipse.mylyn.internal.tasks.core.TaskList;
@@ -59,6 +68,8 @@ import org.eclipse.osgi.util.NLS;
  */
 public class SynchronizeTasksJob extends SynchronizationJob {
 
+	private static final long POLL_INTERVAL = 100;
+
 	private final AbstractRepositoryConnector connector;
 
 	private final TaskDataManager taskDataManager;
@@ -211,13 +222,18 @@ public class SynchronizeTasksJob extends SynchronizationJob {
 					}
 				}
 			} else {
-				for (ITask task : tasks) {
-					Policy.checkCanceled(monitor);
-					resetStatus(task);
-					try {
-						synchronizeTask(SubMonitor.convert(monitor, 100), task);
-					} catch (CoreException e) {
-						updateStatus(taskRepository, task, e.getStatus());
+				int concurrency = getSynchronizationConcurrency(taskRepository);
+				if (concurrency > 1 && tasks.size() > 1) {
+					synchronizeTasksConcurrently(monitor, tasks, concurrency);
+				} else {
+					for (ITask task : tasks) {
+						Policy.checkCanceled(monitor);
+						resetStatus(task);
+						try {
+							synchronizeTask(SubMonitor.convert(monitor, 100), task);
+						} catch (CoreException e) {
+							updateStatus(taskRepository, task, e.getStatus());
+						}
 					}
 				}
 			}
@@ -235,6 +251,78 @@ public class SynchronizeTasksJob extends SynchronizationJob {
 		return taskDataHandler != null && taskDataHandler.canGetMultiTaskData(taskRepository);
 	}
 
+	private static int getSynchronizationConcurrency(TaskRepository taskRepository) {
+		String value = taskRepository.getProperty(IRepositoryConstants.PROPERTY_SYNCHRONIZATION_CONCURRENCY);
+		if (value != null) {
+			try {
+				return Integer.parseInt(value.trim());
+			} catch (NumberFormatException e) {
+				// ignore
+			}
+		}
+		return 1;
+	}
+
+	/**
+	 * Retrieves task data for <code>tasks</code> using up to <code>concurrency</code> worker threads. Retrieved task
+	 * data is processed in the job thread in the order of completion so that updates of the task list, statuses and
+	 * progress are not affected by the concurrent retrieval.
+	 */
+	private void synchronizeTasksConcurrently(final IProgressMonitor monitor, Set<ITask> tasks, int concurrency) {
+		final IProgressMonitor workerMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return super.isCanceled() || monitor.isCanceled();
+			}
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, tasks.size()));
+		try {
+			CompletionService<TaskData> completionService = new ExecutorCompletionService<>(executor);
+			Map<Future<TaskData>, ITask> taskByFuture = new HashMap<>();
+			for (final ITask task : tasks) {
+				resetStatus(task);
+				Future<TaskData> future = completionService
+						.submit(() -> connector.getTaskData(taskRepository, task.getTaskId(), workerMonitor));
+				taskByFuture.put(future, task);
+			}
+			for (int i = 0; i < taskByFuture.size(); i++) {
+				Future<TaskData> future;
+				while ((future = completionService.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS)) == null) {
+					Policy.checkCanceled(monitor);
+				}
+				Policy.checkCanceled(monitor);
+				ITask task = taskByFuture.get(future);
+				monitor.subTask(MessageFormat.format(Messages.SynchronizeTasksJob_Receiving_task_X, task.getSummary()));
+				try {
+					TaskData taskData = future.get();
+					if (taskData != null) {
+						updateFromTaskData(taskRepository, task, taskData, monitor);
+					} else {
+						updateStatus(taskRepository, task, new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN,
+								"Connector failed to return task data for task \"" + task + "\"")); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof OperationCanceledException) {
+						throw (OperationCanceledException) cause;
+					} else if (cause instanceof CoreException) {
+						updateStatus(taskRepository, task, ((CoreException) cause).getStatus());
+					} else {
+						updateStatus(taskRepository, task, new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN,
+								"Synchronization of task \"" + task + "\" failed", cause)); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+				}
+				monitor.worked(100);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			workerMonitor.setCanceled(true);
+			executor.shutdownNow();
+		}
+	}
+
 	private void synchronizeTask(IProgressMonitor monitor, ITask task) throws CoreException {
 		monitor.subTask(MessageFormat.format(Messages.SynchronizeTasksJob_Receiving_task_X, task.getSummary()));
 		resetStatus(task);
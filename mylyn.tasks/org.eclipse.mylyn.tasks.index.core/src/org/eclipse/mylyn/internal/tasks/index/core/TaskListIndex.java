@@ -30,6 +30,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -42,8 +52,8 @@ import org.apache.lucene.document.Field.Store;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.CorruptIndexException;
-import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexFormatTooOldException;
+import org.apache.lucene.index.IndexNotFoundException;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
@@ -59,6 +69,7 @@ import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.PrefixQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.Directory;
@@ -72,6 +83,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -105,7 +117,9 @@ import org.eclipse.mylyn.tasks.core.data.TaskData;
  * {@link #matches(ITask, String) match tasks}. Tasks are matched against a search query.
  * <p>
  * The task list has a configurable delay before it updates, meaning that there is a period of time where the index will be out of date with
- * respect to task changes. The idea is that updates to the index can be "batched" for greater efficiency. Additionally, it's possible for a
+ * respect to task changes. The idea is that updates to the index can be "batched" for greater efficiency. A single {@link IndexWriter} is
+ * kept open for the lifetime of the index and searches use near-real-time readers that are refreshed after each batch, so that updates
+ * become visible without reopening the index. Additionally, it's possible for a
  * task to be updated either before or after the index is added to the task list as a listener, thus opening the possibility of changes
  * without updates to the index. In either of these cases, the index can be out of date with respect to the current state of tasks. If the
  * index is used in such a state, the result could be either false matches, no match where there should be a match, or incorrect
@@ -115,7 +129,8 @@ import org.eclipse.mylyn.tasks.core.data.TaskData;
  * The index has the option of reindexing all tasks via API. This will bring the index up to date and is useful for cases where it's known
  * that the index may not be up to date. In its current form this reindex operation can be triggered by the user by including "index:reset"
  * in the search string. Reindexing is potentially an expensive, IO intensive long-running operation. With about 20,000 tasks in my task
- * list and an SSD, reindexing takes about 90 seconds.
+ * list and an SSD, reindexing takes about 90 seconds on a single thread. Task data is therefore read and converted to documents by
+ * {@link #getRebuildConcurrency() several threads} that share the index writer.
  * </p>
  *
  * @author David Green
@@ -256,9 +271,15 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 	private final Map<ITask, TaskData> reindexQueue = new HashMap<>();
 
 	/**
-	 * do not access directly, instead use {@link #getIndexReader()}. 'this' must be synchronized before accessing or modifying
+	 * do not access directly, instead use {@link #getIndexWriter()}. 'this' must be synchronized before accessing or modifying
 	 */
-	private IndexReader indexReader;
+	private IndexWriter indexWriter;
+
+	/**
+	 * provides near-real-time searchers on {@link #indexWriter}. Do not access directly, instead use {@link #getSearcherManager()}.
+	 * 'this' must be synchronized before accessing or modifying
+	 */
+	private SearcherManager searcherManager;
 
 	/**
 	 * indicate the need to rebuild the whole index
@@ -275,6 +296,11 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 	 */
 	private Set<String> lastResults;
 
+	/**
+	 * the searcher that {@link #lastResults} were computed with. 'this' must be synchronized before accessing or modifying
+	 */
+	private IndexSearcher lastSearcher;
+
 	private AbstractTaskSchema.Field defaultField = FIELD_SUMMARY;
 
 	private final TaskList taskList;
@@ -285,16 +311,31 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 
 	private long startupDelay = 6000L;
 
-	private long reindexDelay = 3000L;
+	private long reindexDelay = 500L;
 
 	private int maxMatchSearchHits = 1500;
 
+	private int rebuildConcurrency = Runtime.getRuntime().availableProcessors();
+
 	/**
 	 * must hold this lock as a read lock when accessing the index, and must hold this lock as a write lock when closing or reassigning
-	 * {@link #indexReader}.
+	 * {@link #indexWriter} or {@link #searcherManager}.
 	 */
 	private final ReadWriteLock indexReaderLock = new ReentrantReadWriteLock(true);
 
+	private final ThreadFactory rebuildThreadFactory = new ThreadFactory() {
+
+		private final AtomicInteger threadNumber = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "Task List Index Rebuild-" + threadNumber.incrementAndGet()); //$NON-NLS-1$
+			// do not prevent the VM from exiting if a rebuild is still running on shutdown
+			thread.setDaemon(true);
+			return thread;
+		}
+	};
+
 	private TaskListIndex(TaskList taskList, TaskDataManager dataManager, IRepositoryManager repositoryManager) {
 		Assert.isNotNull(taskList);
 		Assert.isNotNull(dataManager);
@@ -436,14 +477,7 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		writeLock.lock();
 		try {
 			synchronized (this) {
-				if (indexReader != null) {
-					try {
-						indexReader.close();
-					} catch (IOException e) {
-						// ignore
-					}
-					indexReader = null;
-				}
+				closeIndex();
 
 				if (indexLocation.exists() && indexLocation.isDirectory()) {
 					if (directory != null) {
@@ -512,15 +546,33 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		this.maxMatchSearchHits = maxMatchSearchHits;
 	}
 
+	/**
+	 * the number of threads that read task data and create documents when the index is rebuilt completely
+	 */
+	public int getRebuildConcurrency() {
+		return rebuildConcurrency;
+	}
+
+	/**
+	 * the number of threads that read task data and create documents when the index is rebuilt completely
+	 *
+	 * @param rebuildConcurrency
+	 *            the number of threads, must be at least 1
+	 */
+	public void setRebuildConcurrency(int rebuildConcurrency) {
+		Assert.isTrue(rebuildConcurrency > 0);
+		this.rebuildConcurrency = rebuildConcurrency;
+	}
+
 	private void initialize() {
 		if (!rebuildIndex) {
-			IndexReader indexReader = null;
+			SearcherManager searcherManager = null;
 			try {
-				indexReader = getIndexReader();
+				searcherManager = getSearcherManager();
 			} catch (Exception e) {
 				// ignore, this can happen if the index is corrupt
 			}
-			if (indexReader == null) {
+			if (searcherManager == null) {
 				rebuildIndex = true;
 			}
 		}
@@ -565,7 +617,8 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 	 * Indicates if the given task matches the given pattern string. Uses the backing index to detect a match by looking for tasks that
 	 * match the given pattern string. The results of the search are cached such that future calls to this method using the same pattern
 	 * string do not require use of the backing index, making this method very efficient for multiple calls with the same pattern string.
-	 * Cached results for a given pattern string are discarded if this method is called with a different pattern string.
+	 * Cached results for a given pattern string are discarded if this method is called with a different pattern string or if the index
+	 * has been updated since.
 	 *
 	 * @param task
 	 *            the task to match
@@ -580,46 +633,51 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		readLock.lock();
 		try {
 
-			IndexReader indexReader = getIndexReader();
-			if (indexReader != null) {
-				Set<String> hits;
-
-				final boolean needIndexHit;
-				synchronized (this) {
-					needIndexHit = lastResults == null || lastPatternString == null
-							|| !lastPatternString.equals(patternString);
-				}
-				if (needIndexHit) {
-					lastPatternString = patternString;
+			SearcherManager searcherManager = getSearcherManager();
+			if (searcherManager != null) {
+				IndexSearcher indexSearcher = searcherManager.acquire();
+				try {
+					Set<String> hits;
 
-					hits = new HashSet<>();
+					final boolean needIndexHit;
+					synchronized (this) {
+						needIndexHit = lastResults == null || lastSearcher != indexSearcher || lastPatternString == null
+								|| !lastPatternString.equals(patternString);
+					}
+					if (needIndexHit) {
+						hits = new HashSet<>();
 
-					IndexSearcher indexSearcher = new IndexSearcher(indexReader);
-					try {
-						Query query = computeQuery(patternString);
-						TopDocs results = indexSearcher.search(query, maxMatchSearchHits);
-						for (ScoreDoc scoreDoc : results.scoreDocs) {
-							Document document = indexReader.document(scoreDoc.doc);
-							hits.add(document.get(FIELD_IDENTIFIER.getIndexKey()));
+						IndexReader indexReader = indexSearcher.getIndexReader();
+						try {
+							Query query = computeQuery(patternString);
+							TopDocs results = indexSearcher.search(query, maxMatchSearchHits);
+							for (ScoreDoc scoreDoc : results.scoreDocs) {
+								Document document = indexReader.document(scoreDoc.doc);
+								hits.add(document.get(FIELD_IDENTIFIER.getIndexKey()));
+							}
+						} catch (IOException e) {
+							StatusHandler.log(new Status(IStatus.ERROR, TasksIndexCore.ID_PLUGIN,
+									"Unexpected failure within task list index", e)); //$NON-NLS-1$
 						}
-					} catch (IOException e) {
-						StatusHandler.log(new Status(IStatus.ERROR, TasksIndexCore.ID_PLUGIN,
-								"Unexpected failure within task list index", e)); //$NON-NLS-1$
-					}
 
-				} else {
-					hits = lastResults;
-				}
-				synchronized (this) {
-					if (this.indexReader == indexReader) {
+					} else {
+						hits = lastResults;
+					}
+					synchronized (this) {
+						lastSearcher = indexSearcher;
 						lastPatternString = patternString;
 						lastResults = hits;
 					}
+					String taskIdentifier = task.getHandleIdentifier();
+					return hits != null && hits.contains(taskIdentifier);
+				} finally {
+					searcherManager.release(indexSearcher);
 				}
-				String taskIdentifier = task.getHandleIdentifier();
-				return hits != null && hits.contains(taskIdentifier);
 			}
 
+		} catch (IOException e) {
+			StatusHandler.log(new Status(IStatus.ERROR, TasksIndexCore.ID_PLUGIN,
+					"Unexpected failure within task list index", e)); //$NON-NLS-1$
 		} finally {
 			readLock.unlock();
 		}
@@ -664,10 +722,11 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		Lock readLock = indexReaderLock.readLock();
 		readLock.lock();
 		try {
-			IndexReader indexReader = getIndexReader();
-			if (indexReader != null) {
-				IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+			SearcherManager searcherManager = getSearcherManager();
+			if (searcherManager != null) {
+				IndexSearcher indexSearcher = searcherManager.acquire();
 				try {
+					IndexReader indexReader = indexSearcher.getIndexReader();
 					Query query = computeQuery(patternString);
 					TopDocs results = indexSearcher.search(query, resultsLimit);
 					for (ScoreDoc scoreDoc : results.scoreDocs) {
@@ -678,11 +737,13 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 							collector.collect(task);
 						}
 					}
-				} catch (IOException e) {
-					StatusHandler.log(new Status(IStatus.ERROR, TasksIndexCore.ID_PLUGIN,
-							"Unexpected failure within task list index", e)); //$NON-NLS-1$
+				} finally {
+					searcherManager.release(indexSearcher);
 				}
 			}
+		} catch (IOException e) {
+			StatusHandler.log(new Status(IStatus.ERROR, TasksIndexCore.ID_PLUGIN,
+					"Unexpected failure within task list index", e)); //$NON-NLS-1$
 		} finally {
 			readLock.unlock();
 		}
@@ -758,14 +819,7 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		writeLock.lock();
 		try {
 			synchronized (this) {
-				if (indexReader != null) {
-					try {
-						indexReader.close();
-					} catch (IOException e) {
-						// ignore
-					}
-					indexReader = null;
-				}
+				closeIndex();
 			}
 			if (directory != null) {
 				try {
@@ -780,14 +834,19 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		}
 	}
 
-	private IndexReader getIndexReader() {
+	/**
+	 * Returns the manager for near-real-time searchers on the index writer, opening the index if necessary.
+	 *
+	 * @return the searcher manager, or null if the index does not exist or cannot be opened
+	 */
+	private SearcherManager getSearcherManager() {
 		try {
 			synchronized (this) {
-				if (indexReader == null) {
-					indexReader = DirectoryReader.open(directory);
+				if (searcherManager == null) {
+					searcherManager = new SearcherManager(getIndexWriter(), null);
 					lastResults = null;
 				}
-				return indexReader;
+				return searcherManager;
 			}
 		} catch (CorruptIndexException e) {
 			rebuildIndex = true;
@@ -803,6 +862,46 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		return null;
 	}
 
+	/**
+	 * Returns the long-lived index writer, opening the existing index if necessary.
+	 */
+	private synchronized IndexWriter getIndexWriter()
+			throws CorruptIndexException, LockObtainFailedException, IOException {
+		if (indexWriter != null && !indexWriter.isOpen()) {
+			// the writer was closed due to an unrecoverable error
+			closeIndex();
+		}
+		if (indexWriter == null) {
+			indexWriter = createIndexWriter(false);
+		}
+		return indexWriter;
+	}
+
+	/**
+	 * Closes the searcher manager and the index writer. 'this' must be synchronized and the {@link #indexReaderLock} must be held as a
+	 * write lock or the index must otherwise not be in use.
+	 */
+	private void closeIndex() {
+		lastSearcher = null;
+		lastResults = null;
+		if (searcherManager != null) {
+			try {
+				searcherManager.close();
+			} catch (IOException e) {
+				// ignore
+			}
+			searcherManager = null;
+		}
+		if (indexWriter != null) {
+			try {
+				indexWriter.close();
+			} catch (IOException | RuntimeException e) {
+				// ignore
+			}
+			indexWriter = null;
+		}
+	}
+
 	@Override
 	public void taskDataUpdated(TaskDataManagerEvent event) {
 		reindex(event.getTask(), event.getTaskData());
@@ -1048,7 +1147,8 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 	 * Indicates if the given task is indexable. The default implementation returns true, subclasses may override to filter some tasks from
 	 * the task list. This method may be called more than once per task, with some calls omitting the task data. In this way implementations
 	 * can avoid loading task data if the decision to filter tasks can be based on the ITask alone. Implementations that must read the task
-	 * data in order to determine eligibility for indexing should return true for tasks where the provided task data is null.
+	 * data in order to determine eligibility for indexing should return true for tasks where the provided task data is null. This method
+	 * may be invoked concurrently from several threads while the index is rebuilt.
 	 *
 	 * @param task
 	 *            the task
@@ -1079,8 +1179,9 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		try {
 			try {
 				if (!rebuildIndex) {
-					try (IndexReader reader = DirectoryReader.open(directory)) {
-					} catch (CorruptIndexException e) {
+					try {
+						getIndexWriter();
+					} catch (CorruptIndexException | IndexNotFoundException e) {
 						rebuildIndex = true;
 					}
 				}
@@ -1101,8 +1202,8 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 				// index any tasks that have been changed
 				indexQueuedTasks(monitor.newChild(WORK_PER_SEGMENT));
 
-				// prevent new searches from reading the now-stale index
-				closeIndexReader();
+				// make changes visible to new searches
+				commitAndRefresh();
 			} catch (IOException e) {
 				throw new CoreException(new Status(IStatus.ERROR, TasksIndexCore.ID_PLUGIN,
 						"Unexpected exception: " + e.getMessage(), e)); //$NON-NLS-1$
@@ -1112,18 +1213,24 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 		}
 	}
 
-	private void closeIndexReader() throws IOException {
-		Lock writeLock = indexReaderLock.writeLock();
-		writeLock.lock();
+	private void commitAndRefresh() throws IOException {
+		Lock readLock = indexReaderLock.readLock();
+		readLock.lock();
 		try {
+			IndexWriter writer;
+			SearcherManager manager;
 			synchronized (this) {
-				if (indexReader != null) {
-					indexReader.close();
-					indexReader = null;
-				}
+				writer = indexWriter;
+				manager = searcherManager;
+			}
+			if (writer != null && writer.isOpen() && writer.hasUncommittedChanges()) {
+				writer.commit();
+			}
+			if (manager != null) {
+				manager.maybeRefreshBlocking();
 			}
 		} finally {
-			writeLock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -1140,52 +1247,46 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 
 		try {
 			IndexWriter writer = null;
-			try {
-				Map<ITask, TaskData> workingQueue = new HashMap<>();
+			Map<ITask, TaskData> workingQueue = new HashMap<>();
 
-				// reindex tasks that are in the reindexQueue, making multiple passes so that we catch anything
-				// added/changed while we were reindexing
-				for (;;) {
-					workingQueue.clear();
+			// reindex tasks that are in the reindexQueue, making multiple passes so that we catch anything
+			// added/changed while we were reindexing
+			for (;;) {
+				workingQueue.clear();
 
-					synchronized (reindexQueue) {
-						if (reindexQueue.isEmpty()) {
-							break;
-						}
-						// move items from the reindexQueue to the temporary working queue
-						workingQueue.putAll(reindexQueue);
-						reindexQueue.keySet().removeAll(workingQueue.keySet());
+				synchronized (reindexQueue) {
+					if (reindexQueue.isEmpty()) {
+						break;
 					}
+					// move items from the reindexQueue to the temporary working queue
+					workingQueue.putAll(reindexQueue);
+					reindexQueue.keySet().removeAll(workingQueue.keySet());
+				}
 
-					if (writer == null) {
-						try {
-							writer = createIndexWriter(false);
-						} catch (CorruptIndexException e) {
-							rebuildIndex = true;
-							synchronized (reindexQueue) {
-								reindexQueue.clear();
-							}
-							rebuildIndexCompletely(monitor);
-							return;
+				if (writer == null) {
+					try {
+						writer = getIndexWriter();
+					} catch (CorruptIndexException e) {
+						rebuildIndex = true;
+						synchronized (reindexQueue) {
+							reindexQueue.clear();
 						}
+						rebuildIndexCompletely(monitor);
+						return;
 					}
+				}
 
-					monitor.setWorkRemaining(workingQueue.size());
+				monitor.setWorkRemaining(workingQueue.size());
 
-					for (Entry<ITask, TaskData> entry : workingQueue.entrySet()) {
-						ITask task = entry.getKey();
-						TaskData taskData = entry.getValue();
+				for (Entry<ITask, TaskData> entry : workingQueue.entrySet()) {
+					ITask task = entry.getKey();
+					TaskData taskData = entry.getValue();
 
-						writer.deleteDocuments(new Term(FIELD_IDENTIFIER.getIndexKey(), task.getHandleIdentifier()));
+					writer.deleteDocuments(new Term(FIELD_IDENTIFIER.getIndexKey(), task.getHandleIdentifier()));
 
-						add(writer, task, taskData);
+					add(writer, task, taskData);
 
-						monitor.worked(1);
-					}
-				}
-			} finally {
-				if (writer != null) {
-					writer.close();
+					monitor.worked(1);
 				}
 			}
 		} finally {
@@ -1221,30 +1322,151 @@ public class TaskListIndex implements ITaskDataManagerListener, ITaskListChangeL
 
 		monitor.beginTask(Messages.TaskListIndex_task_rebuilding_index, taskListState.indexableTasks.size());
 		try {
-			try (IndexWriter writer = createIndexWriter()) {
+			final IndexWriter writer = getEmptyIndexWriter();
+			final AtomicBoolean canceled = new AtomicBoolean();
+			boolean completed = false;
 
-				for (ITask task : taskListState.indexableTasks) {
-					if (taskIsIndexable(task, null)) {
-						try {
-							TaskData taskData = dataManager.getTaskData(task);
-							add(writer, task, taskData);
-						} catch (CoreException e) {
-							// an individual task data error should not prevent the index from updating
-							multiStatus.add(e.getStatus());
+			// workers read task data and add documents to the shared writer, progress is reported from this thread
+			ExecutorService executor = Executors.newFixedThreadPool(rebuildConcurrency, rebuildThreadFactory);
+			try {
+				CompletionService<IStatus> completionService = new ExecutorCompletionService<>(executor);
+				for (final ITask task : taskListState.indexableTasks) {
+					completionService.submit(() -> {
+						if (!canceled.get() && taskIsIndexable(task, null)) {
+							try {
+								TaskData taskData = dataManager.getTaskData(task);
+								add(writer, task, taskData);
+							} catch (CoreException e) {
+								// an individual task data error should not prevent the index from updating
+								return e.getStatus();
+							}
 						}
+						return Status.OK_STATUS;
+					});
+				}
+				for (int i = 0; i < taskListState.indexableTasks.size(); i++) {
+					Future<IStatus> future;
+					while ((future = completionService.poll(100L, TimeUnit.MILLISECONDS)) == null) {
+						checkCanceled(monitor);
+					}
+					IStatus status = getResult(future);
+					if (!status.isOK()) {
+						multiStatus.add(status);
 					}
 					monitor.worked(1);
+					checkCanceled(monitor);
 				}
-				synchronized (this) {
-					rebuildIndex = false;
+				completed = true;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} finally {
+				if (!completed) {
+					// skip remaining tasks, do not interrupt workers since the index writer does not tolerate interrupts during I/O
+					canceled.set(true);
+				}
+				executor.shutdown();
+				awaitTermination(executor);
+				if (!completed) {
+					rollbackIndex();
 				}
 			}
+			synchronized (this) {
+				rebuildIndex = false;
+			}
 		} finally {
 			monitor.done();
 		}
 		return multiStatus;
 	}
 
+	private void checkCanceled(IProgressMonitor monitor) {
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+	}
+
+	private IStatus getResult(Future<IStatus> future) throws IOException, InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	private void awaitTermination(ExecutorService executor) {
+		boolean interrupted = false;
+		while (!executor.isTerminated()) {
+			try {
+				executor.awaitTermination(1L, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Discards uncommitted changes of a canceled or failed rebuild so that a partially built index is never committed.
+	 */
+	private void rollbackIndex() {
+		Lock writeLock = indexReaderLock.writeLock();
+		writeLock.lock();
+		try {
+			synchronized (this) {
+				if (indexWriter != null) {
+					try {
+						indexWriter.rollback();
+					} catch (IOException e) {
+						// ignore
+					}
+				}
+				closeIndex();
+			}
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the long-lived index writer with all documents removed. An open writer is reused so that searches continue to see the
+	 * previous state of the index until the changes are committed, otherwise a new index is created.
+	 */
+	private IndexWriter getEmptyIndexWriter() throws LockObtainFailedException, IOException, CorruptIndexException {
+		synchronized (this) {
+			if (indexWriter != null && indexWriter.isOpen()) {
+				indexWriter.deleteAll();
+				return indexWriter;
+			}
+		}
+		// the searcher manager may be in use by searches and must only be closed while holding the write lock
+		Lock writeLock = indexReaderLock.writeLock();
+		writeLock.lock();
+		try {
+			synchronized (this) {
+				if (indexWriter != null && indexWriter.isOpen()) {
+					indexWriter.deleteAll();
+				} else {
+					closeIndex();
+					indexWriter = createIndexWriter();
+				}
+				return indexWriter;
+			}
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
 	private IndexWriter createIndexWriter()
 			throws LockObtainFailedException, IOException, CorruptIndexException {
 		IndexWriter writer;
@@ -96,6 +96,26 @@ public class TaskListIndexTest extends AbstractTaskListIndexTest {
 		assertFalse(index.matches(task, "" + System.currentTimeMillis()));
 	}
 
+	@Test
+	public void testMatchesSamePatternAfterUpdate() throws InterruptedException {
+		setupIndex();
+
+		ITask task = context.createLocalTask();
+		index.waitUntilIdle();
+
+		String pattern = task.getSummary();
+		assertTrue(index.matches(task, pattern));
+
+		ITask task2 = context.createLocalTask();
+		task2.setSummary(pattern);
+		context.getTaskList().notifyElementChanged(task2);
+		index.waitUntilIdle();
+
+		// cached results for the same pattern must be discarded once the index has been updated
+		assertTrue(index.matches(task, pattern));
+		assertTrue(index.matches(task2, pattern));
+	}
+
 	@Test
 	public void testMatchesLocalTaskOnDescription() throws InterruptedException {
 		setupIndex();
@@ -568,6 +588,25 @@ public class TaskListIndexTest extends AbstractTaskListIndexTest {
 				+ index.escapeFieldValue(repositoryTask.getHandleIdentifier())));
 	}
 
+	@Test
+	public void testReindexConcurrently() throws InterruptedException {
+		setupIndex();
+		index.setRebuildConcurrency(4);
+
+		List<ITask> tasks = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			tasks.add(context.createLocalTask());
+		}
+		index.waitUntilIdle();
+
+		index.reindex();
+		index.waitUntilIdle();
+
+		for (ITask task : tasks) {
+			assertTrue(index.matches(task, task.getSummary()));
+		}
+	}
+
 	@Test
 	public void testSetLocation() throws InterruptedException, IOException {
 		setupIndex();
@@ -16,6 +16,7 @@ package org.eclipse.mylyn.tasks.tests;
 
 import org.eclipse.mylyn.tasks.tests.bugs.SupportHandlerManagerTest;
 import org.eclipse.mylyn.tasks.tests.core.AbstractRepositoryConnectorTest;
+import org.eclipse.mylyn.tasks.tests.core.ElapsedTimeSeriesTest;
 import org.eclipse.mylyn.tasks.tests.core.FileTaskAttachmentSourceTest;
 import org.eclipse.mylyn.tasks.tests.core.ITasksCoreConstantsTest;
 import org.eclipse.mylyn.tasks.tests.core.PriorityLevelTest;
@@ -25,6 +26,8 @@ import org.eclipse.mylyn.tasks.tests.core.SynchronizeTasksJobTest;
 import org.eclipse.mylyn.tasks.tests.core.TaskAttributeMetaDataTest;
 import org.eclipse.mylyn.tasks.tests.core.TaskInitializationDataTest;
 import org.eclipse.mylyn.tasks.tests.core.TaskJobFactoryTest;
+import org.eclipse.mylyn.tasks.tests.core.TaskListJournalTest;
+import org.eclipse.mylyn.tasks.tests.core.TaskListRepositoryIndexTest;
 import org.eclipse.mylyn.tasks.tests.core.TaskListUnmatchedContainerTest;
 import org.eclipse.mylyn.tasks.tests.core.TaskRepositoryLocationTest;
 import org.eclipse.mylyn.tasks.tests.core.TaskRepositoryTest;
@@ -96,7 +99,8 @@ import junit.framework.TestSuite;
 		RepositoryClientManagerTest.class, AbstractRepositoryConnectorUiTest.class, SynchronizeTasksJobTest.class,
 		TaskAttributeTest.class, RepositoryConnectorContributorTest.class, TaskInitializationDataTest.class,
 		TaskDataDiffTest.class, SynchronizationMangerTest.class, TaskEditorExtensionsTest.class,
-		AbstractRepositoryConnectorTest.class, TaskJobFactoryTest.class
+		AbstractRepositoryConnectorTest.class, TaskJobFactoryTest.class, TaskListJournalTest.class,
+		TaskListRepositoryIndexTest.class, ElapsedTimeSeriesTest.class
 })
 public class AllTasksTests {
 	public static void addTests(TestSuite suite) {
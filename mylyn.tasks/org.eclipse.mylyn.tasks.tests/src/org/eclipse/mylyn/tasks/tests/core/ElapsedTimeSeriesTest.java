@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.tests.core;
+
+import java.util.Date;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.eclipse.mylyn.internal.tasks.core.ElapsedTimeSeries;
+
+import junit.framework.TestCase;
+
+public class ElapsedTimeSeriesTest extends TestCase {
+
+	private static final long HOUR = 60 * 60 * 1000;
+
+	private ElapsedTimeSeries series;
+
+	@Override
+	protected void setUp() throws Exception {
+		series = new ElapsedTimeSeries();
+	}
+
+	public void testEmpty() {
+		assertTrue(series.isEmpty());
+		assertEquals(0, series.getElapsed());
+		assertEquals(0, series.getElapsed(0, 10 * HOUR));
+		assertNull(series.getFirstHour());
+		assertNull(series.getLastHour());
+		series.remove(0, 10 * HOUR);
+		assertTrue(series.isEmpty());
+	}
+
+	public void testAdd() {
+		series.add(2 * HOUR, 10);
+		series.add(2 * HOUR, 5);
+		series.add(5 * HOUR, 20);
+		series.add(1 * HOUR, 1);
+
+		assertEquals(3, series.size());
+		assertEquals(36, series.getElapsed());
+		assertEquals(new Date(1 * HOUR), series.getFirstHour());
+		assertEquals(new Date(5 * HOUR), series.getLastHour());
+	}
+
+	public void testGetElapsedRange() {
+		series.add(1 * HOUR, 1);
+		series.add(2 * HOUR, 10);
+		series.add(5 * HOUR, 100);
+
+		assertEquals(111, series.getElapsed(0, 6 * HOUR));
+		assertEquals(11, series.getElapsed(1 * HOUR, 5 * HOUR));
+		assertEquals(110, series.getElapsed(2 * HOUR, 5 * HOUR + 1));
+		assertEquals(0, series.getElapsed(3 * HOUR, 5 * HOUR));
+		assertEquals(0, series.getElapsed(6 * HOUR, 7 * HOUR));
+		assertEquals(0, series.getElapsed(5 * HOUR, 1 * HOUR));
+	}
+
+	public void testRemove() {
+		series.add(1 * HOUR, 1);
+		series.add(2 * HOUR, 10);
+		series.add(3 * HOUR, 100);
+		series.add(4 * HOUR, 1000);
+
+		series.remove(2 * HOUR, 4 * HOUR);
+
+		assertEquals(2, series.size());
+		assertEquals(1001, series.getElapsed());
+		assertEquals(1000, series.getElapsed(2 * HOUR, 5 * HOUR));
+		series.add(3 * HOUR, 5);
+		assertEquals(1006, series.getElapsed());
+		assertEquals(5, series.getElapsed(3 * HOUR, 4 * HOUR));
+	}
+
+	public void testMatchesSortedMap() {
+		Random random = new Random(1);
+		TreeMap<Long, Long> expected = new TreeMap<>();
+		for (int i = 0; i < 2000; i++) {
+			long hour = random.nextInt(500) * HOUR;
+			long elapsed = 1 + random.nextInt(60 * 1000);
+			series.add(hour, elapsed);
+			expected.merge(hour, elapsed, Long::sum);
+			if (i % 100 == 99) {
+				long from = random.nextInt(500) * HOUR;
+				long to = from + random.nextInt(20) * HOUR;
+				series.remove(from, to);
+				expected.subMap(from, to).clear();
+			}
+		}
+		assertEquals(expected.size(), series.size());
+		for (int i = 0; i < 200; i++) {
+			long from = random.nextInt(520) * HOUR - HOUR / 2;
+			long to = from + random.nextInt(100) * HOUR;
+			assertEquals(sum(expected, from, to), series.getElapsed(from, to));
+		}
+	}
+
+	private long sum(TreeMap<Long, Long> map, long from, long to) {
+		long result = 0;
+		for (long value : map.subMap(from, to).values()) {
+			result += value;
+		}
+		return result;
+	}
+
+}
@@ -27,6 +27,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -43,6 +45,7 @@ import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
 import org.eclipse.mylyn.internal.tasks.core.AbstractTaskContainer;
+import org.eclipse.mylyn.internal.tasks.core.IRepositoryConstants;
 import org.eclipse.mylyn.internal.tasks.core.ITaskListChangeListener;
 import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants.MutexSchedulingRule;
@@ -377,6 +380,71 @@ public class SynchronizeTasksJobTest {
 		assertEquals(status, ((AbstractTask) task).getStatus());
 	}
 
+	@Test
+	public void testGetSingleTaskDataConcurrently() throws Exception {
+		repository.setProperty(IRepositoryConstants.PROPERTY_SYNCHRONIZATION_CONCURRENCY, "3");
+		final CountDownLatch latch = new CountDownLatch(3);
+		AbstractRepositoryConnector connector = new MockRepositoryConnectorWithTaskDataHandler() {
+			@Override
+			public TaskData getTaskData(TaskRepository taskRepository, String taskId, IProgressMonitor monitor)
+					throws CoreException {
+				// only returns if all three tasks are retrieved at the same time
+				latch.countDown();
+				try {
+					assertTrue(latch.await(10, TimeUnit.SECONDS));
+				} catch (InterruptedException e) {
+					throw new OperationCanceledException();
+				}
+				if (taskId.equals("3")) {
+					throw new CoreException(new Status(IStatus.ERROR, "bundle", "error"));
+				}
+				return createTaskData(taskId);
+			}
+		};
+		final AtomicInteger taskDataPut = new AtomicInteger();
+		TaskDataManager customTaskDataManager = new TaskDataManager(taskDataStore, TasksUi.getRepositoryManager(),
+				taskList, (TaskActivityManager) TasksUi.getTaskActivityManager(),
+				new SynchronizationManger((RepositoryModel) TasksUi.getRepositoryModel())) {
+			@Override
+			public void putUpdatedTaskData(ITask itask, TaskData taskData, boolean user, Object token,
+					IProgressMonitor monitor) throws CoreException {
+				assertEquals(itask.getTaskId(), taskData.getTaskId());
+				taskDataPut.incrementAndGet();
+			}
+		};
+		ITask task = new MockTask("1");
+		ITask task2 = new MockTask("2");
+		ITask task3 = new MockTask("3");
+		Set<ITask> tasks = new HashSet<>();
+		tasks.add(task);
+		tasks.add(task2);
+		tasks.add(task3);
+		SynchronizeTasksJob job = createSyncJobWithManager(connector, tasks, customTaskDataManager);
+		job.run(new NullProgressMonitor());
+		assertEquals(2, taskDataPut.get());
+		assertNull(((AbstractTask) task).getStatus());
+		assertNull(((AbstractTask) task2).getStatus());
+		assertEquals("error", ((AbstractTask) task3).getStatus().getMessage());
+		assertEquals(1, job.getStatuses().size());
+	}
+
+	@Test
+	public void testGetSingleTaskDataConcurrentlyCanceled() throws Exception {
+		repository.setProperty(IRepositoryConstants.PROPERTY_SYNCHRONIZATION_CONCURRENCY, "2");
+		AbstractRepositoryConnector connector = new MockRepositoryConnector() {
+			@Override
+			public TaskData getTaskData(TaskRepository taskRepository, String taskId, IProgressMonitor monitor)
+					throws CoreException {
+				throw new OperationCanceledException();
+			}
+		};
+		Set<ITask> tasks = new HashSet<>();
+		tasks.add(new MockTask("1"));
+		tasks.add(new MockTask("2"));
+		SynchronizeTasksJob job = createSyncJob(connector, tasks);
+		assertEquals(Status.CANCEL_STATUS, job.run(new NullProgressMonitor()));
+	}
+
 	@Test
 	public void testGetMultiTaskData() throws Exception {
 		final AtomicBoolean multiGotCalled = new AtomicBoolean();
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.tests.core;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.mylyn.commons.sdk.util.CommonTestUtil;
+import org.eclipse.mylyn.internal.tasks.core.AbstractTaskCategory;
+import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
+import org.eclipse.mylyn.internal.tasks.core.RepositoryModel;
+import org.eclipse.mylyn.internal.tasks.core.RepositoryQuery;
+import org.eclipse.mylyn.internal.tasks.core.TaskCategory;
+import org.eclipse.mylyn.internal.tasks.core.TaskList;
+import org.eclipse.mylyn.internal.tasks.core.TaskRepositoryManager;
+import org.eclipse.mylyn.internal.tasks.core.TaskTask;
+import org.eclipse.mylyn.internal.tasks.core.externalization.ExternalizationManager;
+import org.eclipse.mylyn.internal.tasks.core.externalization.TaskListExternalizationConstants;
+import org.eclipse.mylyn.internal.tasks.core.externalization.TaskListExternalizationParticipant;
+import org.eclipse.mylyn.internal.tasks.core.externalization.TaskListExternalizer;
+import org.eclipse.mylyn.internal.tasks.core.externalization.TaskListJournal;
+import org.eclipse.mylyn.internal.tasks.core.externalization.TaskListJournal.ElementKey;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+import org.eclipse.mylyn.tasks.tests.connector.MockRepositoryConnector;
+
+import junit.framework.TestCase;
+
+@SuppressWarnings("nls")
+public class TaskListJournalTest extends TestCase {
+
+	private File folder;
+
+	private File file;
+
+	private TaskRepositoryManager repositoryManager;
+
+	private TaskList taskList;
+
+	private TaskListExternalizer externalizer;
+
+	private TaskListJournal journal;
+
+	@Override
+	protected void setUp() throws Exception {
+		folder = CommonTestUtil.createTempFolder(TaskListJournalTest.class.getSimpleName());
+		file = new File(folder, ITasksCoreConstants.DEFAULT_TASK_LIST_FILE);
+		repositoryManager = new TaskRepositoryManager();
+		repositoryManager.addRepositoryConnector(new MockRepositoryConnector());
+		repositoryManager.addRepository(
+				new TaskRepository(MockRepositoryConnector.CONNECTOR_KIND, MockRepositoryConnector.REPOSITORY_URL));
+		taskList = new TaskList();
+		externalizer = createExternalizer(taskList);
+		journal = new TaskListJournal(TaskListJournal.getJournalFile(file));
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		CommonTestUtil.deleteFolder(folder);
+	}
+
+	public void testReplayRecords() throws Exception {
+		TaskCategory category = new TaskCategory("category", "Category");
+		taskList.addCategory(category);
+		TaskTask task1 = createTask("1");
+		TaskTask task2 = createTask("2");
+		TaskTask task3 = createTask("3");
+		taskList.addTask(task1, category);
+		taskList.addTask(task2, category);
+		taskList.addTask(task3, taskList.getDefaultCategory());
+		externalizer.writeTaskList(taskList, file);
+
+		task1.setSummary("changed");
+		taskList.deleteTask(task3);
+		taskList.addTask(task2, taskList.getDefaultCategory());
+		TaskTask task4 = createTask("4");
+		taskList.addTask(task4, category);
+		externalizer.writeJournalRecord(List.of(task1, task2, task4),
+				List.of(category, taskList.getDefaultCategory()), Collections.emptyList(),
+				List.of(new ElementKey(TaskListExternalizationConstants.NODE_TASK, task3.getHandleIdentifier())),
+				journal, file);
+
+		task1.setSummary("changed again");
+		externalizer.writeJournalRecord(List.of(task1), Collections.emptyList(), Collections.emptyList(),
+				Collections.emptyList(), journal, file);
+
+		TaskList readList = readTaskList(true);
+		assertEquals(3, readList.getAllTasks().size());
+		assertEquals("changed again", readList.getTask(task1.getHandleIdentifier()).getSummary());
+		assertNull(readList.getTask(task3.getHandleIdentifier()));
+		AbstractTaskCategory readCategory = readList.getContainerForHandle("category");
+		assertEquals(2, readCategory.getChildren().size());
+		assertTrue(readCategory.contains(task1.getHandleIdentifier()));
+		assertTrue(readCategory.contains(task4.getHandleIdentifier()));
+		assertTrue(readList.getDefaultCategory().contains(task2.getHandleIdentifier()));
+
+		// the snapshot is unchanged
+		readList = readTaskList(false);
+		assertEquals("1", readList.getTask(task1.getHandleIdentifier()).getSummary());
+		assertNotNull(readList.getTask(task3.getHandleIdentifier()));
+	}
+
+	public void testReplayDeletedQuery() throws Exception {
+		RepositoryQuery query = new RepositoryQuery(MockRepositoryConnector.CONNECTOR_KIND, "query");
+		query.setRepositoryUrl(MockRepositoryConnector.REPOSITORY_URL);
+		taskList.addQuery(query);
+		externalizer.writeTaskList(taskList, file);
+
+		externalizer.writeJournalRecord(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+				List.of(new ElementKey(TaskListExternalizationConstants.NODE_QUERY, query.getHandleIdentifier())),
+				journal, file);
+
+		assertEquals(1, readTaskList(false).getQueries().size());
+		assertEquals(0, readTaskList(true).getQueries().size());
+	}
+
+	public void testPartialRecordDiscarded() throws Exception {
+		TaskTask task = createTask("1");
+		taskList.addTask(task);
+		externalizer.writeTaskList(taskList, file);
+		task.setSummary("changed");
+		externalizer.writeJournalRecord(List.of(task), Collections.emptyList(), Collections.emptyList(),
+				Collections.emptyList(), journal, file);
+		long length = journal.length();
+
+		try (FileOutputStream out = new FileOutputStream(journal.getFile(), true)) {
+			out.write(new byte[] { 0, 0, 1, 0, '<', 'T' });
+		}
+
+		assertEquals(1, journal.readRecords(file).size());
+		assertEquals(length, journal.length());
+		assertEquals("changed", readTaskList(true).getTask(task.getHandleIdentifier()).getSummary());
+	}
+
+	public void testStaleJournalIgnored() throws Exception {
+		TaskTask task = createTask("1");
+		taskList.addTask(task);
+		externalizer.writeTaskList(taskList, file);
+		task.setSummary("changed");
+		externalizer.writeJournalRecord(List.of(task), Collections.emptyList(), Collections.emptyList(),
+				Collections.emptyList(), journal, file);
+		assertTrue(journal.isValidFor(file));
+
+		task.setSummary("snapshot");
+		externalizer.writeTaskList(taskList, file);
+		file.setLastModified(file.lastModified() + 2000);
+
+		assertFalse(journal.isValidFor(file));
+		assertEquals(0, journal.readRecords(file).size());
+		assertEquals("snapshot", readTaskList(true).getTask(task.getHandleIdentifier()).getSummary());
+	}
+
+	public void testParticipantAppendsToJournal() throws Exception {
+		ExternalizationManager manager = new ExternalizationManager(folder.getAbsolutePath());
+		TaskListExternalizationParticipant participant = createParticipant(taskList, externalizer, manager);
+		TaskTask task1 = createTask("1");
+		TaskTask task2 = createTask("2");
+		taskList.addTask(task1);
+		taskList.addTask(task2);
+		manager.save(false);
+		assertTrue(file.exists());
+		assertFalse(journal.getFile().exists());
+		byte[] snapshot = Files.readAllBytes(file.toPath());
+
+		task1.setSummary("changed");
+		taskList.notifyElementChanged(task1);
+		taskList.deleteTask(task2);
+		assertTrue(participant.isDirty());
+		manager.save(false);
+		assertFalse(participant.isDirty());
+		assertTrue(journal.hasRecords());
+		assertTrue(Arrays.equals(snapshot, Files.readAllBytes(file.toPath())));
+
+		TaskList readList = new TaskList();
+		TaskListExternalizer readExternalizer = createExternalizer(readList);
+		TaskListExternalizationParticipant readParticipant = createParticipant(readList, readExternalizer,
+				manager);
+		readParticipant.load(file, null);
+		assertEquals(1, readList.getAllTasks().size());
+		assertEquals("changed", readList.getTask(task1.getHandleIdentifier()).getSummary());
+
+		// a full save folds the journal into the task list file
+		assertTrue(participant.isDirty(true));
+		manager.save(false);
+		assertFalse(journal.getFile().exists());
+		readParticipant.load(file, null);
+		assertEquals(1, readList.getAllTasks().size());
+		assertEquals("changed", readList.getTask(task1.getHandleIdentifier()).getSummary());
+	}
+
+	public void testParticipantRootChangeRequiresFullSave() throws Exception {
+		ExternalizationManager manager = new ExternalizationManager(folder.getAbsolutePath());
+		TaskListExternalizationParticipant participant = createParticipant(taskList, externalizer, manager);
+		taskList.addTask(createTask("1"));
+		manager.save(false);
+
+		taskList.notifyElementsChanged(null);
+		assertTrue(participant.isDirty());
+		manager.save(false);
+		assertFalse(journal.getFile().exists());
+	}
+
+	private TaskListExternalizationParticipant createParticipant(TaskList list,
+			TaskListExternalizer listExternalizer, ExternalizationManager manager) {
+		TaskListExternalizationParticipant participant = new TaskListExternalizationParticipant(
+				new RepositoryModel(list, repositoryManager), list, listExternalizer, manager, repositoryManager);
+		manager.addParticipant(participant);
+		list.addChangeListener(participant);
+		participant.resetTaskList();
+		return participant;
+	}
+
+	private TaskListExternalizer createExternalizer(TaskList list) {
+		return new TaskListExternalizer(new RepositoryModel(list, repositoryManager), repositoryManager);
+	}
+
+	private TaskList readTaskList(boolean replayJournal) throws Exception {
+		TaskList readList = new TaskList();
+		createExternalizer(readList).readTaskList(readList, file, replayJournal ? journal : null);
+		return readList;
+	}
+
+	private TaskTask createTask(String taskId) {
+		TaskTask task = new TaskTask(MockRepositoryConnector.CONNECTOR_KIND, MockRepositoryConnector.REPOSITORY_URL,
+				taskId);
+		task.setSummary(taskId);
+		return task;
+	}
+
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.tests.core;
+
+import java.util.Collection;
+import java.util.Set;
+
+import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
+import org.eclipse.mylyn.internal.tasks.core.TaskList;
+import org.eclipse.mylyn.internal.tasks.core.TaskTask;
+import org.eclipse.mylyn.internal.tasks.core.UnmatchedTaskContainer;
+import org.eclipse.mylyn.tasks.core.ITask;
+import org.eclipse.mylyn.tasks.tests.connector.MockRepositoryConnector;
+
+import junit.framework.TestCase;
+
+@SuppressWarnings("nls")
+public class TaskListRepositoryIndexTest extends TestCase {
+
+	private static final String OTHER_REPOSITORY_URL = "http://other";
+
+	private TaskList taskList;
+
+	@Override
+	protected void setUp() throws Exception {
+		taskList = new TaskList();
+		taskList.addUnmatchedContainer(new UnmatchedTaskContainer(MockRepositoryConnector.CONNECTOR_KIND,
+				MockRepositoryConnector.REPOSITORY_URL));
+		taskList.addUnmatchedContainer(
+				new UnmatchedTaskContainer(MockRepositoryConnector.CONNECTOR_KIND, OTHER_REPOSITORY_URL));
+	}
+
+	public void testGetRepositoryTasks() {
+		TaskTask task1 = createTask(MockRepositoryConnector.REPOSITORY_URL, "1", "KEY-1");
+		TaskTask task2 = createTask(MockRepositoryConnector.REPOSITORY_URL, "2", "KEY-2");
+		TaskTask task3 = createTask(OTHER_REPOSITORY_URL, "1", "KEY-1");
+		taskList.addTask(task1);
+		taskList.addTask(task2);
+		taskList.addTask(task3);
+
+		Collection<AbstractTask> repositoryTasks = taskList.getRepositoryTasks(MockRepositoryConnector.REPOSITORY_URL);
+		assertEquals(2, repositoryTasks.size());
+		assertTrue(repositoryTasks.contains(task1));
+		assertTrue(repositoryTasks.contains(task2));
+		Set<ITask> tasks = taskList.getTasks(OTHER_REPOSITORY_URL);
+		assertEquals(Set.of(task3), tasks);
+		assertTrue(taskList.getRepositoryTasks("http://unknown").isEmpty());
+		assertTrue(taskList.getTasks(null).isEmpty());
+
+		// the view reflects later changes
+		taskList.deleteTask(task1);
+		assertEquals(1, repositoryTasks.size());
+		assertFalse(repositoryTasks.contains(task1));
+	}
+
+	public void testGetTaskByKey() {
+		TaskTask task1 = createTask(MockRepositoryConnector.REPOSITORY_URL, "1", "KEY-1");
+		TaskTask task2 = createTask(OTHER_REPOSITORY_URL, "1", "KEY-1");
+		taskList.addTask(task1);
+		taskList.addTask(task2);
+
+		assertSame(task1, taskList.getTaskByKey(MockRepositoryConnector.REPOSITORY_URL, "KEY-1"));
+		assertSame(task2, taskList.getTaskByKey(OTHER_REPOSITORY_URL, "KEY-1"));
+		assertNull(taskList.getTaskByKey(MockRepositoryConnector.REPOSITORY_URL, "KEY-2"));
+		assertNull(taskList.getTaskByKey(MockRepositoryConnector.REPOSITORY_URL, null));
+		assertNull(taskList.getTaskByKey(null, "KEY-1"));
+
+		taskList.deleteTask(task1);
+		assertNull(taskList.getTaskByKey(MockRepositoryConnector.REPOSITORY_URL, "KEY-1"));
+	}
+
+	public void testGetTaskByKeyAfterKeyChange() {
+		TaskTask task = createTask(MockRepositoryConnector.REPOSITORY_URL, "1", "KEY-1");
+		taskList.addTask(task);
+
+		task.setTaskKey("KEY-2");
+		assertNull(taskList.getTaskByKey(MockRepositoryConnector.REPOSITORY_URL, "KEY-1"));
+		assertSame(task, taskList.getTaskByKey(MockRepositoryConnector.REPOSITORY_URL, "KEY-2"));
+
+		task.setTaskKey(null);
+		assertNull(taskList.getTaskByKey(MockRepositoryConnector.REPOSITORY_URL, "KEY-2"));
+
+		// tasks that are no longer part of the list are not indexed again
+		task.setTaskKey("KEY-3");
+		taskList.deleteTask(task);
+		task.setTaskKey("KEY-4");
+		assertNull(taskList.getTaskByKey(MockRepositoryConnector.REPOSITORY_URL, "KEY-3"));
+		assertNull(taskList.getTaskByKey(MockRepositoryConnector.REPOSITORY_URL, "KEY-4"));
+	}
+
+	public void testGetTaskByKeyAfterKeyChangeKeepsTaskWithSameKey() {
+		TaskTask task1 = createTask(MockRepositoryConnector.REPOSITORY_URL, "1", "KEY-1");
+		TaskTask task2 = createTask(MockRepositoryConnector.REPOSITORY_URL, "2", "KEY-2");
+		taskList.addTask(task1);
+		taskList.addTask(task2);
+
+		task1.setTaskKey("KEY-2");
+		assertSame(task1, taskList.getTaskByKey(MockRepositoryConnector.REPOSITORY_URL, "KEY-2"));
+		task2.setTaskKey("KEY-3");
+		assertSame(task1, taskList.getTaskByKey(MockRepositoryConnector.REPOSITORY_URL, "KEY-2"));
+		assertSame(task2, taskList.getTaskByKey(MockRepositoryConnector.REPOSITORY_URL, "KEY-3"));
+	}
+
+	public void testRefactorTaskId() {
+		TaskTask task = createTask(MockRepositoryConnector.REPOSITORY_URL, "1", "KEY-1");
+		taskList.addTask(task);
+
+		AbstractTask newTask = taskList.refactorTaskId(task, "2");
+		assertSame(newTask, taskList.getTaskByKey(MockRepositoryConnector.REPOSITORY_URL, "KEY-1"));
+		Collection<AbstractTask> repositoryTasks = taskList.getRepositoryTasks(MockRepositoryConnector.REPOSITORY_URL);
+		assertEquals(1, repositoryTasks.size());
+		assertSame(newTask, repositoryTasks.iterator().next());
+	}
+
+	public void testRefactorRepositoryUrl() {
+		String newRepositoryUrl = "http://new";
+		TaskTask task = createTask(MockRepositoryConnector.REPOSITORY_URL, "1", "KEY-1");
+		TaskTask otherTask = createTask(OTHER_REPOSITORY_URL, "1", "KEY-1");
+		taskList.addTask(task);
+		taskList.addTask(otherTask);
+
+		taskList.refactorRepositoryUrl(MockRepositoryConnector.REPOSITORY_URL, newRepositoryUrl);
+
+		assertTrue(taskList.getRepositoryTasks(MockRepositoryConnector.REPOSITORY_URL).isEmpty());
+		assertNull(taskList.getTaskByKey(MockRepositoryConnector.REPOSITORY_URL, "KEY-1"));
+		assertEquals(Set.of(task), taskList.getTasks(newRepositoryUrl));
+		assertSame(task, taskList.getTaskByKey(newRepositoryUrl, "KEY-1"));
+		assertSame(task, taskList.getTask(newRepositoryUrl, "1"));
+		assertSame(otherTask, taskList.getTaskByKey(OTHER_REPOSITORY_URL, "KEY-1"));
+	}
+
+	public void testReset() {
+		taskList.addTask(createTask(MockRepositoryConnector.REPOSITORY_URL, "1", "KEY-1"));
+
+		taskList.reset();
+
+		assertTrue(taskList.getRepositoryTasks(MockRepositoryConnector.REPOSITORY_URL).isEmpty());
+		assertNull(taskList.getTaskByKey(MockRepositoryConnector.REPOSITORY_URL, "KEY-1"));
+	}
+
+	private TaskTask createTask(String repositoryUrl, String taskId, String taskKey) {
+		TaskTask task = new TaskTask(MockRepositoryConnector.CONNECTOR_KIND, repositoryUrl, taskId);
+		task.setTaskKey(taskKey);
+		return task;
+	}
+
+}